@@ -78,6 +78,8 @@ public class GameData implements Serializable {
   private int diceSides;
   private transient List<TerritoryListener> territoryListeners = new CopyOnWriteArrayList<>();
   private transient List<GameDataChangeListener> dataChangeListeners = new CopyOnWriteArrayList<>();
+  // Guarded by readWriteLock
+  private transient long changeVersion = 0;
   private transient Map<String, IDelegate> delegates = new HashMap<>();
   private final AllianceTracker alliances = new AllianceTracker();
   // Tracks current relationships between players, this is empty if relationships aren't used
@@ -269,8 +271,17 @@ public class GameData implements Serializable {
     territoryListeners.forEach(territoryListener -> territoryListener.ownerChanged(t));
   }
 
-  void notifyGameDataChanged(final Change change) {
-    dataChangeListeners.forEach(dataChangelistener -> dataChangelistener.gameDataChanged(change));
+  void notifyGameDataChanged(final Change change, final long changeVersion) {
+    dataChangeListeners.forEach(dataChangelistener -> dataChangelistener.gameDataChanged(change, changeVersion));
+  }
+
+  /**
+   * Returns the number of changes performed on this game data through {@link #performChange(Change)} since it was
+   * created or loaded. The caller should hold the read or write lock, so no change is performed while the returned
+   * value is used.
+   */
+  public long getChangeVersion() {
+    return changeVersion;
   }
 
   public IGameLoader getGameLoader() {
@@ -445,13 +456,15 @@ public class GameData implements Serializable {
     if (areChangesOnlyInSwingEventThread() && !SwingUtilities.isEventDispatchThread()) {
       throw new IllegalStateException("Wrong thread");
     }
+    final long performedChangeVersion;
     try {
       acquireWriteLock();
       change.perform(this);
+      performedChangeVersion = ++changeVersion;
     } finally {
       releaseWriteLock();
     }
-    notifyGameDataChanged(change);
+    notifyGameDataChanged(change, performedChangeVersion);
   }
 
   @Override
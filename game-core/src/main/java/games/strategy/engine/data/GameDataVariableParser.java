@@ -18,7 +18,7 @@ class GameDataVariableParser {
     return variableList != null ? parseVariableElement(variableList) : Collections.emptyMap();
   }
 
-  private Map<String, List<String>> parseVariableElement(final Element root) {
+  Map<String, List<String>> parseVariableElement(final Element root) {
     final Map<String, List<String>> variables = new HashMap<>();
     for (final Element current : nodeFinder.getChildren("variable", root)) {
       final String name = "$" + current.getAttribute("name") + "$";
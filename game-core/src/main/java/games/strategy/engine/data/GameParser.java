@@ -30,6 +30,7 @@ import org.xml.sax.SAXParseException;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableSet;
 
 import games.strategy.engine.ClientContext;
 import games.strategy.engine.GameEngineVersion;
@@ -58,6 +59,11 @@ import lombok.extern.java.Log;
 @Log
 public final class GameParser {
   private static final String RESOURCE_IS_DISPLAY_FOR_NONE = "NONE";
+  private static final Set<String> SHALLOW_SECTIONS =
+      ImmutableSet.of("info", "triplea", "diceSides", "playerList", "propertyList");
+  private static final Set<String> SHALLOW_REQUIRED_SECTIONS = ImmutableSet.of("info", "playerList");
+  private static final Set<String> DEEP_REQUIRED_SECTIONS = ImmutableSet.of("info", "map", "playerList", "gamePlay");
+  private static final Set<String> SPLIT_SECTIONS = ImmutableSet.of("attachmentList");
 
   private final GameData data;
   private final Collection<SAXParseException> errorsSax = new ArrayList<>();
@@ -102,6 +108,31 @@ public final class GameParser {
   }
 
   private GameData parse(final InputStream stream) throws GameParseException, EngineVersionException {
+    final SectionParser sectionParser = new SectionParser(true);
+    XmlReader.parseSections(mapName, stream, errorsSax, section -> true, SPLIT_SECTIONS, sectionParser);
+    sectionParser.finish();
+    return data;
+  }
+
+  /**
+   * Performs a deep parse of the game definition contained in the specified stream by first reading the whole document
+   * into a DOM. Produces the same game data as {@link #parse(String, InputStream, XmlGameElementMapper)}; only used to
+   * compare the two.
+   */
+  @VisibleForTesting
+  static GameData parseDom(
+      final String mapName,
+      final InputStream stream,
+      final XmlGameElementMapper xmlGameElementMapper)
+      throws GameParseException, EngineVersionException {
+    checkNotNull(mapName);
+    checkNotNull(stream);
+    checkNotNull(xmlGameElementMapper);
+
+    return new GameParser(new GameData(), mapName, xmlGameElementMapper).parseDom(stream);
+  }
+
+  private GameData parseDom(final InputStream stream) throws GameParseException, EngineVersionException {
     final Element root = XmlReader.parseDom(mapName, stream, errorsSax);
     parseMapProperties(root);
     parseMapDetails(root);
@@ -134,11 +165,127 @@ public final class GameParser {
   }
 
   private GameData parseShallow(final InputStream stream) throws GameParseException, EngineVersionException {
-    final Element root = XmlReader.parseDom(mapName, stream, errorsSax);
-    parseMapProperties(root);
+    final SectionParser sectionParser = new SectionParser(false);
+    XmlReader.parseSections(mapName, stream, errorsSax, SHALLOW_SECTIONS::contains, SPLIT_SECTIONS, sectionParser);
+    sectionParser.finish();
     return data;
   }
 
+  /**
+   * Fills the game data from the sections of a game XML document in the order in which they are read.
+   *
+   * <p>
+   * Each section is processed as soon as it is read, unless it depends on a section that comes later in the document:
+   * the resources may refer to the players, which are declared after them, and the attachments, the default
+   * technologies and the initial game state depend on the game properties, which are the last section of the
+   * document. The attachments and the initial game state are therefore kept until the end of the document.
+   * </p>
+   */
+  private final class SectionParser implements XmlReader.SectionHandler {
+    private final boolean deep;
+    private final Set<String> parsedSections = new HashSet<>();
+    private Map<String, List<String>> variables = Collections.emptyMap();
+    private @Nullable Element resourceList;
+    private final List<Element> attachments = new ArrayList<>();
+    private @Nullable Element initialization;
+
+    SectionParser(final boolean deep) {
+      this.deep = deep;
+    }
+
+    @Override
+    public void handleElement(final String sectionName, final Element element)
+        throws GameParseException, EngineVersionException {
+      if (sectionName.equals("attachmentList")) {
+        attachments.add(element);
+        return;
+      }
+      if (!parsedSections.add(sectionName)) {
+        throw new GameParseException("Too many children named: " + sectionName);
+      }
+      switch (sectionName) {
+        case "info":
+          parseInfo(element);
+          break;
+        case "triplea":
+          parseMinimumEngineVersionNumber(element);
+          break;
+        case "diceSides":
+          parseDiceSides(element);
+          break;
+        case "variableList":
+          variables = variableParser.parseVariableElement(element);
+          break;
+        case "map":
+          parseMap(element);
+          break;
+        case "resourceList":
+          // parsed once the players, which are declared after the resources, are known
+          resourceList = element;
+          break;
+        case "playerList":
+          parsePlayerList(element);
+          parseAlliances(element);
+          break;
+        case "unitList":
+          parseUnits(element);
+          break;
+        case "relationshipTypes":
+          parseRelationshipTypes(element);
+          break;
+        case "territoryEffectList":
+          parseTerritoryEffects(element);
+          break;
+        case "gamePlay":
+          parseGamePlay(element);
+          break;
+        case "production":
+          parseProduction(element);
+          break;
+        case "technology":
+          parseTechnology(element);
+          break;
+        case "initialize":
+          initialization = element;
+          break;
+        case "propertyList":
+          parseProperties(element);
+          break;
+        default:
+          break;
+      }
+      if (resourceList != null && parsedSections.contains("playerList")) {
+        parseResources(resourceList);
+        resourceList = null;
+      }
+    }
+
+    void finish() throws GameParseException {
+      for (final String sectionName : deep ? DEEP_REQUIRED_SECTIONS : SHALLOW_REQUIRED_SECTIONS) {
+        if (!parsedSections.contains(sectionName)) {
+          throw new GameParseException("Expected one child node named: " + sectionName + ", found: 0");
+        }
+      }
+      logSaxErrors();
+      if (!parsedSections.contains("diceSides")) {
+        parseDiceSides(null);
+      }
+      if (!deep) {
+        return;
+      }
+      if (!parsedSections.contains("technology")) {
+        TechAdvance.createDefaultTechAdvances(data);
+      }
+      for (final Element attachment : attachments) {
+        parseAttachment(attachment, variables);
+      }
+      if (initialization != null) {
+        parseInitialization(initialization);
+      }
+      completeGameData();
+    }
+  }
+
   private void parseMapProperties(final Element root) throws GameParseException, EngineVersionException {
     // mandatory fields
     // get the name of the map
@@ -148,12 +295,7 @@ public final class GameParser {
     parseMinimumEngineVersionNumber(getSingleChild("triplea", root, true));
     // if we manage to get this far, past the minimum engine version number test, AND we are still good, then check and
     // see if we have any SAX errors we need to show
-    if (!errorsSax.isEmpty()) {
-      for (final SAXParseException error : errorsSax) {
-        log.severe("SAXParseException: game: " + (data.getGameName() == null ? "?" : data.getGameName()) + ", line: "
-            + error.getLineNumber() + ", column: " + error.getColumnNumber() + ", error: " + error.getMessage());
-      }
-    }
+    logSaxErrors();
     parseDiceSides(getSingleChild("diceSides", root, true));
     final Element playerListNode = getSingleChild("playerList", root);
     parsePlayerList(playerListNode);
@@ -164,6 +306,13 @@ public final class GameParser {
     }
   }
 
+  private void logSaxErrors() {
+    for (final SAXParseException error : errorsSax) {
+      log.severe("SAXParseException: game: " + (data.getGameName() == null ? "?" : data.getGameName()) + ", line: "
+          + error.getLineNumber() + ", column: " + error.getColumnNumber() + ", error: " + error.getMessage());
+    }
+  }
+
   private void parseMapDetails(final Element root) throws GameParseException {
     final Map<String, List<String>> variables = variableParser.parseVariables(root);
     parseMap(getSingleChild("map", root));
@@ -203,6 +352,10 @@ public final class GameParser {
     if (initialization != null) {
       parseInitialization(initialization);
     }
+    completeGameData();
+  }
+
+  private void completeGameData() throws GameParseException {
     // set & override default relationships
     // sets the relationship between all players and the NullPlayer to NullRelation (with archeType War)
     data.getRelationshipTracker().setNullPlayerRelations();
@@ -1165,32 +1318,37 @@ public final class GameParser {
   private void parseAttachments(final Element root, final Map<String, List<String>> variables)
       throws GameParseException {
     for (final Element current : getChildren("attachment", root)) {
-      final String foreach = current.getAttribute("foreach");
-      if (foreach.isEmpty()) {
-        parseAttachment(current, variables, Collections.emptyMap());
-      } else {
-        final List<String> nestedForeach = Splitter.on("^").splitToList(foreach);
-        if (nestedForeach.isEmpty() || nestedForeach.size() > 2) {
-          throw newGameParseException(
-              "Invalid foreach expression, can only use variables, ':', and at most 1 '^': " + foreach);
-        }
-        final List<String> foreachVariables1 = Splitter.on(":").splitToList(nestedForeach.get(0));
-        final List<String> foreachVariables2 =
-            nestedForeach.size() == 2 ? Splitter.on(":").splitToList(nestedForeach.get(1)) : Collections.emptyList();
-        validateForeachVariables(foreachVariables1, variables, foreach);
-        validateForeachVariables(foreachVariables2, variables, foreach);
-        final int length1 = variables.get(foreachVariables1.get(0)).size();
-        for (int i = 0; i < length1; i++) {
-          final Map<String, String> foreachMap1 = createForeachVariablesMap(foreachVariables1, i, variables);
-          if (foreachVariables2.isEmpty()) {
-            parseAttachment(current, variables, foreachMap1);
-          } else {
-            final int length2 = variables.get(foreachVariables2.get(0)).size();
-            for (int j = 0; j < length2; j++) {
-              final Map<String, String> foreachMap2 = createForeachVariablesMap(foreachVariables2, j, variables);
-              foreachMap2.putAll(foreachMap1);
-              parseAttachment(current, variables, foreachMap2);
-            }
+      parseAttachment(current, variables);
+    }
+  }
+
+  private void parseAttachment(final Element current, final Map<String, List<String>> variables)
+      throws GameParseException {
+    final String foreach = current.getAttribute("foreach");
+    if (foreach.isEmpty()) {
+      parseAttachment(current, variables, Collections.emptyMap());
+    } else {
+      final List<String> nestedForeach = Splitter.on("^").splitToList(foreach);
+      if (nestedForeach.isEmpty() || nestedForeach.size() > 2) {
+        throw newGameParseException(
+            "Invalid foreach expression, can only use variables, ':', and at most 1 '^': " + foreach);
+      }
+      final List<String> foreachVariables1 = Splitter.on(":").splitToList(nestedForeach.get(0));
+      final List<String> foreachVariables2 =
+          nestedForeach.size() == 2 ? Splitter.on(":").splitToList(nestedForeach.get(1)) : Collections.emptyList();
+      validateForeachVariables(foreachVariables1, variables, foreach);
+      validateForeachVariables(foreachVariables2, variables, foreach);
+      final int length1 = variables.get(foreachVariables1.get(0)).size();
+      for (int i = 0; i < length1; i++) {
+        final Map<String, String> foreachMap1 = createForeachVariablesMap(foreachVariables1, i, variables);
+        if (foreachVariables2.isEmpty()) {
+          parseAttachment(current, variables, foreachMap1);
+        } else {
+          final int length2 = variables.get(foreachVariables2.get(0)).size();
+          for (int j = 0; j < length2; j++) {
+            final Map<String, String> foreachMap2 = createForeachVariablesMap(foreachVariables2, j, variables);
+            foreachMap2.putAll(foreachMap1);
+            parseAttachment(current, variables, foreachMap2);
           }
         }
       }
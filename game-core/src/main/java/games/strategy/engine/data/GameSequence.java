@@ -48,6 +48,15 @@ public class GameSequence extends GameDataComponent implements Iterable<GameStep
     }
   }
 
+  /**
+   * Moves to the step at the specified index of the specified round, as returned by {@link #getRound()} and
+   * {@link #getStepIndex()}.
+   */
+  public synchronized void setRoundAndStepIndex(final int currentRound, final int stepIndex) {
+    setStepIndex(stepIndex);
+    round = currentRound - roundOffset;
+  }
+
   public void addStep(final GameStep step) {
     steps.add(step);
   }
@@ -97,6 +97,14 @@ public class GameStep extends GameDataComponent {
     runCount++;
   }
 
+  public int getRunCount() {
+    return runCount;
+  }
+
+  public void setRunCount(final int runCount) {
+    this.runCount = runCount;
+  }
+
   public void setMaxRunCount(final int count) {
     maxRunCount = count;
   }
@@ -4,17 +4,27 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.util.Collection;
+import java.util.Set;
+import java.util.function.Predicate;
 
+import javax.annotation.Nullable;
 import javax.xml.XMLConstants;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
 
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.Text;
+import org.xml.sax.Attributes;
 import org.xml.sax.ErrorHandler;
+import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 import org.xml.sax.SAXParseException;
+import org.xml.sax.helpers.DefaultHandler;
 
 /**
  * Utility class to read an XML file.
@@ -38,21 +48,66 @@ public final class XmlReader {
     }
   }
 
+  /**
+   * Receives the sections of a game XML document read by {@link #parseSections}.
+   */
+  @FunctionalInterface
+  interface SectionHandler {
+    /**
+     * Handles the specified element of the section with the specified name. The element has no parent and may be
+     * retained by the handler.
+     */
+    void handleElement(String sectionName, Element element) throws GameParseException, EngineVersionException;
+  }
+
+  /**
+   * Reads a game XML document in a single pass, with the same DTD validation as {@link #parseDom}, without building a
+   * DOM of the whole document.
+   *
+   * <p>
+   * Each child of the root element (a "section") whose name is accepted by {@code sections} is built as a detached DOM
+   * element and passed to {@code handler} as soon as its end tag is read. The children of the sections named in
+   * {@code splitSections} are instead passed to the handler one at a time, so that the section is never held in memory
+   * as a whole. Other sections are validated but not built. Whitespace between elements and comments are omitted.
+   * </p>
+   */
+  static void parseSections(
+      final String mapName,
+      final InputStream stream,
+      final Collection<SAXParseException> errorsSax,
+      final Predicate<String> sections,
+      final Set<String> splitSections,
+      final SectionHandler handler) throws GameParseException, EngineVersionException {
+    try {
+      final SAXParserFactory factory = SAXParserFactory.newInstance();
+      factory.setValidating(true);
+      factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+      final SAXParser parser = factory.newSAXParser();
+      parser.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "file");
+      final InputSource input = new InputSource(stream);
+      input.setSystemId(getSystemId(mapName));
+      final Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+      parser.parse(input, new SectionBuilder(document, errorsSax, sections, splitSections, handler));
+    } catch (final SAXException e) {
+      if (e.getException() instanceof GameParseException) {
+        throw (GameParseException) e.getException();
+      } else if (e.getException() instanceof EngineVersionException) {
+        throw (EngineVersionException) e.getException();
+      }
+      throw new GameParseException("failed to parse XML document", e);
+    } catch (final IOException | ParserConfigurationException e) {
+      throw new GameParseException("failed to parse XML document", e);
+    }
+  }
+
   private static Document getDocument(
       final String mapName, final InputStream input, final Collection<SAXParseException> errorsSax)
       throws IOException, SAXException, ParserConfigurationException {
-    // try {
     final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
     factory.setValidating(true);
     // Not mandatory, but better than relying on the default implementation to prevent XXE
     factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
     factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, "file");
-    // get the dtd location
-    final String dtdFile = "/games/strategy/engine/xml/" + DTD_FILE_NAME;
-    final URL url = GameParser.class.getResource(dtdFile);
-    if (url == null) {
-      throw new RuntimeException(String.format("Map: %s, Could not find in classpath %s", mapName, dtdFile));
-    }
     final DocumentBuilder builder = factory.newDocumentBuilder();
     builder.setErrorHandler(new ErrorHandler() {
       @Override
@@ -70,8 +125,117 @@ public final class XmlReader {
         errorsSax.add(exception);
       }
     });
+    return builder.parse(input, getSystemId(mapName));
+  }
+
+  /**
+   * Returns the system ID against which the DTD referenced by a game XML document is resolved.
+   */
+  private static String getSystemId(final String mapName) {
+    // get the dtd location
+    final String dtdFile = "/games/strategy/engine/xml/" + DTD_FILE_NAME;
+    final URL url = GameParser.class.getResource(dtdFile);
+    if (url == null) {
+      throw new RuntimeException(String.format("Map: %s, Could not find in classpath %s", mapName, dtdFile));
+    }
     final String dtdSystem = url.toExternalForm();
-    final String system = dtdSystem.substring(0, dtdSystem.length() - DTD_FILE_NAME.length());
-    return builder.parse(input, system);
+    return dtdSystem.substring(0, dtdSystem.length() - DTD_FILE_NAME.length());
+  }
+
+  private static final class SectionBuilder extends DefaultHandler {
+    private final Document document;
+    private final Collection<SAXParseException> errorsSax;
+    private final Predicate<String> sections;
+    private final Set<String> splitSections;
+    private final SectionHandler handler;
+    private int depth = 0;
+    private String sectionName = "";
+    private boolean buildingSection = false;
+    private @Nullable Element current;
+
+    SectionBuilder(
+        final Document document,
+        final Collection<SAXParseException> errorsSax,
+        final Predicate<String> sections,
+        final Set<String> splitSections,
+        final SectionHandler handler) {
+      this.document = document;
+      this.errorsSax = errorsSax;
+      this.sections = sections;
+      this.splitSections = splitSections;
+      this.handler = handler;
+    }
+
+    @Override
+    public void startElement(
+        final String uri,
+        final String localName,
+        final String qName,
+        final Attributes attributes) {
+      depth++;
+      if (depth == 2) {
+        sectionName = qName;
+        buildingSection = sections.test(qName);
+        if (splitSections.contains(qName)) {
+          return;
+        }
+      }
+      if (depth < 2 || !buildingSection) {
+        return;
+      }
+      final Element element = document.createElement(qName);
+      for (int i = 0; i < attributes.getLength(); i++) {
+        element.setAttribute(attributes.getQName(i), attributes.getValue(i));
+      }
+      if (current != null) {
+        current.appendChild(element);
+      }
+      current = element;
+    }
+
+    @Override
+    public void endElement(final String uri, final String localName, final String qName) throws SAXException {
+      depth--;
+      if (current == null) {
+        return;
+      }
+      final Element element = current;
+      current = (Element) element.getParentNode();
+      if (current == null) {
+        try {
+          handler.handleElement(sectionName, element);
+        } catch (final GameParseException | EngineVersionException e) {
+          throw new SAXException(e);
+        }
+      }
+    }
+
+    @Override
+    public void characters(final char[] ch, final int start, final int length) {
+      if (current == null) {
+        return;
+      }
+      final Node lastChild = current.getLastChild();
+      if (lastChild instanceof Text) {
+        ((Text) lastChild).appendData(new String(ch, start, length));
+      } else {
+        current.appendChild(document.createTextNode(new String(ch, start, length)));
+      }
+    }
+
+    @Override
+    public void fatalError(final SAXParseException exception) {
+      errorsSax.add(exception);
+    }
+
+    @Override
+    public void error(final SAXParseException exception) {
+      errorsSax.add(exception);
+    }
+
+    @Override
+    public void warning(final SAXParseException exception) {
+      errorsSax.add(exception);
+    }
   }
 }
@@ -0,0 +1,161 @@
+package games.strategy.engine.data.changefactory;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.triplea.util.Tuple;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.CompositeChange;
+import games.strategy.engine.data.Unit;
+
+/**
+ * Compacts a sequence of changes into an equivalent change that is cheaper to perform.
+ *
+ * <p>
+ * Units that are added to and later removed from the same holder (or vice versa) cancel out, the unit changes of each
+ * holder are merged, the resource changes of each player are summed, and successive changes of the same territory
+ * owner or unit property are collapsed into one. These changes commute with each other as long as they affect
+ * different state, so they are reordered freely. Any other kind of change is kept as is and acts as a barrier: the
+ * changes before it are compacted and performed before it, and the changes after it are compacted separately.
+ * </p>
+ */
+public final class ChangeCompactor {
+  private final List<Change> compactedChanges = new ArrayList<>();
+  private final Map<Tuple<String, String>, UnitDelta> unitDeltasByHolder = new LinkedHashMap<>();
+  private final Map<Tuple<String, String>, Integer> quantitiesByPlayerResource = new LinkedHashMap<>();
+  private final Map<String, OwnerChange> ownerChangesByTerritory = new LinkedHashMap<>();
+  private final Map<Tuple<Unit, String>, ObjectPropertyChange> propertyChangesByUnitProperty = new LinkedHashMap<>();
+  private int size = 0;
+
+  private ChangeCompactor() {}
+
+  /**
+   * Returns a change equivalent to performing the specified changes in order.
+   */
+  public static Change compact(final List<Change> changes) {
+    checkNotNull(changes);
+
+    final ChangeCompactor compactor = new ChangeCompactor();
+    changes.forEach(compactor::add);
+    compactor.flush();
+    return new CompactedChange(compactor.compactedChanges, compactor.size);
+  }
+
+  /**
+   * Returns the number of units and other elementary changes the specified change, which must have been returned by
+   * {@link #compact(List)}, is made of; useful to estimate its memory footprint.
+   */
+  public static int getSize(final Change compactedChange) {
+    return (compactedChange instanceof CompactedChange) ? ((CompactedChange) compactedChange).size : 1;
+  }
+
+  private void add(final Change change) {
+    if (change instanceof CompositeChange) {
+      ((CompositeChange) change).getChanges().forEach(this::add);
+    } else if (change instanceof AddUnits) {
+      final AddUnits addUnits = (AddUnits) change;
+      getUnitDelta(addUnits.getName(), addUnits.getType()).add(addUnits.getUnits());
+    } else if (change instanceof RemoveUnits) {
+      final RemoveUnits removeUnits = (RemoveUnits) change;
+      getUnitDelta(removeUnits.getName(), removeUnits.getType()).remove(removeUnits.getUnits());
+    } else if (change instanceof ChangeResourceChange) {
+      final ChangeResourceChange resourceChange = (ChangeResourceChange) change;
+      quantitiesByPlayerResource.merge(
+          Tuple.of(resourceChange.getPlayerName(), resourceChange.getResourceName()),
+          resourceChange.getQuantity(),
+          Integer::sum);
+    } else if (change instanceof OwnerChange) {
+      final OwnerChange ownerChange = (OwnerChange) change;
+      ownerChangesByTerritory.merge(ownerChange.getTerritoryName(), ownerChange, OwnerChange::followedBy);
+    } else if (change instanceof ObjectPropertyChange) {
+      final ObjectPropertyChange propertyChange = (ObjectPropertyChange) change;
+      propertyChangesByUnitProperty.merge(
+          Tuple.of(propertyChange.getObject(), propertyChange.getProperty()),
+          propertyChange,
+          ObjectPropertyChange::followedBy);
+    } else {
+      flush();
+      compactedChanges.add(change);
+      size++;
+    }
+  }
+
+  private UnitDelta getUnitDelta(final String name, final String type) {
+    return unitDeltasByHolder.computeIfAbsent(Tuple.of(name, type), key -> new UnitDelta());
+  }
+
+  private void flush() {
+    unitDeltasByHolder.forEach((holder, delta) -> {
+      if (!delta.removedUnits.isEmpty()) {
+        compactedChanges.add(new RemoveUnits(holder.getFirst(), holder.getSecond(), delta.removedUnits));
+        size += delta.removedUnits.size();
+      }
+      if (!delta.addedUnits.isEmpty()) {
+        compactedChanges.add(new AddUnits(holder.getFirst(), holder.getSecond(), delta.addedUnits));
+        size += delta.addedUnits.size();
+      }
+    });
+    quantitiesByPlayerResource.forEach((playerResource, quantity) -> {
+      if (quantity != 0) {
+        compactedChanges.add(
+            new ChangeResourceChange(playerResource.getFirst(), playerResource.getSecond(), quantity));
+        size++;
+      }
+    });
+    ownerChangesByTerritory.values().stream()
+        .filter(ownerChange -> !ownerChange.isNoOp())
+        .forEach(this::addCompacted);
+    propertyChangesByUnitProperty.values().stream()
+        .filter(propertyChange -> !propertyChange.isNoOp())
+        .forEach(this::addCompacted);
+    unitDeltasByHolder.clear();
+    quantitiesByPlayerResource.clear();
+    ownerChangesByTerritory.clear();
+    propertyChangesByUnitProperty.clear();
+  }
+
+  private void addCompacted(final Change change) {
+    compactedChanges.add(change);
+    size++;
+  }
+
+  private static final class UnitDelta {
+    final Set<Unit> addedUnits = new LinkedHashSet<>();
+    final Set<Unit> removedUnits = new LinkedHashSet<>();
+
+    void add(final Collection<Unit> units) {
+      for (final Unit unit : units) {
+        if (!removedUnits.remove(unit)) {
+          addedUnits.add(unit);
+        }
+      }
+    }
+
+    void remove(final Collection<Unit> units) {
+      for (final Unit unit : units) {
+        if (!addedUnits.remove(unit)) {
+          removedUnits.add(unit);
+        }
+      }
+    }
+  }
+
+  private static final class CompactedChange extends CompositeChange {
+    private static final long serialVersionUID = -2178196371869452147L;
+
+    private final int size;
+
+    CompactedChange(final List<Change> changes, final int size) {
+      super(changes);
+      this.size = size;
+    }
+  }
+}
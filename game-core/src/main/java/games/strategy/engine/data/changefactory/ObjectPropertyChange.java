@@ -2,11 +2,14 @@ package games.strategy.engine.data.changefactory;
 
 import java.io.IOException;
 import java.io.ObjectInputStream;
+import java.util.Objects;
 
 import games.strategy.engine.data.Change;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.MutableProperty;
 import games.strategy.engine.data.Unit;
+import lombok.AccessLevel;
+import lombok.Getter;
 
 /**
  * A game data change that captures a change to an object property value.
@@ -14,7 +17,9 @@ import games.strategy.engine.data.Unit;
 public class ObjectPropertyChange extends Change {
   private static final long serialVersionUID = 4218093376094170940L;
 
+  @Getter(AccessLevel.PACKAGE)
   private final Unit object;
+  @Getter(AccessLevel.PACKAGE)
   private String property;
   private final Object newValue;
   private final Object oldValue;
@@ -45,6 +50,18 @@ public class ObjectPropertyChange extends Change {
     return new ObjectPropertyChange(object, property, oldValue, newValue);
   }
 
+  /**
+   * Returns a change equivalent to performing this change followed by {@code next}, which must change the same property
+   * of the same unit.
+   */
+  ObjectPropertyChange followedBy(final ObjectPropertyChange next) {
+    return new ObjectPropertyChange(object, property, next.newValue, oldValue);
+  }
+
+  boolean isNoOp() {
+    return Objects.equals(oldValue, newValue);
+  }
+
   @Override
   protected void perform(final GameData data) {
     try {
@@ -1,9 +1,13 @@
 package games.strategy.engine.data.changefactory;
 
+import java.util.Objects;
+
 import games.strategy.engine.data.Change;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerId;
 import games.strategy.engine.data.Territory;
+import lombok.AccessLevel;
+import lombok.Getter;
 
 /**
  * Changes ownership of a territory.
@@ -16,6 +20,7 @@ class OwnerChange extends Change {
    */
   private final String oldOwnerName;
   private final String newOwnerName;
+  @Getter(AccessLevel.PACKAGE)
   private final String territoryName;
 
   /**
@@ -52,6 +57,18 @@ class OwnerChange extends Change {
     return new OwnerChange(territoryName, oldOwnerName, newOwnerName);
   }
 
+  /**
+   * Returns a change equivalent to performing this change followed by {@code next}, which must change the owner of the
+   * same territory.
+   */
+  OwnerChange followedBy(final OwnerChange next) {
+    return new OwnerChange(territoryName, next.newOwnerName, oldOwnerName);
+  }
+
+  boolean isNoOp() {
+    return Objects.equals(oldOwnerName, newOwnerName);
+  }
+
   @Override
   protected void perform(final GameData data) {
     // both names could be null
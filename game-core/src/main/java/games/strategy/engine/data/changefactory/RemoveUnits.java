@@ -8,12 +8,17 @@ import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.Unit;
 import games.strategy.engine.data.UnitCollection;
 import games.strategy.engine.data.UnitHolder;
+import lombok.AccessLevel;
+import lombok.Getter;
 
 class RemoveUnits extends Change {
   private static final long serialVersionUID = -6410444472951010568L;
 
+  @Getter(AccessLevel.PACKAGE)
   private final String name;
+  @Getter(AccessLevel.PACKAGE)
   private final Collection<Unit> units;
+  @Getter(AccessLevel.PACKAGE)
   private final String type;
 
   RemoveUnits(final UnitCollection collection, final Collection<Unit> units) {
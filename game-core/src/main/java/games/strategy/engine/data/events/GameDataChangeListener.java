@@ -1,10 +1,20 @@
 package games.strategy.engine.data.events;
 
 import games.strategy.engine.data.Change;
+import games.strategy.engine.data.GameData;
 
 /**
  * A GameDataChangeListener will be notified on changes to the GameData.
  */
 public interface GameDataChangeListener {
   void gameDataChanged(Change change);
+
+  /**
+   * Invoked after the specified change was performed, where {@code changeVersion} is the
+   * {@link GameData#getChangeVersion() change version} of the game data right after the change. Listeners are notified
+   * after the write lock is released, so the game data may already contain later changes by then.
+   */
+  default void gameDataChanged(final Change change, final long changeVersion) {
+    gameDataChanged(change);
+  }
 }
@@ -35,6 +35,19 @@ public class DelegateExecutionManager {
   private final ReentrantReadWriteLock readWriteLock = new ReentrantReadWriteLock();
   private final ThreadLocal<Boolean> currentThreadHasReadLock = ThreadLocal.withInitial(() -> Boolean.FALSE);
   private volatile boolean isGameOver = false;
+  private final Runnable leaveDelegateExecutionListener;
+
+  public DelegateExecutionManager() {
+    this(() -> {});
+  }
+
+  /**
+   * Creates a new delegate execution manager that runs {@code leaveDelegateExecutionListener} on the leaving thread
+   * every time a thread leaves delegate execution.
+   */
+  public DelegateExecutionManager(final Runnable leaveDelegateExecutionListener) {
+    this.leaveDelegateExecutionListener = leaveDelegateExecutionListener;
+  }
 
   public void setGameOver() {
     isGameOver = true;
@@ -143,7 +156,11 @@ public class DelegateExecutionManager {
    * Invoke immediately after executing a delegate.
    */
   public void leaveDelegateExecution() {
-    readWriteLock.readLock().unlock();
+    try {
+      leaveDelegateExecutionListener.run();
+    } finally {
+      readWriteLock.readLock().unlock();
+    }
     currentThreadHasReadLock.set(Boolean.FALSE);
   }
 
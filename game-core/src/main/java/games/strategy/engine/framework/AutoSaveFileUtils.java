@@ -70,4 +70,14 @@ public final class AutoSaveFileUtils {
 
     return getAutoSaveFile(addExtension("autosaveAfter" + capitalize(stepName)), headless);
   }
+
+  /**
+   * Returns the file with the specified name suffix in which the journal referenced by auto-saves is stored. All
+   * journal files of a node share the name of the file returned for an empty suffix as their prefix.
+   */
+  static File getJournalFile(final String fileNameSuffix, final boolean headless) {
+    checkNotNull(fileNameSuffix);
+
+    return getAutoSaveFile("journal_" + fileNameSuffix, headless);
+  }
 }
@@ -0,0 +1,45 @@
+package games.strategy.engine.framework;
+
+import java.util.concurrent.TimeUnit;
+
+import lombok.Value;
+
+/**
+ * A snapshot of the auto-save activity of a server game, distinguishing the time the game was blocked while the content
+ * of auto-saves was captured from the time spent writing them in the background.
+ */
+@Value
+public class AutoSaveStatistics {
+  /** The number of auto-saves captured. */
+  private final long captures;
+  /** The total time the game was blocked while auto-saves were captured. */
+  private final long captureNanos;
+  /** The longest time the game was blocked while an auto-save was captured. */
+  private final long maxCaptureNanos;
+  /** The number of background writes performed. */
+  private final long writes;
+  /** The total time spent performing background writes. */
+  private final long writeNanos;
+  /** The longest time spent performing a single background write. */
+  private final long maxWriteNanos;
+  /** The number of pending writes superseded by a later write of the same file. */
+  private final long coalescedWrites;
+  /** The number of background writes that failed. */
+  private final long failedWrites;
+  /** The number of background writes not performed because a write they depend on failed. */
+  private final long droppedWrites;
+  /** The number of writes waiting to be performed. */
+  private final int pendingWrites;
+
+  /**
+   * Returns a compact, single line description of these statistics suitable for logging.
+   */
+  public String toLogString() {
+    return String.format(
+        "captures=%d blocked=%dms maxBlocked=%dms writes=%d writing=%dms maxWriting=%dms coalesced=%d failed=%d "
+            + "dropped=%d pending=%d",
+        captures, TimeUnit.NANOSECONDS.toMillis(captureNanos), TimeUnit.NANOSECONDS.toMillis(maxCaptureNanos),
+        writes, TimeUnit.NANOSECONDS.toMillis(writeNanos), TimeUnit.NANOSECONDS.toMillis(maxWriteNanos),
+        coalescedWrites, failedWrites, droppedWrites, pendingWrites);
+  }
+}
@@ -0,0 +1,297 @@
+package games.strategy.engine.framework;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import javax.annotation.concurrent.GuardedBy;
+
+import org.triplea.java.function.ThrowingConsumer;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.java.Log;
+
+/**
+ * Writes auto-save files on a dedicated background thread so that the game only has to wait while the content of an
+ * auto-save is captured, not while it is compressed and written to disk.
+ *
+ * <p>
+ * Writes are performed in the order they were submitted. A pending replacement of a file is superseded by a later
+ * replacement of the same file, which is moved to the end of the queue ("latest wins"). Files are replaced atomically
+ * by writing a temporary file and renaming it. Submitting a write blocks while {@link #MAX_PENDING_WRITES} writes are
+ * pending.
+ * </p>
+ *
+ * <p>
+ * A write may depend on other files, e.g. an auto-save referencing the files of a game journal. Once a write of a file
+ * fails, the later writes depending on that file are dropped, and so are the writes depending on the files of the
+ * dropped writes, until the file is successfully replaced or deleted. An append always depends on the file appended
+ * to, since a failed append may leave a partial record behind.
+ * </p>
+ */
+@Log
+final class AutoSaveWriter {
+  @VisibleForTesting
+  static final int MAX_PENDING_WRITES = 16;
+
+  private static final String TEMP_FILE_EXTENSION = ".tmp";
+  private static final long SHUT_DOWN_TIMEOUT_SECONDS = 30;
+
+  private final Runnable failureListener;
+  private final Thread thread = new Thread(this::run, "Auto-Save Writer");
+  @GuardedBy("this")
+  private final Deque<PendingWrite> pendingWrites = new ArrayDeque<>();
+  @GuardedBy("this")
+  private boolean shutDown = false;
+  @GuardedBy("this")
+  private long captures = 0;
+  @GuardedBy("this")
+  private long captureNanos = 0;
+  @GuardedBy("this")
+  private long maxCaptureNanos = 0;
+  @GuardedBy("this")
+  private long writes = 0;
+  @GuardedBy("this")
+  private long writeNanos = 0;
+  @GuardedBy("this")
+  private long maxWriteNanos = 0;
+  @GuardedBy("this")
+  private long coalescedWrites = 0;
+  @GuardedBy("this")
+  private long failedWrites = 0;
+  @GuardedBy("this")
+  private long droppedWrites = 0;
+  // the files whose last write failed or was dropped
+  @GuardedBy("this")
+  private final Set<File> failedFiles = new HashSet<>();
+
+  /**
+   * Creates and starts a new writer.
+   *
+   * @param failureListener Invoked on the writer thread after a write fails.
+   */
+  AutoSaveWriter(final Runnable failureListener) {
+    this.failureListener = checkNotNull(failureListener);
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  /**
+   * Replaces the content of {@code file} with the content written by {@code writer}, superseding any pending
+   * replacement of the same file.
+   *
+   * @param dependencies The files without which the new content is useless; the replacement is dropped if one of their
+   *        writes failed.
+   */
+  synchronized void replace(
+      final File file,
+      final ThrowingConsumer<OutputStream, IOException> writer,
+      final File... dependencies) {
+    if (pendingWrites.removeIf(pendingWrite -> pendingWrite.kind == Kind.REPLACE && pendingWrite.file.equals(file))) {
+      coalescedWrites++;
+    }
+    submit(new PendingWrite(Kind.REPLACE, file, writer, Arrays.asList(dependencies)));
+  }
+
+  /**
+   * Appends the content written by {@code writer} to {@code file}.
+   *
+   * @param dependencies The files without which the appended content is useless, in addition to {@code file}.
+   */
+  synchronized void append(
+      final File file,
+      final ThrowingConsumer<OutputStream, IOException> writer,
+      final File... dependencies) {
+    final List<File> allDependencies = new ArrayList<>(Arrays.asList(dependencies));
+    allDependencies.add(file);
+    submit(new PendingWrite(Kind.APPEND, file, writer, allDependencies));
+  }
+
+  /**
+   * Deletes {@code file} if it exists.
+   *
+   * @param dependencies The files that must have been written for {@code file} to be no longer needed; the deletion is
+   *        dropped if one of their writes failed.
+   */
+  synchronized void delete(final File file, final File... dependencies) {
+    submit(new PendingWrite(Kind.DELETE, file, os -> {}, Arrays.asList(dependencies)));
+  }
+
+  @GuardedBy("this")
+  private void submit(final PendingWrite pendingWrite) {
+    checkNotNull(pendingWrite.file);
+
+    while (pendingWrites.size() >= MAX_PENDING_WRITES && !shutDown) {
+      try {
+        wait();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+    }
+    pendingWrites.addLast(pendingWrite);
+    notifyAll();
+  }
+
+  /**
+   * Completes the pending writes and stops the writer thread, waiting a bounded time for the pending writes to be
+   * completed.
+   */
+  void shutDown() {
+    synchronized (this) {
+      shutDown = true;
+      notifyAll();
+    }
+    try {
+      thread.join(TimeUnit.SECONDS.toMillis(SHUT_DOWN_TIMEOUT_SECONDS));
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Records the time the game was blocked while the content of an auto-save was captured and submitted to this writer.
+   */
+  synchronized void recordCapture(final long nanos) {
+    captures++;
+    captureNanos += nanos;
+    maxCaptureNanos = Math.max(maxCaptureNanos, nanos);
+  }
+
+  synchronized AutoSaveStatistics getStatistics() {
+    return new AutoSaveStatistics(
+        captures, captureNanos, maxCaptureNanos,
+        writes, writeNanos, maxWriteNanos,
+        coalescedWrites, failedWrites, droppedWrites, pendingWrites.size());
+  }
+
+  private void run() {
+    while (true) {
+      final PendingWrite pendingWrite;
+      synchronized (this) {
+        while (pendingWrites.isEmpty() && !shutDown) {
+          try {
+            wait();
+          } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+          }
+        }
+        if (pendingWrites.isEmpty()) {
+          return;
+        }
+        pendingWrite = pendingWrites.removeFirst();
+        notifyAll();
+      }
+      perform(pendingWrite);
+    }
+  }
+
+  private void perform(final PendingWrite pendingWrite) {
+    final Optional<File> failedDependency;
+    synchronized (this) {
+      failedDependency = pendingWrite.dependencies.stream().filter(failedFiles::contains).findFirst();
+      if (failedDependency.isPresent()) {
+        droppedWrites++;
+        failedFiles.add(pendingWrite.file);
+      }
+    }
+    if (failedDependency.isPresent()) {
+      log.warning("Dropped write of auto-save file: " + pendingWrite.file.getAbsolutePath()
+          + ", since a write of " + failedDependency.get().getAbsolutePath() + " failed");
+      return;
+    }
+
+    final long startTime = System.nanoTime();
+    boolean failed = false;
+    try {
+      pendingWrite.perform();
+    } catch (final IOException | RuntimeException e) {
+      log.log(Level.SEVERE, "Failed to write auto-save file: " + pendingWrite.file.getAbsolutePath(), e);
+      failed = true;
+    }
+    final long nanos = System.nanoTime() - startTime;
+    synchronized (this) {
+      writes++;
+      writeNanos += nanos;
+      maxWriteNanos = Math.max(maxWriteNanos, nanos);
+      if (failed) {
+        failedWrites++;
+        failedFiles.add(pendingWrite.file);
+      } else if (pendingWrite.kind != Kind.APPEND) {
+        failedFiles.remove(pendingWrite.file);
+      }
+    }
+    if (failed) {
+      failureListener.run();
+    }
+  }
+
+  private enum Kind {
+    REPLACE, APPEND, DELETE
+  }
+
+  @AllArgsConstructor
+  private static final class PendingWrite {
+    private final Kind kind;
+    private final File file;
+    private final ThrowingConsumer<OutputStream, IOException> writer;
+    private final List<File> dependencies;
+
+    void perform() throws IOException {
+      switch (kind) {
+        case REPLACE:
+          replaceFile();
+          break;
+        case APPEND:
+          Files.createDirectories(file.getParentFile().toPath());
+          try (OutputStream os = new BufferedOutputStream(new FileOutputStream(file, true))) {
+            writer.accept(os);
+          }
+          break;
+        case DELETE:
+          Files.deleteIfExists(file.toPath());
+          break;
+        default:
+          throw new AssertionError("unknown kind: " + kind);
+      }
+    }
+
+    private void replaceFile() throws IOException {
+      Files.createDirectories(file.getParentFile().toPath());
+      final File tempFile = new File(file.getParentFile(), file.getName() + TEMP_FILE_EXTENSION);
+      try {
+        try (OutputStream os = new BufferedOutputStream(new FileOutputStream(tempFile))) {
+          writer.accept(os);
+        }
+        try {
+          Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE,
+              StandardCopyOption.REPLACE_EXISTING);
+        } catch (final AtomicMoveNotSupportedException e) {
+          Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+      } finally {
+        Files.deleteIfExists(tempFile.toPath());
+      }
+    }
+  }
+}
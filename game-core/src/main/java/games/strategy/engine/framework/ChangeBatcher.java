@@ -0,0 +1,160 @@
+package games.strategy.engine.framework;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.CompositeChange;
+import games.strategy.engine.data.PlayerId;
+import lombok.extern.java.Log;
+
+/**
+ * Server side decorator of the game modification broadcaster that coalesces changes into frames.
+ *
+ * <p>
+ * Changes passed to {@link #gameDataChanged(Change)} are buffered and broadcast as a single {@link CompositeChange} via
+ * {@link IGameModifiedChannel#gameDataChangedFrame(CompositeChange)}. The pending frame is flushed before any other
+ * message is forwarded (history events, step changes, shut down), when {@link #flush()} is invoked (e.g. when a
+ * delegate call returns) or when the batching window elapses, whichever comes first. Because every message goes
+ * through this class, receivers see changes and history events in the same order they were produced.
+ * </p>
+ */
+@Log
+class ChangeBatcher implements IGameModifiedChannel {
+  static final long DEFAULT_WINDOW_MILLIS = 50;
+
+  private final IGameModifiedChannel broadcaster;
+  private final long windowMillis;
+  private final ScheduledExecutorService flushTimer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+    final Thread thread = new Thread(runnable, "Change batch flusher");
+    thread.setDaemon(true);
+    return thread;
+  });
+  @GuardedBy("this")
+  private final List<Change> pendingChanges = new ArrayList<>();
+  @GuardedBy("this")
+  @Nullable
+  private ScheduledFuture<?> scheduledFlush;
+  @GuardedBy("this")
+  private final GameModificationLog modificationLog;
+
+  ChangeBatcher(final IGameModifiedChannel broadcaster) {
+    this(broadcaster, DEFAULT_WINDOW_MILLIS);
+  }
+
+  ChangeBatcher(final IGameModifiedChannel broadcaster, final long windowMillis) {
+    this(broadcaster, windowMillis, GameModificationLog.DEFAULT_CAPACITY);
+  }
+
+  ChangeBatcher(final IGameModifiedChannel broadcaster, final long windowMillis, final int modificationLogCapacity) {
+    this.broadcaster = checkNotNull(broadcaster);
+    this.windowMillis = windowMillis;
+    modificationLog = new GameModificationLog(modificationLogCapacity);
+  }
+
+  @Override
+  public synchronized void gameDataChanged(final Change change) {
+    if (change.isEmpty()) {
+      return;
+    }
+    pendingChanges.add(change);
+    modificationLog.add(GameModification.gameDataChanged(change));
+    if (scheduledFlush == null) {
+      scheduledFlush = flushTimer.schedule(this::flushQuietly, windowMillis, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  @Override
+  public void gameDataChangedFrame(final CompositeChange frame) {
+    gameDataChanged(frame);
+  }
+
+  /**
+   * Broadcasts all pending changes as a single frame. Does nothing if there are no pending changes.
+   */
+  synchronized void flush() {
+    if (scheduledFlush != null) {
+      scheduledFlush.cancel(false);
+      scheduledFlush = null;
+    }
+    if (pendingChanges.isEmpty()) {
+      return;
+    }
+    final CompositeChange frame = new CompositeChange(pendingChanges);
+    pendingChanges.clear();
+    broadcaster.gameDataChangedFrame(frame);
+  }
+
+  /**
+   * Returns the number of changes, history events and step changes that have passed through this broadcaster. The
+   * game as seen by remote nodes has not changed between two calls that return the same value.
+   */
+  synchronized long getModificationCount() {
+    return modificationLog.getEndIndex();
+  }
+
+  /**
+   * Returns the modifications that have passed through this broadcaster since the specified number of modifications,
+   * or empty if they are no longer available. Pending changes should be flushed first if the caller is about to send
+   * the result to a node that is not yet subscribed to the game modification channel.
+   */
+  synchronized Optional<List<GameModification>> getModificationsSince(final long modificationCount) {
+    return modificationLog.getModificationsSince(modificationCount);
+  }
+
+  private void flushQuietly() {
+    try {
+      flush();
+    } catch (final RuntimeException e) {
+      log.log(Level.SEVERE, "Failed to broadcast pending changes", e);
+    }
+  }
+
+  @Override
+  public synchronized void startHistoryEvent(final String event, final Object renderingData) {
+    flush();
+    modificationLog.add(GameModification.historyEventStarted(event, renderingData));
+    broadcaster.startHistoryEvent(event, renderingData);
+  }
+
+  @Override
+  public synchronized void startHistoryEvent(final String event) {
+    flush();
+    modificationLog.add(GameModification.historyEventStarted(event, null));
+    broadcaster.startHistoryEvent(event);
+  }
+
+  @Override
+  public synchronized void addChildToEvent(final String text, final Object renderingData) {
+    flush();
+    modificationLog.add(GameModification.childAddedToEvent(text, renderingData));
+    broadcaster.addChildToEvent(text, renderingData);
+  }
+
+  @Override
+  public synchronized void stepChanged(final String stepName, final String delegateName, final PlayerId player,
+      final int round, final String displayName, final boolean loadedFromSavedGame) {
+    flush();
+    modificationLog.add(
+        GameModification.stepChanged(stepName, delegateName, player, round, displayName, loadedFromSavedGame));
+    broadcaster.stepChanged(stepName, delegateName, player, round, displayName, loadedFromSavedGame);
+  }
+
+  @Override
+  public synchronized void shutDown() {
+    flush();
+    flushTimer.shutdown();
+    broadcaster.shutDown();
+  }
+}
@@ -0,0 +1,111 @@
+package games.strategy.engine.framework;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.triplea.java.function.ThrowingConsumer;
+
+import com.google.common.annotations.VisibleForTesting;
+
+/**
+ * A serialized game split into chunks of bounded size.
+ *
+ * <p>
+ * A large game is sent to a remote node as a sequence of chunks rather than as a single message, so that neither side
+ * has to hold a second contiguous copy of the whole game and no message comes near the network message size limit.
+ * </p>
+ */
+final class ChunkedGameData {
+  static final int DEFAULT_CHUNK_SIZE = 256 * 1024;
+
+  private final List<byte[]> chunks;
+  private final long size;
+
+  private ChunkedGameData(final List<byte[]> chunks) {
+    this.chunks = Collections.unmodifiableList(chunks);
+    size = chunks.stream().mapToLong(chunk -> chunk.length).sum();
+  }
+
+  /**
+   * Creates a new chunked game from the bytes written by {@code writer}.
+   */
+  static ChunkedGameData write(final ThrowingConsumer<OutputStream, IOException> writer) throws IOException {
+    return write(writer, DEFAULT_CHUNK_SIZE);
+  }
+
+  @VisibleForTesting
+  static ChunkedGameData write(final ThrowingConsumer<OutputStream, IOException> writer, final int chunkSize)
+      throws IOException {
+    checkArgument(chunkSize > 0, "chunk size must be positive");
+    final ChunkingOutputStream os = new ChunkingOutputStream(chunkSize);
+    writer.accept(os);
+    return new ChunkedGameData(os.getChunks());
+  }
+
+  int getChunkCount() {
+    return chunks.size();
+  }
+
+  byte[] getChunk(final int index) {
+    return chunks.get(index);
+  }
+
+  List<byte[]> getChunks() {
+    return chunks;
+  }
+
+  long getSize() {
+    return size;
+  }
+
+  private static final class ChunkingOutputStream extends OutputStream {
+    private final int chunkSize;
+    private final List<byte[]> chunks = new ArrayList<>();
+    private byte[] currentChunk;
+    private int position;
+
+    ChunkingOutputStream(final int chunkSize) {
+      this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void write(final int b) {
+      write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) {
+      int offset = off;
+      int remaining = len;
+      while (remaining > 0) {
+        if (currentChunk == null) {
+          currentChunk = new byte[chunkSize];
+          position = 0;
+        }
+        final int count = Math.min(remaining, chunkSize - position);
+        System.arraycopy(b, offset, currentChunk, position, count);
+        position += count;
+        offset += count;
+        remaining -= count;
+        if (position == chunkSize) {
+          chunks.add(currentChunk);
+          currentChunk = null;
+        }
+      }
+    }
+
+    List<byte[]> getChunks() {
+      if (currentChunk != null) {
+        chunks.add(Arrays.copyOf(currentChunk, position));
+        currentChunk = null;
+      }
+      return chunks;
+    }
+  }
+}
@@ -3,13 +3,17 @@ package games.strategy.engine.framework;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 
 import org.triplea.java.Interruptibles;
 
 import games.strategy.engine.data.Change;
+import games.strategy.engine.data.CompositeChange;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerId;
 import games.strategy.engine.history.EventChild;
@@ -28,16 +32,33 @@ import lombok.extern.java.Log;
  */
 @Log
 public class ClientGame extends AbstractGame {
+  private final UUID gameId;
+  // the number of modifications received from the server game, see ResyncPoint
+  private final AtomicLong modificationCount;
+
   public ClientGame(final GameData data, final Set<IGamePlayer> gamePlayers,
-      final Map<String, INode> remotePlayerMapping, final Messengers messengers) {
+      final Map<String, INode> remotePlayerMapping, final Messengers messengers, final ResyncPoint resyncPoint) {
     super(data, gamePlayers, remotePlayerMapping, messengers);
+    gameId = resyncPoint.getGameId();
+    modificationCount = new AtomicLong(resyncPoint.getModificationCount());
     gameModifiedChannel = new IGameModifiedChannel() {
       @Override
       public void gameDataChanged(final Change change) {
+        modificationCount.incrementAndGet();
         gameData.performChange(change);
         gameData.getHistory().getHistoryWriter().addChange(change);
       }
 
+      @Override
+      public void gameDataChangedFrame(final CompositeChange frame) {
+        modificationCount.addAndGet(frame.getChanges().size());
+        // perform the whole frame under a single write lock acquisition
+        gameData.performChange(frame);
+        for (final Change change : frame.getChanges()) {
+          gameData.getHistory().getHistoryWriter().addChange(change);
+        }
+      }
+
       @Override
       public void startHistoryEvent(final String event, final Object renderingData) {
         startHistoryEvent(event);
@@ -48,11 +69,13 @@ public class ClientGame extends AbstractGame {
 
       @Override
       public void startHistoryEvent(final String event) {
+        modificationCount.incrementAndGet();
         gameData.getHistory().getHistoryWriter().startEvent(event);
       }
 
       @Override
       public void addChildToEvent(final String text, final Object renderingData) {
+        modificationCount.incrementAndGet();
         gameData.getHistory().getHistoryWriter().addChildToEvent(new EventChild(text, renderingData));
       }
 
@@ -63,6 +86,7 @@ public class ClientGame extends AbstractGame {
       @Override
       public void stepChanged(final String stepName, final String delegateName, final PlayerId player, final int round,
           final String displayName, final boolean loadedFromSavedGame) {
+        modificationCount.incrementAndGet();
         // we want to skip the first iteration, since that simply advances us to step 0
         if (firstRun) {
           firstRun = false;
@@ -203,12 +227,41 @@ public class ClientGame extends AbstractGame {
     return null;
   }
 
+  /**
+   * Returns the position of this game within the modifications made by the server game.
+   */
+  public ResyncPoint getResyncPoint() {
+    return new ResyncPoint(gameId, modificationCount.get());
+  }
+
+  /**
+   * Brings this game up to date with modifications that were made by the server game while this node was not
+   * connected. Must be called before any modification is received from the server game.
+   *
+   * <p>
+   * The resync point this game was created with already counts the missed modifications, so they are not counted again
+   * while they are replayed.
+   * </p>
+   */
+  public void applyMissedModifications(final List<GameModification> modifications) {
+    final long resyncModificationCount = modificationCount.get();
+    try {
+      for (final GameModification modification : modifications) {
+        modification.applyTo(gameModifiedChannel);
+      }
+    } finally {
+      modificationCount.set(resyncModificationCount);
+    }
+  }
+
   @Override
   public void saveGame(final File f) {
     final IServerRemote server = (IServerRemote) messengers.getRemote(ServerGame.SERVER_REMOTE);
-    final byte[] bytes = server.getSavedGame();
+    final int chunkCount = server.prepareSavedGame();
     try (FileOutputStream fout = new FileOutputStream(f)) {
-      fout.write(bytes);
+      for (int i = 0; i < chunkCount; i++) {
+        fout.write(server.getSavedGameChunk(i));
+      }
     } catch (final IOException e) {
       throw new IllegalStateException(e);
     }
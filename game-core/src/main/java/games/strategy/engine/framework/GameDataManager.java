@@ -3,22 +3,18 @@ package games.strategy.engine.framework;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.OutputStream;
 import java.io.Serializable;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
 
+import javax.annotation.Nullable;
 import javax.swing.JOptionPane;
 
-import org.apache.commons.io.IOUtils;
 import org.triplea.game.server.HeadlessGameServer;
 import org.triplea.java.Interruptibles;
 import org.triplea.swing.SwingAction;
@@ -28,12 +24,20 @@ import games.strategy.engine.ClientContext;
 import games.strategy.engine.GameEngineVersion;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.delegate.IDelegate;
+import games.strategy.io.IoUtils;
 import games.strategy.triplea.UrlConstants;
 
 /**
  * Responsible for loading saved games, new games from xml, and saving games.
  */
 public final class GameDataManager {
+  /**
+   * The codec with which games are saved unless another one is requested. Parallel deflate is used because it is the
+   * fastest codec whose save games can also be read by engines that predate {@link SaveGameCodec}; those engines skip
+   * the metadata, which is stored in the gzip header.
+   */
+  static final SaveGameCodec DEFAULT_CODEC = SaveGameCodec.PARALLEL_DEFLATE;
+
   private static final String DELEGATE_START = "<DelegateStart>";
   private static final String DELEGATE_DATA_NEXT = "<DelegateData>";
   private static final String DELEGATE_LIST_END = "<EndDelegateList>";
@@ -54,12 +58,13 @@ public final class GameDataManager {
 
     try (InputStream fis = new FileInputStream(file);
         InputStream is = new BufferedInputStream(fis)) {
-      return loadGame(is);
+      return loadGame(is, file.getAbsoluteFile().getParentFile());
     }
   }
 
   /**
-   * Loads game data from the specified stream.
+   * Loads game data from the specified stream. The stream may contain either a save game or an auto-save referencing a
+   * game journal, in which case the game is restored from the journal files in the auto-save folder.
    *
    * @param is The stream from which the game data will be loaded. The caller is responsible for closing this stream; it
    *        will not be closed when this method returns.
@@ -71,7 +76,21 @@ public final class GameDataManager {
   public static GameData loadGame(final InputStream is) throws IOException {
     checkNotNull(is);
 
-    final ObjectInputStream input = new ObjectInputStream(new GZIPInputStream(is));
+    return loadGame(is, null);
+  }
+
+  /**
+   * Loads game data from the specified stream, resolving the journal files referenced by an auto-save against the
+   * specified folder or, if {@code null}, against the auto-save folder.
+   */
+  private static GameData loadGame(final InputStream is, final @Nullable File directory) throws IOException {
+    final InputStream bufferedInput = is.markSupported() ? is : new BufferedInputStream(is);
+    // auto-saves referencing a game journal start with a metadata block, which is only used to browse them
+    SaveGameMetadata.read(bufferedInput);
+    if (GameJournal.isJournalReference(bufferedInput)) {
+      return GameJournal.load(bufferedInput, directory);
+    }
+    final ObjectInputStream input = new ObjectInputStream(SaveGameCodec.newInputStream(bufferedInput));
     try {
       final Version readVersion = (Version) input.readObject();
       final boolean headless = HeadlessGameServer.headless();
@@ -137,7 +156,7 @@ public final class GameDataManager {
   }
 
   /**
-   * Saves the specified game data to the specified stream.
+   * Saves the specified game data to the specified stream with the {@link #DEFAULT_CODEC default codec}.
    *
    * @param os The stream to which the game data will be saved. Note that this stream will be closed if this method
    *        returns successfully.
@@ -146,45 +165,106 @@ public final class GameDataManager {
    * @throws IOException If an error occurs while saving the game.
    */
   public static void saveGame(final OutputStream os, final GameData gameData) throws IOException {
+    saveGame(os, gameData, DEFAULT_CODEC);
+  }
+
+  /**
+   * Saves the specified game data to the specified stream with the specified codec.
+   *
+   * @param os The stream to which the game data will be saved. Note that this stream will be closed if this method
+   *        returns successfully.
+   * @param gameData The game data to save.
+   * @param codec The codec with which the saved game is encoded.
+   *
+   * @throws IOException If an error occurs while saving the game.
+   */
+  public static void saveGame(final OutputStream os, final GameData gameData, final SaveGameCodec codec)
+      throws IOException {
     checkNotNull(os);
     checkNotNull(gameData);
+    checkNotNull(codec);
 
-    saveGame(os, gameData, true);
+    saveGame(os, gameData, true, codec);
   }
 
   static void saveGame(
       final OutputStream sink,
       final GameData data,
-      final boolean saveDelegateInfo)
+      final boolean saveDelegateInfo,
+      final SaveGameCodec codec)
       throws IOException {
-    final File tempFile = File.createTempFile(GameDataManager.class.getSimpleName(), GameDataFileUtils.getExtension());
-    try {
-      // write to temporary file first in case of error
-      try (OutputStream os = new FileOutputStream(tempFile);
-          OutputStream bufferedOutStream = new BufferedOutputStream(os);
-          OutputStream zippedOutStream = new GZIPOutputStream(bufferedOutStream);
-          ObjectOutputStream outStream = new ObjectOutputStream(zippedOutStream)) {
-        outStream.writeObject(ClientContext.engineVersion());
-        data.acquireReadLock();
-        try {
-          outStream.writeObject(data);
-          if (saveDelegateInfo) {
-            writeDelegates(data, outStream);
-          } else {
-            outStream.writeObject(DELEGATE_LIST_END);
-          }
-        } finally {
-          data.releaseReadLock();
-        }
+    // serialize to memory first so nothing is written to the sink in case of error
+    writeSerializedGame(sink, serializeGame(data, saveDelegateInfo), codec);
+  }
+
+  /**
+   * Serializes the specified game data without compressing it. Serializing a game is much cheaper than compressing it
+   * and writing it to disk, so callers that must block the game while capturing its state should only serialize it
+   * while the game is blocked and write the result with {@link #writeSerializedGame(OutputStream, SerializedGame)}
+   * afterwards.
+   */
+  static SerializedGame serializeGame(final GameData data) throws IOException {
+    checkNotNull(data);
+
+    return serializeGame(data, true);
+  }
+
+  private static SerializedGame serializeGame(final GameData data, final boolean saveDelegateInfo)
+      throws IOException {
+    final SaveGameMetadata metadata = SaveGameMetadata.of(data);
+    final byte[] bytes = IoUtils.writeToMemory(os -> {
+      try (ObjectOutputStream outStream = new ObjectOutputStream(os)) {
+        writeGame(outStream, data, saveDelegateInfo);
       }
+    });
+    return new SerializedGame(metadata, bytes);
+  }
+
+  /**
+   * Writes a game serialized by {@link #serializeGame(GameData)} to the specified stream in the save game format with
+   * the {@link #DEFAULT_CODEC default codec}.
+   *
+   * @param sink The stream to which the game will be saved. Note that this stream will be closed if this method returns
+   *        successfully.
+   */
+  static void writeSerializedGame(final OutputStream sink, final SerializedGame serializedGame) throws IOException {
+    writeSerializedGame(sink, serializedGame, DEFAULT_CODEC);
+  }
 
-      // now write to sink (ensure sink is closed per method contract)
-      try (InputStream is = new FileInputStream(tempFile);
-          OutputStream os = new BufferedOutputStream(sink)) {
-        IOUtils.copy(is, os);
+  /**
+   * Writes a game serialized by {@link #serializeGame(GameData)} to the specified stream in the save game format with
+   * the specified codec, which stores the metadata of the game in the gzip header if it compresses the game.
+   *
+   * @param sink The stream to which the game will be saved. Note that this stream will be closed if this method returns
+   *        successfully.
+   */
+  static void writeSerializedGame(
+      final OutputStream sink,
+      final SerializedGame serializedGame,
+      final SaveGameCodec codec)
+      throws IOException {
+    checkNotNull(sink);
+    checkNotNull(serializedGame);
+    checkNotNull(codec);
+
+    try (OutputStream os = codec.newOutputStream(sink, serializedGame.getMetadata())) {
+      os.write(serializedGame.getBytes());
+    }
+  }
+
+  private static void writeGame(final ObjectOutputStream outStream, final GameData data,
+      final boolean saveDelegateInfo) throws IOException {
+    outStream.writeObject(ClientContext.engineVersion());
+    data.acquireReadLock();
+    try {
+      outStream.writeObject(data);
+      if (saveDelegateInfo) {
+        writeDelegates(data, outStream);
+      } else {
+        outStream.writeObject(DELEGATE_LIST_END);
       }
     } finally {
-      tempFile.delete();
+      data.releaseReadLock();
     }
   }
 
@@ -40,7 +40,8 @@ public final class GameDataUtils {
    */
   public static GameData cloneGameData(final GameData data, final boolean copyDelegates) {
     try {
-      final byte[] bytes = IoUtils.writeToMemory(os -> GameDataManager.saveGame(os, data, copyDelegates));
+      final byte[] bytes = IoUtils.writeToMemory(
+          os -> GameDataManager.saveGame(os, data, copyDelegates, SaveGameCodec.UNCOMPRESSED));
       return IoUtils.readFromMemory(bytes, GameDataManager::loadGame);
     } catch (final IOException e) {
       log.log(Level.SEVERE, "Failed to clone game data", e);
@@ -0,0 +1,212 @@
+package games.strategy.engine.framework;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.io.IOUtils;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import games.strategy.engine.ClientContext;
+import games.strategy.engine.ClientFileSystemHelper;
+import games.strategy.engine.data.EngineVersionException;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameParseException;
+import games.strategy.engine.data.GameParser;
+import lombok.extern.java.Log;
+
+/**
+ * A cache of parsed game definitions, so that starting a new game from a map whose game XML was parsed before loads
+ * the parsed game data instead of parsing the XML again.
+ *
+ * <p>
+ * Each entry is a save game of the freshly parsed game data, keyed by a hash of the engine version and the content of
+ * the game XML. Changing the XML or the engine thus changes the key, and entries are never stale; entries that are
+ * no longer used are evicted, least recently used first, when the cache grows beyond its size limits. Entries are
+ * written in the background.
+ * </p>
+ */
+@Log
+public final class GameDefinitionCache {
+  private static final long DEFAULT_MAX_SIZE = 256L * 1024 * 1024;
+  private static final int DEFAULT_MAX_ENTRIES = 32;
+  private static final String FILE_EXTENSION = ".tsvg";
+
+  private static GameDefinitionCache instance;
+
+  private final File folder;
+  private final long maxSize;
+  private final int maxEntries;
+  private final Executor writeExecutor;
+  private final AtomicInteger hits = new AtomicInteger();
+  private final AtomicInteger misses = new AtomicInteger();
+
+  @VisibleForTesting
+  GameDefinitionCache(final File folder, final long maxSize, final int maxEntries, final Executor writeExecutor) {
+    checkNotNull(folder);
+    checkArgument(maxSize > 0, "max size must be positive");
+    checkArgument(maxEntries > 0, "max entries must be positive");
+    checkNotNull(writeExecutor);
+
+    this.folder = folder;
+    this.maxSize = maxSize;
+    this.maxEntries = maxEntries;
+    this.writeExecutor = writeExecutor;
+  }
+
+  /**
+   * Returns the cache stored in the user's root folder.
+   */
+  public static synchronized GameDefinitionCache getInstance() {
+    if (instance == null) {
+      instance = new GameDefinitionCache(
+          new File(new File(ClientFileSystemHelper.getUserRootFolder(), "cache"), "games"),
+          DEFAULT_MAX_SIZE,
+          DEFAULT_MAX_ENTRIES,
+          Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+              .setDaemon(true)
+              .setNameFormat("Game Definition Cache Writer")
+              .build()));
+    }
+    return instance;
+  }
+
+  /**
+   * Performs a deep parse of the game definition contained in the specified stream, like
+   * {@link GameParser#parse(String, InputStream)}, unless a game definition with the same content was parsed by this
+   * engine before, in which case the cached game data is loaded instead.
+   *
+   * @return A new {@link GameData} instance that can be used to play the game; it is not shared with any other caller.
+   */
+  public GameData parse(final String mapName, final InputStream stream)
+      throws GameParseException, EngineVersionException {
+    checkNotNull(mapName);
+    checkNotNull(stream);
+
+    final byte[] xml;
+    try {
+      xml = IOUtils.toByteArray(stream);
+    } catch (final IOException e) {
+      throw new GameParseException("failed to read game definition", e);
+    }
+    final File file = new File(folder, getKey(xml) + FILE_EXTENSION);
+    final Optional<GameData> cachedData = load(file);
+    if (cachedData.isPresent()) {
+      hits.incrementAndGet();
+      return cachedData.get();
+    }
+
+    misses.incrementAndGet();
+    final GameData data = GameParser.parse(mapName, new ByteArrayInputStream(xml));
+    try {
+      // serialize now, before the caller changes the game data; only compressing and writing it can wait
+      final SerializedGame serializedGame = GameDataManager.serializeGame(data);
+      writeExecutor.execute(() -> write(file, serializedGame));
+    } catch (final IOException e) {
+      log.log(Level.WARNING, "Failed to serialize game definition: " + mapName, e);
+    }
+    return data;
+  }
+
+  private static String getKey(final byte[] xml) {
+    return Hashing.sha256().newHasher()
+        .putString(ClientContext.engineVersion().toString(), StandardCharsets.UTF_8)
+        .putByte((byte) 0)
+        .putBytes(xml)
+        .hash()
+        .toString();
+  }
+
+  private static Optional<GameData> load(final File file) {
+    if (!file.isFile()) {
+      return Optional.empty();
+    }
+    try (InputStream is = new BufferedInputStream(new FileInputStream(file))) {
+      final GameData data = GameDataManager.loadGame(is);
+      // mark the entry as recently used
+      file.setLastModified(System.currentTimeMillis());
+      return Optional.ofNullable(data);
+    } catch (final IOException | RuntimeException e) {
+      log.log(Level.FINE, "Discarding unreadable game definition cache entry: " + file.getAbsolutePath(), e);
+      file.delete();
+      return Optional.empty();
+    }
+  }
+
+  private void write(final File file, final SerializedGame serializedGame) {
+    final File tempFile = new File(folder, file.getName() + ".tmp");
+    try {
+      Files.createDirectories(folder.toPath());
+      try (OutputStream os = new FileOutputStream(tempFile)) {
+        GameDataManager.writeSerializedGame(os, serializedGame, SaveGameCodec.FAST_DEFLATE);
+      }
+      try {
+        Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE,
+            StandardCopyOption.REPLACE_EXISTING);
+      } catch (final AtomicMoveNotSupportedException e) {
+        Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+      }
+      evict();
+    } catch (final IOException e) {
+      log.log(Level.WARNING, "Failed to write game definition cache entry: " + file.getAbsolutePath(), e);
+    } finally {
+      tempFile.delete();
+    }
+  }
+
+  /**
+   * Deletes the least recently used entries until the cache is within its size limits.
+   */
+  private void evict() {
+    final List<File> entries = Optional.ofNullable(folder.listFiles())
+        .map(Arrays::stream)
+        .orElseGet(Stream::empty)
+        .filter(File::isFile)
+        .filter(file -> file.getName().endsWith(FILE_EXTENSION))
+        .sorted(Comparator.comparingLong(File::lastModified).reversed())
+        .collect(Collectors.toList());
+    long size = 0;
+    for (int i = 0; i < entries.size(); i++) {
+      final File entry = entries.get(i);
+      size += entry.length();
+      if (i >= maxEntries || size > maxSize) {
+        entry.delete();
+      }
+    }
+  }
+
+  @VisibleForTesting
+  int getHits() {
+    return hits.get();
+  }
+
+  @VisibleForTesting
+  int getMisses() {
+    return misses.get();
+  }
+}
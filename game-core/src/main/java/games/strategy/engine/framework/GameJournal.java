@@ -0,0 +1,497 @@
+package games.strategy.engine.framework;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+
+import org.apache.commons.io.IOUtils;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.history.SerializationWriter;
+import games.strategy.io.IoUtils;
+import lombok.AllArgsConstructor;
+import lombok.extern.java.Log;
+
+/**
+ * An append-only journal of a running game, used to write auto-saves incrementally.
+ *
+ * <p>
+ * A journal generation consists of a base snapshot of the game, written in the regular save game format, and a log to
+ * which a {@link JournalSegment} is appended at each checkpoint. The auto-save written at a checkpoint is a small
+ * reference file naming the base snapshot, the log and the length of the log at the time of the checkpoint, so the
+ * cost of an auto-save is proportional to what changed since the previous one rather than to the size of the game.
+ * Once the log grows past half the size of the base snapshot, the journal is compacted by starting a new generation
+ * with a fresh snapshot; generations no longer referenced by an auto-save are deleted.
+ * </p>
+ *
+ * <p>
+ * A reference names the journal files relative to the folder of the auto-save, so an auto-save can be moved or copied
+ * along with its journal files. While the journal is open, its session holds a lock on a lock file, so the journal
+ * files of a session still running in another instance sharing the auto-save folder are not mistaken for stale ones.
+ * </p>
+ *
+ * <p>
+ * If a file of the journal cannot be written, the queued writes depending on it are dropped by the writer, so no
+ * auto-save is replaced by a reference to an incomplete journal, and the generations the previous auto-saves
+ * reference are kept. The next checkpoint then writes the auto-save as a regular save game and starts a new
+ * generation.
+ * </p>
+ *
+ * <p>
+ * {@link #checkpoint(File)} must be called while delegate execution is blocked so that the content it captures is
+ * consistent with the game data. It only serializes that content in memory; the files are written in the background
+ * by an {@link AutoSaveWriter}.
+ * </p>
+ */
+@Log
+final class GameJournal {
+  private static final byte[] REFERENCE_MAGIC = "TRIPLEA-JOURNAL\n".getBytes(StandardCharsets.US_ASCII);
+  // version 1 references named the journal files by their absolute paths
+  private static final int REFERENCE_FORMAT_VERSION = 2;
+  private static final String BASE_FILE_EXTENSION = ".base";
+  private static final String LOG_FILE_EXTENSION = ".log";
+  private static final String LOCK_FILE_EXTENSION = ".lock";
+
+  private final GameData gameData;
+  private final boolean headless;
+  private final String sessionId = UUID.randomUUID().toString();
+  private final AutoSaveWriter writer = new AutoSaveWriter(this::writeFailed);
+  @GuardedBy("pendingRecords")
+  private final List<SerializationWriter> pendingRecords = new ArrayList<>();
+  private final Map<File, Integer> generationsByReference = new HashMap<>();
+  private final Set<Integer> generations = new HashSet<>();
+  private int generation = 0;
+  private volatile boolean compactionRequired = true;
+  private final AtomicBoolean fullSaveRequired = new AtomicBoolean(false);
+  private long baseLength;
+  private long logLength;
+  private @Nullable FileChannel sessionLockChannel;
+
+  GameJournal(final GameData gameData, final boolean headless) {
+    this.gameData = checkNotNull(gameData);
+    this.headless = headless;
+  }
+
+  /**
+   * Records the current state of the game in the journal and submits an auto-save referencing it to be written to
+   * {@code file}.
+   *
+   * @throws IOException If the state of the game cannot be serialized; the next checkpoint will then start a new
+   *         generation. Errors writing the files are logged by the writer and cause the next checkpoint to write a
+   *         regular save game and start a new generation.
+   */
+  synchronized void checkpoint(final File file) throws IOException {
+    checkNotNull(file);
+
+    final long startTime = System.nanoTime();
+    try {
+      generationsByReference.remove(file);
+      final boolean fullSave = fullSaveRequired.getAndSet(false);
+      final @Nullable SerializedGame serializedGame;
+      try {
+        if (fullSave || compactionRequired || logLength > baseLength / 2) {
+          serializedGame = startGeneration();
+        } else {
+          appendSegment();
+          serializedGame = null;
+        }
+      } catch (final IOException e) {
+        requireCompaction();
+        if (fullSave) {
+          fullSaveRequired.set(true);
+        }
+        throw e;
+      }
+      if (fullSave) {
+        writer.replace(file, os -> GameDataManager.writeSerializedGame(os, serializedGame));
+      } else {
+        final SaveGameMetadata metadata = SaveGameMetadata.of(gameData);
+        final JournalReference reference =
+            new JournalReference(getBaseFile(generation), getLogFile(generation), logLength);
+        writer.replace(file, os -> {
+          metadata.write(os);
+          writeReference(os, reference, file.getAbsoluteFile().getParentFile());
+        }, reference.baseFile, reference.logFile);
+        generationsByReference.put(file, generation);
+      }
+      deleteUnreferencedGenerations(file);
+    } finally {
+      writer.recordCapture(System.nanoTime() - startTime);
+    }
+  }
+
+  /**
+   * Stops recording the history of the game and waits a bounded time for the pending auto-saves to be written. The
+   * files referenced by auto-saves are kept, but may be deleted by another session once no auto-save references them.
+   */
+  synchronized void close() {
+    gameData.getHistory().getHistoryWriter().setRecorder(null);
+    synchronized (pendingRecords) {
+      pendingRecords.clear();
+    }
+    writer.shutDown();
+    unlockSession();
+  }
+
+  AutoSaveStatistics getStatistics() {
+    return writer.getStatistics();
+  }
+
+  private void requireCompaction() {
+    compactionRequired = true;
+  }
+
+  private void writeFailed() {
+    requireCompaction();
+    fullSaveRequired.set(true);
+  }
+
+  private void record(final SerializationWriter record) {
+    synchronized (pendingRecords) {
+      pendingRecords.add(record);
+    }
+  }
+
+  private SerializedGame startGeneration() throws IOException {
+    if (generation == 0) {
+      lockSession();
+      deleteStaleJournalFiles();
+      gameData.getHistory().getHistoryWriter().setRecorder(this::record);
+    }
+    final SerializedGame serializedGame = GameDataManager.serializeGame(gameData);
+    generation++;
+    generations.add(generation);
+    // the base snapshot is compressed in the background, so favor speed over size
+    writer.replace(
+        getBaseFile(generation),
+        os -> GameDataManager.writeSerializedGame(os, serializedGame, SaveGameCodec.FAST_DEFLATE));
+    writer.replace(getLogFile(generation), os -> {});
+    synchronized (pendingRecords) {
+      pendingRecords.clear();
+    }
+    baseLength = serializedGame.getBytes().length;
+    logLength = 0;
+    compactionRequired = false;
+    return serializedGame;
+  }
+
+  private void appendSegment() throws IOException {
+    final List<SerializationWriter> records;
+    synchronized (pendingRecords) {
+      records = new ArrayList<>(pendingRecords);
+      pendingRecords.clear();
+    }
+    final JournalSegment segment = new JournalSegment(records, gameData);
+    final byte[] bytes = IoUtils.writeToMemory(os -> {
+      try (ObjectOutputStream out = new GameObjectStreamFactory(gameData).create(os)) {
+        out.writeObject(segment);
+      }
+    });
+    writer.append(getLogFile(generation), os -> {
+      final DataOutputStream out = new DataOutputStream(os);
+      out.writeInt(bytes.length);
+      out.write(bytes);
+    }, getBaseFile(generation));
+    logLength += Integer.BYTES + bytes.length;
+  }
+
+  /**
+   * Deletes the generations no longer referenced by any auto-save once the specified auto-save, which no longer
+   * references them, has been written.
+   */
+  private void deleteUnreferencedGenerations(final File replacedFile) {
+    final Set<Integer> referencedGenerations = new HashSet<>(generationsByReference.values());
+    referencedGenerations.add(generation);
+    for (final Iterator<Integer> it = generations.iterator(); it.hasNext();) {
+      final int journalGeneration = it.next();
+      if (!referencedGenerations.contains(journalGeneration)) {
+        writer.delete(getBaseFile(journalGeneration), replacedFile);
+        writer.delete(getLogFile(journalGeneration), replacedFile);
+        it.remove();
+      }
+    }
+  }
+
+  /**
+   * Locks the lock file of this session until the journal is closed. If the lock cannot be acquired, the journal is
+   * still written, but its files may be deleted by another session starting meanwhile.
+   */
+  private void lockSession() {
+    final File lockFile = getLockFile(sessionId);
+    try {
+      Files.createDirectories(lockFile.getParentFile().toPath());
+      sessionLockChannel = FileChannel.open(lockFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+      if (sessionLockChannel.tryLock() == null) {
+        log.warning("Game journal lock held by another process: " + lockFile.getAbsolutePath());
+      }
+    } catch (final IOException e) {
+      log.log(Level.WARNING, "Failed to lock game journal: " + lockFile.getAbsolutePath(), e);
+    }
+  }
+
+  private void unlockSession() {
+    if (sessionLockChannel == null) {
+      return;
+    }
+    final File lockFile = getLockFile(sessionId);
+    try {
+      // closing the channel releases the lock
+      sessionLockChannel.close();
+      Files.deleteIfExists(lockFile.toPath());
+    } catch (final IOException e) {
+      log.log(Level.WARNING, "Failed to unlock game journal: " + lockFile.getAbsolutePath(), e);
+    }
+    sessionLockChannel = null;
+  }
+
+  /**
+   * Deletes the journal files left behind by sessions of this node that are no longer running and that are no longer
+   * referenced by any auto-save. The files of a session whose lock file is still locked, e.g. by another instance
+   * sharing the auto-save folder, are kept.
+   */
+  private void deleteStaleJournalFiles() {
+    final String prefix = AutoSaveFileUtils.getJournalFile("", headless).getName();
+    final File[] files = AutoSaveFileUtils.getJournalFile("", headless).getParentFile().listFiles();
+    if (files == null) {
+      return;
+    }
+    final Set<File> referencedFiles = new HashSet<>();
+    for (final File file : files) {
+      if (file.isFile() && getJournalSessionId(file, prefix) == null) {
+        readReference(file).ifPresent(reference -> {
+          referencedFiles.add(reference.baseFile.getAbsoluteFile());
+          referencedFiles.add(reference.logFile.getAbsoluteFile());
+        });
+      }
+    }
+    final Map<String, Boolean> runningSessions = new HashMap<>();
+    final Set<String> staleSessions = new HashSet<>();
+    for (final File file : files) {
+      final @Nullable String journalSessionId = getJournalSessionId(file, prefix);
+      if (journalSessionId == null || runningSessions.computeIfAbsent(journalSessionId, this::isSessionRunning)) {
+        continue;
+      }
+      staleSessions.add(journalSessionId);
+      if (!file.getName().endsWith(LOCK_FILE_EXTENSION) && !referencedFiles.contains(file.getAbsoluteFile())) {
+        writer.delete(file);
+      }
+    }
+    for (final String staleSessionId : staleSessions) {
+      writer.delete(getLockFile(staleSessionId));
+    }
+  }
+
+  /**
+   * Returns the ID of the session the specified journal file belongs to, or {@code null} if it is not a journal file.
+   */
+  private static @Nullable String getJournalSessionId(final File file, final String prefix) {
+    final String name = file.getName();
+    if (!name.startsWith(prefix)) {
+      return null;
+    }
+    if (name.endsWith(LOCK_FILE_EXTENSION)) {
+      return name.substring(prefix.length(), name.length() - LOCK_FILE_EXTENSION.length());
+    }
+    if (name.endsWith(BASE_FILE_EXTENSION) || name.endsWith(LOG_FILE_EXTENSION)) {
+      final int generationSeparatorIndex = name.lastIndexOf('_');
+      return (generationSeparatorIndex > prefix.length()) ? name.substring(prefix.length(), generationSeparatorIndex)
+          : null;
+    }
+    return null;
+  }
+
+  /**
+   * Indicates the specified session may still be writing its journal, i.e. it is this session or its lock file is
+   * locked by another one. Sessions whose lock state cannot be determined are assumed to be running.
+   */
+  private boolean isSessionRunning(final String journalSessionId) {
+    if (sessionId.equals(journalSessionId)) {
+      return true;
+    }
+    final File lockFile = getLockFile(journalSessionId);
+    if (!lockFile.exists()) {
+      return false;
+    }
+    try (FileChannel channel = FileChannel.open(lockFile.toPath(), StandardOpenOption.WRITE)) {
+      final @Nullable FileLock lock = channel.tryLock();
+      if (lock == null) {
+        return true;
+      }
+      lock.release();
+      return false;
+    } catch (final OverlappingFileLockException e) {
+      // locked by another journal in this process
+      return true;
+    } catch (final IOException e) {
+      log.log(Level.FINE, "Failed to check game journal lock: " + lockFile.getAbsolutePath(), e);
+      return true;
+    }
+  }
+
+  private File getBaseFile(final int journalGeneration) {
+    return AutoSaveFileUtils.getJournalFile(sessionId + "_" + journalGeneration + BASE_FILE_EXTENSION, headless);
+  }
+
+  private File getLogFile(final int journalGeneration) {
+    return AutoSaveFileUtils.getJournalFile(sessionId + "_" + journalGeneration + LOG_FILE_EXTENSION, headless);
+  }
+
+  private File getLockFile(final String journalSessionId) {
+    return AutoSaveFileUtils.getJournalFile(journalSessionId + LOCK_FILE_EXTENSION, headless);
+  }
+
+  private static void writeReference(final OutputStream os, final JournalReference reference, final File directory)
+      throws IOException {
+    final DataOutputStream out = new DataOutputStream(os);
+    out.write(REFERENCE_MAGIC);
+    out.writeInt(REFERENCE_FORMAT_VERSION);
+    out.writeUTF(getRelativePath(directory, reference.baseFile));
+    out.writeUTF(getRelativePath(directory, reference.logFile));
+    out.writeLong(reference.logLength);
+  }
+
+  private static String getRelativePath(final File directory, final File file) {
+    // always separated by slashes so the reference can be read on any platform
+    return directory.toPath().relativize(file.getAbsoluteFile().toPath()).toString().replace(File.separatorChar, '/');
+  }
+
+  private static Optional<JournalReference> readReference(final File file) {
+    try (InputStream is = new BufferedInputStream(new FileInputStream(file))) {
+      SaveGameMetadata.read(is);
+      return isJournalReference(is)
+          ? Optional.of(readReference(is, file.getAbsoluteFile().getParentFile()))
+          : Optional.empty();
+    } catch (final IOException e) {
+      log.log(Level.FINE, "Failed to read file: " + file.getAbsolutePath(), e);
+      return Optional.empty();
+    }
+  }
+
+  private static JournalReference readReference(final InputStream is, final File directory) throws IOException {
+    final DataInputStream in = new DataInputStream(is);
+    final byte[] magic = new byte[REFERENCE_MAGIC.length];
+    in.readFully(magic);
+    if (!Arrays.equals(magic, REFERENCE_MAGIC)) {
+      throw new IOException("Not a game journal reference");
+    }
+    final int formatVersion = in.readInt();
+    if (formatVersion != 1 && formatVersion != REFERENCE_FORMAT_VERSION) {
+      throw new IOException("Unsupported game journal reference format: " + formatVersion);
+    }
+    // resolving an absolute path of a version 1 reference yields the path itself
+    final File baseFile = directory.toPath().resolve(in.readUTF()).toFile();
+    final File logFile = directory.toPath().resolve(in.readUTF()).toFile();
+    return new JournalReference(baseFile, logFile, in.readLong());
+  }
+
+  /**
+   * Indicates the specified stream contains an auto-save written through a journal rather than a regular save game. The
+   * position of the stream is left unchanged.
+   */
+  static boolean isJournalReference(final InputStream is) throws IOException {
+    checkArgument(is.markSupported(), "stream must support mark");
+
+    is.mark(REFERENCE_MAGIC.length);
+    try {
+      final byte[] magic = new byte[REFERENCE_MAGIC.length];
+      return IOUtils.read(is, magic) == magic.length && Arrays.equals(magic, REFERENCE_MAGIC);
+    } finally {
+      is.reset();
+    }
+  }
+
+  /**
+   * Loads the game from an auto-save written through a journal by loading the referenced base snapshot and replaying
+   * the referenced segments of the log on it.
+   *
+   * @param directory The folder of the auto-save, against which the journal files it references are resolved, or
+   *        {@code null} if unknown, in which case they are resolved against the auto-save folder.
+   *
+   * @return The loaded game data, or {@code null} if the user declined to load the base snapshot.
+   *
+   * @throws IOException If the auto-save cannot be read or the journal files it references are missing, e.g. because
+   *         the auto-save was copied without them.
+   */
+  static GameData load(final InputStream is, final @Nullable File directory) throws IOException {
+    final JournalReference reference = readReference(is,
+        (directory != null) ? directory : AutoSaveFileUtils.getJournalFile("", false).getParentFile());
+    if (!reference.baseFile.isFile() || !reference.logFile.isFile()) {
+      throw new IOException("The game journal referenced by this auto-save is missing: " + reference.baseFile
+          + " (the journal files must be kept in the same folder as the auto-save)");
+    }
+    final GameData data = GameDataManager.loadGame(reference.baseFile);
+    if (data != null) {
+      replaySegments(data, reference);
+    }
+    return data;
+  }
+
+  private static void replaySegments(final GameData data, final JournalReference reference) throws IOException {
+    final GameObjectStreamFactory streamFactory = new GameObjectStreamFactory(data);
+    JournalSegment lastSegment = null;
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(reference.logFile)))) {
+      long position = 0;
+      while (position < reference.logLength) {
+        final byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        position += Integer.BYTES + bytes.length;
+        // read each segment only after replaying the previous one so its game objects resolve against the current data
+        final JournalSegment segment = readSegment(streamFactory, bytes);
+        segment.replayHistory(data);
+        lastSegment = segment;
+      }
+    }
+    if (lastSegment != null) {
+      lastSegment.restoreState(data);
+    }
+  }
+
+  private static JournalSegment readSegment(final GameObjectStreamFactory streamFactory, final byte[] bytes)
+      throws IOException {
+    return IoUtils.readFromMemory(bytes, is -> {
+      try (ObjectInputStream in = streamFactory.create(is)) {
+        return (JournalSegment) in.readObject();
+      } catch (final ClassNotFoundException e) {
+        throw new IOException(e);
+      }
+    });
+  }
+
+  @AllArgsConstructor
+  private static final class JournalReference {
+    private final File baseFile;
+    private final File logFile;
+    private final long logLength;
+  }
+}
@@ -0,0 +1,136 @@
+package games.strategy.engine.framework;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameObjectInputStream;
+import games.strategy.engine.data.GameObjectOutputStream;
+import games.strategy.engine.data.PlayerId;
+import games.strategy.io.IoUtils;
+import lombok.AllArgsConstructor;
+
+/**
+ * A single message broadcast on the {@link IGame#GAME_MODIFICATION_CHANNEL}: a change, a history event or a step
+ * change. Modifications are recorded by the server so that they can be replayed on a node that missed them.
+ */
+public abstract class GameModification implements Serializable {
+  private static final long serialVersionUID = -3326541436781476574L;
+
+  private GameModification() {}
+
+  /**
+   * Delivers this modification to {@code channel} as if it had been received from the game modification channel.
+   */
+  public abstract void applyTo(IGameModifiedChannel channel);
+
+  /**
+   * Serializes the specified modifications so that they can be sent to a node that does not yet hold the game they
+   * refer to, e.g. because the game is still being transferred to it.
+   *
+   * @see #readAll(byte[], GameData)
+   */
+  public static byte[] writeAll(final List<GameModification> modifications) throws IOException {
+    return IoUtils.writeToMemory(os -> {
+      try (ObjectOutputStream out = new GameObjectOutputStream(os)) {
+        out.writeObject(new ArrayList<>(modifications));
+      }
+    });
+  }
+
+  /**
+   * Deserializes modifications serialized by {@link #writeAll(List)}, resolving the game objects they refer to within
+   * the specified game.
+   */
+  @SuppressWarnings("unchecked")
+  public static List<GameModification> readAll(final byte[] bytes, final GameData data) throws IOException {
+    return IoUtils.readFromMemory(bytes, is -> {
+      try (ObjectInputStream in = new GameObjectInputStream(new GameObjectStreamFactory(data), is)) {
+        return (List<GameModification>) in.readObject();
+      } catch (final ClassNotFoundException e) {
+        throw new IOException(e);
+      }
+    });
+  }
+
+  static GameModification gameDataChanged(final Change change) {
+    return new GameDataChanged(change);
+  }
+
+  static GameModification historyEventStarted(final String event, @Nullable final Object renderingData) {
+    return new HistoryEventStarted(event, renderingData);
+  }
+
+  static GameModification childAddedToEvent(final String text, @Nullable final Object renderingData) {
+    return new ChildAddedToEvent(text, renderingData);
+  }
+
+  static GameModification stepChanged(final String stepName, final String delegateName, final PlayerId player,
+      final int round, final String displayName, final boolean loadedFromSavedGame) {
+    return new StepChanged(stepName, delegateName, player, round, displayName, loadedFromSavedGame);
+  }
+
+  @AllArgsConstructor
+  private static final class GameDataChanged extends GameModification {
+    private static final long serialVersionUID = 5190315472870376095L;
+
+    private final Change change;
+
+    @Override
+    public void applyTo(final IGameModifiedChannel channel) {
+      channel.gameDataChanged(change);
+    }
+  }
+
+  @AllArgsConstructor
+  private static final class HistoryEventStarted extends GameModification {
+    private static final long serialVersionUID = -1286617420151693547L;
+
+    private final String event;
+    @Nullable
+    private final Object renderingData;
+
+    @Override
+    public void applyTo(final IGameModifiedChannel channel) {
+      channel.startHistoryEvent(event, renderingData);
+    }
+  }
+
+  @AllArgsConstructor
+  private static final class ChildAddedToEvent extends GameModification {
+    private static final long serialVersionUID = 8737059916735282853L;
+
+    private final String text;
+    @Nullable
+    private final Object renderingData;
+
+    @Override
+    public void applyTo(final IGameModifiedChannel channel) {
+      channel.addChildToEvent(text, renderingData);
+    }
+  }
+
+  @AllArgsConstructor
+  private static final class StepChanged extends GameModification {
+    private static final long serialVersionUID = -6419906738167702151L;
+
+    private final String stepName;
+    private final String delegateName;
+    private final PlayerId player;
+    private final int round;
+    private final String displayName;
+    private final boolean loadedFromSavedGame;
+
+    @Override
+    public void applyTo(final IGameModifiedChannel channel) {
+      channel.stepChanged(stepName, delegateName, player, round, displayName, loadedFromSavedGame);
+    }
+  }
+}
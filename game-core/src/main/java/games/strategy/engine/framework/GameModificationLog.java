@@ -0,0 +1,64 @@
+package games.strategy.engine.framework;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A bounded log of the most recent modifications made to a game. Each modification is identified by its index, the
+ * number of modifications made before it; the oldest modifications are dropped once the log is full.
+ *
+ * <p>
+ * Instances of this class are not thread safe.
+ * </p>
+ */
+final class GameModificationLog {
+  static final int DEFAULT_CAPACITY = 50_000;
+
+  private final int capacity;
+  private final Deque<GameModification> modifications = new ArrayDeque<>();
+  private long endIndex = 0;
+
+  GameModificationLog(final int capacity) {
+    checkArgument(capacity >= 0, "capacity must not be negative");
+    this.capacity = capacity;
+  }
+
+  void add(final GameModification modification) {
+    modifications.addLast(modification);
+    endIndex++;
+    if (modifications.size() > capacity) {
+      modifications.removeFirst();
+    }
+  }
+
+  /**
+   * Returns the index the next modification will have, which is also the total number of modifications added.
+   */
+  long getEndIndex() {
+    return endIndex;
+  }
+
+  /**
+   * Returns the modifications from {@code index} (inclusive) to the end of the log, or empty if some of them have
+   * already been dropped or if {@code index} lies beyond the end of the log.
+   */
+  Optional<List<GameModification>> getModificationsSince(final long index) {
+    if (index < endIndex - modifications.size() || index > endIndex) {
+      return Optional.empty();
+    }
+    final List<GameModification> missed = new ArrayList<>((int) (endIndex - index));
+    final Iterator<GameModification> iterator = modifications.descendingIterator();
+    for (long i = index; i < endIndex; i++) {
+      missed.add(iterator.next());
+    }
+    Collections.reverse(missed);
+    return Optional.of(missed);
+  }
+}
@@ -0,0 +1,139 @@
+package games.strategy.engine.framework;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Optional;
+import java.util.zip.Deflater;
+
+import org.apache.commons.io.IOUtils;
+
+/**
+ * Writes and reads the parts of a gzip member (RFC 1952) that the gzip streams of the JDK do not expose.
+ *
+ * <p>
+ * The header written by this class may carry an extra field. Gzip decoders skip the extra field, including
+ * {@link java.util.zip.GZIPInputStream}, so engines that predate it can still read the member.
+ * </p>
+ */
+final class GzipFormat {
+  /** The maximum length of an extra field, including the IDs and lengths of its subfields. */
+  static final int MAX_EXTRA_FIELD_LENGTH = 0xffff;
+
+  private static final int MAGIC_1 = 0x1f;
+  private static final int MAGIC_2 = 0x8b;
+  private static final int HEADER_LENGTH = 10;
+  private static final int FLAGS_INDEX = 3;
+  private static final int FEXTRA = 4;
+  private static final int OS_UNKNOWN = 0xff;
+  private static final int SUBFIELD_HEADER_LENGTH = 4;
+
+  private GzipFormat() {}
+
+  /**
+   * Writes the header of a gzip member with the specified extra field, or without an extra field if it is empty.
+   */
+  static void writeHeader(final OutputStream out, final byte[] extraField) throws IOException {
+    checkArgument(extraField.length <= MAX_EXTRA_FIELD_LENGTH, "extra field too large");
+
+    out.write(new byte[] {
+        (byte) MAGIC_1, (byte) MAGIC_2,
+        Deflater.DEFLATED, // compression method
+        (byte) (extraField.length > 0 ? FEXTRA : 0), // flags
+        0, 0, 0, 0, // modification time
+        0, // extra flags
+        (byte) OS_UNKNOWN
+    });
+    if (extraField.length > 0) {
+      writeShortLittleEndian(out, extraField.length);
+      out.write(extraField);
+    }
+  }
+
+  /**
+   * Writes the trailer of a gzip member whose uncompressed data has the specified CRC-32 and length.
+   */
+  static void writeTrailer(final OutputStream out, final long crc, final long uncompressedLength) throws IOException {
+    writeIntLittleEndian(out, (int) crc);
+    writeIntLittleEndian(out, (int) uncompressedLength);
+  }
+
+  /**
+   * Returns an extra field consisting of a single subfield with the specified ID and data.
+   */
+  static byte[] newExtraField(final byte id1, final byte id2, final byte[] data) throws IOException {
+    checkArgument(data.length <= MAX_EXTRA_FIELD_LENGTH - SUBFIELD_HEADER_LENGTH, "subfield too large");
+
+    final ByteArrayOutputStream extraField = new ByteArrayOutputStream(SUBFIELD_HEADER_LENGTH + data.length);
+    extraField.write(id1);
+    extraField.write(id2);
+    writeShortLittleEndian(extraField, data.length);
+    extraField.write(data);
+    return extraField.toByteArray();
+  }
+
+  /**
+   * Returns the data of the first subfield with the specified ID in the specified extra field.
+   */
+  static Optional<byte[]> getSubfield(final byte[] extraField, final byte id1, final byte id2) {
+    int index = 0;
+    while (index + SUBFIELD_HEADER_LENGTH <= extraField.length) {
+      final int length = (extraField[index + 2] & 0xff) | ((extraField[index + 3] & 0xff) << 8);
+      final int dataIndex = index + SUBFIELD_HEADER_LENGTH;
+      if (dataIndex + length > extraField.length) {
+        break;
+      }
+      if (extraField[index] == id1 && extraField[index + 1] == id2) {
+        final byte[] data = new byte[length];
+        System.arraycopy(extraField, dataIndex, data, 0, length);
+        return Optional.of(data);
+      }
+      index = dataIndex + length;
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Reads the extra field of the gzip member at the current position of the specified stream without changing the
+   * position of the stream. Returns empty if the stream is not positioned at a gzip member or its header has no extra
+   * field.
+   *
+   * @param is The stream from which to read; it must support {@link InputStream#mark(int)}.
+   */
+  static Optional<byte[]> peekExtraField(final InputStream is) throws IOException {
+    checkArgument(is.markSupported(), "stream must support mark");
+
+    is.mark(HEADER_LENGTH + Short.BYTES + MAX_EXTRA_FIELD_LENGTH);
+    try {
+      final byte[] header = new byte[HEADER_LENGTH];
+      if (IOUtils.read(is, header) != header.length
+          || (header[0] & 0xff) != MAGIC_1
+          || (header[1] & 0xff) != MAGIC_2
+          || (header[FLAGS_INDEX] & FEXTRA) == 0) {
+        return Optional.empty();
+      }
+      final byte[] length = new byte[Short.BYTES];
+      IOUtils.readFully(is, length);
+      final byte[] extraField = new byte[(length[0] & 0xff) | ((length[1] & 0xff) << 8)];
+      IOUtils.readFully(is, extraField);
+      return Optional.of(extraField);
+    } finally {
+      is.reset();
+    }
+  }
+
+  private static void writeShortLittleEndian(final OutputStream out, final int value) throws IOException {
+    out.write(value & 0xff);
+    out.write((value >>> 8) & 0xff);
+  }
+
+  private static void writeIntLittleEndian(final OutputStream out, final int value) throws IOException {
+    out.write(value & 0xff);
+    out.write((value >>> 8) & 0xff);
+    out.write((value >>> 16) & 0xff);
+    out.write((value >>> 24) & 0xff);
+  }
+}
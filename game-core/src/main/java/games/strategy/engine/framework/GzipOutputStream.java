@@ -0,0 +1,51 @@
+package games.strategy.engine.framework;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * An output stream that writes data in the gzip format on the calling thread, like
+ * {@link java.util.zip.GZIPOutputStream}, but at the specified compression level and with the specified extra field in
+ * the header.
+ */
+final class GzipOutputStream extends DeflaterOutputStream {
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final CRC32 crc = new CRC32();
+  private boolean closed = false;
+
+  GzipOutputStream(final OutputStream out, final int level, final byte[] extraField) throws IOException {
+    super(out, new Deflater(level, true), BUFFER_SIZE);
+    GzipFormat.writeHeader(out, extraField);
+  }
+
+  @Override
+  public synchronized void write(final byte[] b, final int off, final int len) throws IOException {
+    super.write(b, off, len);
+    crc.update(b, off, len);
+  }
+
+  @Override
+  public void finish() throws IOException {
+    if (!def.finished()) {
+      super.finish();
+      GzipFormat.writeTrailer(out, crc.getValue(), def.getBytesRead());
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      super.close();
+    } finally {
+      def.end();
+    }
+  }
+}
@@ -3,6 +3,7 @@ package games.strategy.engine.framework;
 import javax.swing.SwingUtilities;
 
 import games.strategy.engine.data.Change;
+import games.strategy.engine.data.CompositeChange;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerId;
 import games.strategy.engine.history.EventChild;
@@ -28,6 +29,16 @@ public class HistorySynchronizer {
       });
     }
 
+    @Override
+    public void gameDataChangedFrame(final CompositeChange frame) {
+      SwingUtilities.invokeLater(() -> {
+        final CompositeChange localizedFrame = (CompositeChange) translateIntoMyData(frame);
+        for (final Change change : localizedFrame.getChanges()) {
+          gameData.getHistory().getHistoryWriter().addChange(change);
+        }
+      });
+    }
+
     @Override
     public void startHistoryEvent(final String event, final Object renderingData) {
       startHistoryEvent(event);
@@ -1,6 +1,7 @@
 package games.strategy.engine.framework;
 
 import games.strategy.engine.data.Change;
+import games.strategy.engine.data.CompositeChange;
 import games.strategy.engine.data.PlayerId;
 import games.strategy.engine.message.IChannelSubscriber;
 
@@ -10,6 +11,12 @@ import games.strategy.engine.message.IChannelSubscriber;
 public interface IGameModifiedChannel extends IChannelSubscriber {
   void gameDataChanged(Change change);
 
+  /**
+   * Invoked with a batch of changes that were produced consecutively, with no history event in between. Receivers
+   * should apply the frame as a single unit and record each of its changes in the history individually.
+   */
+  void gameDataChangedFrame(CompositeChange frame);
+
   void startHistoryEvent(String event, Object renderingData);
 
   void startHistoryEvent(String event);
@@ -3,5 +3,15 @@ package games.strategy.engine.framework;
 import games.strategy.engine.message.IRemote;
 
 interface IServerRemote extends IRemote {
-  byte[] getSavedGame();
+  /**
+   * Takes a snapshot of the game for the calling node and returns the number of chunks it was split into. The chunks
+   * are then fetched in order with {@link #getSavedGameChunk(int)}.
+   */
+  int prepareSavedGame();
+
+  /**
+   * Returns the chunk at {@code index} of the snapshot prepared for the calling node. The snapshot is released once its
+   * last chunk has been fetched.
+   */
+  byte[] getSavedGameChunk(int index);
 }
@@ -0,0 +1,70 @@
+package games.strategy.engine.framework;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameSequence;
+import games.strategy.engine.delegate.IDelegate;
+import games.strategy.engine.history.SerializationWriter;
+
+/**
+ * A segment of a {@link GameJournal}: the history records written since the previous segment, together with the state
+ * of the game that is not captured by changes (the position in the game sequence and the delegate states) at the time
+ * the segment was written.
+ */
+final class JournalSegment implements Serializable {
+  private static final long serialVersionUID = 3519804367718036453L;
+
+  private final List<SerializationWriter> records;
+  private final int round;
+  private final int stepIndex;
+  private final int[] stepRunCounts;
+  private final Map<String, Serializable> delegateStates = new HashMap<>();
+
+  JournalSegment(final List<SerializationWriter> records, final GameData data) {
+    this.records = new ArrayList<>(records);
+    data.acquireReadLock();
+    try {
+      final GameSequence sequence = data.getSequence();
+      round = sequence.getRound();
+      stepIndex = sequence.getStepIndex();
+      stepRunCounts = new int[sequence.size()];
+      for (int i = 0; i < stepRunCounts.length; i++) {
+        stepRunCounts[i] = sequence.getStep(i).getRunCount();
+      }
+      for (final IDelegate delegate : data.getDelegates()) {
+        delegateStates.put(delegate.getName(), delegate.saveState());
+      }
+    } finally {
+      data.releaseReadLock();
+    }
+  }
+
+  /**
+   * Adds the history records of this segment to the history of {@code data} and performs their changes.
+   */
+  void replayHistory(final GameData data) {
+    data.getHistory().replay(records);
+  }
+
+  /**
+   * Restores the position in the game sequence and the delegate states of {@code data} to the ones captured by this
+   * segment.
+   */
+  void restoreState(final GameData data) {
+    final GameSequence sequence = data.getSequence();
+    sequence.setRoundAndStepIndex(round, stepIndex);
+    for (int i = 0; i < stepRunCounts.length && i < sequence.size(); i++) {
+      sequence.getStep(i).setRunCount(stepRunCounts[i]);
+    }
+    for (final IDelegate delegate : data.getDelegates()) {
+      if (delegateStates.containsKey(delegate.getName())) {
+        delegate.loadState(delegateStates.get(delegate.getName()));
+      }
+    }
+  }
+}
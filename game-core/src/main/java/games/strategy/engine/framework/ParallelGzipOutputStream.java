@@ -0,0 +1,185 @@
+package games.strategy.engine.framework;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import com.google.common.annotations.VisibleForTesting;
+
+/**
+ * An output stream that writes data in the gzip format, compressing blocks of the data concurrently on the common
+ * fork/join pool.
+ *
+ * <p>
+ * Each block is compressed independently, primed with the last 32 KiB of the preceding block as its dictionary so
+ * that the compression ratio is close to that of a sequential compressor. The compressed blocks are terminated by a
+ * sync flush and concatenated into a single deflate stream, so the output is one ordinary gzip member that any gzip
+ * decoder can read.
+ * </p>
+ *
+ * <p>
+ * {@link #flush()} only flushes the underlying stream; buffered data is compressed when a block is full or when the
+ * stream is closed.
+ * </p>
+ */
+final class ParallelGzipOutputStream extends OutputStream {
+  @VisibleForTesting
+  static final int DEFAULT_BLOCK_SIZE = 256 * 1024;
+
+  private static final int DICTIONARY_SIZE = 32 * 1024;
+
+  private final OutputStream out;
+  private final int level;
+  private final int maxPendingBlocks = Math.max(2, 2 * Runtime.getRuntime().availableProcessors());
+  private final Deque<Future<byte[]>> pendingBlocks = new ArrayDeque<>();
+  private final CRC32 crc = new CRC32();
+  private final byte[] block;
+  private int blockLength = 0;
+  private byte[] dictionary = new byte[0];
+  private long uncompressedLength = 0;
+  private boolean closed = false;
+
+  /**
+   * Creates a stream writing a gzip member with the specified extra field in its header, or without an extra field if
+   * it is empty.
+   */
+  ParallelGzipOutputStream(final OutputStream out, final int level, final byte[] extraField) throws IOException {
+    this(out, level, extraField, DEFAULT_BLOCK_SIZE);
+  }
+
+  @VisibleForTesting
+  ParallelGzipOutputStream(final OutputStream out, final int level, final int blockSize) throws IOException {
+    this(out, level, new byte[0], blockSize);
+  }
+
+  private ParallelGzipOutputStream(
+      final OutputStream out,
+      final int level,
+      final byte[] extraField,
+      final int blockSize)
+      throws IOException {
+    checkNotNull(out);
+    checkNotNull(extraField);
+    checkArgument(blockSize > 0, "block size must be positive");
+
+    this.out = out;
+    this.level = level;
+    block = new byte[blockSize];
+    GzipFormat.writeHeader(out, extraField);
+  }
+
+  @Override
+  public void write(final int b) throws IOException {
+    write(new byte[] {(byte) b}, 0, 1);
+  }
+
+  @Override
+  public void write(final byte[] b, final int off, final int len) throws IOException {
+    checkNotNull(b);
+    if (off < 0 || len < 0 || len > b.length - off) {
+      throw new IndexOutOfBoundsException();
+    }
+    if (closed) {
+      throw new IOException("stream closed");
+    }
+
+    crc.update(b, off, len);
+    uncompressedLength += len;
+    int offset = off;
+    int remaining = len;
+    while (remaining > 0) {
+      final int count = Math.min(remaining, block.length - blockLength);
+      System.arraycopy(b, offset, block, blockLength, count);
+      blockLength += count;
+      offset += count;
+      remaining -= count;
+      if (blockLength == block.length) {
+        submitBlock(false);
+      }
+    }
+  }
+
+  @Override
+  public void flush() throws IOException {
+    out.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      submitBlock(true);
+      while (!pendingBlocks.isEmpty()) {
+        writeNextBlock();
+      }
+      GzipFormat.writeTrailer(out, crc.getValue(), uncompressedLength);
+    } finally {
+      out.close();
+    }
+  }
+
+  private void submitBlock(final boolean last) throws IOException {
+    final byte[] input = Arrays.copyOf(block, blockLength);
+    final byte[] blockDictionary = dictionary;
+    pendingBlocks.addLast(CompletableFuture.supplyAsync(() -> compress(input, blockDictionary, level, last)));
+    dictionary = Arrays.copyOfRange(input, Math.max(0, input.length - DICTIONARY_SIZE), input.length);
+    blockLength = 0;
+    while (pendingBlocks.size() >= maxPendingBlocks) {
+      writeNextBlock();
+    }
+  }
+
+  private static byte[] compress(final byte[] input, final byte[] dictionary, final int level, final boolean last) {
+    final Deflater deflater = new Deflater(level, true);
+    try {
+      if (dictionary.length > 0) {
+        deflater.setDictionary(dictionary);
+      }
+      deflater.setInput(input);
+      final ByteArrayOutputStream compressed = new ByteArrayOutputStream(input.length / 2 + 64);
+      final byte[] buffer = new byte[64 * 1024];
+      if (last) {
+        deflater.finish();
+        while (!deflater.finished()) {
+          compressed.write(buffer, 0, deflater.deflate(buffer));
+        }
+      } else {
+        // a sync flush ends the block on a byte boundary without marking it as the final block of the stream
+        int length;
+        do {
+          length = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+          compressed.write(buffer, 0, length);
+        } while (length == buffer.length);
+      }
+      return compressed.toByteArray();
+    } finally {
+      deflater.end();
+    }
+  }
+
+  private void writeNextBlock() throws IOException {
+    try {
+      out.write(pendingBlocks.removeFirst().get());
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("interrupted while compressing");
+    } catch (final ExecutionException e) {
+      throw new IOException("failed to compress block", e.getCause());
+    }
+  }
+}
@@ -0,0 +1,21 @@
+package games.strategy.engine.framework;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+import lombok.Value;
+
+/**
+ * The position of a copy of a running game within the sequence of modifications made to it by the server. A node that
+ * lost its connection reports the position of its copy when it rejoins, so that the server can send it only the
+ * modifications it missed.
+ */
+@Value
+public class ResyncPoint implements Serializable {
+  private static final long serialVersionUID = 2869442712346338563L;
+
+  /** Identifies the server game that made the modifications. */
+  private final UUID gameId;
+  /** The number of modifications that have been applied to the copy of the game. */
+  private final long modificationCount;
+}
@@ -0,0 +1,98 @@
+package games.strategy.engine.framework;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectStreamConstants;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * The encodings in which a save game can be written.
+ *
+ * <p>
+ * The first byte of an encoded save game identifies how it must be decoded: the deflate codecs all write standard gzip
+ * streams, which engines that predate this class can also read, while the uncompressed codec writes the bare Java
+ * serialization stream. Loading a save game therefore does not require knowing which codec wrote it.
+ * </p>
+ *
+ * <p>
+ * The deflate codecs store the {@link SaveGameMetadata metadata} of the save game in the extra field of the gzip
+ * header, which gzip decoders skip, so the save game still starts with the gzip stream. The uncompressed codec does not
+ * store the metadata.
+ * </p>
+ */
+public enum SaveGameCodec {
+  /**
+   * Writes the save game without compression; used for in-memory copies, where compressing would only cost time.
+   */
+  UNCOMPRESSED {
+    @Override
+    OutputStream newOutputStream(final OutputStream sink, final SaveGameMetadata metadata) {
+      return sink;
+    }
+  },
+
+  /**
+   * Compresses the save game on a single thread at the default deflate level, as engines that predate this class did.
+   */
+  DEFLATE {
+    @Override
+    OutputStream newOutputStream(final OutputStream sink, final SaveGameMetadata metadata) throws IOException {
+      return new GzipOutputStream(sink, Deflater.DEFAULT_COMPRESSION, metadata.toGzipExtraField());
+    }
+  },
+
+  /**
+   * Compresses the save game on a single thread at the fastest deflate level.
+   */
+  FAST_DEFLATE {
+    @Override
+    OutputStream newOutputStream(final OutputStream sink, final SaveGameMetadata metadata) throws IOException {
+      return new GzipOutputStream(sink, Deflater.BEST_SPEED, metadata.toGzipExtraField());
+    }
+  },
+
+  /**
+   * Compresses blocks of the save game concurrently on all available processors at the default deflate level.
+   */
+  PARALLEL_DEFLATE {
+    @Override
+    OutputStream newOutputStream(final OutputStream sink, final SaveGameMetadata metadata) throws IOException {
+      return new ParallelGzipOutputStream(sink, Deflater.DEFAULT_COMPRESSION, metadata.toGzipExtraField());
+    }
+  };
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final int GZIP_HEADER = GZIPInputStream.GZIP_MAGIC & 0xff;
+  private static final int SERIALIZATION_HEADER = (ObjectStreamConstants.STREAM_MAGIC >>> 8) & 0xff;
+
+  /**
+   * Returns a stream that encodes the data written to it with this codec and writes the result to {@code sink},
+   * together with the specified metadata if this codec stores it. Closing the returned stream closes {@code sink}.
+   */
+  abstract OutputStream newOutputStream(OutputStream sink, SaveGameMetadata metadata) throws IOException;
+
+  /**
+   * Returns a stream that decodes the save game in {@code source}, whatever codec it was written with.
+   *
+   * @param source The stream containing the encoded save game; it must support {@link InputStream#mark(int)}.
+   *
+   * @throws IOException If {@code source} does not contain a save game written by a known codec.
+   */
+  static InputStream newInputStream(final InputStream source) throws IOException {
+    checkArgument(source.markSupported(), "source must support mark");
+
+    source.mark(1);
+    final int header = source.read();
+    source.reset();
+    if (header == GZIP_HEADER) {
+      return new GZIPInputStream(source, BUFFER_SIZE);
+    } else if (header == SERIALIZATION_HEADER) {
+      return source;
+    }
+    throw new IOException("Unrecognized save game format");
+  }
+}
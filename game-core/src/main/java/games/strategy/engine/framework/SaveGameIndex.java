@@ -0,0 +1,74 @@
+package games.strategy.engine.framework;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Level;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.java.Log;
+
+/**
+ * A cache of the metadata of save games. Each entry is keyed by the save game file and remembers the modification
+ * time and length of the file when its metadata was read, so browsing a folder of save games only reads the metadata
+ * of the files that changed since the folder was last browsed.
+ */
+@Log
+public final class SaveGameIndex {
+  private static final SaveGameIndex instance = new SaveGameIndex();
+
+  @GuardedBy("this")
+  private final Map<File, Entry> entriesByFile = new HashMap<>();
+
+  @VisibleForTesting
+  SaveGameIndex() {}
+
+  public static SaveGameIndex getInstance() {
+    return instance;
+  }
+
+  /**
+   * Returns the metadata of the specified save game, or empty if the file cannot be read or is a save game written
+   * before save games contained metadata.
+   */
+  public Optional<SaveGameMetadata> getMetadata(final File file) {
+    checkNotNull(file);
+
+    final long lastModified = file.lastModified();
+    final long length = file.length();
+    synchronized (this) {
+      final @Nullable Entry entry = entriesByFile.get(file);
+      if (entry != null && entry.lastModified == lastModified && entry.length == length) {
+        return Optional.ofNullable(entry.metadata);
+      }
+    }
+
+    @Nullable
+    SaveGameMetadata metadata = null;
+    try {
+      metadata = SaveGameMetadata.read(file).orElse(null);
+    } catch (final IOException e) {
+      log.log(Level.FINE, "Failed to read save game metadata: " + file.getAbsolutePath(), e);
+    }
+    synchronized (this) {
+      entriesByFile.put(file, new Entry(lastModified, length, metadata));
+    }
+    return Optional.ofNullable(metadata);
+  }
+
+  @AllArgsConstructor
+  private static final class Entry {
+    final long lastModified;
+    final long length;
+    final @Nullable SaveGameMetadata metadata;
+  }
+}
@@ -0,0 +1,228 @@
+package games.strategy.engine.framework;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.commons.io.IOUtils;
+
+import com.google.common.base.Strings;
+
+import games.strategy.engine.ClientContext;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameSequence;
+import games.strategy.engine.data.PlayerId;
+import games.strategy.io.IoUtils;
+import games.strategy.triplea.Constants;
+import lombok.Value;
+
+/**
+ * A summary of a save game that is stored in the header of the save game file, so that it can be read without reading
+ * the rest of the file.
+ *
+ * <p>
+ * Compressed save games store the metadata in a subfield of the extra field of their gzip header, which engines that
+ * predate this class skip when loading the save game. Auto-saves referencing a game journal, which only this engine can
+ * load, start with a metadata block instead: a magic string, the format version, the length of the content and the
+ * content itself. The gzip subfield holds the format version and the content. Later format versions may only append
+ * fields to the content; readers skip the content they do not know. Save games written before this class existed and
+ * uncompressed save games have no metadata.
+ * </p>
+ */
+@Value
+public class SaveGameMetadata {
+  private static final byte[] MAGIC = "TRIPLEA-METADATA\n".getBytes(StandardCharsets.US_ASCII);
+  private static final int FORMAT_VERSION = 1;
+  private static final int MAX_CONTENT_LENGTH = 60 * 1024;
+  private static final byte GZIP_SUBFIELD_ID_1 = 'T';
+  private static final byte GZIP_SUBFIELD_ID_2 = 'A';
+
+  private final String engineVersion;
+  private final String gameName;
+  private final String mapName;
+  private final int round;
+  /** The display name of the current step, or an empty string if the game has no steps. */
+  private final String stepName;
+  private final List<String> playerNames;
+  private final Instant saveTime;
+
+  /**
+   * Returns the metadata of the specified game as of now.
+   */
+  static SaveGameMetadata of(final GameData data) {
+    checkNotNull(data);
+
+    data.acquireReadLock();
+    try {
+      final GameSequence sequence = data.getSequence();
+      final List<String> playerNames = new ArrayList<>();
+      for (final PlayerId player : data.getPlayerList().getPlayers()) {
+        playerNames.add(player.getName());
+      }
+      return new SaveGameMetadata(
+          ClientContext.engineVersion().toString(),
+          Strings.nullToEmpty(data.getGameName()),
+          data.getProperties().get(Constants.MAP_NAME, ""),
+          sequence.getRound(),
+          sequence.size() > 0 ? Strings.nullToEmpty(sequence.getStep().getDisplayName()) : "",
+          Collections.unmodifiableList(playerNames),
+          Instant.now());
+    } finally {
+      data.releaseReadLock();
+    }
+  }
+
+  /**
+   * Writes the metadata block for this metadata to the specified stream.
+   */
+  void write(final OutputStream os) throws IOException {
+    final byte[] content = writeContent();
+    final DataOutputStream out = new DataOutputStream(os);
+    out.write(MAGIC);
+    out.writeInt(FORMAT_VERSION);
+    out.writeInt(content.length);
+    out.write(content);
+    out.flush();
+  }
+
+  /**
+   * Returns the extra field of a gzip header that stores this metadata.
+   */
+  byte[] toGzipExtraField() throws IOException {
+    final byte[] content = writeContent();
+    final byte[] subfield = IoUtils.writeToMemory(os -> {
+      final DataOutputStream out = new DataOutputStream(os);
+      out.writeInt(FORMAT_VERSION);
+      out.write(content);
+    });
+    return GzipFormat.newExtraField(GZIP_SUBFIELD_ID_1, GZIP_SUBFIELD_ID_2, subfield);
+  }
+
+  private byte[] writeContent() throws IOException {
+    final byte[] content = IoUtils.writeToMemory(contentStream -> {
+      final DataOutputStream out = new DataOutputStream(contentStream);
+      out.writeUTF(engineVersion);
+      out.writeUTF(gameName);
+      out.writeUTF(mapName);
+      out.writeInt(round);
+      out.writeUTF(stepName);
+      out.writeInt(playerNames.size());
+      for (final String playerName : playerNames) {
+        out.writeUTF(playerName);
+      }
+      out.writeLong(saveTime.toEpochMilli());
+    });
+    checkArgument(content.length <= MAX_CONTENT_LENGTH, "metadata too large");
+    return content;
+  }
+
+  /**
+   * Reads the metadata block at the current position of the specified stream, if there is one. The stream is left
+   * positioned after the metadata block, or unchanged if there is none.
+   *
+   * @param is The stream from which to read; it must support {@link InputStream#mark(int)}.
+   *
+   * @throws IOException If an error occurs reading the stream or the metadata block is malformed.
+   */
+  static Optional<SaveGameMetadata> read(final InputStream is) throws IOException {
+    checkArgument(is.markSupported(), "stream must support mark");
+
+    is.mark(MAGIC.length);
+    final Optional<SaveGameMetadata> metadata = readBlock(is);
+    if (!metadata.isPresent()) {
+      is.reset();
+    }
+    return metadata;
+  }
+
+  /**
+   * Reads the metadata of the save game at the current position of the specified stream, if it has metadata, without
+   * changing the position of the stream.
+   *
+   * @param is The stream from which to read; it must support {@link InputStream#mark(int)}.
+   */
+  public static Optional<SaveGameMetadata> peek(final InputStream is) throws IOException {
+    checkArgument(is.markSupported(), "stream must support mark");
+
+    is.mark(MAGIC.length + 2 * Integer.BYTES + MAX_CONTENT_LENGTH);
+    final Optional<SaveGameMetadata> metadata;
+    try {
+      metadata = readBlock(is);
+    } finally {
+      is.reset();
+    }
+    if (metadata.isPresent()) {
+      return metadata;
+    }
+    final Optional<byte[]> subfield = GzipFormat.peekExtraField(is)
+        .flatMap(extraField -> GzipFormat.getSubfield(extraField, GZIP_SUBFIELD_ID_1, GZIP_SUBFIELD_ID_2));
+    if (!subfield.isPresent()) {
+      return Optional.empty();
+    }
+    return Optional.of(IoUtils.readFromMemory(subfield.get(), subfieldStream -> {
+      final DataInputStream in = new DataInputStream(subfieldStream);
+      in.readInt(); // format version; later versions only append to the content, which is ignored
+      return readContent(in);
+    }));
+  }
+
+  /**
+   * Reads the metadata at the start of the specified save game file, if it has metadata, without reading the rest of
+   * the file.
+   */
+  public static Optional<SaveGameMetadata> read(final File file) throws IOException {
+    checkNotNull(file);
+
+    try (InputStream is = new BufferedInputStream(new FileInputStream(file))) {
+      return peek(is);
+    }
+  }
+
+  private static Optional<SaveGameMetadata> readBlock(final InputStream is) throws IOException {
+    final byte[] magic = new byte[MAGIC.length];
+    if (IOUtils.read(is, magic) != magic.length || !Arrays.equals(magic, MAGIC)) {
+      return Optional.empty();
+    }
+    final DataInputStream in = new DataInputStream(is);
+    in.readInt(); // format version; later versions only append to the content, which is skipped below
+    final int contentLength = in.readInt();
+    if (contentLength < 0 || contentLength > MAX_CONTENT_LENGTH) {
+      throw new IOException("Malformed save game metadata");
+    }
+    final byte[] content = new byte[contentLength];
+    in.readFully(content);
+    return Optional.of(
+        IoUtils.readFromMemory(content, contentStream -> readContent(new DataInputStream(contentStream))));
+  }
+
+  private static SaveGameMetadata readContent(final DataInputStream contentIn) throws IOException {
+    final String engineVersion = contentIn.readUTF();
+    final String gameName = contentIn.readUTF();
+    final String mapName = contentIn.readUTF();
+    final int round = contentIn.readInt();
+    final String stepName = contentIn.readUTF();
+    final int playerCount = contentIn.readInt();
+    final List<String> playerNames = new ArrayList<>();
+    for (int i = 0; i < playerCount; i++) {
+      playerNames.add(contentIn.readUTF());
+    }
+    final Instant saveTime = Instant.ofEpochMilli(contentIn.readLong());
+    return new SaveGameMetadata(
+        engineVersion, gameName, mapName, round, stepName, Collections.unmodifiableList(playerNames), saveTime);
+  }
+}
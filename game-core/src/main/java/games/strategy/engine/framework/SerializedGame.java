@@ -0,0 +1,13 @@
+package games.strategy.engine.framework;
+
+import lombok.Value;
+
+/**
+ * A game serialized in memory by {@link GameDataManager#serializeGame(games.strategy.engine.data.GameData)}, together
+ * with its metadata, ready to be written as a save game.
+ */
+@Value
+class SerializedGame {
+  private final SaveGameMetadata metadata;
+  private final byte[] bytes;
+}
@@ -1,22 +1,33 @@
 package games.strategy.engine.framework;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
 
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Enumeration;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
+import javax.annotation.Nullable;
+
 import org.triplea.java.Interruptibles;
 import org.triplea.util.ExitStatus;
 
+import com.google.common.collect.Lists;
+
 import games.strategy.engine.GameOverException;
 import games.strategy.engine.data.Change;
 import games.strategy.engine.data.CompositeChange;
@@ -36,6 +47,7 @@ import games.strategy.engine.framework.startup.ui.InGameLobbyWatcherWrapper;
 import games.strategy.engine.history.DelegateHistoryWriter;
 import games.strategy.engine.history.Event;
 import games.strategy.engine.history.EventChild;
+import games.strategy.engine.history.HistoryCompactor;
 import games.strategy.engine.history.HistoryNode;
 import games.strategy.engine.history.Step;
 import games.strategy.engine.message.ConnectionLostException;
@@ -47,7 +59,7 @@ import games.strategy.engine.random.IRandomSource;
 import games.strategy.engine.random.IRemoteRandom;
 import games.strategy.engine.random.PlainRandomSource;
 import games.strategy.engine.random.RandomStats;
-import games.strategy.io.IoUtils;
+import games.strategy.net.IConnectionChangeListener;
 import games.strategy.net.INode;
 import games.strategy.net.Messengers;
 import games.strategy.triplea.TripleAPlayer;
@@ -65,13 +77,20 @@ public class ServerGame extends AbstractGame {
   static final RemoteName SERVER_REMOTE =
       new RemoteName("games.strategy.engine.framework.ServerGame.SERVER_REMOTE", IServerRemote.class);
 
+  private static final int MAX_MODIFICATIONS_PER_MESSAGE = 500;
+
+  private final UUID gameId = UUID.randomUUID();
   private final RandomStats randomStats;
   private IRandomSource randomSource = new PlainRandomSource();
   private IRandomSource delegateRandomSource;
-  private final DelegateExecutionManager delegateExecutionManager = new DelegateExecutionManager();
+  private final ChangeBatcher changeBatcher;
+  private final GameJournal gameJournal;
+  private final HistoryCompactor historyCompactor = new HistoryCompactor();
+  private final DelegateExecutionManager delegateExecutionManager;
   private InGameLobbyWatcherWrapper inGameLobbyWatcher;
   private boolean needToInitialize = true;
   private final boolean headless;
+  private volatile boolean autoSaveEnabled = true;
   /**
    * When the delegate execution is stopped, we countdown on this latch to prevent the startgame(...) method from
    * returning.
@@ -81,6 +100,17 @@ public class ServerGame extends AbstractGame {
    * Has the delegate signaled that delegate execution should stop.
    */
   private volatile boolean delegateExecutionStopped = false;
+  // the snapshot being fetched by each node, released once its last chunk has been fetched or the node disconnects
+  private final Map<INode, ChunkedGameData> savedGamesInTransit = new ConcurrentHashMap<>();
+  private final IConnectionChangeListener savedGameTransferCanceller = new IConnectionChangeListener() {
+    @Override
+    public void connectionAdded(final INode to) {}
+
+    @Override
+    public void connectionRemoved(final INode to) {
+      savedGamesInTransit.remove(to);
+    }
+  };
 
   public ServerGame(
       final GameData data,
@@ -90,6 +120,12 @@ public class ServerGame extends AbstractGame {
       final boolean headless) {
     super(data, localPlayers, remotePlayerMapping, messengers);
     this.headless = headless;
+    gameJournal = new GameJournal(data, headless);
+    changeBatcher = new ChangeBatcher(
+        (IGameModifiedChannel) messengers.getChannelBroadcaster(IGame.GAME_MODIFICATION_CHANNEL));
+    // flush whenever a thread leaves a delegate so that remote nodes are up to date before a delegate call returns or
+    // before a delegate calls out to a player
+    delegateExecutionManager = new DelegateExecutionManager(changeBatcher::flush);
     gameModifiedChannel = new IGameModifiedChannel() {
       @Override
       public void gameDataChanged(final Change change) {
@@ -98,6 +134,12 @@ public class ServerGame extends AbstractGame {
         gameData.getHistory().getHistoryWriter().addChange(change);
       }
 
+      // the changes in a frame were already applied locally when they were added, see ServerGame.addChange()
+      @Override
+      public void gameDataChangedFrame(final CompositeChange frame) {
+        assertCorrectCaller();
+      }
+
       private void assertCorrectCaller() {
         if (!MessageContext.getSender().equals(getMessengers().getServerNode())) {
           throw new IllegalStateException("Only server can change game data");
@@ -146,81 +188,230 @@ public class ServerGame extends AbstractGame {
     messengers.registerChannelSubscriber(gameModifiedChannel, IGame.GAME_MODIFICATION_CHANNEL);
     setupDelegateMessaging(data);
     randomStats = new RandomStats(messengers);
-    // Import dice stats from history if there is any (e.g. loading a saved game).
-    importDiceStats((HistoryNode) gameData.getHistory().getRoot());
+    // Import dice stats from history if there is any (e.g. loading a saved game) once they are asked for, so the
+    // history of the earlier rounds is not loaded just for them. Later dice are recorded as they are rolled.
+    final HistoryNode lastNodeBeforeStart = gameData.getHistory().getLastNode();
+    randomStats.importLazily(() -> importDiceStats(lastNodeBeforeStart));
 
-    final IServerRemote serverRemote = () -> {
-      try {
-        return IoUtils.writeToMemory(this::saveGame);
-      } catch (final IOException e) {
-        throw new IllegalStateException(e);
+    final IServerRemote serverRemote = new IServerRemote() {
+      @Override
+      public int prepareSavedGame() {
+        try {
+          final ChunkedGameData savedGame = ChunkedGameData.write(ServerGame.this::saveGame);
+          savedGamesInTransit.put(MessageContext.getSender(), savedGame);
+          return savedGame.getChunkCount();
+        } catch (final IOException e) {
+          throw new IllegalStateException(e);
+        }
+      }
+
+      @Override
+      public byte[] getSavedGameChunk(final int index) {
+        final INode sender = MessageContext.getSender();
+        final ChunkedGameData savedGame = savedGamesInTransit.get(sender);
+        checkState(savedGame != null, "No saved game prepared for " + sender);
+        if (index == savedGame.getChunkCount() - 1) {
+          savedGamesInTransit.remove(sender);
+        }
+        return savedGame.getChunk(index);
       }
     };
     messengers.registerRemote(serverRemote, SERVER_REMOTE);
+    messengers.addConnectionChangeListener(savedGameTransferCanceller);
   }
 
-  private void importDiceStats(final HistoryNode node) {
-    if (node instanceof EventChild) {
-      final EventChild childNode = (EventChild) node;
-      if (childNode.getRenderingData() instanceof DiceRoll) {
-        final String playerName = DiceRoll.getPlayerNameFromAnnotation(childNode.getTitle());
-        final PlayerId playerId = gameData.getPlayerList().getPlayerId(playerName);
-
-        final DiceRoll diceRoll = (DiceRoll) childNode.getRenderingData();
-        final int[] rolls = new int[diceRoll.size()];
-        for (int i = 0; i < rolls.length; i++) {
-          rolls[i] = diceRoll.getDie(i).getValue();
+  /**
+   * Imports the dice of the history up to and including the specified node.
+   */
+  private void importDiceStats(final HistoryNode lastNode) {
+    // loads the segments of the history, which needs the write lock, so must be called before acquiring the read lock
+    final HistoryNode root = (HistoryNode) gameData.getHistory().getRoot();
+    gameData.acquireReadLock();
+    try {
+      final Enumeration<?> nodes = root.preorderEnumeration();
+      while (nodes.hasMoreElements()) {
+        final HistoryNode node = (HistoryNode) nodes.nextElement();
+        if (node instanceof EventChild) {
+          final EventChild childNode = (EventChild) node;
+          if (childNode.getRenderingData() instanceof DiceRoll) {
+            final String playerName = DiceRoll.getPlayerNameFromAnnotation(childNode.getTitle());
+            final PlayerId playerId = gameData.getPlayerList().getPlayerId(playerName);
+
+            final DiceRoll diceRoll = (DiceRoll) childNode.getRenderingData();
+            final int[] rolls = new int[diceRoll.size()];
+            for (int i = 0; i < rolls.length; i++) {
+              rolls[i] = diceRoll.getDie(i).getValue();
+            }
+            randomStats.addRandom(rolls, playerId, RandomStats.DiceType.COMBAT);
+          }
+        }
+        if (node == lastNode) {
+          break;
         }
-        randomStats.addRandom(rolls, playerId, RandomStats.DiceType.COMBAT);
       }
+    } finally {
+      gameData.releaseReadLock();
     }
+  }
 
-    for (int i = 0; i < node.getChildCount(); i++) {
-      importDiceStats((HistoryNode) node.getChildAt(i));
-    }
+  public AutoSaveStatistics getAutoSaveStatistics() {
+    return gameJournal.getStatistics();
+  }
+
+  /**
+   * Returns the position of the current state of this game within the modifications it has made.
+   */
+  public ResyncPoint getResyncPoint() {
+    return new ResyncPoint(gameId, changeBatcher.getModificationCount());
   }
 
   /**
    * Adds a new observer (non-participant) node to this server game.
+   *
+   * <p>
+   * If the observer still holds a copy of this game from before it lost its connection, it is sent only the
+   * modifications it missed, provided they are still available.
+   * </p>
+   *
+   * <p>
+   * Otherwise the observer is sent a snapshot of the game in chunks. Delegate execution is blocked only while the
+   * snapshot is taken, so the game goes on while the chunks are in transit. If the game changed in the meantime, the
+   * observer is sent the modifications made since the snapshot while delegate execution stays blocked, or, if they are
+   * no longer available, it discards the snapshot and is sent a fresh one. Either way, delegate execution is blocked
+   * while the observer joins so that it cannot miss a change made after its snapshot.
+   * </p>
    */
   public void addObserver(final IObserverWaitingToJoin blockingObserver,
       final IObserverWaitingToJoin nonBlockingObserver, final INode newNode) {
     try {
-      if (!delegateExecutionManager.blockDelegateExecution(2000)) {
-        nonBlockingObserver.cannotJoinGame("Could not block delegate execution");
+      final ResyncPoint observerResyncPoint = blockingObserver.getResyncPoint();
+      if (!blockDelegateExecutionForObserver(nonBlockingObserver)) {
         return;
       }
+      SerializedGame snapshot;
+      long snapshotModificationCount;
+      try {
+        // the observer must not receive a frame with changes that are already in its copy of the game
+        changeBatcher.flush();
+        final Optional<List<GameModification>> missedModifications = getMissedModifications(observerResyncPoint);
+        if (missedModifications.isPresent()) {
+          sendModifications(blockingObserver, missedModifications.get());
+          joinObserver(blockingObserver, nonBlockingObserver, newNode);
+          return;
+        }
+        snapshot = takeSnapshot();
+        snapshotModificationCount = changeBatcher.getModificationCount();
+      } finally {
+        delegateExecutionManager.resumeDelegateExecution();
+      }
+
+      while (true) {
+        // compressing and sending the snapshot can take a while for a large game, so the game goes on meanwhile
+        sendGame(blockingObserver, snapshot);
+
+        if (!blockDelegateExecutionForObserver(nonBlockingObserver)) {
+          return;
+        }
+        try {
+          // the observer must not receive a frame with changes that it is sent here
+          changeBatcher.flush();
+          if (changeBatcher.getModificationCount() != snapshotModificationCount) {
+            final Optional<List<GameModification>> modificationsSinceSnapshot =
+                changeBatcher.getModificationsSince(snapshotModificationCount);
+            if (!modificationsSinceSnapshot.isPresent()) {
+              // too much happened while the snapshot was sent, so the observer is sent a new one
+              blockingObserver.discardGameData();
+              snapshot = takeSnapshot();
+              snapshotModificationCount = changeBatcher.getModificationCount();
+              continue;
+            }
+            sendGameDataModifications(blockingObserver, modificationsSinceSnapshot.get());
+          }
+          joinObserver(blockingObserver, nonBlockingObserver, newNode);
+          return;
+        } finally {
+          delegateExecutionManager.resumeDelegateExecution();
+        }
+      }
+    } catch (final Exception e) {
+      log.log(Level.SEVERE, "Failed to join game", e);
+      nonBlockingObserver.cannotJoinGame(e.getMessage());
+    }
+  }
+
+  private Optional<List<GameModification>> getMissedModifications(@Nullable final ResyncPoint resyncPoint) {
+    if (resyncPoint == null || !resyncPoint.getGameId().equals(gameId)) {
+      return Optional.empty();
+    }
+    return changeBatcher.getModificationsSince(resyncPoint.getModificationCount());
+  }
+
+  private static void sendModifications(final IObserverWaitingToJoin blockingObserver,
+      final List<GameModification> modifications) {
+    for (final List<GameModification> batch : Lists.partition(modifications, MAX_MODIFICATIONS_PER_MESSAGE)) {
+      blockingObserver.receiveMissedModifications(new ArrayList<>(batch));
+    }
+  }
+
+  private static void sendGameDataModifications(final IObserverWaitingToJoin blockingObserver,
+      final List<GameModification> modifications) throws IOException {
+    for (final List<GameModification> batch : Lists.partition(modifications, MAX_MODIFICATIONS_PER_MESSAGE)) {
+      blockingObserver.receiveGameDataModifications(GameModification.writeAll(batch));
+    }
+  }
+
+  private boolean blockDelegateExecutionForObserver(final IObserverWaitingToJoin nonBlockingObserver) {
+    try {
+      if (delegateExecutionManager.blockDelegateExecution(2000)) {
+        return true;
+      }
+      nonBlockingObserver.cannotJoinGame("Could not block delegate execution");
     } catch (final InterruptedException e) {
       Thread.currentThread().interrupt();
       nonBlockingObserver.cannotJoinGame(e.getMessage());
-      return;
     }
-    try {
-      final CountDownLatch waitOnObserver = new CountDownLatch(1);
-      final byte[] bytes = IoUtils.writeToMemory(this::saveGame);
-      new Thread(() -> {
-        try {
-          blockingObserver.joinGame(bytes, playerManager.getPlayerMapping());
-          waitOnObserver.countDown();
-        } catch (final ConnectionLostException cle) {
-          log.log(Level.SEVERE, "Connection lost to observer while joining: " + newNode.getName(), cle);
-        } catch (final Exception e) {
-          log.log(Level.SEVERE, "Failed to join game", e);
-        }
-      }, "Waiting on observer to finish joining: " + newNode.getName()).start();
+    return false;
+  }
+
+  /**
+   * Captures the game for an observer. Must be called while delegate execution is blocked; the captured game is only
+   * compressed when it is sent, after delegate execution is resumed.
+   */
+  private SerializedGame takeSnapshot() throws IOException {
+    // the observer receives a snapshot of the game, so it must not receive a frame with changes already in it
+    changeBatcher.flush();
+    return GameDataManager.serializeGame(gameData);
+  }
+
+  private static void sendGame(final IObserverWaitingToJoin blockingObserver, final SerializedGame snapshot)
+      throws IOException {
+    final ChunkedGameData game = ChunkedGameData.write(os -> GameDataManager.writeSerializedGame(os, snapshot));
+    // each call returns once the observer is ready for the next chunk, so a slow observer is not flooded
+    for (final byte[] chunk : game.getChunks()) {
+      blockingObserver.receiveGameDataChunk(chunk);
+    }
+  }
+
+  private void joinObserver(final IObserverWaitingToJoin blockingObserver,
+      final IObserverWaitingToJoin nonBlockingObserver, final INode newNode) {
+    final CountDownLatch waitOnObserver = new CountDownLatch(1);
+    new Thread(() -> {
       try {
-        if (!waitOnObserver.await(ClientSetting.serverObserverJoinWaitTime.getValueOrThrow(), TimeUnit.SECONDS)) {
-          nonBlockingObserver.cannotJoinGame("Taking too long to join.");
-        }
-      } catch (final InterruptedException e) {
-        Thread.currentThread().interrupt();
-        nonBlockingObserver.cannotJoinGame(e.getMessage());
+        blockingObserver.joinGame(playerManager.getPlayerMapping(), getResyncPoint());
+        waitOnObserver.countDown();
+      } catch (final ConnectionLostException cle) {
+        log.log(Level.SEVERE, "Connection lost to observer while joining: " + newNode.getName(), cle);
+      } catch (final Exception e) {
+        log.log(Level.SEVERE, "Failed to join game", e);
       }
-    } catch (final Exception e) {
-      log.log(Level.SEVERE, "Failed to join game", e);
+    }, "Waiting on observer to finish joining: " + newNode.getName()).start();
+    try {
+      if (!waitOnObserver.await(ClientSetting.serverObserverJoinWaitTime.getValueOrThrow(), TimeUnit.SECONDS)) {
+        nonBlockingObserver.cannotJoinGame("Taking too long to join.");
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
       nonBlockingObserver.cannotJoinGame(e.getMessage());
-    } finally {
-      delegateExecutionManager.resumeDelegateExecution();
     }
   }
 
@@ -327,10 +518,14 @@ public class ServerGame extends AbstractGame {
     // shutdown
     try {
       delegateExecutionManager.setGameOver();
+      gameJournal.close();
+      historyCompactor.shutDown();
       getGameModifiedBroadcaster().shutDown();
       randomStats.shutDown();
       messengers.unregisterChannelSubscriber(gameModifiedChannel, IGame.GAME_MODIFICATION_CHANNEL);
       messengers.unregisterRemote(SERVER_REMOTE);
+      messengers.removeConnectionChangeListener(savedGameTransferCanceller);
+      savedGamesInTransit.clear();
       vault.shutDown();
       for (final IGamePlayer gp : gamePlayers.values()) {
         messengers.unregisterRemote(getRemoteName(gp.getPlayerId(), gameData));
@@ -352,7 +547,7 @@ public class ServerGame extends AbstractGame {
   }
 
   private void autoSaveBefore(final IDelegate delegate) {
-    saveGame(AutoSaveFileUtils.getBeforeStepAutoSaveFile(delegate.getName(), headless));
+    autoSave(AutoSaveFileUtils.getBeforeStepAutoSaveFile(delegate.getName(), headless));
   }
 
   @Override
@@ -372,6 +567,41 @@ public class ServerGame extends AbstractGame {
   }
 
   private void saveGame(final OutputStream out) throws IOException {
+    if (!blockDelegateExecutionForSave()) {
+      return;
+    }
+
+    // only capture the game while delegate execution is blocked; compressing and writing it can be done concurrently
+    final SerializedGame serializedGame;
+    try {
+      serializedGame = GameDataManager.serializeGame(gameData);
+    } finally {
+      delegateExecutionManager.resumeDelegateExecution();
+    }
+    GameDataManager.writeSerializedGame(out, serializedGame);
+  }
+
+  /**
+   * Writes an auto-save incrementally through the game journal, falling back to a complete save if the journal cannot
+   * be written. Delegate execution is only blocked while the auto-save is captured; it is written in the background.
+   */
+  private void autoSave(final File file) {
+    if (!autoSaveEnabled || !blockDelegateExecutionForSave()) {
+      return;
+    }
+
+    try {
+      gameJournal.checkpoint(file);
+    } catch (final IOException e) {
+      log.log(Level.WARNING, "Failed to write journaled auto-save, writing complete save to: " + file.getAbsolutePath(),
+          e);
+      saveGame(file);
+    } finally {
+      delegateExecutionManager.resumeDelegateExecution();
+    }
+  }
+
+  private boolean blockDelegateExecutionForSave() {
     final String errorMessage = "Error saving game.. ";
 
     try {
@@ -380,19 +610,14 @@ public class ServerGame extends AbstractGame {
         // try again
         if (!delegateExecutionManager.blockDelegateExecution(6000)) {
           log.severe(errorMessage + " could not lock delegate execution");
-          return;
+          return false;
         }
       }
     } catch (final InterruptedException e) {
       Thread.currentThread().interrupt();
-      return;
-    }
-
-    try {
-      GameDataManager.saveGame(out, gameData);
-    } finally {
-      delegateExecutionManager.resumeDelegateExecution();
+      return false;
     }
+    return true;
   }
 
 
@@ -441,23 +666,31 @@ public class ServerGame extends AbstractGame {
     }
     if (gameData.getSequence().next()) {
       gameData.getHistory().getHistoryWriter().startNextRound(gameData.getSequence().getRound());
-      saveGame(gameData.getSequence().getRound() % 2 == 0
+      autoSave(gameData.getSequence().getRound() % 2 == 0
           ? AutoSaveFileUtils.getEvenRoundAutoSaveFile(headless)
           : AutoSaveFileUtils.getOddRoundAutoSaveFile(headless));
+      compactHistory();
     }
     if (autoSaveThisDelegate && !currentStep.getName().endsWith("Move")) {
       autoSaveAfter(currentDelegate, headless);
     }
   }
 
+  private void compactHistory() {
+    final int horizon = ClientSetting.historyCompactionHorizon.getValueOrThrow();
+    if (horizon > 0) {
+      historyCompactor.compact(gameData.getHistory(), horizon);
+    }
+  }
+
   private void autoSaveAfter(final String stepName, final boolean headless) {
-    saveGame(AutoSaveFileUtils.getAfterStepAutoSaveFile(stepName, headless));
+    autoSave(AutoSaveFileUtils.getAfterStepAutoSaveFile(stepName, headless));
   }
 
   private void autoSaveAfter(final IDelegate delegate, final boolean headless) {
     final String typeName = delegate.getClass().getTypeName();
     final String stepName = typeName.substring(typeName.lastIndexOf('.') + 1).replaceFirst("Delegate$", "");
-    saveGame(AutoSaveFileUtils.getAfterStepAutoSaveFile(stepName, headless));
+    autoSave(AutoSaveFileUtils.getAfterStepAutoSaveFile(stepName, headless));
   }
 
   private void endStep() {
@@ -476,7 +709,7 @@ public class ServerGame extends AbstractGame {
         continue;
       }
       final DefaultDelegateBridge bridge = new DefaultDelegateBridge(gameData, this,
-          new DelegateHistoryWriter(messengers), randomStats, delegateExecutionManager);
+          new DelegateHistoryWriter(changeBatcher), randomStats, delegateExecutionManager);
       if (delegateRandomSource == null) {
         delegateRandomSource = (IRandomSource) delegateExecutionManager.newOutboundImplementation(randomSource,
             new Class<?>[] {IRandomSource.class});
@@ -495,7 +728,7 @@ public class ServerGame extends AbstractGame {
   private void startStep(final boolean stepIsRestoredFromSavedGame) {
     // dont save if we just loaded
     final DefaultDelegateBridge bridge = new DefaultDelegateBridge(gameData, this,
-        new DelegateHistoryWriter(messengers), randomStats, delegateExecutionManager);
+        new DelegateHistoryWriter(changeBatcher), randomStats, delegateExecutionManager);
     if (delegateRandomSource == null) {
       delegateRandomSource = (IRandomSource) delegateExecutionManager.newOutboundImplementation(randomSource,
           new Class<?>[] {IRandomSource.class});
@@ -606,12 +839,15 @@ public class ServerGame extends AbstractGame {
   }
 
   private IGameModifiedChannel getGameModifiedBroadcaster() {
-    return (IGameModifiedChannel) messengers.getChannelBroadcaster(IGame.GAME_MODIFICATION_CHANNEL);
+    return changeBatcher;
   }
 
   @Override
   public void addChange(final Change change) {
-    // let our channel subscriber do the change, that way all changes will happen in the same thread
+    // apply the change locally right away so the delegate sees its effect, the remote nodes receive it with the next
+    // change frame
+    gameData.performChange(change);
+    gameData.getHistory().getHistoryWriter().addChange(change);
     getGameModifiedBroadcaster().gameDataChanged(change);
   }
 
@@ -633,6 +869,14 @@ public class ServerGame extends AbstractGame {
     this.inGameLobbyWatcher = inGameLobbyWatcher;
   }
 
+  /**
+   * Turns the auto-saves of this game on or off. They are on by default; games run unattended in bulk, e.g. to measure
+   * the engine, turn them off.
+   */
+  public void setAutoSaveEnabled(final boolean autoSaveEnabled) {
+    this.autoSaveEnabled = autoSaveEnabled;
+  }
+
   public void stopGameSequence() {
     delegateExecutionStopped = true;
   }
@@ -124,7 +124,8 @@ public class ServerLauncher extends AbstractLauncher<Void> {
       }
       // tell the clients to start, later we will wait for them to all signal that they are ready.
       ((IClientChannel) messengers.getChannelBroadcaster(IClientChannel.CHANNEL_NAME))
-          .doneSelectingPlayers(gameDataAsBytes, serverGame.getPlayerManager().getPlayerMapping());
+          .doneSelectingPlayers(gameDataAsBytes, serverGame.getPlayerManager().getPlayerMapping(),
+              serverGame.getResyncPoint());
 
       final boolean useSecureRandomSource = !remotePlayers.isEmpty();
       if (useSecureRandomSource) {
@@ -9,6 +9,7 @@ import java.awt.Component;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -22,11 +23,13 @@ import java.util.logging.Level;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.swing.Action;
 import javax.swing.JOptionPane;
 import javax.swing.SwingUtilities;
 
 import org.triplea.java.Interruptibles;
+import org.triplea.java.function.ThrowingSupplier;
 import org.triplea.swing.EventThreadJOptionPane;
 import org.triplea.swing.SwingAction;
 
@@ -37,10 +40,12 @@ import games.strategy.engine.chat.ChatPanel;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.framework.ClientGame;
 import games.strategy.engine.framework.GameDataManager;
+import games.strategy.engine.framework.GameModification;
 import games.strategy.engine.framework.GameObjectStreamFactory;
 import games.strategy.engine.framework.GameRunner;
 import games.strategy.engine.framework.GameState;
 import games.strategy.engine.framework.HeadlessAutoSaveType;
+import games.strategy.engine.framework.ResyncPoint;
 import games.strategy.engine.framework.message.PlayerListing;
 import games.strategy.engine.framework.network.ui.ChangeGameOptionsClientAction;
 import games.strategy.engine.framework.network.ui.ChangeGameToSaveGameClientAction;
@@ -65,6 +70,7 @@ import games.strategy.net.Messengers;
 import games.strategy.triplea.settings.ClientSetting;
 import lombok.Getter;
 import lombok.Setter;
+import lombok.Value;
 import lombok.extern.java.Log;
 
 /**
@@ -75,6 +81,8 @@ public class ClientModel implements IMessengerErrorListener {
 
   public static final RemoteName CLIENT_READY_CHANNEL =
       new RemoteName("games.strategy.engine.framework.startup.mc.ClientModel.CLIENT_READY_CHANNEL", IServerReady.class);
+  // the game of the last connection that was lost, shared with later models so that they can resume it
+  private final DisconnectedGameHolder disconnectedGameHolder;
   private final GameObjectStreamFactory objectStreamFactory = new GameObjectStreamFactory(null);
   private final GameSelectorModel gameSelectorModel;
   private final SetupPanelModel typePanelModel;
@@ -91,11 +99,50 @@ public class ClientModel implements IMessengerErrorListener {
   private GameData gameDataOnStartup;
   private Map<String, String> playersToNodes = new HashMap<>();
   private final IObserverWaitingToJoin observerWaitingToJoin = new IObserverWaitingToJoin() {
+    // the game being streamed to us by the server, null until its first chunk arrives
+    private GameDataReceiver gameDataReceiver;
+    // the modifications missed by the disconnected game while we were not connected
+    private final List<GameModification> missedModifications = new ArrayList<>();
+    // the serialized modifications made to the game being streamed to us since its snapshot was taken
+    private final List<byte[]> gameDataModifications = new ArrayList<>();
+
+    @Override
+    public @Nullable ResyncPoint getResyncPoint() {
+      final @Nullable ClientGame resumableGame = disconnectedGameHolder.get().orElse(null);
+      if (resumableGame == null) {
+        return null;
+      }
+      // the missed modifications refer to the objects of the game they will be applied to
+      objectStreamFactory.setData(resumableGame.getData());
+      return resumableGame.getResyncPoint();
+    }
+
+    @Override
+    public synchronized void receiveMissedModifications(final List<GameModification> modifications) {
+      missedModifications.addAll(modifications);
+    }
+
+    @Override
+    public void receiveGameDataChunk(final byte[] chunk) {
+      getGameDataReceiver().accept(chunk);
+    }
+
+    @Override
+    public synchronized void receiveGameDataModifications(final byte[] modifications) {
+      gameDataModifications.add(modifications);
+    }
+
     @Override
-    public void joinGame(final byte[] gameData, final Map<String, INode> players) {
+    public void discardGameData() {
+      abortGameDataReceiver();
+    }
+
+    @Override
+    public void joinGame(final Map<String, INode> players, final ResyncPoint resyncPoint) {
       messengers.unregisterRemote(ServerModel.getObserverWaitingToStartName(messenger.getLocalNode()));
+      final ThrowingSupplier<LoadedGame, IOException> gameLoader = takeGameLoader(takeMissedModifications());
       final CountDownLatch latch = new CountDownLatch(1);
-      startGame(gameData, players, latch, true);
+      startGame(gameLoader, players, resyncPoint, latch, true);
       try {
         latch.await(GameRunner.MINIMUM_CLIENT_GAMEDATA_LOAD_GRACE_TIME, TimeUnit.SECONDS);
       } catch (final InterruptedException e) {
@@ -103,8 +150,61 @@ public class ClientModel implements IMessengerErrorListener {
       }
     }
 
+    private synchronized GameDataReceiver getGameDataReceiver() {
+      if (gameDataReceiver == null) {
+        gameDataReceiver = new GameDataReceiver();
+      }
+      return gameDataReceiver;
+    }
+
+    /**
+     * Returns the loader of the game to join, which is brought up to date with the specified missed modifications. If
+     * the game was streamed to us, the modifications made to it since its snapshot was taken follow the missed ones;
+     * they are read by the loader once the game is rebuilt, since they can only be read then.
+     */
+    private synchronized ThrowingSupplier<LoadedGame, IOException> takeGameLoader(
+        final List<GameModification> missedModifications) {
+      // the disconnected game is replaced by the joined game, whether it is resumed or not
+      final Optional<GameData> resumableData = disconnectedGameHolder.takeForReplacement();
+      if (gameDataReceiver != null) {
+        final GameDataReceiver receiver = gameDataReceiver;
+        final List<byte[]> serializedModifications = new ArrayList<>(gameDataModifications);
+        gameDataReceiver = null;
+        gameDataModifications.clear();
+        return () -> {
+          final GameData data = receiver.finish();
+          final List<GameModification> modifications = new ArrayList<>(missedModifications);
+          if (data != null) {
+            for (final byte[] serializedModification : serializedModifications) {
+              modifications.addAll(GameModification.readAll(serializedModification, data));
+            }
+          }
+          return new LoadedGame(data, modifications);
+        };
+      }
+      // no game was streamed to us, so the server is resuming our disconnected game
+      final GameData data = resumableData.orElseThrow(() -> new IllegalStateException("No game to join"));
+      return () -> new LoadedGame(data, missedModifications);
+    }
+
+    private synchronized List<GameModification> takeMissedModifications() {
+      final List<GameModification> modifications = new ArrayList<>(missedModifications);
+      missedModifications.clear();
+      return modifications;
+    }
+
+    private synchronized void abortGameDataReceiver() {
+      if (gameDataReceiver != null) {
+        gameDataReceiver.abort();
+        gameDataReceiver = null;
+      }
+      missedModifications.clear();
+      gameDataModifications.clear();
+    }
+
     @Override
     public void cannotJoinGame(final String reason) {
+      abortGameDataReceiver();
       SwingUtilities.invokeLater(() -> {
         typePanelModel.showSelectType();
         EventThreadJOptionPane.showMessageDialog(ui, "Could not join game: " + reason);
@@ -127,9 +227,11 @@ public class ClientModel implements IMessengerErrorListener {
     }
 
     @Override
-    public void doneSelectingPlayers(final byte[] gameData, final Map<String, INode> players) {
+    public void doneSelectingPlayers(final byte[] gameData, final Map<String, INode> players,
+        final ResyncPoint resyncPoint) {
       final CountDownLatch latch = new CountDownLatch(1);
-      startGame(gameData, players, latch, false);
+      startGame(() -> new LoadedGame(IoUtils.readFromMemory(gameData, GameDataManager::loadGame),
+          Collections.emptyList()), players, resyncPoint, latch, false);
       try {
         latch.await(GameRunner.MINIMUM_CLIENT_GAMEDATA_LOAD_GRACE_TIME, TimeUnit.SECONDS);
       } catch (final InterruptedException e) {
@@ -138,9 +240,11 @@ public class ClientModel implements IMessengerErrorListener {
     }
   };
 
-  public ClientModel(final GameSelectorModel gameSelectorModel, final SetupPanelModel typePanelModel) {
+  ClientModel(final GameSelectorModel gameSelectorModel, final SetupPanelModel typePanelModel,
+      final DisconnectedGameHolder disconnectedGameHolder) {
     this.typePanelModel = typePanelModel;
     this.gameSelectorModel = gameSelectorModel;
+    this.disconnectedGameHolder = disconnectedGameHolder;
     final Interruptibles.Result<WaitWindow> window = Interruptibles
         .awaitResult(() -> SwingAction.invokeAndWaitResult(WaitWindow::new));
     if (!window.completed) {
@@ -273,7 +377,8 @@ public class ClientModel implements IMessengerErrorListener {
     }
   }
 
-  private void startGame(final byte[] gameData, final Map<String, INode> players, final CountDownLatch onDone,
+  private void startGame(final ThrowingSupplier<LoadedGame, IOException> gameLoader,
+      final Map<String, INode> players, final ResyncPoint resyncPoint, final CountDownLatch onDone,
       final boolean gameRunning) {
     SwingUtilities.invokeLater(() -> {
       gameLoadingWindow.setVisible(true);
@@ -281,7 +386,7 @@ public class ClientModel implements IMessengerErrorListener {
       gameLoadingWindow.showWait();
     });
     try {
-      startGameInNewThread(gameData, players, gameRunning);
+      startGameInNewThread(gameLoader, players, resyncPoint, gameRunning);
     } catch (final RuntimeException e) {
       gameLoadingWindow.doneWait();
       throw e;
@@ -292,16 +397,17 @@ public class ClientModel implements IMessengerErrorListener {
     }
   }
 
-  private void startGameInNewThread(final byte[] gameData, final Map<String, INode> players,
-      final boolean gameRunning) {
-    final GameData data;
+  private void startGameInNewThread(final ThrowingSupplier<LoadedGame, IOException> gameLoader,
+      final Map<String, INode> players, final ResyncPoint resyncPoint, final boolean gameRunning) {
+    final LoadedGame loadedGame;
     try {
       // this normally takes a couple seconds, but can take up to 60 seconds for a freaking huge game
-      data = IoUtils.readFromMemory(gameData, GameDataManager::loadGame);
+      loadedGame = gameLoader.get();
     } catch (final IOException ex) {
       log.log(Level.SEVERE, "Failed to load game", ex);
       return;
     }
+    final GameData data = loadedGame.getData();
     objectStreamFactory.setData(data);
     final Map<String, PlayerType> playerMapping = playersToNodes.entrySet()
         .stream()
@@ -309,7 +415,8 @@ public class ClientModel implements IMessengerErrorListener {
         .filter(e -> e.getValue().equals(messenger.getLocalNode().getName()))
         .collect(Collectors.toMap(Map.Entry::getKey, e -> PlayerType.CLIENT_PLAYER));
     final Set<IGamePlayer> playerSet = data.getGameLoader().newPlayers(playerMapping);
-    game = new ClientGame(data, playerSet, players, messengers);
+    game = new ClientGame(data, playerSet, players, messengers, resyncPoint);
+    game.applyMissedModifications(loadedGame.getModifications());
     new Thread(() -> {
       SwingUtilities.invokeLater(() -> JOptionPane.getFrameForComponent(ui).setVisible(false));
       try {
@@ -399,6 +506,9 @@ public class ClientModel implements IMessengerErrorListener {
 
   @Override
   public void messengerInvalid(final Throwable reason) {
+    if (game != null) {
+      disconnectedGameHolder.set(game);
+    }
     // The self chat disconnect notification is simply so we have an on-screen notification of the disconnect.
     // In case for example there are many game windows open, it may not be clear which game disconnected.
     if (chatPanel != null) {
@@ -451,4 +561,13 @@ public class ClientModel implements IMessengerErrorListener {
     private String name;
     private String host;
   }
+
+  /**
+   * A game loaded to be started, together with the modifications that are applied to it before it is started.
+   */
+  @Value
+  private static class LoadedGame {
+    private final GameData data;
+    private final List<GameModification> modifications;
+  }
 }
@@ -0,0 +1,55 @@
+package games.strategy.engine.framework.startup.mc;
+
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.framework.ClientGame;
+
+/**
+ * Keeps the game of the last connection that was lost, so that it can be resumed when a new {@link ClientModel}
+ * reconnects to its host.
+ *
+ * <p>
+ * The game is not shut down when its connection is lost, since its window still lets the user save it. It is shut down
+ * when it is taken to be replaced by the game of the new connection.
+ * </p>
+ */
+@ThreadSafe
+final class DisconnectedGameHolder {
+  @GuardedBy("this")
+  @Nullable
+  private ClientGame game;
+
+  /**
+   * Keeps the specified game in place of the game kept so far, which can then no longer be resumed.
+   */
+  synchronized void set(final ClientGame disconnectedGame) {
+    game = disconnectedGame;
+  }
+
+  synchronized Optional<ClientGame> get() {
+    return Optional.ofNullable(game);
+  }
+
+  /**
+   * Shuts down the kept game and forgets it, since it is replaced by the game of a new connection.
+   *
+   * @return The data of the kept game, which may be resumed by the replacing game, or empty if no game was kept.
+   */
+  Optional<GameData> takeForReplacement() {
+    final @Nullable ClientGame replacedGame;
+    synchronized (this) {
+      replacedGame = game;
+      game = null;
+    }
+    if (replacedGame == null) {
+      return Optional.empty();
+    }
+    replacedGame.shutDown();
+    return Optional.of(replacedGame.getData());
+  }
+}
@@ -0,0 +1,123 @@
+package games.strategy.engine.framework.startup.mc;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.framework.GameDataManager;
+
+/**
+ * Rebuilds a game from the chunks of a streamed transfer while they arrive.
+ *
+ * <p>
+ * The game is deserialized on its own thread as chunks are accepted, so that it is ready almost as soon as the last
+ * chunk arrives. {@link #accept(byte[])} blocks while the deserializer is several chunks behind; because the sender
+ * waits for each chunk to be accepted before sending the next, the transfer is paced by this node.
+ * </p>
+ */
+final class GameDataReceiver {
+  private static final int MAX_QUEUED_CHUNKS = 4;
+  private static final byte[] END_OF_DATA = new byte[0];
+
+  private final BlockingQueue<byte[]> chunks = new ArrayBlockingQueue<>(MAX_QUEUED_CHUNKS);
+  private final FutureTask<GameData> loader = new FutureTask<>(() -> GameDataManager.loadGame(new ChunkInputStream()));
+
+  GameDataReceiver() {
+    final Thread thread = new Thread(loader, "Game Data Receiver");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  /**
+   * Hands the next chunk of the game to the deserializer. Chunks are silently dropped if the deserializer has already
+   * finished or failed; the outcome is reported by {@link #finish()}.
+   */
+  void accept(final byte[] chunk) {
+    put(chunk);
+  }
+
+  private void put(final byte[] chunk) {
+    try {
+      while (!loader.isDone()) {
+        if (chunks.offer(chunk, 100, TimeUnit.MILLISECONDS)) {
+          return;
+        }
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Signals that all chunks have been accepted and waits for the deserializer to finish.
+   *
+   * @return The rebuilt game, or {@code null} if the user declined to load it.
+   *
+   * @throws IOException If the game could not be rebuilt from the accepted chunks.
+   */
+  GameData finish() throws IOException {
+    put(END_OF_DATA);
+    try {
+      return loader.get();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while rebuilding game from transferred data");
+    } catch (final ExecutionException e) {
+      throw new IOException("Failed to rebuild game from transferred data", e.getCause());
+    }
+  }
+
+  /**
+   * Discards the chunks accepted so far and stops the deserializer.
+   */
+  void abort() {
+    loader.cancel(true);
+    chunks.clear();
+  }
+
+  private final class ChunkInputStream extends InputStream {
+    private byte[] chunk = new byte[0];
+    private int position = 0;
+    private boolean endOfData = false;
+
+    @Override
+    public int read() throws IOException {
+      final byte[] b = new byte[1];
+      return (read(b, 0, 1) == -1) ? -1 : (b[0] & 0xFF);
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+      if (len == 0) {
+        return 0;
+      }
+      if (!fill()) {
+        return -1;
+      }
+      final int count = Math.min(len, chunk.length - position);
+      System.arraycopy(chunk, position, b, off, count);
+      position += count;
+      return count;
+    }
+
+    private boolean fill() throws IOException {
+      while (!endOfData && position == chunk.length) {
+        try {
+          chunk = chunks.take();
+        } catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new InterruptedIOException("Interrupted while waiting for game data");
+        }
+        position = 0;
+        endOfData = (chunk == END_OF_DATA);
+      }
+      return !endOfData;
+    }
+  }
+}
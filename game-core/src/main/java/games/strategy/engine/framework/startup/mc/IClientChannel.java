@@ -2,6 +2,7 @@ package games.strategy.engine.framework.startup.mc;
 
 import java.util.Map;
 
+import games.strategy.engine.framework.ResyncPoint;
 import games.strategy.engine.framework.message.PlayerListing;
 import games.strategy.engine.message.IChannelSubscriber;
 import games.strategy.engine.message.RemoteName;
@@ -20,8 +21,9 @@ public interface IClientChannel extends IChannelSubscriber {
    * Invoked when all players have been selected. This event indicates the game is ready to start.
    *
    * @param players who is playing who.
+   * @param resyncPoint the position of {@code gameData} within the modifications made by the server game.
    */
-  void doneSelectingPlayers(byte[] gameData, Map<String, INode> players);
+  void doneSelectingPlayers(byte[] gameData, Map<String, INode> players, ResyncPoint resyncPoint);
 
   void gameReset();
 }
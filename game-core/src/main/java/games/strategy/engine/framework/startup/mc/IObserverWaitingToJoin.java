@@ -1,7 +1,12 @@
 package games.strategy.engine.framework.startup.mc;
 
+import java.util.List;
 import java.util.Map;
 
+import javax.annotation.Nullable;
+
+import games.strategy.engine.framework.GameModification;
+import games.strategy.engine.framework.ResyncPoint;
 import games.strategy.engine.message.IRemote;
 import games.strategy.net.INode;
 
@@ -11,10 +16,49 @@ import games.strategy.net.INode;
  */
 public interface IObserverWaitingToJoin extends IRemote {
   /**
+   * Returns the position of the copy of the game this observer still holds from before it lost its connection, or
+   * {@code null} if it holds none.
+   */
+  @Nullable
+  ResyncPoint getResyncPoint();
+
+  /**
+   * Receives the next batch of modifications made to the game since the position reported by
+   * {@link #getResyncPoint()}. The batches are sent in order, one at a time.
+   */
+  void receiveMissedModifications(List<GameModification> modifications);
+
+  /**
+   * Receives the next chunk of the serialized game. The chunks of a game are sent in order, one at a time, and this
+   * method should not return until the observer is ready for the next chunk.
+   */
+  void receiveGameDataChunk(byte[] chunk);
+
+  /**
+   * Receives the next batch of modifications made to the game since the snapshot made up of the chunks received so
+   * far, serialized by {@link GameModification#writeAll(List)}. The server sends them when the game changed while the
+   * chunks were in transit. They are serialized because they refer to the objects of a game this observer has not
+   * rebuilt yet, so they can only be read and applied once it joins. The batches are sent in order, one at a time.
+   */
+  void receiveGameDataModifications(byte[] modifications);
+
+  /**
+   * Discards the chunks and the modifications received so far. The server calls this when the game changed while the
+   * chunks were in transit and the modifications made in the meantime are no longer available, before it sends a
+   * fresh copy of the game.
+   */
+  void discardGameData();
+
+  /**
+   * Joins the game made up of the chunks received so far brought up to date with the modifications received for it
+   * or, if no chunks were received, the copy of the game reported by {@link #getResyncPoint()} brought up to date
+   * with the missed modifications.
    * This method should not return until the client is ready to start the game.
    * This includes the display running, with all remote and channel listeners set up.
+   *
+   * @param resyncPoint The position of the joined game within the modifications made by the server game.
    */
-  void joinGame(byte[] gameData, Map<String, INode> players);
+  void joinGame(Map<String, INode> players, ResyncPoint resyncPoint);
 
   /**
    * You could not join the game, usually this is due to an error.
@@ -39,6 +39,7 @@ public class SetupPanelModel implements ServerSetupModel {
   private Consumer<SetupPanel> panelChangeListener;
   @Nonnull
   private final JFrame ui;
+  private final DisconnectedGameHolder disconnectedGameHolder = new DisconnectedGameHolder();
 
 
   @Override
@@ -80,7 +81,7 @@ public class SetupPanelModel implements ServerSetupModel {
    */
   public void showClient() {
     Preconditions.checkState(!SwingUtilities.isEventDispatchThread());
-    final ClientModel model = new ClientModel(gameSelectorModel, this);
+    final ClientModel model = new ClientModel(gameSelectorModel, this, disconnectedGameHolder);
     if (model.createClientMessenger(ui)) {
       SwingUtilities.invokeLater(() -> setGameTypePanel(new ClientSetupPanel(model)));
     } else {
@@ -7,27 +7,36 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.logging.Level;
 
+import javax.annotation.Nullable;
+
 import org.triplea.java.UrlStreams;
 
 import games.strategy.engine.data.EngineVersionException;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GameParseException;
 import games.strategy.engine.data.GameParser;
+import games.strategy.engine.framework.GameDefinitionCache;
 import games.strategy.triplea.Constants;
 import lombok.extern.java.Log;
 
 @Log
 final class DefaultGameChooserEntry implements GameChooserEntry {
   private final URI url;
-  private GameData gameData;
+  private @Nullable GameData gameData;
+  private boolean gameDataParsed;
   private boolean gameDataFullyLoaded = false;
+  private final @Nullable String gameName;
+  private final @Nullable String mapName;
   private final String gameNameAndMapNameProperty;
 
   DefaultGameChooserEntry(final URI uri) throws IOException, GameParseException, EngineVersionException {
     url = uri;
+    gameDataParsed = true;
 
     final Optional<InputStream> inputStream = UrlStreams.openStream(uri);
     if (!inputStream.isPresent()) {
+      gameName = null;
+      mapName = null;
       gameNameAndMapNameProperty = "";
       // this means the map was deleted out from under us.
       return;
@@ -35,15 +44,38 @@ final class DefaultGameChooserEntry implements GameChooserEntry {
 
     try (InputStream input = inputStream.get()) {
       gameData = GameParser.parseShallow(uri.toString(), input);
-      gameNameAndMapNameProperty = getGameName() + ":" + getMapNameProperty();
+      gameName = gameData.getGameName();
+      mapName = getMapNameProperty(gameData);
+      gameNameAndMapNameProperty = gameName + ":" + mapName;
     }
   }
 
+  /**
+   * Creates an entry for a game from the map catalog. The game file is not parsed until the game data is requested.
+   */
+  DefaultGameChooserEntry(final MapCatalog.Game game) {
+    url = URI.create(game.getUri());
+    gameDataParsed = false;
+    gameName = game.getGameName();
+    mapName = game.getMapName();
+    gameNameAndMapNameProperty = gameName + ":" + mapName;
+  }
+
+  /**
+   * Returns the catalog record of this entry, or empty if the game file could not be read.
+   */
+  Optional<MapCatalog.Game> toCatalogGame() {
+    return (gameName != null && mapName != null)
+        ? Optional.of(new MapCatalog.Game(url.toString(), gameName, mapName))
+        : Optional.empty();
+  }
+
   @Override
-  public void fullyParseGameData() throws GameParseException {
+  public synchronized void fullyParseGameData() throws GameParseException {
     // TODO: We should be setting this in the the constructor. At this point, you have to call methods in the
     // correct order for things to work, and that is bads.
     gameData = null;
+    gameDataParsed = true;
 
     final Optional<InputStream> inputStream = UrlStreams.openStream(url);
     if (!inputStream.isPresent()) {
@@ -51,7 +83,7 @@ final class DefaultGameChooserEntry implements GameChooserEntry {
     }
 
     try (InputStream input = inputStream.get()) {
-      gameData = GameParser.parse(url.toString(), input);
+      gameData = GameDefinitionCache.getInstance().parse(url.toString(), input);
       gameDataFullyLoaded = true;
     } catch (final EngineVersionException e) {
       log.log(Level.SEVERE, "Game engine not compatible with: " + url, e);
@@ -66,18 +98,18 @@ final class DefaultGameChooserEntry implements GameChooserEntry {
   }
 
   @Override
-  public boolean isGameDataLoaded() {
+  public synchronized boolean isGameDataLoaded() {
     return gameDataFullyLoaded;
   }
 
   @Override
   public String getGameName() {
-    return gameData.getGameName();
+    return gameName;
   }
 
   // the user may have selected a map skin instead of this map folder, so don't use this for anything except our
   // equals/hashcode below
-  private String getMapNameProperty() {
+  private static String getMapNameProperty(final GameData gameData) {
     final String mapName = (String) gameData.getProperties().get(Constants.MAP_NAME);
     if (mapName == null || mapName.trim().length() == 0) {
       throw new IllegalStateException("Map name property not set on game");
@@ -91,7 +123,18 @@ final class DefaultGameChooserEntry implements GameChooserEntry {
   }
 
   @Override
-  public GameData getGameData() {
+  public synchronized @Nullable GameData getGameData() {
+    if (!gameDataParsed) {
+      gameDataParsed = true;
+      final Optional<InputStream> inputStream = UrlStreams.openStream(url);
+      if (inputStream.isPresent()) {
+        try (InputStream input = inputStream.get()) {
+          gameData = GameParser.parseShallow(url.toString(), input);
+        } catch (final Exception e) {
+          log.log(Level.SEVERE, "Could not parse: " + url, e);
+        }
+      }
+    }
     return gameData;
   }
 
@@ -119,10 +162,9 @@ final class DefaultGameChooserEntry implements GameChooserEntry {
     }
 
     final DefaultGameChooserEntry other = (DefaultGameChooserEntry) obj;
-    if (gameData == null && other.gameData != null) {
-      return false;
-    }
-    return other.gameData != null && this.gameNameAndMapNameProperty.equals(other.gameNameAndMapNameProperty);
+    return gameName != null
+        && other.gameName != null
+        && this.gameNameAndMapNameProperty.equals(other.gameNameAndMapNameProperty);
   }
 
   @Override
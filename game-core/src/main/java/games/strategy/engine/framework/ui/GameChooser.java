@@ -12,6 +12,7 @@ import java.awt.Rectangle;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
 
+import javax.annotation.Nullable;
 import javax.swing.Box;
 import javax.swing.BoxLayout;
 import javax.swing.JButton;
@@ -99,10 +100,9 @@ public class GameChooser extends JDialog {
    */
   public static GameChooserEntry chooseGame(final Frame parent, final String defaultGameName)
       throws InterruptedException {
-    final GameChooserModel gameChooserModel =
-        new GameChooserModel(GameRunner.newBackgroundTaskRunner().runInBackgroundAndReturn(
-            "Loading all available games...",
-            GameChooserModel::parseMapFiles));
+    final GameChooserModel gameChooserModel = GameRunner.newBackgroundTaskRunner().runInBackgroundAndReturn(
+        "Loading all available games...",
+        GameChooserModel::newInstanceFromCatalog);
     final GameChooser chooser = new GameChooser(parent, gameChooserModel);
     chooser.setSize(800, 600);
     chooser.setLocationRelativeTo(parent);
@@ -125,8 +125,8 @@ public class GameChooser extends JDialog {
   }
 
   private void updateInfoPanel() {
-    if (getSelected() != null) {
-      final GameData data = getSelected().getGameData();
+    final @Nullable GameData data = (getSelected() != null) ? getSelected().getGameData() : null;
+    if (data != null) {
       final StringBuilder notes = new StringBuilder();
       notes.append("<h1>").append(data.getGameName()).append("</h1>");
       final String mapNameDir = data.getProperties().get("mapName", "");
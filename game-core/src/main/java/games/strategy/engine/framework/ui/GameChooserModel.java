@@ -5,17 +5,24 @@ import java.io.IOException;
 import java.net.URI;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.logging.Level;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
 import javax.swing.DefaultListModel;
 import javax.swing.JOptionPane;
+import javax.swing.SwingUtilities;
 
 import org.triplea.java.Interruptibles;
 import org.triplea.swing.SwingAction;
@@ -54,22 +61,117 @@ public final class GameChooserModel extends DefaultListModel<GameChooserEntry> {
     return super.get(i);
   }
 
+  /**
+   * Returns all games of the maps installed in the user's maps folder. The games of map files that are unchanged since
+   * they were recorded in the map catalog are taken from the catalog; all other map files are parsed. This method will
+   * block until all new and changed map files are parsed and should not be called from the EDT.
+   */
   static Set<GameChooserEntry> parseMapFiles() {
-    final Set<GameChooserEntry> parsedMapSet = new HashSet<>();
-    FileUtils.listFiles(ClientFileSystemHelper.getUserMapsFolder()).parallelStream()
-        .forEach(map -> {
-          if (map.isDirectory()) {
-            parsedMapSet.addAll(populateFromDirectory(map));
-          } else if (map.isFile() && map.getName().toLowerCase().endsWith(".zip")) {
-            parsedMapSet.addAll(populateFromZip(map));
-          }
-        });
-    return parsedMapSet;
+    final MapCatalog catalog = MapCatalog.load();
+    final List<File> mapFiles = listMapFiles();
+    final Set<GameChooserEntry> entries = ConcurrentHashMap.newKeySet();
+    final List<File> changedMapFiles = addCatalogEntries(catalog, mapFiles, entries);
+    parseMapFiles(catalog, mapFiles, changedMapFiles, entries::addAll);
+    return entries;
   }
 
-  private static Set<GameChooserEntry> populateFromZip(final File map) {
-    boolean badMapZip = false;
+  /**
+   * Returns a model containing the games of the maps installed in the user's maps folder that are recorded in the map
+   * catalog and unchanged since. New and changed map files are parsed in the background, and their games are added to
+   * the model on the EDT as each map file is parsed.
+   */
+  static GameChooserModel newInstanceFromCatalog() {
+    final MapCatalog catalog = MapCatalog.load();
+    final List<File> mapFiles = listMapFiles();
     final Set<GameChooserEntry> entries = new HashSet<>();
+    final List<File> changedMapFiles = addCatalogEntries(catalog, mapFiles, entries);
+    final GameChooserModel model = new GameChooserModel(entries);
+    CompletableFuture.runAsync(() -> parseMapFiles(catalog, mapFiles, changedMapFiles,
+        parsedEntries -> SwingUtilities.invokeLater(() -> model.addEntries(parsedEntries))));
+    return model;
+  }
+
+  /**
+   * Returns the map zips and the game files of the unzipped maps in the user's maps folder.
+   */
+  private static List<File> listMapFiles() {
+    final List<File> mapFiles = new ArrayList<>();
+    for (final File map : FileUtils.listFiles(ClientFileSystemHelper.getUserMapsFolder())) {
+      if (map.isDirectory()) {
+        mapFiles.addAll(listGameFiles(map));
+      } else if (map.isFile() && map.getName().toLowerCase().endsWith(".zip")) {
+        mapFiles.add(map);
+      }
+    }
+    return mapFiles;
+  }
+
+  /**
+   * Adds the games of the specified map files that are unchanged since they were recorded in the catalog to
+   * {@code entries}, and returns the remaining map files.
+   */
+  private static List<File> addCatalogEntries(
+      final MapCatalog catalog,
+      final List<File> mapFiles,
+      final Set<GameChooserEntry> entries) {
+    final List<File> changedMapFiles = new ArrayList<>();
+    for (final File mapFile : mapFiles) {
+      final Optional<List<MapCatalog.Game>> games = catalog.getGames(mapFile);
+      if (games.isPresent()) {
+        games.get().forEach(game -> entries.add(new DefaultGameChooserEntry(game)));
+      } else {
+        changedMapFiles.add(mapFile);
+      }
+    }
+    return changedMapFiles;
+  }
+
+  private static void parseMapFiles(
+      final MapCatalog catalog,
+      final List<File> mapFiles,
+      final List<File> changedMapFiles,
+      final Consumer<Set<GameChooserEntry>> entriesConsumer) {
+    changedMapFiles.parallelStream().forEach(mapFile -> parseMapFile(mapFile).ifPresent(entries -> {
+      catalog.putGames(mapFile, entries.stream()
+          .map(DefaultGameChooserEntry::toCatalogGame)
+          .filter(Optional::isPresent)
+          .map(Optional::get)
+          .collect(Collectors.toList()));
+      entriesConsumer.accept(new HashSet<>(entries));
+    }));
+    catalog.retainMapFiles(mapFiles);
+    catalog.save();
+  }
+
+  /**
+   * Parses the games of the specified map zip or game file. Returns empty if the map zip is corrupt, in which case
+   * it is not recorded in the catalog so that the user is asked about it again the next time.
+   */
+  private static Optional<Set<DefaultGameChooserEntry>> parseMapFile(final File mapFile) {
+    if (mapFile.getName().toLowerCase().endsWith(".zip")) {
+      return populateFromZip(mapFile);
+    }
+    final Set<DefaultGameChooserEntry> entries = new HashSet<>();
+    newGameChooserEntry(mapFile.toURI()).ifPresent(entries::add);
+    return Optional.of(entries);
+  }
+
+  private void addEntries(final Set<GameChooserEntry> entries) {
+    for (final GameChooserEntry entry : entries) {
+      if (contains(entry)) {
+        continue;
+      }
+      int index = 0;
+      while (index < size() && get(index).compareTo(entry) <= 0) {
+        index++;
+      }
+      add(index, entry);
+    }
+  }
+
+  private static Optional<Set<DefaultGameChooserEntry>> populateFromZip(final File map) {
+    boolean badMapZip = false;
+    final Set<DefaultGameChooserEntry> entries = new HashSet<>();
 
     try (ZipFile zipFile = new ZipFile(map);
         URLClassLoader loader = new URLClassLoader(new URL[] {map.toURI().toURL()})) {
@@ -86,16 +188,18 @@ public final class GameChooserModel extends DefaultListModel<GameChooserEntry> {
       }
     } catch (final IOException e) {
       confirmWithUserAndThenDeleteCorruptZipFile(map, Optional.of(e.getMessage()));
+      return Optional.empty();
     }
 
     if (badMapZip) {
       confirmWithUserAndThenDeleteCorruptZipFile(map, Optional.empty());
+      return Optional.empty();
     }
-    return entries;
+    return Optional.of(entries);
   }
 
   private static ZipProcessingResult processZipEntry(final URLClassLoader loader, final ZipEntry entry,
-      final Set<GameChooserEntry> entries) {
+      final Set<DefaultGameChooserEntry> entries) {
     final URL url = loader.getResource(entry.getName());
     if (url == null) {
       // not loading the URL means the XML is truncated or otherwise in bad shape
@@ -142,9 +246,9 @@ public final class GameChooserModel extends DefaultListModel<GameChooserEntry> {
    *
    * @param uri URI of the new entry
    */
-  private static Optional<GameChooserEntry> newGameChooserEntry(final URI uri) {
+  private static Optional<DefaultGameChooserEntry> newGameChooserEntry(final URI uri) {
     try {
-      return Optional.of(GameChooserEntry.newInstance(uri));
+      return Optional.of(new DefaultGameChooserEntry(uri));
     } catch (final EngineVersionException e) {
       log.log(Level.SEVERE, "Engine version problem:" + uri, e);
     } catch (final Exception e) {
@@ -159,12 +263,12 @@ public final class GameChooserModel extends DefaultListModel<GameChooserEntry> {
   public Optional<GameChooserEntry> findByName(final String name) {
     return IntStream.range(0, size())
         .mapToObj(this::get)
-        .filter(e -> e.getGameData().getGameName().equals(name))
+        .filter(e -> e.getGameName().equals(name))
         .findAny();
   }
 
-  private static Set<GameChooserEntry> populateFromDirectory(final File mapDir) {
-    final Set<GameChooserEntry> entries = new HashSet<>();
+  private static List<File> listGameFiles(final File mapDir) {
+    final List<File> gameFiles = new ArrayList<>();
 
     // use contents under a "mapDir/map" folder if present, otherwise use the "mapDir/" contents directly
     final File mapFolder = new File(mapDir, "map");
@@ -173,10 +277,10 @@ public final class GameChooserModel extends DefaultListModel<GameChooserEntry> {
     final File games = new File(parentFolder, "games");
     for (final File game : FileUtils.listFiles(games)) {
       if (game.isFile() && game.getName().toLowerCase().endsWith("xml")) {
-        newGameChooserEntry(game.toURI()).ifPresent(entries::add);
+        gameFiles.add(game);
       }
     }
-    return entries;
+    return gameFiles;
   }
 
   /**
@@ -0,0 +1,205 @@
+package games.strategy.engine.framework.ui;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+
+import games.strategy.engine.ClientContext;
+import games.strategy.engine.ClientFileSystemHelper;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import lombok.extern.java.Log;
+
+/**
+ * An on-disk catalog of the games found in each map file, so the game chooser only has to parse the map files that
+ * are new or changed since it last ran.
+ *
+ * <p>
+ * A map file is either a map zip or a game XML file of an unzipped map. Each catalog entry is keyed by the path of the
+ * map file and remembers the modification time and length of the file when it was parsed. The whole catalog is
+ * discarded when it was written by another engine version, because the engine version determines which games can be
+ * parsed.
+ * </p>
+ */
+@Log
+final class MapCatalog {
+  private static final int FORMAT_VERSION = 1;
+  private static final String FILE_NAME = "mapCatalog.dat";
+
+  private final File file;
+  private final String engineVersion;
+  @GuardedBy("this")
+  private final Map<String, MapFile> mapFilesByPath;
+  @GuardedBy("this")
+  private boolean modified = false;
+
+  private MapCatalog(final File file, final String engineVersion, final Map<String, MapFile> mapFilesByPath) {
+    this.file = file;
+    this.engineVersion = engineVersion;
+    this.mapFilesByPath = mapFilesByPath;
+  }
+
+  /**
+   * Reads the catalog of the current engine version from the user's root folder.
+   */
+  static MapCatalog load() {
+    return load(
+        new File(ClientFileSystemHelper.getUserRootFolder(), FILE_NAME),
+        ClientContext.engineVersion().toString());
+  }
+
+  /**
+   * Reads the catalog stored in the specified file. The catalog is empty if the file does not exist, cannot be read or
+   * was written by another engine version.
+   */
+  static MapCatalog load(final File file, final String engineVersion) {
+    checkNotNull(file);
+    checkNotNull(engineVersion);
+
+    final Map<String, MapFile> mapFilesByPath = new HashMap<>();
+    if (file.isFile()) {
+      try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+        if (in.readInt() == FORMAT_VERSION && in.readUTF().equals(engineVersion)) {
+          final int mapFileCount = in.readInt();
+          for (int i = 0; i < mapFileCount; i++) {
+            final String path = in.readUTF();
+            final long lastModified = in.readLong();
+            final long length = in.readLong();
+            final int gameCount = in.readInt();
+            final List<Game> games = new ArrayList<>(gameCount);
+            for (int j = 0; j < gameCount; j++) {
+              games.add(new Game(in.readUTF(), in.readUTF(), in.readUTF()));
+            }
+            mapFilesByPath.put(path, new MapFile(lastModified, length, Collections.unmodifiableList(games)));
+          }
+        }
+      } catch (final IOException e) {
+        log.log(Level.FINE, "Failed to read map catalog: " + file.getAbsolutePath(), e);
+        mapFilesByPath.clear();
+      }
+    }
+    return new MapCatalog(file, engineVersion, mapFilesByPath);
+  }
+
+  /**
+   * Returns the games found in the specified map file when it was last parsed, or empty if the map file is not in the
+   * catalog or has changed since then.
+   */
+  Optional<List<Game>> getGames(final File mapFile) {
+    checkNotNull(mapFile);
+
+    final long lastModified = mapFile.lastModified();
+    final long length = mapFile.length();
+    synchronized (this) {
+      final @Nullable MapFile entry = mapFilesByPath.get(mapFile.getAbsolutePath());
+      return (entry != null && entry.lastModified == lastModified && entry.length == length)
+          ? Optional.of(entry.games)
+          : Optional.empty();
+    }
+  }
+
+  /**
+   * Records the games found in the specified map file as of its current modification time and length.
+   */
+  void putGames(final File mapFile, final Collection<Game> games) {
+    checkNotNull(mapFile);
+    checkNotNull(games);
+
+    final MapFile entry =
+        new MapFile(mapFile.lastModified(), mapFile.length(), Collections.unmodifiableList(new ArrayList<>(games)));
+    synchronized (this) {
+      mapFilesByPath.put(mapFile.getAbsolutePath(), entry);
+      modified = true;
+    }
+  }
+
+  /**
+   * Removes the entries of all map files except the specified map files from the catalog.
+   */
+  synchronized void retainMapFiles(final Collection<File> mapFiles) {
+    final Set<String> paths = mapFiles.stream().map(File::getAbsolutePath).collect(Collectors.toSet());
+    modified |= mapFilesByPath.keySet().removeIf(path -> !paths.contains(path));
+  }
+
+  /**
+   * Writes the catalog to the file from which it was loaded if it was modified since then.
+   */
+  synchronized void save() {
+    if (!modified) {
+      return;
+    }
+    final File tempFile = new File(file.getParentFile(), file.getName() + ".tmp");
+    try {
+      Files.createDirectories(file.getParentFile().toPath());
+      try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+        out.writeInt(FORMAT_VERSION);
+        out.writeUTF(engineVersion);
+        out.writeInt(mapFilesByPath.size());
+        for (final Map.Entry<String, MapFile> entry : mapFilesByPath.entrySet()) {
+          final MapFile mapFile = entry.getValue();
+          out.writeUTF(entry.getKey());
+          out.writeLong(mapFile.lastModified);
+          out.writeLong(mapFile.length);
+          out.writeInt(mapFile.games.size());
+          for (final Game game : mapFile.games) {
+            out.writeUTF(game.getUri());
+            out.writeUTF(game.getGameName());
+            out.writeUTF(game.getMapName());
+          }
+        }
+      }
+      try {
+        Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE,
+            StandardCopyOption.REPLACE_EXISTING);
+      } catch (final AtomicMoveNotSupportedException e) {
+        Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+      }
+      modified = false;
+    } catch (final IOException e) {
+      log.log(Level.WARNING, "Failed to write map catalog: " + file.getAbsolutePath(), e);
+    } finally {
+      tempFile.delete();
+    }
+  }
+
+  /**
+   * A game found in a map file; the game notes and the rest of the game data are read from the game file at
+   * {@code uri} when needed.
+   */
+  @Value
+  static final class Game {
+    private final String uri;
+    private final String gameName;
+    private final String mapName;
+  }
+
+  @AllArgsConstructor
+  private static final class MapFile {
+    final long lastModified;
+    final long length;
+    final List<Game> games;
+  }
+}
@@ -1,18 +1,30 @@
 package games.strategy.engine.framework.ui;
 
+import java.awt.Dimension;
 import java.io.File;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.FormatStyle;
 
+import javax.swing.BorderFactory;
 import javax.swing.JFileChooser;
+import javax.swing.JLabel;
+import javax.swing.SwingConstants;
 import javax.swing.filechooser.FileFilter;
 
 import games.strategy.engine.framework.GameDataFileUtils;
+import games.strategy.engine.framework.SaveGameIndex;
+import games.strategy.engine.framework.SaveGameMetadata;
 import games.strategy.triplea.settings.ClientSetting;
 
 /**
- * A file chooser for save games. Defaults to the user's configured save game folder.
+ * A file chooser for save games. Defaults to the user's configured save game folder. A summary of the selected save
+ * game is shown next to the file list, read from the save game metadata without loading the game.
  */
 public final class SaveGameFileChooser extends JFileChooser {
   private static final long serialVersionUID = 1548668790891292106L;
+  private static final DateTimeFormatter SAVE_TIME_FORMATTER =
+      DateTimeFormatter.ofLocalizedDateTime(FormatStyle.MEDIUM).withZone(ZoneId.systemDefault());
 
   private static SaveGameFileChooser instance;
 
@@ -21,6 +33,7 @@ public final class SaveGameFileChooser extends JFileChooser {
     final File saveGamesFolder = ClientSetting.saveGamesFolderPath.getValueOrThrow().toFile();
     ensureDirectoryExists(saveGamesFolder);
     setCurrentDirectory(saveGamesFolder);
+    setAccessory(newMetadataLabel());
   }
 
   public static SaveGameFileChooser getInstance() {
@@ -39,6 +52,32 @@ public final class SaveGameFileChooser extends JFileChooser {
     }
   }
 
+  private JLabel newMetadataLabel() {
+    final JLabel label = new JLabel();
+    label.setVerticalAlignment(SwingConstants.TOP);
+    label.setBorder(BorderFactory.createEmptyBorder(0, 10, 0, 0));
+    label.setPreferredSize(new Dimension(220, 0));
+    addPropertyChangeListener(SELECTED_FILE_CHANGED_PROPERTY, e -> {
+      final File file = (File) e.getNewValue();
+      label.setText((file == null || !file.isFile())
+          ? ""
+          : SaveGameIndex.getInstance().getMetadata(file)
+              .map(SaveGameFileChooser::formatMetadata)
+              .orElse("<html>No summary available for this save game.</html>"));
+    });
+    return label;
+  }
+
+  private static String formatMetadata(final SaveGameMetadata metadata) {
+    return "<html>"
+        + "<b>" + metadata.getGameName() + "</b><br>"
+        + "Round " + metadata.getRound() + ": " + metadata.getStepName() + "<br><br>"
+        + "Players: " + String.join(", ", metadata.getPlayerNames()) + "<br><br>"
+        + "Saved: " + SAVE_TIME_FORMATTER.format(metadata.getSaveTime()) + "<br>"
+        + "Engine: " + metadata.getEngineVersion()
+        + "</html>";
+  }
+
   private static FileFilter newGameDataFileFilter() {
     return new FileFilter() {
       @Override
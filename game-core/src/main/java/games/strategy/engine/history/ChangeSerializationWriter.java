@@ -11,6 +11,10 @@ class ChangeSerializationWriter implements SerializationWriter {
     this.change = change;
   }
 
+  Change getChange() {
+    return change;
+  }
+
   @Override
   public void write(final HistoryWriter writer) {
     writer.addChange(change);
@@ -1,19 +1,27 @@
 package games.strategy.engine.history;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Enumeration;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
 
 import javax.swing.SwingUtilities;
 import javax.swing.tree.DefaultMutableTreeNode;
 import javax.swing.tree.DefaultTreeModel;
+import javax.swing.tree.MutableTreeNode;
 
 import games.strategy.engine.data.Change;
 import games.strategy.engine.data.CompositeChange;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerId;
 import games.strategy.triplea.ui.history.HistoryPanel;
+import lombok.extern.java.Log;
 
 /**
  * A history of the game.
@@ -26,12 +34,32 @@ import games.strategy.triplea.ui.history.HistoryPanel;
  * Round - the current round in the game, eg 1, 2, 3
  * Step - the current step, eg Britian Combat Move
  * Event - an event that happened in the game, eg Russia buys 8 inf.
+ *
+ * <p>
+ * Completed rounds are also held as {@link HistorySegment}s, which is how they are saved. A history read from a save
+ * game only contains the nodes and changes of its last round until the rest of the history is needed, e.g. to show or
+ * navigate it; the segments of the earlier rounds are then loaded.
+ * </p>
+ *
+ * <p>
+ * Methods that lock both the game data and the monitor of this history acquire the game data lock first, since saving
+ * the game holds the game data read lock while it serializes this history.
+ * </p>
  */
+@Log
 public class History extends DefaultTreeModel {
   private static final long serialVersionUID = -1769876896869L;
 
   private final HistoryWriter writer = new HistoryWriter(this);
   private final List<Change> changes = new ArrayList<>();
+  private final HistoryKeyframes keyframes = new HistoryKeyframes();
+  private final List<HistorySegment> segments = new ArrayList<>();
+  // the compacted segments to save in place of the segments, see compactSegments()
+  private final Map<HistorySegment, HistorySegment> compactedSegments = new IdentityHashMap<>();
+  // the number of children of the root node whose history is held by the segments
+  private int segmentedRootChildCount = 0;
+  // when false, the tree and the changes of the segments have not been loaded; the changes are null placeholders
+  private volatile boolean segmentsLoaded = true;
   private final GameData gameData;
   private HistoryNode currentNode;
   private HistoryPanel panel = null;
@@ -41,6 +69,18 @@ public class History extends DefaultTreeModel {
     gameData = data;
   }
 
+  /**
+   * Creates a history whose earliest rounds are held by the specified segments, which are loaded when needed.
+   */
+  History(final GameData data, final List<HistorySegment> segments) {
+    this(data);
+    if (!segments.isEmpty()) {
+      this.segments.addAll(segments);
+      segmentsLoaded = false;
+      changes.addAll(Collections.nCopies(getSegmentedChangeCount(), null));
+    }
+  }
+
   private void assertCorrectThread() {
     if (gameData.areChangesOnlyInSwingEventThread() && !SwingUtilities.isEventDispatchThread()) {
       throw new IllegalStateException("Wrong thread");
@@ -68,9 +108,165 @@ public class History extends DefaultTreeModel {
     return Optional.empty();
   }
 
+  /**
+   * Returns the last node of the history. The segments of the history are not loaded, since the last round is never
+   * held by a segment.
+   */
   public HistoryNode getLastNode() {
     assertCorrectThread();
-    return getLastChildInternal((HistoryNode) getRoot());
+    return getLastChildInternal(getRootNode());
+  }
+
+  /**
+   * Returns the root node, loading the segments of the history first.
+   */
+  @Override
+  public Object getRoot() {
+    loadSegments();
+    return super.getRoot();
+  }
+
+  /**
+   * Returns the root node without loading the segments of the history; only for appending to the history.
+   */
+  HistoryNode getRootNode() {
+    return (HistoryNode) root;
+  }
+
+  private void loadSegments() {
+    if (segmentsLoaded) {
+      return;
+    }
+    gameData.acquireWriteLock();
+    try {
+      synchronized (this) {
+        loadSegmentsInternal();
+      }
+    } finally {
+      gameData.releaseWriteLock();
+    }
+  }
+
+  private void loadSegmentsInternal() {
+    if (segmentsLoaded) {
+      return;
+    }
+    try {
+      final History loadedHistory = new History(gameData);
+      for (final HistorySegment segment : segments) {
+        for (final SerializationWriter writer : segment.readWriters(gameData)) {
+          writer.write(loadedHistory.getHistoryWriter());
+        }
+      }
+      final int loadedChangeCount = getSegmentedChangeCount();
+      for (int i = 0; i < loadedChangeCount; i++) {
+        changes.set(i, loadedHistory.changes.get(i));
+      }
+      final HistoryNode loadedRoot = loadedHistory.getRootNode();
+      closeLastNodes(loadedRoot, loadedChangeCount);
+      final int[] childIndices = new int[loadedRoot.getChildCount()];
+      for (int i = 0; i < childIndices.length; i++) {
+        getRootNode().insert((MutableTreeNode) loadedRoot.getChildAt(0), i);
+        childIndices[i] = i;
+      }
+      segmentedRootChildCount += childIndices.length;
+      segmentsLoaded = true;
+      nodesWereInserted(root, childIndices);
+    } catch (final IOException e) {
+      throw new IllegalStateException("Failed to load history", e);
+    }
+  }
+
+  /**
+   * Ends the last round and event of a loaded segment where the following round starts, as the history writer did
+   * when the following round was started.
+   */
+  private static void closeLastNodes(final HistoryNode root, final int changeEndIndex) {
+    HistoryNode node = root;
+    while (node.getChildCount() > 0) {
+      node = (HistoryNode) node.getLastChild();
+      if ((node instanceof Round || node instanceof Event)
+          && ((IndexedHistoryNode) node).getChangeEndIndex() == -1) {
+        ((IndexedHistoryNode) node).setChangeEndIndex(changeEndIndex);
+      }
+    }
+  }
+
+  /**
+   * Returns the segments to save the history of all completed rounds with, creating the segments of the rounds that
+   * were completed since the last call.
+   */
+  synchronized List<HistorySegment> getSegments() {
+    createSegments();
+    return segments.stream()
+        .map(segment -> compactedSegments.getOrDefault(segment, segment))
+        .collect(Collectors.toList());
+  }
+
+  private void createSegments() {
+    final HistoryNode rootNode = getRootNode();
+    while (segmentedRootChildCount < rootNode.getChildCount() - 1) {
+      final int changeEndIndex =
+          ((IndexedHistoryNode) rootNode.getChildAt(segmentedRootChildCount + 1)).getChangeStartIndex();
+      final List<SerializationWriter> writers = SegmentedSerializedHistory.getWriters(
+          Collections.singletonList((HistoryNode) rootNode.getChildAt(segmentedRootChildCount)),
+          changes,
+          getSegmentedChangeCount(),
+          changeEndIndex);
+      try {
+        segments.add(HistorySegment.of(writers));
+      } catch (final IOException e) {
+        log.log(Level.WARNING, "Failed to segment history, the remaining rounds will be saved as a whole", e);
+        break;
+      }
+      segmentedRootChildCount++;
+    }
+  }
+
+  /**
+   * Compacts the segments of the rounds before the last {@code horizon} rounds, so that the history of those rounds
+   * takes less space the next time the history is saved. The history in memory is unchanged.
+   *
+   * @return The number of bytes saved.
+   *
+   * @see HistorySegment#compact(GameData)
+   */
+  long compactSegments(final int horizon) {
+    final List<HistorySegment> candidates;
+    synchronized (this) {
+      createSegments();
+      final int roundCount = segments.size() + getRootNode().getChildCount() - segmentedRootChildCount;
+      candidates = segments.subList(0, Math.max(0, Math.min(segments.size(), roundCount - horizon))).stream()
+          .filter(segment -> !segment.isCompacted() && !compactedSegments.containsKey(segment))
+          .collect(Collectors.toList());
+    }
+    long bytesSaved = 0;
+    for (final HistorySegment segment : candidates) {
+      final HistorySegment compactedSegment;
+      try {
+        compactedSegment = segment.compact(gameData);
+      } catch (final IOException e) {
+        log.log(Level.WARNING, "Failed to compact history", e);
+        continue;
+      }
+      synchronized (this) {
+        // the segment may have been discarded in the meantime
+        if (segments.stream().anyMatch(s -> s == segment)) {
+          final boolean smaller = compactedSegment.getSize() < segment.getSize();
+          compactedSegments.put(segment, smaller ? compactedSegment : segment);
+          bytesSaved += smaller ? segment.getSize() - compactedSegment.getSize() : 0;
+        }
+      }
+    }
+    return bytesSaved;
+  }
+
+  synchronized int getSegmentedRootChildCount() {
+    return segmentedRootChildCount;
+  }
+
+  synchronized int getSegmentedChangeCount() {
+    return segments.stream().mapToInt(HistorySegment::getChangeCount).sum();
   }
 
   private HistoryNode getLastChildInternal(final HistoryNode node) {
@@ -101,31 +297,47 @@ public class History extends DefaultTreeModel {
 
   public Change getDelta(final HistoryNode start, final HistoryNode end) {
     assertCorrectThread();
+    loadSegments();
     final int firstChange = getLastChange(start);
     final int lastChange = getLastChange(end);
     if (firstChange == lastChange) {
       return null;
     }
-    final List<Change> deltaChanges =
-        changes.subList(Math.min(firstChange, lastChange), Math.max(firstChange, lastChange));
+    final List<Change> deltaChanges = keyframes.getChanges(
+        changes, getKeyframeIndices(), Math.min(firstChange, lastChange), Math.max(firstChange, lastChange));
     final Change compositeChange = new CompositeChange(deltaChanges);
     return (lastChange >= firstChange) ? compositeChange : compositeChange.invert();
   }
 
+  private List<Integer> getKeyframeIndices() {
+    final List<Integer> keyframeIndices = new ArrayList<>();
+    final HistoryNode root = (HistoryNode) getRoot();
+    for (int i = 0; i < root.getChildCount(); i++) {
+      final Object child = root.getChildAt(i);
+      if (child instanceof Round) {
+        keyframeIndices.add(((Round) child).getChangeStartIndex());
+      }
+    }
+    return keyframeIndices;
+  }
+
   /**
-   * Changes the game state to reflect the historical state at {@code node}.
+   * Changes the game state to reflect the historical state at {@code node}. Rounds of history that lie entirely
+   * between the current node and {@code node} are crossed by performing their compacted changes.
    */
-  public synchronized void gotoNode(final HistoryNode node) {
+  public void gotoNode(final HistoryNode node) {
     assertCorrectThread();
     getGameData().acquireWriteLock();
     try {
-      if (currentNode == null) {
-        currentNode = getLastNode();
-      }
-      final Change dataChange = getDelta(currentNode, node);
-      currentNode = node;
-      if (dataChange != null) {
-        gameData.performChange(dataChange);
+      synchronized (this) {
+        if (currentNode == null) {
+          currentNode = getLastNode();
+        }
+        final Change dataChange = getDelta(currentNode, node);
+        currentNode = node;
+        if (dataChange != null) {
+          gameData.performChange(dataChange);
+        }
       }
     } finally {
       getGameData().releaseWriteLock();
@@ -136,53 +348,90 @@ public class History extends DefaultTreeModel {
    * Changes the game state to reflect the historical state at {@code removeAfterNode}, and then removes all changes
    * that occurred after this node.
    */
-  public synchronized void removeAllHistoryAfterNode(final HistoryNode removeAfterNode) {
+  public void removeAllHistoryAfterNode(final HistoryNode removeAfterNode) {
     gotoNode(removeAfterNode);
     assertCorrectThread();
     getGameData().acquireWriteLock();
     try {
-      final int lastChange = getLastChange(removeAfterNode) + 1;
-      while (changes.size() > lastChange) {
-        changes.remove(lastChange);
-      }
-      final Enumeration<?> enumeration = ((DefaultMutableTreeNode) this.getRoot()).preorderEnumeration();
-      enumeration.nextElement();
-      boolean startRemoving = false;
-      final List<HistoryNode> nodesToRemove = new ArrayList<>();
-      while (enumeration.hasMoreElements()) {
-        final HistoryNode node = (HistoryNode) enumeration.nextElement();
-        if (node instanceof IndexedHistoryNode) {
-          final int index = ((IndexedHistoryNode) node).getChangeStartIndex();
-          if (index >= lastChange) {
-            startRemoving = true;
-          }
-          if (startRemoving) {
-            nodesToRemove.add(node);
+      synchronized (this) {
+        final int lastChange = getLastChange(removeAfterNode) + 1;
+        while (changes.size() > lastChange) {
+          changes.remove(lastChange);
+        }
+        keyframes.invalidateFrom(lastChange);
+        final Enumeration<?> enumeration = ((DefaultMutableTreeNode) this.getRoot()).preorderEnumeration();
+        enumeration.nextElement();
+        boolean startRemoving = false;
+        final List<HistoryNode> nodesToRemove = new ArrayList<>();
+        while (enumeration.hasMoreElements()) {
+          final HistoryNode node = (HistoryNode) enumeration.nextElement();
+          if (node instanceof IndexedHistoryNode) {
+            final int index = ((IndexedHistoryNode) node).getChangeStartIndex();
+            if (index >= lastChange) {
+              startRemoving = true;
+            }
+            if (startRemoving) {
+              nodesToRemove.add(node);
+            }
           }
         }
-      }
-      while (!nodesToRemove.isEmpty()) {
-        this.removeNodeFromParent(nodesToRemove.remove(0));
+        while (!nodesToRemove.isEmpty()) {
+          this.removeNodeFromParent(nodesToRemove.remove(0));
+        }
+        discardSegmentsAfter(lastChange);
       }
     } finally {
       getGameData().releaseWriteLock();
     }
   }
 
-  synchronized void changeAdded(final Change change) {
-    changes.add(change);
-    if (currentNode == null) {
-      return;
+  private void discardSegmentsAfter(final int changeIndex) {
+    // the last round is never segmented, since it may still be written to
+    while (!segments.isEmpty()
+        && (getSegmentedChangeCount() > changeIndex || segmentedRootChildCount >= getRootNode().getChildCount())) {
+      compactedSegments.remove(segments.remove(segments.size() - 1));
+      segmentedRootChildCount--;
+    }
+  }
+
+  void changeAdded(final Change change) {
+    gameData.acquireWriteLock();
+    try {
+      synchronized (this) {
+        changes.add(change);
+        if (currentNode == null) {
+          return;
+        }
+        if (currentNode == getLastNode()) {
+          gameData.performChange(change);
+        }
+      }
+    } finally {
+      gameData.releaseWriteLock();
     }
-    if (currentNode == getLastNode()) {
-      gameData.performChange(change);
+  }
+
+  /**
+   * Replays the records of writes made to another copy of this history, as received by a
+   * {@link HistoryWriter#setRecorder(java.util.function.Consumer) recorder}, and performs the recorded changes on the
+   * game data. The records must start where this copy of the history ends.
+   */
+  public void replay(final List<SerializationWriter> records) {
+    for (final SerializationWriter record : records) {
+      if (record instanceof ChangeSerializationWriter) {
+        gameData.performChange(((ChangeSerializationWriter) record).getChange());
+      }
+      record.write(writer);
     }
   }
 
   private Object writeReplace() {
-    return new SerializedHistory(this, gameData, changes);
+    return new SegmentedSerializedHistory(this, gameData, changes);
   }
 
+  /**
+   * Returns the changes of this history; the changes of segments that have not been loaded are {@code null}.
+   */
   List<Change> getChanges() {
     return changes;
   }
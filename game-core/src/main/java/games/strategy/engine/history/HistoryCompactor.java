@@ -0,0 +1,54 @@
+package games.strategy.engine.history;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import lombok.extern.java.Log;
+
+/**
+ * Compacts the history of completed rounds in the background, so that long games save and load faster. Only the
+ * saved form of the history is compacted: every history node is kept, but the changes made during each step of a
+ * compacted round are merged into a single change.
+ *
+ * @see History#compactSegments(int)
+ */
+@Log
+public final class HistoryCompactor {
+  private final ExecutorService executor = Executors.newSingleThreadExecutor(
+      new ThreadFactoryBuilder()
+          .setDaemon(true)
+          .setNameFormat("History Compactor")
+          .build());
+  private final AtomicLong totalBytesSaved = new AtomicLong();
+
+  /**
+   * Compacts, in the background, the history of the rounds before the last {@code horizon} rounds that has not been
+   * compacted yet.
+   */
+  public void compact(final History history, final int horizon) {
+    checkNotNull(history);
+    checkArgument(horizon > 0, "horizon must be positive");
+
+    executor.execute(() -> {
+      final long bytesSaved = history.compactSegments(horizon);
+      if (bytesSaved > 0) {
+        log.info(String.format("Compacted history, saving %d bytes (%d bytes in total)",
+            bytesSaved, totalBytesSaved.addAndGet(bytesSaved)));
+      }
+    });
+  }
+
+  public long getTotalBytesSaved() {
+    return totalBytesSaved.get();
+  }
+
+  public void shutDown() {
+    executor.shutdownNow();
+  }
+}
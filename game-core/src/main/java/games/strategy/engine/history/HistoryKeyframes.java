@@ -0,0 +1,127 @@
+package games.strategy.engine.history;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.concurrent.GuardedBy;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.changefactory.ChangeCompactor;
+import lombok.AllArgsConstructor;
+
+/**
+ * Keyframes placed at the round boundaries of a history. The changes made between two consecutive keyframes are
+ * compacted into a single change by {@link ChangeCompactor}, so navigating across many rounds of history performs one
+ * compacted change per round instead of every change made during those rounds.
+ *
+ * <p>
+ * The compacted changes are computed the first time navigation crosses them and are kept within a budget, measured in
+ * units and other elementary changes; the least recently used ones are evicted first.
+ * </p>
+ */
+final class HistoryKeyframes {
+  @VisibleForTesting
+  static final int DEFAULT_BUDGET = 250_000;
+
+  private final int budget;
+  @GuardedBy("this")
+  private final Map<Integer, Span> spansByStartIndex = new LinkedHashMap<>(16, 0.75f, true);
+  @GuardedBy("this")
+  private int size = 0;
+
+  HistoryKeyframes() {
+    this(DEFAULT_BUDGET);
+  }
+
+  @VisibleForTesting
+  HistoryKeyframes(final int budget) {
+    this.budget = budget;
+  }
+
+  /**
+   * Returns changes equivalent to performing {@code changes.subList(fromIndex, toIndex)} in order, replacing the
+   * changes between consecutive keyframes with their compacted form.
+   *
+   * @param keyframeIndices The change indices of the keyframes in ascending order.
+   */
+  synchronized List<Change> getChanges(
+      final List<Change> changes,
+      final List<Integer> keyframeIndices,
+      final int fromIndex,
+      final int toIndex) {
+    checkArgument(fromIndex <= toIndex, "fromIndex must not be greater than toIndex");
+
+    final List<Change> result = new ArrayList<>();
+    int index = fromIndex;
+    for (int i = 0; i + 1 < keyframeIndices.size(); i++) {
+      final int startIndex = keyframeIndices.get(i);
+      final int endIndex = keyframeIndices.get(i + 1);
+      if (startIndex >= index && endIndex <= toIndex && startIndex < endIndex) {
+        result.addAll(changes.subList(index, startIndex));
+        result.add(getCompactedChange(changes, startIndex, endIndex));
+        index = endIndex;
+      }
+    }
+    result.addAll(changes.subList(index, toIndex));
+    return result;
+  }
+
+  private Change getCompactedChange(final List<Change> changes, final int startIndex, final int endIndex) {
+    final Span cachedSpan = spansByStartIndex.get(startIndex);
+    if (cachedSpan != null && cachedSpan.endIndex == endIndex) {
+      return cachedSpan.change;
+    }
+
+    final Change change = ChangeCompactor.compact(changes.subList(startIndex, endIndex));
+    final int changeSize = ChangeCompactor.getSize(change);
+    if (changeSize <= budget) {
+      put(startIndex, new Span(endIndex, change, changeSize));
+    }
+    return change;
+  }
+
+  private void put(final int startIndex, final Span span) {
+    final Span replacedSpan = spansByStartIndex.put(startIndex, span);
+    if (replacedSpan != null) {
+      size -= replacedSpan.size;
+    }
+    size += span.size;
+    for (final Iterator<Span> it = spansByStartIndex.values().iterator(); size > budget && it.hasNext();) {
+      size -= it.next().size;
+      it.remove();
+    }
+  }
+
+  /**
+   * Discards the compacted changes that include any change at or after the specified index; called when the history
+   * is truncated.
+   */
+  synchronized void invalidateFrom(final int changeIndex) {
+    for (final Iterator<Map.Entry<Integer, Span>> it = spansByStartIndex.entrySet().iterator(); it.hasNext();) {
+      final Span span = it.next().getValue();
+      if (span.endIndex > changeIndex) {
+        size -= span.size;
+        it.remove();
+      }
+    }
+  }
+
+  @VisibleForTesting
+  synchronized int getSize() {
+    return size;
+  }
+
+  @AllArgsConstructor
+  private static final class Span {
+    final int endIndex;
+    final Change change;
+    final int size;
+  }
+}
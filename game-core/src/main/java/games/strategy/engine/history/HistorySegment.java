@@ -0,0 +1,133 @@
+package games.strategy.engine.history;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameObjectInputStream;
+import games.strategy.engine.data.GameObjectOutputStream;
+import games.strategy.engine.data.changefactory.ChangeCompactor;
+import games.strategy.engine.framework.GameObjectStreamFactory;
+import games.strategy.io.IoUtils;
+
+/**
+ * The history of a completed round, held as the compressed serialized writers that rebuild it.
+ *
+ * <p>
+ * The writers are serialized with a game object stream, like changes sent over the network, so that they only refer
+ * to the game data by name and can be read back into the game data they belong to at any later time.
+ * </p>
+ */
+final class HistorySegment implements Serializable {
+  private static final long serialVersionUID = -3052698328727361957L;
+
+  private final byte[] compressedWriters;
+  private final int changeCount;
+  private final boolean compacted;
+
+  private HistorySegment(final byte[] compressedWriters, final int changeCount, final boolean compacted) {
+    this.compressedWriters = compressedWriters;
+    this.changeCount = changeCount;
+    this.compacted = compacted;
+  }
+
+  static HistorySegment of(final List<SerializationWriter> writers) throws IOException {
+    return of(writers, false);
+  }
+
+  private static HistorySegment of(final List<SerializationWriter> writers, final boolean compacted)
+      throws IOException {
+    final int changeCount = (int) writers.stream().filter(ChangeSerializationWriter.class::isInstance).count();
+    final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    try {
+      final byte[] compressedWriters = IoUtils.writeToMemory(os -> {
+        try (ObjectOutputStream out = new GameObjectOutputStream(new DeflaterOutputStream(os, deflater))) {
+          out.writeObject(new ArrayList<>(writers));
+        }
+      });
+      return new HistorySegment(compressedWriters, changeCount, compacted);
+    } finally {
+      deflater.end();
+    }
+  }
+
+  /**
+   * Returns the number of changes made during the round.
+   */
+  int getChangeCount() {
+    return changeCount;
+  }
+
+  /**
+   * Returns the size of this segment in bytes.
+   */
+  int getSize() {
+    return compressedWriters.length;
+  }
+
+  boolean isCompacted() {
+    return compacted;
+  }
+
+  /**
+   * Returns a segment with the same history nodes as this segment, but with the changes made during each step merged
+   * into a single change by {@link ChangeCompactor}.
+   *
+   * <p>
+   * The merged change of a step is made at the start of the step, before its first event. Navigating to the step thus
+   * still shows the game as it was before the step, while navigating to any of its events shows the game as it was
+   * after the step.
+   * </p>
+   */
+  HistorySegment compact(final GameData data) throws IOException {
+    final List<SerializationWriter> compactedWriters = new ArrayList<>();
+    final List<Change> stepChanges = new ArrayList<>();
+    int stepChangesIndex = -1;
+    for (final SerializationWriter writer : readWriters(data)) {
+      if (writer instanceof ChangeSerializationWriter && stepChangesIndex != -1) {
+        stepChanges.add(((ChangeSerializationWriter) writer).getChange());
+        continue;
+      }
+      if (writer instanceof StepHistorySerializer || writer instanceof RoundHistorySerializer) {
+        addCompactedChange(compactedWriters, stepChangesIndex, stepChanges);
+        stepChangesIndex = (writer instanceof StepHistorySerializer) ? compactedWriters.size() + 1 : -1;
+      }
+      compactedWriters.add(writer);
+    }
+    addCompactedChange(compactedWriters, stepChangesIndex, stepChanges);
+    return of(compactedWriters, true);
+  }
+
+  private static void addCompactedChange(
+      final List<SerializationWriter> writers,
+      final int index,
+      final List<Change> changes) {
+    if (index != -1 && !changes.isEmpty()) {
+      final Change compactedChange = ChangeCompactor.compact(changes);
+      if (!compactedChange.isEmpty()) {
+        writers.add(index, new ChangeSerializationWriter(compactedChange));
+      }
+    }
+    changes.clear();
+  }
+
+  @SuppressWarnings("unchecked")
+  List<SerializationWriter> readWriters(final GameData data) throws IOException {
+    return IoUtils.readFromMemory(compressedWriters, is -> {
+      try (ObjectInputStream in =
+          new GameObjectInputStream(new GameObjectStreamFactory(data), new InflaterInputStream(is))) {
+        return (List<SerializationWriter>) in.readObject();
+      } catch (final ClassNotFoundException e) {
+        throw new IOException(e);
+      }
+    });
+  }
+}
@@ -1,7 +1,9 @@
 package games.strategy.engine.history;
 
 import java.io.Serializable;
+import java.util.function.Consumer;
 
+import javax.annotation.Nullable;
 import javax.swing.SwingUtilities;
 
 import games.strategy.engine.data.Change;
@@ -17,11 +19,29 @@ public class HistoryWriter implements Serializable {
 
   private final History history;
   private HistoryNode current;
+  // receives a record of every write, see setRecorder()
+  @Nullable
+  private transient Consumer<SerializationWriter> recorder;
 
   public HistoryWriter(final History history) {
     this.history = history;
   }
 
+  /**
+   * Sets the consumer that receives a record of every subsequent write to the history, or {@code null} to stop
+   * recording. Replaying the records with {@link History#replay} on a copy of the history as it was when
+   * recording started brings the copy and its game data up to date.
+   */
+  public synchronized void setRecorder(@Nullable final Consumer<SerializationWriter> recorder) {
+    this.recorder = recorder;
+  }
+
+  private synchronized void record(final SerializationWriter record) {
+    if (recorder != null) {
+      recorder.accept(record);
+    }
+  }
+
   private void assertCorrectThread() {
     if (history.getGameData().areChangesOnlyInSwingEventThread() && !SwingUtilities.isEventDispatchThread()) {
       throw new IllegalStateException("Wrong thread");
@@ -51,6 +71,7 @@ public class HistoryWriter implements Serializable {
     }
     final Step currentStep = new Step(stepName, delegateName, player, history.getChanges().size(), stepDisplayName);
     addToAndSetCurrent(currentStep);
+    record(currentStep.getWriter());
   }
 
   /**
@@ -69,8 +90,9 @@ public class HistoryWriter implements Serializable {
       closeCurrent();
     }
     final Round currentRound = new Round(round, history.getChanges().size());
-    current = (HistoryNode) history.getRoot();
+    current = history.getRootNode();
     addToAndSetCurrent(currentRound);
+    record(currentRound.getWriter());
   }
 
   private void closeCurrent() {
@@ -122,6 +144,7 @@ public class HistoryWriter implements Serializable {
     }
     final Event event = new Event(eventName, history.getChanges().size());
     addToAndSetCurrent(event);
+    record(event.getWriter());
   }
 
   private boolean isCurrentEvent() {
@@ -146,6 +169,7 @@ public class HistoryWriter implements Serializable {
       startEvent("Filler event for child: " + node);
     }
     addToCurrent(node);
+    record(node.getWriter());
   }
 
   /**
@@ -159,6 +183,7 @@ public class HistoryWriter implements Serializable {
       startEvent("Filler event for change: " + change);
     }
     history.changeAdded(change);
+    record(new ChangeSerializationWriter(change));
   }
 
   /**
@@ -177,5 +202,6 @@ public class HistoryWriter implements Serializable {
       history.getGameData().releaseWriteLock();
     }
     history.goToEnd();
+    record(new RenderingDataWriter(details));
   }
 }
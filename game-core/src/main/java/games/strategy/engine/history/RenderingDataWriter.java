@@ -0,0 +1,16 @@
+package games.strategy.engine.history;
+
+class RenderingDataWriter implements SerializationWriter {
+  private static final long serialVersionUID = -4474357632453474405L;
+
+  private final Object renderingData;
+
+  RenderingDataWriter(final Object renderingData) {
+    this.renderingData = renderingData;
+  }
+
+  @Override
+  public void write(final HistoryWriter writer) {
+    writer.setRenderingData(renderingData);
+  }
+}
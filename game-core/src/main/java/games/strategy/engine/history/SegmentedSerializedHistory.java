@@ -0,0 +1,86 @@
+package games.strategy.engine.history;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.GameData;
+
+/**
+ * Stores a {@link History} in a save game, since DefaultTreeModel is not serializable across jdk versions.
+ *
+ * <p>
+ * The completed rounds are stored as {@link HistorySegment}s, which are only loaded when the history is needed; the
+ * writers of the last round are replayed when the history is read.
+ * </p>
+ *
+ * <p>
+ * This class replaces {@link SerializedHistory} under a different name, so engines that only know the unsegmented
+ * history fail to load save games with segments instead of silently dropping all but the last round.
+ * </p>
+ */
+class SegmentedSerializedHistory implements Serializable {
+  private static final long serialVersionUID = 4466372049812286734L;
+
+  private final List<SerializationWriter> writers = new ArrayList<>();
+  private final GameData gameData;
+  private final List<HistorySegment> segments;
+
+  SegmentedSerializedHistory(final History history, final GameData data, final List<Change> changes) {
+    gameData = data;
+    synchronized (history) {
+      segments = history.getSegments();
+      final HistoryNode root = history.getRootNode();
+      final List<HistoryNode> unsegmentedNodes = new ArrayList<>();
+      for (int i = history.getSegmentedRootChildCount(); i < root.getChildCount(); i++) {
+        unsegmentedNodes.add((HistoryNode) root.getChildAt(i));
+      }
+      writers.addAll(getWriters(unsegmentedNodes, changes, history.getSegmentedChangeCount(), changes.size()));
+    }
+  }
+
+  /**
+   * Returns the writers that rebuild the specified nodes, including their descendants, interleaved with the changes
+   * from {@code fromChangeIndex} until {@code toChangeIndex}.
+   */
+  static List<SerializationWriter> getWriters(
+      final List<HistoryNode> nodes,
+      final List<Change> changes,
+      final int fromChangeIndex,
+      final int toChangeIndex) {
+    final List<SerializationWriter> writers = new ArrayList<>();
+    int changeIndex = fromChangeIndex;
+    for (final HistoryNode node : nodes) {
+      final Enumeration<?> enumeration = node.preorderEnumeration();
+      while (enumeration.hasMoreElements()) {
+        final HistoryNode descendant = (HistoryNode) enumeration.nextElement();
+        // write the changes to the start of the node
+        if (descendant instanceof IndexedHistoryNode) {
+          while (changeIndex < ((IndexedHistoryNode) descendant).getChangeStartIndex()) {
+            writers.add(new ChangeSerializationWriter(changes.get(changeIndex)));
+            changeIndex++;
+          }
+        }
+        // write the node itself
+        writers.add(descendant.getWriter());
+      }
+    }
+    // write out remaining changes
+    while (changeIndex < toChangeIndex) {
+      writers.add(new ChangeSerializationWriter(changes.get(changeIndex)));
+      changeIndex++;
+    }
+    return writers;
+  }
+
+  public Object readResolve() {
+    final History history = new History(gameData, segments);
+    final HistoryWriter historyWriter = history.getHistoryWriter();
+    for (final SerializationWriter element : writers) {
+      element.write(historyWriter);
+    }
+    return history;
+  }
+}
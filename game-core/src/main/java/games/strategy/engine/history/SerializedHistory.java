@@ -2,17 +2,21 @@ package games.strategy.engine.history;
 
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.Enumeration;
+import java.util.Collections;
 import java.util.List;
 
-import javax.swing.tree.DefaultMutableTreeNode;
+import com.google.common.annotations.VisibleForTesting;
 
-import games.strategy.engine.data.Change;
 import games.strategy.engine.data.GameData;
 
 /**
  * DefaultTreeModel is not serializable across jdk versions
  * Instead we use an instance of this class to store our data.
+ *
+ * <p>
+ * Only read from save games written before the history was segmented, which store the writers of all rounds. The
+ * history is now written as a {@link SegmentedSerializedHistory}.
+ * </p>
  */
 class SerializedHistory implements Serializable {
   private static final long serialVersionUID = -5808427923253751651L;
@@ -20,32 +24,14 @@ class SerializedHistory implements Serializable {
   private final List<SerializationWriter> writers = new ArrayList<>();
   private final GameData gameData;
 
-  SerializedHistory(final History history, final GameData data, final List<Change> changes) {
+  @VisibleForTesting
+  SerializedHistory(final GameData data, final List<SerializationWriter> writers) {
     gameData = data;
-    final Enumeration<?> enumeration = ((DefaultMutableTreeNode) history.getRoot()).preorderEnumeration();
-    enumeration.nextElement();
-    int changeIndex = 0;
-    while (enumeration.hasMoreElements()) {
-      final HistoryNode node = (HistoryNode) enumeration.nextElement();
-      // write the changes to the start of the node
-      if (node instanceof IndexedHistoryNode) {
-        while (changeIndex < ((IndexedHistoryNode) node).getChangeStartIndex()) {
-          writers.add(new ChangeSerializationWriter(changes.get(changeIndex)));
-          changeIndex++;
-        }
-      }
-      // write the node itself
-      writers.add(node.getWriter());
-    }
-    // write out remaining changes
-    while (changeIndex < changes.size()) {
-      writers.add(new ChangeSerializationWriter(changes.get(changeIndex)));
-      changeIndex++;
-    }
+    this.writers.addAll(writers);
   }
 
   public Object readResolve() {
-    final History history = new History(gameData);
+    final History history = new History(gameData, Collections.emptyList());
     final HistoryWriter historyWriter = history.getHistoryWriter();
     for (final SerializationWriter element : writers) {
       element.write(historyWriter);
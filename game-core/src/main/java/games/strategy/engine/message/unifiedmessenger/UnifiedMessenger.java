@@ -6,9 +6,12 @@ import java.io.Serializable;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.logging.Level;
 
 import org.triplea.java.Interruptibles;
@@ -52,6 +55,8 @@ public class UnifiedMessenger {
   // after the remote has invoked, the results are placed here
   // access should be synchronized on pendingLock
   private final Map<GUID, RemoteMethodCallResults> results = new HashMap<>();
+  // number of invocations sent or received per end point method, keyed by "<end point name>.<method name>"
+  private final Map<String, LongAdder> invocationCounts = new ConcurrentHashMap<>();
   // only non null for the server
   private UnifiedMessengerHub hub;
 
@@ -83,6 +88,7 @@ public class UnifiedMessenger {
    * Invoke and wait for all implementors on all vms to finish executing.
    */
   public RemoteMethodCallResults invokeAndWait(final String endPointName, final RemoteMethodCall remoteCall) {
+    countInvocation(remoteCall);
     final EndPoint local;
     synchronized (endPointMutex) {
       local = localEndPoints.get(endPointName);
@@ -130,6 +136,7 @@ public class UnifiedMessenger {
    * invoke without waiting for remote nodes to respond.
    */
   public void invoke(final String endPointName, final RemoteMethodCall call) {
+    countInvocation(call);
     // send the remote invocation
     final Invoke invoke = new HubInvoke(null, false, call);
     send(invoke, messenger.getServerNode());
@@ -238,6 +245,7 @@ public class UnifiedMessenger {
       // maybe an attempt to spoof a message
       assertIsServer(from);
       final SpokeInvoke invoke = (SpokeInvoke) msg;
+      countInvocation(invoke.call);
       final EndPoint local;
       synchronized (endPointMutex) {
         local = localEndPoints.get(invoke.call.getRemoteName());
@@ -295,6 +303,22 @@ public class UnifiedMessenger {
     }
   }
 
+  private void countInvocation(final RemoteMethodCall call) {
+    invocationCounts
+        .computeIfAbsent(call.getRemoteName() + "." + call.getMethodName(), key -> new LongAdder())
+        .increment();
+  }
+
+  /**
+   * Returns the number of remote invocations sent or received by this node for each end point method, keyed by
+   * "{@code <end point name>.<method name>}".
+   */
+  public Map<String, Long> getInvocationCounts() {
+    final Map<String, Long> counts = new TreeMap<>();
+    invocationCounts.forEach((method, count) -> counts.put(method, count.sum()));
+    return counts;
+  }
+
   private void assertIsServer(final INode from) {
     Preconditions.checkState(
         from.equals(messenger.getServerNode()), "Not from server!  Instead from:" + from);
@@ -16,7 +16,18 @@ public final class PlainRandomSource implements IRandomSource {
   private final Object lock = new Object();
 
   @GuardedBy("lock")
-  private final RandomGenerator random = new MersenneTwister();
+  private final RandomGenerator random;
+
+  public PlainRandomSource() {
+    random = new MersenneTwister();
+  }
+
+  /**
+   * Creates a random source that always returns the same sequence of numbers for the specified seed.
+   */
+  public PlainRandomSource(final long seed) {
+    random = new MersenneTwister(seed);
+  }
 
   @Override
   public int[] getRandom(final int max, final int count, final String annotation) {
@@ -3,6 +3,8 @@ package games.strategy.engine.random;
 import java.util.HashMap;
 import java.util.Map;
 
+import javax.annotation.Nullable;
+
 import org.triplea.java.collections.IntegerMap;
 
 import games.strategy.engine.data.PlayerId;
@@ -19,6 +21,7 @@ import games.strategy.engine.message.IRemoteMessenger;
 public class RandomStats implements IRandomStats {
   private final IRemoteMessenger remoteMessenger;
   private final Map<PlayerId, IntegerMap<Integer>> randomStats = new HashMap<>();
+  private @Nullable Runnable pendingImport;
 
   public RandomStats(final IRemoteMessenger remoteMessenger) {
     this.remoteMessenger = remoteMessenger;
@@ -50,8 +53,28 @@ public class RandomStats implements IRandomStats {
     randomStats.put((diceType == DiceType.COMBAT ? player : null), map);
   }
 
+  /**
+   * Sets the import of the random numbers generated before the game was started, e.g. those in the history of a loaded
+   * save game, which is run when the statistics are first asked for. The import adds the random numbers through
+   * {@link #addRandom(int[], PlayerId, DiceType)}.
+   */
+  public synchronized void importLazily(final Runnable importer) {
+    pendingImport = importer;
+  }
+
   @Override
-  public synchronized RandomStatsDetails getRandomStats(final int diceSides) {
-    return new RandomStatsDetails(randomStats, diceSides);
+  public RandomStatsDetails getRandomStats(final int diceSides) {
+    final @Nullable Runnable importer;
+    synchronized (this) {
+      importer = pendingImport;
+      pendingImport = null;
+    }
+    // run without holding the lock, since the import may have to wait for the game data
+    if (importer != null) {
+      importer.run();
+    }
+    synchronized (this) {
+      return new RandomStatsDetails(randomStats, diceSides);
+    }
   }
 }
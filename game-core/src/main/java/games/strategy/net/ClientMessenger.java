@@ -10,7 +10,9 @@ import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.nio.channels.SocketChannel;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.logging.Level;
@@ -28,6 +30,7 @@ import games.strategy.engine.message.RemoteName;
 import games.strategy.net.nio.ClientQuarantineConversation;
 import games.strategy.net.nio.NioSocket;
 import games.strategy.net.nio.NioSocketListener;
+import games.strategy.net.nio.NodeStatistics;
 import games.strategy.net.nio.QuarantineConversation;
 import lombok.extern.java.Log;
 
@@ -245,6 +248,11 @@ public class ClientMessenger implements IClientMessenger, NioSocketListener {
     return (InetSocketAddress) socketChannel.socket().getRemoteSocketAddress();
   }
 
+  @Override
+  public Map<INode, NodeStatistics> getNodeStatistics() {
+    return (nioSocket != null) ? nioSocket.getNodeStatistics() : Collections.emptyMap();
+  }
+
   @Override
   public void addConnectionChangeListener(final IConnectionChangeListener listener) {
 
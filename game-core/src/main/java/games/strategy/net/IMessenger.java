@@ -2,6 +2,9 @@ package games.strategy.net;
 
 import java.io.Serializable;
 import java.net.InetSocketAddress;
+import java.util.Map;
+
+import games.strategy.net.nio.NodeStatistics;
 
 /**
  * A simple way to connect multiple socket end points.
@@ -74,4 +77,9 @@ public interface IMessenger {
    * Remove a listener for change in connection status.
    */
   void removeConnectionChangeListener(IConnectionChangeListener listener);
+
+  /**
+   * Returns a snapshot of the network activity of each remote node this messenger is connected to.
+   */
+  Map<INode, NodeStatistics> getNodeStatistics();
 }
@@ -3,10 +3,14 @@ package games.strategy.net;
 import java.io.Serializable;
 import java.net.InetSocketAddress;
 import java.net.UnknownHostException;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
 
 import javax.annotation.Nullable;
 
+import games.strategy.net.nio.NodeStatistics;
+
 /**
  * Implementation of {@link IServerMessenger} for a local game server.
  */
@@ -62,6 +66,11 @@ public class LocalNoOpMessenger implements IServerMessenger {
     return null;
   }
 
+  @Override
+  public Map<INode, NodeStatistics> getNodeStatistics() {
+    return Collections.emptyMap();
+  }
+
   @Override
   public void setAcceptNewConnections(final boolean accept) {}
 
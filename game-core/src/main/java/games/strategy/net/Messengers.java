@@ -2,6 +2,10 @@ package games.strategy.net;
 
 import java.io.Serializable;
 import java.net.InetSocketAddress;
+import java.util.Collections;
+import java.util.Map;
+
+import javax.annotation.Nullable;
 
 import games.strategy.engine.chat.ChatController;
 import games.strategy.engine.chat.IChatChannel;
@@ -14,6 +18,7 @@ import games.strategy.engine.message.IRemoteMessenger;
 import games.strategy.engine.message.RemoteMessenger;
 import games.strategy.engine.message.RemoteName;
 import games.strategy.engine.message.unifiedmessenger.UnifiedMessenger;
+import games.strategy.net.nio.NodeStatistics;
 import lombok.ToString;
 
 /**
@@ -24,10 +29,12 @@ public class Messengers implements IMessenger, IRemoteMessenger, IChannelMesseng
   private final IMessenger messenger;
   private final IRemoteMessenger remoteMessenger;
   private final IChannelMessenger channelMessenger;
+  @Nullable
+  private final UnifiedMessenger unifiedMessenger;
 
   public Messengers(final IMessenger messenger) {
     this.messenger = messenger;
-    final UnifiedMessenger unifiedMessenger = new UnifiedMessenger(messenger);
+    unifiedMessenger = new UnifiedMessenger(messenger);
     channelMessenger = new ChannelMessenger(unifiedMessenger);
     remoteMessenger = new RemoteMessenger(unifiedMessenger);
   }
@@ -39,6 +46,7 @@ public class Messengers implements IMessenger, IRemoteMessenger, IChannelMesseng
     this.messenger = messenger;
     this.remoteMessenger = remoteMessenger;
     this.channelMessenger = channelMessenger;
+    unifiedMessenger = null;
   }
 
   // TODO: API could be improved, perhaps return an optional, and/or store exact instance types from constructor.
@@ -161,4 +169,17 @@ public class Messengers implements IMessenger, IRemoteMessenger, IChannelMesseng
   public void removeConnectionChangeListener(final IConnectionChangeListener listener) {
     messenger.removeConnectionChangeListener(listener);
   }
+
+  @Override
+  public Map<INode, NodeStatistics> getNodeStatistics() {
+    return messenger.getNodeStatistics();
+  }
+
+  /**
+   * Returns the number of remote invocations sent or received by this node for each end point method, keyed by
+   * "{@code <end point name>.<method name>}".
+   */
+  public Map<String, Long> getInvocationCounts() {
+    return (unifiedMessenger != null) ? unifiedMessenger.getInvocationCounts() : Collections.emptyMap();
+  }
 }
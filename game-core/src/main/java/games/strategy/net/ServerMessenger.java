@@ -26,6 +26,7 @@ import javax.annotation.Nullable;
 
 import games.strategy.net.nio.NioSocket;
 import games.strategy.net.nio.NioSocketListener;
+import games.strategy.net.nio.NodeStatistics;
 import games.strategy.net.nio.QuarantineConversation;
 import games.strategy.net.nio.ServerQuarantineConversation;
 import lombok.extern.java.Log;
@@ -402,6 +403,11 @@ public class ServerMessenger implements IServerMessenger, NioSocketListener {
     return node.getSocketAddress();
   }
 
+  @Override
+  public Map<INode, NodeStatistics> getNodeStatistics() {
+    return nioSocket.getNodeStatistics();
+  }
+
   @Override
   public String toString() {
     return getClass().getSimpleName() + " LocalNode:" + node + " ClientNodes:" + nodeToChannel.keySet();
@@ -55,6 +55,7 @@ class Decoder {
         }
 
         try {
+          final long startTime = System.nanoTime();
           final MessageHeader header = IoUtils.readFromMemory(data.getData(), is -> {
             try {
               return (MessageHeader) objectStreamFactory.create(is).readObject();
@@ -62,6 +63,7 @@ class Decoder {
               throw new IOException(e);
             }
           });
+          nioSocket.messageDecoded(data.getChannel(), data.size(), System.nanoTime() - startTime);
           // make sure we are still open
           final Socket s = data.getChannel().socket();
           if (!running || s == null || s.isInputShutdown()) {
@@ -0,0 +1,60 @@
+package games.strategy.net.nio;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A bounded pool of direct byte buffers of a fixed capacity.
+ *
+ * <p>
+ * Direct buffers are expensive to allocate, but can be handed to the OS without an intermediate copy. Buffers that are
+ * released while the pool is full are left to the garbage collector.
+ * </p>
+ */
+class DirectBufferPool {
+  private final int bufferCapacity;
+  private final int maxPooledBuffers;
+  private final Queue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger pooledBuffers = new AtomicInteger();
+
+  DirectBufferPool(final int bufferCapacity, final int maxPooledBuffers) {
+    checkArgument(bufferCapacity > 0, "buffer capacity must be positive");
+    checkArgument(maxPooledBuffers >= 0, "max pooled buffers must not be negative");
+    this.bufferCapacity = bufferCapacity;
+    this.maxPooledBuffers = maxPooledBuffers;
+  }
+
+  int getBufferCapacity() {
+    return bufferCapacity;
+  }
+
+  /**
+   * Returns a cleared buffer with a capacity of {@link #getBufferCapacity()}.
+   */
+  ByteBuffer acquire() {
+    final ByteBuffer buffer = buffers.poll();
+    if (buffer == null) {
+      return ByteBuffer.allocateDirect(bufferCapacity);
+    }
+    pooledBuffers.decrementAndGet();
+    buffer.clear();
+    return buffer;
+  }
+
+  /**
+   * Returns a buffer previously obtained from {@link #acquire()} to the pool. The caller must not use the buffer after
+   * this method is called.
+   */
+  void release(final ByteBuffer buffer) {
+    checkArgument(buffer.isDirect() && buffer.capacity() == bufferCapacity, "buffer was not acquired from this pool");
+    if (pooledBuffers.incrementAndGet() > maxPooledBuffers) {
+      pooledBuffers.decrementAndGet();
+      return;
+    }
+    buffers.offer(buffer);
+  }
+}
@@ -21,6 +21,7 @@ import lombok.extern.java.Log;
 @Log
 @AllArgsConstructor
 class Encoder {
+  private final NioSocket nioSocket;
   private final NioWriter writer;
   private final IObjectStreamFactory objectStreamFactory;
 
@@ -30,8 +31,10 @@ class Encoder {
       throw new IllegalArgumentException("No from node");
     }
     try {
+      final long startTime = System.nanoTime();
       final byte[] bytes = IoUtils.writeToMemory(os -> write(header, objectStreamFactory.create(os)));
-      final SocketWriteData data = new SocketWriteData(bytes, bytes.length);
+      final SocketWriteData data = new SocketWriteData(bytes, bytes.length, writer.getBufferPool());
+      nioSocket.messageEncoded(to, data.size(), System.nanoTime() - startTime);
       writer.enque(data, to);
     } catch (final IOException e) {
       // we aren't doing any I/O, just writing in memory so something is very wrong
@@ -5,6 +5,11 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import java.io.IOException;
 import java.net.Socket;
 import java.nio.channels.SocketChannel;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.logging.Level;
 
 import games.strategy.net.INode;
@@ -25,13 +30,14 @@ public class NioSocket implements ErrorReporter {
   private final NioWriter writer;
   private final NioReader reader;
   private final NioSocketListener listener;
+  private final Map<SocketChannel, ChannelCounters> channelCounters = new ConcurrentHashMap<>();
 
   public NioSocket(final IObjectStreamFactory factory, final NioSocketListener listener) {
     this.listener = listener;
     writer = new NioWriter(this);
     reader = new NioReader(this);
     decoder = new Decoder(this, reader, this, factory);
-    encoder = new Encoder(writer, factory);
+    encoder = new Encoder(this, writer, factory);
   }
 
   INode getLocalNode() {
@@ -73,6 +79,7 @@ public class NioSocket implements ErrorReporter {
     if (channel.isBlocking()) {
       throw new IllegalArgumentException("Channel is blocking");
     }
+    channelCounters.put(channel, new ChannelCounters());
     // add the decoder first, so it can quarantine the messages!
     decoder.add(channel, conversation);
     reader.add(channel);
@@ -110,9 +117,63 @@ public class NioSocket implements ErrorReporter {
     decoder.close(channel);
     writer.close(channel);
     reader.close(channel);
+    channelCounters.remove(channel);
+  }
+
+  /**
+   * Returns a snapshot of the network activity and write backlog for each connected remote node.
+   */
+  public Map<INode, NodeStatistics> getNodeStatistics() {
+    final Map<SocketChannel, WriteStatistics> writeStatistics = writer.getWriteStatistics();
+    final Map<INode, NodeStatistics> statistics = new HashMap<>();
+    channelCounters.forEach((channel, counters) -> {
+      final INode node = getRemoteNode(channel);
+      if (node != null) {
+        statistics.put(node, counters.toNodeStatistics(
+            writeStatistics.getOrDefault(channel, new WriteStatistics(0, 0, 0, 0, 0))));
+      }
+    });
+    return statistics;
+  }
+
+  void messageEncoded(final SocketChannel channel, final int bytes, final long nanos) {
+    // the counters are missing if the channel has already been closed
+    Optional.ofNullable(channelCounters.get(channel)).ifPresent(counters -> counters.messageEncoded(bytes, nanos));
+  }
+
+  void messageDecoded(final SocketChannel channel, final int bytes, final long nanos) {
+    Optional.ofNullable(channelCounters.get(channel)).ifPresent(counters -> counters.messageDecoded(bytes, nanos));
   }
 
   void messageReceived(final MessageHeader header, final SocketChannel channel) {
     listener.messageReceived(header, channel);
   }
+
+  private static final class ChannelCounters {
+    private final LongAdder bytesIn = new LongAdder();
+    private final LongAdder messagesIn = new LongAdder();
+    private final LongAdder decodeNanos = new LongAdder();
+    private final LongAdder bytesOut = new LongAdder();
+    private final LongAdder messagesOut = new LongAdder();
+    private final LongAdder encodeNanos = new LongAdder();
+
+    void messageDecoded(final int bytes, final long nanos) {
+      bytesIn.add(bytes);
+      messagesIn.increment();
+      decodeNanos.add(nanos);
+    }
+
+    void messageEncoded(final int bytes, final long nanos) {
+      bytesOut.add(bytes);
+      messagesOut.increment();
+      encodeNanos.add(nanos);
+    }
+
+    NodeStatistics toNodeStatistics(final WriteStatistics writeStatistics) {
+      return new NodeStatistics(
+          bytesIn.sum(), messagesIn.sum(), decodeNanos.sum(),
+          bytesOut.sum(), messagesOut.sum(), encodeNanos.sum(),
+          writeStatistics);
+    }
+  }
 }
@@ -1,11 +1,15 @@
 package games.strategy.net.nio;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.channels.ClosedChannelException;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
 import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -13,19 +17,49 @@ import java.util.Map;
 import java.util.Set;
 import java.util.logging.Level;
 
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+
 import lombok.extern.java.Log;
 
 /**
  * A thread that writes socket data using NIO.
  * Data is written in packets that are enqueued on our buffer.
  * Packets are sent to the sockets in the order that they are received.
+ *
+ * <p>
+ * When a socket becomes writable, as many of its queued packets as the write limits allow are written with a single
+ * gathering write, so a burst of small messages results in few system calls and TCP segments. The limits can be tuned
+ * with the system properties {@value #MAX_MESSAGES_PER_WRITE_PROPERTY}, {@value #MAX_BYTES_PER_WRITE_PROPERTY},
+ * {@value #POOLED_BUFFER_SIZE_PROPERTY} and {@value #MAX_POOLED_BUFFERS_PROPERTY}.
+ * </p>
  */
 @Log
 class NioWriter {
+  static final String MAX_MESSAGES_PER_WRITE_PROPERTY = "triplea.nio.write.maxMessages";
+  static final String MAX_BYTES_PER_WRITE_PROPERTY = "triplea.nio.write.maxBytes";
+  static final String POOLED_BUFFER_SIZE_PROPERTY = "triplea.nio.write.pooledBufferSize";
+  static final String MAX_POOLED_BUFFERS_PROPERTY = "triplea.nio.write.maxPooledBuffers";
+
+  private final int maxMessagesPerWrite = Math.max(1, Integer.getInteger(MAX_MESSAGES_PER_WRITE_PROPERTY, 64));
+  private final int maxBytesPerWrite = Math.max(1, Integer.getInteger(MAX_BYTES_PER_WRITE_PROPERTY, 256 * 1024));
+  private final DirectBufferPool bufferPool = new DirectBufferPool(
+      Math.max(16, Integer.getInteger(POOLED_BUFFER_SIZE_PROPERTY, 8 * 1024)),
+      Math.max(0, Integer.getInteger(MAX_POOLED_BUFFERS_PROPERTY, 256)));
   private final Selector selector;
   private final ErrorReporter errorReporter;
   // this is the data we are writing
-  private final Map<SocketChannel, List<SocketWriteData>> writing = new HashMap<>();
+  @GuardedBy("mutex")
+  private final Map<SocketChannel, Deque<SocketWriteData>> writing = new HashMap<>();
+  // write activity per channel
+  @GuardedBy("mutex")
+  private final Map<SocketChannel, ChannelWriteCounters> counters = new HashMap<>();
+  // the packets at the head of this queue are being written by the writer thread outside the lock, so only the writer
+  // thread may release them
+  @GuardedBy("mutex")
+  private @Nullable Deque<SocketWriteData> queueBeingWritten;
+  @GuardedBy("mutex")
+  private List<SocketWriteData> packetsBeingWritten = Collections.emptyList();
   // these are the sockets we arent selecting on, but should now
   private List<SocketChannel> socketsToWake = new ArrayList<>();
   // the writing thread and threads adding data to write synchronize on this lock
@@ -87,16 +121,15 @@ class NioWriter {
           iter.remove();
           if (key.isValid() && key.isWritable()) {
             final SocketChannel channel = (SocketChannel) key.channel();
-            final SocketWriteData packet = getData(channel);
-            if (packet != null) {
+            final List<SocketWriteData> packets = getData(channel);
+            if (!packets.isEmpty()) {
               try {
-                log.finest(() -> "writing packet:" + packet + " to:" + channel.socket().getRemoteSocketAddress());
-                final boolean done = packet.write(channel);
-                if (done) {
-                  removeLast(channel);
-                }
+                log.finest(() -> "writing packets:" + packets + " to:" + channel.socket().getRemoteSocketAddress());
+                final long count = write(channel, packets);
+                removeWritten(channel, packets, count);
               } catch (final Exception e) {
                 log.log(Level.FINER, "exception writing", e);
+                abortWrite(channel, packets);
                 errorReporter.error(channel, e);
                 key.cancel();
               }
@@ -114,6 +147,19 @@ class NioWriter {
     }
   }
 
+  private static long write(final SocketChannel channel, final List<SocketWriteData> packets) throws IOException {
+    final ByteBuffer[] buffers = new ByteBuffer[packets.size()];
+    for (int i = 0; i < buffers.length; i++) {
+      buffers[i] = packets.get(i).getBufferForWrite();
+    }
+    final long count = channel.write(buffers);
+    if (count == -1) {
+      throw new IOException("triplea: end of stream detected");
+    }
+    log.finest(() -> "wrote bytes:" + count + " in packets:" + buffers.length);
+    return count;
+  }
+
   /**
    * Remove the data for this channel.
    */
@@ -121,38 +167,128 @@ class NioWriter {
     removeAll(channel);
   }
 
+  /**
+   * Removes the queued packets of the specified channel and returns their buffers to the pool, except for those of the
+   * packets being written, which the writer thread releases once it is done with them.
+   */
   private void removeAll(final SocketChannel to) {
+    final List<SocketWriteData> removed = new ArrayList<>();
     synchronized (mutex) {
-      writing.remove(to);
+      final Deque<SocketWriteData> values = writing.remove(to);
+      counters.remove(to);
+      if (values != null) {
+        removed.addAll(values);
+        if (values == queueBeingWritten) {
+          removed.subList(0, packetsBeingWritten.size()).clear();
+        }
+      }
     }
+    removed.forEach(SocketWriteData::release);
   }
 
-  private void removeLast(final SocketChannel to) {
-    synchronized (mutex) {
-      final List<SocketWriteData> values = writing.get(to);
-      if (values == null) {
-        log.severe("NO socket data to:" + to);
-        return;
+  /**
+   * Removes the packets that were completely written from the queue of the specified channel and records the write.
+   * If the channel was closed while the packets were written, they were already removed from its queue and are all
+   * released.
+   */
+  private void removeWritten(final SocketChannel to, final List<SocketWriteData> packets, final long bytesWritten) {
+    final List<SocketWriteData> written = new ArrayList<>();
+    for (final SocketWriteData packet : packets) {
+      if (!packet.isWritten()) {
+        break;
       }
-      values.remove(0);
-      // remove empty lists, so we can detect that we need to wake up the socket
-      if (values.isEmpty()) {
-        writing.remove(to);
+      written.add(packet);
+    }
+    synchronized (mutex) {
+      if (!finishWrite(to)) {
+        log.fine(() -> "NO socket data to:" + to);
+        written.clear();
+        written.addAll(packets);
+      } else {
+        final Deque<SocketWriteData> values = writing.get(to);
+        for (int i = 0; i < written.size(); i++) {
+          values.removeFirst();
+        }
+        counters.computeIfAbsent(to, channel -> new ChannelWriteCounters()).recordWrite(bytesWritten, written.size());
+        // remove empty queues, so we can detect that we need to wake up the socket
+        if (values.isEmpty()) {
+          writing.remove(to);
+        }
       }
     }
+    written.forEach(SocketWriteData::release);
   }
 
-  private SocketWriteData getData(final SocketChannel to) {
+  /**
+   * Hands the packets whose write failed back to the queue of the specified channel, or releases them if the channel
+   * was closed meanwhile.
+   */
+  private void abortWrite(final SocketChannel to, final List<SocketWriteData> packets) {
+    final boolean isQueued;
     synchronized (mutex) {
-      if (!writing.containsKey(to)) {
-        return null;
+      isQueued = finishWrite(to);
+    }
+    if (!isQueued) {
+      packets.forEach(SocketWriteData::release);
+    }
+  }
+
+  /**
+   * Marks the packets being written as no longer in use by the writer thread.
+   *
+   * @return {@code true} if the packets are still queued for the specified channel; {@code false} if the channel was
+   *         closed while they were written.
+   */
+  @GuardedBy("mutex")
+  private boolean finishWrite(final SocketChannel to) {
+    final boolean isQueued = queueBeingWritten != null && writing.get(to) == queueBeingWritten;
+    queueBeingWritten = null;
+    packetsBeingWritten = Collections.emptyList();
+    return isQueued;
+  }
+
+  /**
+   * Returns the packets at the head of the queue of the specified channel that should be written next, bounded by the
+   * write limits. At least one packet is returned if the queue is not empty.
+   */
+  private List<SocketWriteData> getData(final SocketChannel to) {
+    final List<SocketWriteData> packets = new ArrayList<>();
+    synchronized (mutex) {
+      final Deque<SocketWriteData> values = writing.get(to);
+      if (values == null) {
+        return packets;
       }
-      final List<SocketWriteData> values = writing.get(to);
-      if (values.isEmpty()) {
-        return null;
+      long bytes = 0;
+      for (final SocketWriteData packet : values) {
+        final boolean limitReached =
+            packets.size() >= maxMessagesPerWrite || bytes + packet.remaining() > maxBytesPerWrite;
+        if (!packets.isEmpty() && limitReached) {
+          break;
+        }
+        packets.add(packet);
+        bytes += packet.remaining();
       }
-      return values.get(0);
+      queueBeingWritten = values;
+      packetsBeingWritten = packets;
     }
+    return packets;
+  }
+
+  DirectBufferPool getBufferPool() {
+    return bufferPool;
+  }
+
+  /**
+   * Returns a snapshot of the write activity and backlog of every channel that has been written to. The snapshot is
+   * taken from counters updated under the lock, since the writer thread writes the queued packets outside of it.
+   */
+  Map<SocketChannel, WriteStatistics> getWriteStatistics() {
+    final Map<SocketChannel, WriteStatistics> statistics = new HashMap<>();
+    synchronized (mutex) {
+      counters.forEach((channel, channelCounters) -> statistics.put(channel,
+          channelCounters.toWriteStatistics(writing.getOrDefault(channel, new ArrayDeque<>()).size())));
+    }
+    return statistics;
   }
 
   void enque(final SocketWriteData data, final SocketChannel channel) {
@@ -160,10 +296,11 @@ class NioWriter {
       if (!running) {
         return;
       }
+      counters.computeIfAbsent(channel, c -> new ChannelWriteCounters()).recordEnqueue(data.size());
       if (writing.containsKey(channel)) {
         writing.get(channel).add(data);
       } else {
-        final List<SocketWriteData> values = new ArrayList<>();
+        final Deque<SocketWriteData> values = new ArrayDeque<>();
         values.add(data);
         writing.put(channel, values);
         socketsToWake.add(channel);
@@ -171,4 +308,26 @@ class NioWriter {
       }
     }
   }
+
+  private static final class ChannelWriteCounters {
+    private long writeCalls;
+    private long bytesWritten;
+    private long messagesWritten;
+    private long bytesEnqueued;
+
+    void recordEnqueue(final int bytes) {
+      bytesEnqueued += bytes;
+    }
+
+    void recordWrite(final long bytes, final int messages) {
+      writeCalls++;
+      bytesWritten += bytes;
+      messagesWritten += messages;
+    }
+
+    WriteStatistics toWriteStatistics(final int queuedMessages) {
+      return new WriteStatistics(writeCalls, bytesWritten, messagesWritten, queuedMessages,
+          bytesEnqueued - bytesWritten);
+    }
+  }
 }
@@ -0,0 +1,38 @@
+package games.strategy.net.nio;
+
+import java.util.concurrent.TimeUnit;
+
+import lombok.Value;
+
+/**
+ * A snapshot of the network activity of a single remote node.
+ */
+@Value
+public class NodeStatistics {
+  /** The number of bytes received from the node, including message size headers. */
+  private final long bytesIn;
+  /** The number of messages received from the node. */
+  private final long messagesIn;
+  /** The total time spent deserializing messages received from the node. */
+  private final long decodeNanos;
+  /** The number of bytes of encoded messages sent to the node, including message size headers. */
+  private final long bytesOut;
+  /** The number of messages sent to the node. */
+  private final long messagesOut;
+  /** The total time spent serializing messages sent to the node. */
+  private final long encodeNanos;
+  /** The write activity and write backlog of the node. */
+  private final WriteStatistics writeStatistics;
+
+  /**
+   * Returns a compact, single line description of these statistics suitable for logging.
+   */
+  public String toLogString() {
+    return String.format(
+        "in=%dB/%dmsg decode=%dms out=%dB/%dmsg encode=%dms writes=%d bytesPerWrite=%.0f backlog=%dmsg/%dB",
+        bytesIn, messagesIn, TimeUnit.NANOSECONDS.toMillis(decodeNanos),
+        bytesOut, messagesOut, TimeUnit.NANOSECONDS.toMillis(encodeNanos),
+        writeStatistics.getWriteCalls(), writeStatistics.getBytesPerWriteCall(),
+        writeStatistics.getQueuedMessages(), writeStatistics.getQueuedBytes());
+  }
+}
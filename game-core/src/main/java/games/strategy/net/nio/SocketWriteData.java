@@ -1,11 +1,9 @@
 package games.strategy.net.nio;
 
-import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.nio.channels.SocketChannel;
 import java.util.concurrent.atomic.AtomicInteger;
 
-import lombok.extern.java.Log;
+import javax.annotation.Nullable;
 
 /**
  * A packet of data to be written over the network.
@@ -15,32 +13,47 @@ import lombok.extern.java.Log;
  * </p>
  *
  * <p>
- * The packet is written over the network as 32 bits indicating the size in bytes, then the data itself.
+ * The packet is written over the network as 32 bits indicating the size in bytes, then the data itself. Both are held
+ * in a single buffer so that several packets can be written with one gathering write.
  * </p>
  */
-@Log
 class SocketWriteData {
   private static final AtomicInteger counter = new AtomicInteger();
-  private final ByteBuffer size;
-  private final ByteBuffer content;
+  private final ByteBuffer buffer;
+  // null if the buffer was not taken from a pool
+  @Nullable
+  private final DirectBufferPool pool;
   private final int number = counter.incrementAndGet();
   // how many times we called write before we finished writing ourselves
   private int writeCalls = 0;
 
-  SocketWriteData(final byte[] data, final int count) {
-    content = ByteBuffer.allocate(count);
-    content.put(data, 0, count);
-    size = ByteBuffer.allocate(4);
+  /**
+   * Creates a new packet for the specified data. The packet is backed by a buffer from {@code pool} if it fits,
+   * otherwise by a heap buffer of the exact size.
+   */
+  SocketWriteData(final byte[] data, final int count, @Nullable final DirectBufferPool pool) {
     if (count < 0 || count > SocketReadData.MAX_MESSAGE_SIZE) {
       throw new IllegalStateException("Invalid message size:" + count);
     }
-    size.putInt(count ^ SocketReadData.MAGIC);
-    size.flip();
-    content.flip();
+    final int size = count + 4;
+    if (pool != null && size <= pool.getBufferCapacity()) {
+      buffer = pool.acquire();
+      this.pool = pool;
+    } else {
+      buffer = ByteBuffer.allocate(size);
+      this.pool = null;
+    }
+    buffer.putInt(count ^ SocketReadData.MAGIC);
+    buffer.put(data, 0, count);
+    buffer.flip();
   }
 
   int size() {
-    return size.capacity() + content.capacity();
+    return buffer.limit();
+  }
+
+  int remaining() {
+    return buffer.remaining();
   }
 
   int getWriteCalls() {
@@ -48,33 +61,32 @@ class SocketWriteData {
   }
 
   /**
-   * Writes any pending data to the specified channel.
-   *
-   * @return true if the write has written the entire message.
+   * Returns the buffer holding the unwritten bytes of this packet, to be passed to a gathering write.
    */
-  boolean write(final SocketChannel channel) throws IOException {
+  ByteBuffer getBufferForWrite() {
     writeCalls++;
-    if (size.hasRemaining()) {
-      final int count = channel.write(size);
-      if (count == -1) {
-        throw new IOException("triplea: end of stream detected");
-      }
-      log.finest(() -> "wrote size_buffer bytes:" + count);
-      // we could not write everything
-      if (size.hasRemaining()) {
-        return false;
-      }
-    }
-    final int count = channel.write(content);
-    if (count == -1) {
-      throw new IOException("triplea: end of stream detected");
+    return buffer;
+  }
+
+  /**
+   * Returns true if the entire message has been written.
+   */
+  boolean isWritten() {
+    return !buffer.hasRemaining();
+  }
+
+  /**
+   * Returns the buffer backing this packet to its pool, if any. Must only be called once the packet has been written or
+   * discarded and is no longer referenced.
+   */
+  void release() {
+    if (pool != null) {
+      pool.release(buffer);
     }
-    log.finest(() -> "wrote content bytes:" + count);
-    return !content.hasRemaining();
   }
 
   @Override
   public String toString() {
-    return "<id:" + number + " size:" + content.capacity() + ">";
+    return "<id:" + number + " size:" + (size() - 4) + ">";
   }
 }
@@ -0,0 +1,27 @@
+package games.strategy.net.nio;
+
+import lombok.Value;
+
+/**
+ * A snapshot of the write activity of a single channel.
+ */
+@Value
+public class WriteStatistics {
+  /** The number of write calls made to the channel. */
+  private final long writeCalls;
+  /** The number of bytes written to the channel. */
+  private final long bytesWritten;
+  /** The number of messages completely written to the channel. */
+  private final long messagesWritten;
+  /** The number of messages waiting to be written to the channel. */
+  private final int queuedMessages;
+  /** The number of bytes waiting to be written to the channel. */
+  private final long queuedBytes;
+
+  /**
+   * Returns the average number of bytes written per write call, or 0 if there have been no write calls.
+   */
+  public double getBytesPerWriteCall() {
+    return (writeCalls == 0) ? 0 : ((double) bytesWritten / writeCalls);
+  }
+}
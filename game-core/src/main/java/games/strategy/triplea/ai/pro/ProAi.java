@@ -16,7 +16,6 @@ import games.strategy.engine.data.PlayerId;
 import games.strategy.engine.data.Territory;
 import games.strategy.engine.data.Unit;
 import games.strategy.engine.delegate.IDelegateBridge;
-import games.strategy.engine.framework.GameDataUtils;
 import games.strategy.engine.framework.startup.ui.PlayerType;
 import games.strategy.net.GUID;
 import games.strategy.triplea.Properties;
@@ -26,12 +25,15 @@ import games.strategy.triplea.ai.pro.data.ProPurchaseTerritory;
 import games.strategy.triplea.ai.pro.data.ProTerritory;
 import games.strategy.triplea.ai.pro.logging.ProLogUi;
 import games.strategy.triplea.ai.pro.logging.ProLogger;
+import games.strategy.triplea.ai.pro.logging.ProMetricUtils;
 import games.strategy.triplea.ai.pro.simulate.ProDummyDelegateBridge;
+import games.strategy.triplea.ai.pro.simulate.ProShadowGameData;
 import games.strategy.triplea.ai.pro.simulate.ProSimulateTurnUtils;
 import games.strategy.triplea.ai.pro.util.ProBattleUtils;
 import games.strategy.triplea.ai.pro.util.ProMatches;
 import games.strategy.triplea.ai.pro.util.ProOddsCalculator;
 import games.strategy.triplea.ai.pro.util.ProPurchaseUtils;
+import games.strategy.triplea.ai.pro.util.ProTimeBudget;
 import games.strategy.triplea.ai.pro.util.ProTransportUtils;
 import games.strategy.triplea.attachments.PoliticalActionAttachment;
 import games.strategy.triplea.delegate.BattleDelegate;
@@ -48,7 +50,7 @@ import games.strategy.triplea.delegate.remote.IMoveDelegate;
 import games.strategy.triplea.delegate.remote.IPurchaseDelegate;
 import games.strategy.triplea.delegate.remote.ITechDelegate;
 import games.strategy.triplea.odds.calculator.ConcurrentOddsCalculator;
-import games.strategy.triplea.odds.calculator.IOddsCalculator;
+import games.strategy.triplea.settings.ClientSetting;
 import games.strategy.triplea.ui.TripleAFrame;
 
 /**
@@ -56,10 +58,16 @@ import games.strategy.triplea.ui.TripleAFrame;
  */
 public class ProAi extends AbstractAi {
 
+  // Off by default until the benchmark in ProSimulateBattlesBenchmarkTest shows a gain on the supported maps
+  private static final boolean SIMULATE_BATTLES_IN_PARALLEL =
+      Boolean.parseBoolean(System.getProperty("triplea.ai.simulateBattlesInParallel", "false"));
+
   // Odds calculator
-  private static final IOddsCalculator concurrentCalc = new ConcurrentOddsCalculator("ProAi");
   protected ProOddsCalculator calc;
 
+  // Data of the current phase, per instance so several AIs can think at the same time
+  private final ProData proData = new ProData();
+
   // Phases
   private final ProCombatMoveAi combatMoveAi;
   private final ProNonCombatMoveAi nonCombatMoveAi;
@@ -75,6 +83,9 @@ public class ProAi extends AbstractAi {
   private List<PoliticalActionAttachment> storedPoliticalActions;
   private List<Territory> storedStrafingTerritories;
 
+  // Game data copy for simulating phases, kept across turns
+  private ProShadowGameData shadowData;
+
   public ProAi(final String name) {
     super(name);
     initializeCalc();
@@ -97,13 +108,26 @@ public class ProAi extends AbstractAi {
   }
 
   protected void initializeCalc() {
-    calc = new ProOddsCalculator(concurrentCalc);
+    calc = new ProOddsCalculator(proData, new ConcurrentOddsCalculator("ProAi"));
+    calc.setUseCalibratedEstimates(true);
+  }
+
+  /**
+   * Returns {@code true} if independent battles are simulated at the same time by the workers of the odds calculator
+   * when simulating the rest of the turn before purchasing.
+   */
+  protected boolean isSimulatingBattlesInParallel() {
+    return SIMULATE_BATTLES_IN_PARALLEL;
   }
 
   public ProOddsCalculator getCalc() {
     return calc;
   }
 
+  public ProData getProData() {
+    return proData;
+  }
+
   public static void initialize(final TripleAFrame frame) {
     ProLogUi.initialize(frame);
     ProLogger.info("Initialized Hard AI");
@@ -116,18 +140,42 @@ public class ProAi extends AbstractAi {
 
   public static void gameOverClearCache() {
     // Are static, clear so that we don't keep the data around after a game is exited
-    concurrentCalc.setGameData(null);
     ProLogUi.clearCachedInstances();
   }
 
   @Override
   public void stopGame() {
     super.stopGame(); // absolutely MUST call super.stopGame() first
+    proData.getTimeBudget().cancel();
     calc.cancelCalcs();
+    calc.shutdown();
+    if (shadowData != null) {
+      shadowData.close();
+      shadowData = null;
+    }
   }
 
   private void initializeData() {
-    ProData.initialize(this);
+    proData.initialize(this);
+  }
+
+  /**
+   * Releases the copies of the game data made by the odds calculator, so AIs waiting for their next turn or decision
+   * don't hold on to them. The odds calculator stops its idle threads by itself.
+   */
+  private void releaseCalcData() {
+    calc.setData(null);
+  }
+
+  private void startTimeBudget(final String phase, final ClientSetting<Integer> timeLimit) {
+    proData.setTimeBudget(ProTimeBudget.start(getPlayerId().getName() + " " + phase, timeLimit.getValueOrThrow()));
+    proData.getMetrics().startPhase(phase);
+  }
+
+  private void finishTimeBudget() {
+    proData.getMetrics().endPhase();
+    proData.getTimeBudget().finish();
+    proData.setTimeBudget(ProTimeBudget.unlimited());
   }
 
   public void setStoredStrafingTerritories(final List<Territory> strafingTerritories) {
@@ -140,20 +188,26 @@ public class ProAi extends AbstractAi {
     final long start = System.currentTimeMillis();
     ProLogUi.notifyStartOfRound(data.getSequence().getRound(), player.getName());
     initializeData();
-    calc.setData(data);
-    if (nonCombat) {
-      nonCombatMoveAi.doNonCombatMove(storedFactoryMoveMap, storedPurchaseTerritories, moveDel);
-      storedFactoryMoveMap = null;
-    } else {
-      if (storedCombatMoveMap == null) {
-        combatMoveAi.doCombatMove(moveDel);
+    startTimeBudget(nonCombat ? "non-combat move" : "combat move",
+        nonCombat ? ClientSetting.aiNonCombatMoveTimeLimit : ClientSetting.aiCombatMoveTimeLimit);
+    try {
+      calc.setData(data);
+      if (nonCombat) {
+        nonCombatMoveAi.doNonCombatMove(storedFactoryMoveMap, storedPurchaseTerritories, moveDel);
+        storedFactoryMoveMap = null;
       } else {
-        combatMoveAi.doMove(storedCombatMoveMap, moveDel, data, player);
-        storedCombatMoveMap = null;
+        if (storedCombatMoveMap == null) {
+          combatMoveAi.doCombatMove(moveDel);
+        } else {
+          combatMoveAi.doMove(storedCombatMoveMap, moveDel, data, player);
+          storedCombatMoveMap = null;
+        }
       }
+      ProLogger.info(
+          player.getName() + " time for nonCombat=" + nonCombat + " time=" + (System.currentTimeMillis() - start));
+    } finally {
+      finishTimeBudget();
     }
-    ProLogger
-        .info(player.getName() + " time for nonCombat=" + nonCombat + " time=" + (System.currentTimeMillis() - start));
   }
 
   @Override
@@ -162,92 +216,125 @@ public class ProAi extends AbstractAi {
     final long start = System.currentTimeMillis();
     ProLogUi.notifyStartOfRound(data.getSequence().getRound(), player.getName());
     initializeData();
-    if (pusToSpend <= 0) {
-      return;
-    }
-    if (purchaseForBid) {
-      calc.setData(data);
-      storedPurchaseTerritories = purchaseAi.bid(pusToSpend, purchaseDelegate, data);
-    } else {
-
-      // Repair factories
-      purchaseAi.repair(pusToSpend, purchaseDelegate, data, player);
-
-      // Check if any place territories exist
-      final Map<Territory, ProPurchaseTerritory> purchaseTerritories = ProPurchaseUtils.findPurchaseTerritories(player);
-      final List<Territory> possibleFactoryTerritories = CollectionUtils.getMatches(data.getMap().getTerritories(),
-          ProMatches.territoryHasNoInfraFactoryAndIsNotConqueredOwnedLand(player, data));
-      if (purchaseTerritories.isEmpty() && possibleFactoryTerritories.isEmpty()) {
-        ProLogger.info("No possible place or factory territories owned so exiting purchase logic");
+    startTimeBudget("purchase", ClientSetting.aiPurchaseTimeLimit);
+    try {
+      if (pusToSpend <= 0) {
         return;
       }
-      ProLogger.info("Starting simulation for purchase phase");
-
-      // Setup data copy and delegates
-      final GameData dataCopy;
-      try {
-        data.acquireWriteLock();
-        dataCopy = GameDataUtils.cloneGameDataWithoutHistory(data, true);
-      } catch (final Throwable t) {
-        ProLogger.log(Level.WARNING, "Error trying to clone game data for simulating phases", t);
-        return;
-      } finally {
-        data.releaseWriteLock();
+      if (purchaseForBid) {
+        calc.setData(data);
+        storedPurchaseTerritories = purchaseAi.bid(pusToSpend, purchaseDelegate, data);
+      } else {
+
+        // Repair factories
+        purchaseAi.repair(pusToSpend, purchaseDelegate, data, player);
+
+        // Check if any place territories exist
+        final Map<Territory, ProPurchaseTerritory> purchaseTerritories =
+            ProPurchaseUtils.findPurchaseTerritories(proData, player);
+        final List<Territory> possibleFactoryTerritories = CollectionUtils.getMatches(data.getMap().getTerritories(),
+            ProMatches.territoryHasNoInfraFactoryAndIsNotConqueredOwnedLand(player, data));
+        if (purchaseTerritories.isEmpty() && possibleFactoryTerritories.isEmpty()) {
+          ProLogger.info("No possible place or factory territories owned so exiting purchase logic");
+          return;
+        }
+        ProLogger.info("Starting simulation for purchase phase");
+
+        // Setup data copy and delegates
+        final ProShadowGameData simulationData = getShadowData(data);
+        final GameData dataCopy;
+        try {
+          proData.getMetrics().markStep();
+          final int cloneCount = simulationData.getCloneCount();
+          dataCopy = simulationData.acquire();
+          proData.getMetrics().increment((simulationData.getCloneCount() == cloneCount)
+              ? "simulation data: reused copies"
+              : "simulation data: new clones");
+          proData.getMetrics().endStep("acquire simulation data");
+        } catch (final Throwable t) {
+          ProLogger.log(Level.WARNING, "Error trying to clone game data for simulating phases", t);
+          return;
+        }
+        try {
+          simulatePhases(purchaseDelegate, data, player, dataCopy);
+        } finally {
+          simulationData.release();
+        }
       }
-      calc.setData(dataCopy);
-      final PlayerId playerCopy = dataCopy.getPlayerList().getPlayerId(player.getName());
-      final IMoveDelegate moveDel = DelegateFinder.moveDelegate(dataCopy);
-      final IDelegateBridge bridge = new ProDummyDelegateBridge(this, playerCopy, dataCopy);
-      moveDel.setDelegateBridgeAndPlayer(bridge);
-
-      // Determine turn sequence
-      final List<GameStep> gameSteps = new ArrayList<>();
-      for (final GameStep gameStep : dataCopy.getSequence()) {
-        gameSteps.add(gameStep);
+      ProLogger.info(player.getName() + " time for purchase=" + (System.currentTimeMillis() - start));
+    } finally {
+      finishTimeBudget();
+    }
+  }
+
+  private ProShadowGameData getShadowData(final GameData data) {
+    if (shadowData == null || shadowData.getLiveData() != data) {
+      if (shadowData != null) {
+        shadowData.close();
       }
+      shadowData = new ProShadowGameData(data);
+    }
+    return shadowData;
+  }
+
+  private void simulatePhases(final IPurchaseDelegate purchaseDelegate, final GameData data, final PlayerId player,
+      final GameData dataCopy) {
+    // The battles are calculated on copies of the live game data, like those of the actual combat move, so the copies
+    // of the workers are brought in sync for the rest of the turn instead of copying the simulation data for them
+    calc.setData(data);
+    final PlayerId playerCopy = dataCopy.getPlayerList().getPlayerId(player.getName());
+    final IMoveDelegate moveDel = DelegateFinder.moveDelegate(dataCopy);
+    final IDelegateBridge bridge = new ProDummyDelegateBridge(this, playerCopy, dataCopy);
+    moveDel.setDelegateBridgeAndPlayer(bridge);
+
+    // Determine turn sequence
+    final List<GameStep> gameSteps = new ArrayList<>();
+    for (final GameStep gameStep : dataCopy.getSequence()) {
+      gameSteps.add(gameStep);
+    }
 
-      // Simulate the next phases until place/end of turn is reached then use simulated data for purchase
-      final int nextStepIndex = dataCopy.getSequence().getStepIndex() + 1;
-      for (int i = nextStepIndex; i < gameSteps.size(); i++) {
-        final GameStep step = gameSteps.get(i);
-        if (!playerCopy.equals(step.getPlayerId())) {
-          continue;
+    // Simulate the next phases until place/end of turn is reached then use simulated data for purchase
+    final int nextStepIndex = dataCopy.getSequence().getStepIndex() + 1;
+    for (int i = nextStepIndex; i < gameSteps.size(); i++) {
+      final GameStep step = gameSteps.get(i);
+      if (!playerCopy.equals(step.getPlayerId())) {
+        continue;
+      }
+      dataCopy.getSequence().setRoundAndStep(dataCopy.getSequence().getRound(), step.getDisplayName(),
+          step.getPlayerId());
+      final String stepName = step.getName();
+      ProLogger.info("Simulating phase: " + stepName);
+      if (stepName.endsWith("NonCombatMove")) {
+        proData.initializeSimulation(this, dataCopy, playerCopy);
+        final Map<Territory, ProTerritory> factoryMoveMap = nonCombatMoveAi.simulateNonCombatMove(moveDel);
+        if (storedFactoryMoveMap == null) {
+          storedFactoryMoveMap = ProSimulateTurnUtils.transferMoveMap(proData, factoryMoveMap, data, player);
         }
-        dataCopy.getSequence().setRoundAndStep(dataCopy.getSequence().getRound(), step.getDisplayName(),
-            step.getPlayerId());
-        final String stepName = step.getName();
-        ProLogger.info("Simulating phase: " + stepName);
-        if (stepName.endsWith("NonCombatMove")) {
-          ProData.initializeSimulation(this, dataCopy, playerCopy);
-          final Map<Territory, ProTerritory> factoryMoveMap = nonCombatMoveAi.simulateNonCombatMove(moveDel);
-          if (storedFactoryMoveMap == null) {
-            storedFactoryMoveMap = ProSimulateTurnUtils.transferMoveMap(factoryMoveMap, data, player);
-          }
-        } else if (stepName.endsWith("CombatMove") && !stepName.endsWith("AirborneCombatMove")) {
-          ProData.initializeSimulation(this, dataCopy, playerCopy);
-          final Map<Territory, ProTerritory> moveMap = combatMoveAi.doCombatMove(moveDel);
-          if (storedCombatMoveMap == null) {
-            storedCombatMoveMap = ProSimulateTurnUtils.transferMoveMap(moveMap, data, player);
-          }
-        } else if (stepName.endsWith("Battle")) {
-          ProData.initializeSimulation(this, dataCopy, playerCopy);
-          ProSimulateTurnUtils.simulateBattles(dataCopy, playerCopy, bridge, calc);
-        } else if (stepName.endsWith("Place") || stepName.endsWith("EndTurn")) {
-          ProData.initializeSimulation(this, dataCopy, player);
-          storedPurchaseTerritories = purchaseAi.purchase(purchaseDelegate, data);
-          break;
-        } else if (stepName.endsWith("Politics")) {
-          ProData.initializeSimulation(this, dataCopy, player);
-          final PoliticsDelegate politicsDelegate = DelegateFinder.politicsDelegate(dataCopy);
-          politicsDelegate.setDelegateBridgeAndPlayer(bridge);
-          final List<PoliticalActionAttachment> actions = politicsAi.politicalActions();
-          if (storedPoliticalActions == null) {
-            storedPoliticalActions = actions;
-          }
+      } else if (stepName.endsWith("CombatMove") && !stepName.endsWith("AirborneCombatMove")) {
+        proData.initializeSimulation(this, dataCopy, playerCopy);
+        final Map<Territory, ProTerritory> moveMap = combatMoveAi.doCombatMove(moveDel);
+        if (storedCombatMoveMap == null) {
+          storedCombatMoveMap = ProSimulateTurnUtils.transferMoveMap(proData, moveMap, data, player);
+        }
+      } else if (stepName.endsWith("Battle")) {
+        proData.initializeSimulation(this, dataCopy, playerCopy);
+        proData.getMetrics().markStep();
+        ProSimulateTurnUtils.simulateBattles(dataCopy, playerCopy, bridge, calc, isSimulatingBattlesInParallel());
+        proData.getMetrics().endStep("simulate battles");
+      } else if (stepName.endsWith("Place") || stepName.endsWith("EndTurn")) {
+        proData.initializeSimulation(this, dataCopy, player);
+        storedPurchaseTerritories = purchaseAi.purchase(purchaseDelegate, data);
+        break;
+      } else if (stepName.endsWith("Politics")) {
+        proData.initializeSimulation(this, dataCopy, player);
+        final PoliticsDelegate politicsDelegate = DelegateFinder.politicsDelegate(dataCopy);
+        politicsDelegate.setDelegateBridgeAndPlayer(bridge);
+        final List<PoliticalActionAttachment> actions = politicsAi.politicalActions();
+        if (storedPoliticalActions == null) {
+          storedPoliticalActions = actions;
         }
       }
     }
-    ProLogger.info(player.getName() + " time for purchase=" + (System.currentTimeMillis() - start));
   }
 
   @Override
@@ -256,9 +343,19 @@ public class ProAi extends AbstractAi {
     final long start = System.currentTimeMillis();
     ProLogUi.notifyStartOfRound(data.getSequence().getRound(), player.getName());
     initializeData();
-    purchaseAi.place(storedPurchaseTerritories, placeDelegate);
-    storedPurchaseTerritories = null;
-    ProLogger.info(player.getName() + " time for place=" + (System.currentTimeMillis() - start));
+    startTimeBudget("place", ClientSetting.aiPlaceTimeLimit);
+    try {
+      purchaseAi.place(storedPurchaseTerritories, placeDelegate);
+      storedPurchaseTerritories = null;
+
+      releaseCalcData();
+      ProLogger.info(player.getName() + " time for place=" + (System.currentTimeMillis() - start));
+    } finally {
+      finishTimeBudget();
+    }
+
+    // Placing is the last phase of the turn
+    ProMetricUtils.logTurnMetrics(proData.getMetrics(), data.getSequence().getRound(), player.getName());
   }
 
   @Override
@@ -286,7 +383,8 @@ public class ProAi extends AbstractAi {
     final boolean isAttacker = player.equals(battle.getAttacker());
     final List<Unit> attackers = (List<Unit>) battle.getAttackingUnits();
     final List<Unit> defenders = (List<Unit>) battle.getDefendingUnits();
-    final double strengthDifference = ProBattleUtils.estimateStrengthDifference(battleTerritory, attackers, defenders);
+    final double strengthDifference = ProBattleUtils.estimateStrengthDifference(proData, battleTerritory, attackers,
+        defenders);
     final boolean isStrafing = isAttacker && storedStrafingTerritories.contains(battleTerritory);
     ProLogger.info(player.getName() + " checking retreat from territory " + battleTerritory + ", attackers="
         + attackers.size() + ", defenders=" + defenders.size() + ", submerge=" + submerge + ", attacker=" + isAttacker
@@ -296,7 +394,11 @@ public class ProAi extends AbstractAi {
       return null;
     }
     calc.setData(getGameData());
-    return retreatAi.retreatQuery(battleId, battleTerritory, possibleTerritories);
+    try {
+      return retreatAi.retreatQuery(battleId, battleTerritory, possibleTerritories);
+    } finally {
+      releaseCalcData();
+    }
   }
 
   @Override
@@ -333,7 +435,7 @@ public class ProAi extends AbstractAi {
     myCasualties.addToDamaged(defaultCasualties.getDamaged());
     final List<Unit> selectFromSorted = new ArrayList<>(selectFrom);
     if (enemyUnits.isEmpty()) {
-      selectFromSorted.sort(ProPurchaseUtils.getCostComparator());
+      selectFromSorted.sort(ProPurchaseUtils.getCostComparator(proData));
     } else {
 
       // Get battle data
@@ -349,7 +451,8 @@ public class ProAi extends AbstractAi {
         final List<Unit> attackers = (List<Unit>) battle.getAttackingUnits();
         final List<Unit> defenders = (List<Unit>) battle.getDefendingUnits();
         defenders.removeAll(defaultCasualties.getKilled());
-        final double strengthDifference = ProBattleUtils.estimateStrengthDifference(battlesite, attackers, defenders);
+        final double strengthDifference = ProBattleUtils.estimateStrengthDifference(proData, battlesite, attackers,
+            defenders);
         int minStrengthDifference = 60;
         if (!Properties.getLowLuck(data)) {
           minStrengthDifference = 55;
@@ -365,8 +468,8 @@ public class ProAi extends AbstractAi {
         for (int i = 0; i < selectFromSorted.size() - 1; i++) {
           final Unit unit1 = selectFromSorted.get(i);
           final Unit unit2 = selectFromSorted.get(i + 1);
-          final double unitCost1 = ProPurchaseUtils.getCost(unit1);
-          final double unitCost2 = ProPurchaseUtils.getCost(unit2);
+          final double unitCost1 = ProPurchaseUtils.getCost(proData, unit1);
+          final double unitCost2 = ProPurchaseUtils.getCost(proData, unit2);
           if (unitCost1 > 1.5 * unitCost2) {
             selectFromSorted.set(i, unit2);
             selectFromSorted.set(i + 1, unit1);
@@ -408,7 +511,11 @@ public class ProAi extends AbstractAi {
     ProLogger.info(player.getName() + " checking scramble to " + scrambleTo + ", attackers=" + attackers.size()
         + ", defenders=" + defenders.size() + ", possibleScramblers=" + possibleScramblers);
     calc.setData(getGameData());
-    return scrambleAi.scrambleUnitsQuery(scrambleTo, possibleScramblers);
+    try {
+      return scrambleAi.scrambleUnitsQuery(scrambleTo, possibleScramblers);
+    } finally {
+      releaseCalcData();
+    }
   }
 
   @Override
@@ -432,7 +539,12 @@ public class ProAi extends AbstractAi {
     calc.setData(getGameData());
 
     // Calculate battle results
-    final ProBattleResult result = calc.calculateBattleResults(unitTerritory, attackers, defenders, new HashSet<>());
+    final ProBattleResult result;
+    try {
+      result = calc.calculateBattleResults(unitTerritory, attackers, defenders, new HashSet<>());
+    } finally {
+      releaseCalcData();
+    }
     ProLogger.debug(player.getName() + " sub attack TUVSwing=" + result.getTuvSwing());
     return result.getTuvSwing() > 0;
   }
@@ -16,46 +16,57 @@ import games.strategy.engine.data.UnitType;
 import games.strategy.triplea.Properties;
 import games.strategy.triplea.ai.pro.data.ProPurchaseOption;
 import games.strategy.triplea.ai.pro.data.ProPurchaseOptionMap;
+import games.strategy.triplea.ai.pro.logging.ProMetrics;
+import games.strategy.triplea.ai.pro.util.ProTerritoryValueCache;
+import games.strategy.triplea.ai.pro.util.ProTimeBudget;
+import games.strategy.triplea.ai.pro.util.ProTransportLoadingIndex;
 import games.strategy.triplea.ai.pro.util.ProUtils;
 import games.strategy.triplea.attachments.TerritoryAttachment;
 import games.strategy.triplea.delegate.Matches;
 import games.strategy.triplea.util.TuvUtils;
 
 /**
- * Pro AI data.
+ * Pro AI data. Each {@link ProAi} has its own instance, so several Pro AIs can think at the same time.
  */
 public final class ProData {
   // Default values
-  public static boolean isSimulation = false;
-  public static double winPercentage = 95;
-  public static double minWinPercentage = 75;
-  public static Territory myCapital = null;
-  public static List<Territory> myUnitTerritories = new ArrayList<>();
-  public static Map<Unit, Territory> unitTerritoryMap = new HashMap<>();
-  public static IntegerMap<UnitType> unitValueMap = new IntegerMap<>();
-  public static ProPurchaseOptionMap purchaseOptions = null;
-  public static double minCostPerHitPoint = Double.MAX_VALUE;
-
-  private static ProAi proAi;
-  private static GameData data;
-  private static PlayerId player;
-
-  private ProData() {}
-
-  public static void initialize(final ProAi proAi) {
+  private boolean isSimulation = false;
+  private double winPercentage = 95;
+  private double minWinPercentage = 75;
+  private Territory myCapital = null;
+  private List<Territory> myUnitTerritories = new ArrayList<>();
+  private Map<Unit, Territory> unitTerritoryMap = new HashMap<>();
+  private IntegerMap<UnitType> unitValueMap = new IntegerMap<>();
+  private ProPurchaseOptionMap purchaseOptions = null;
+  private double minCostPerHitPoint = Double.MAX_VALUE;
+
+  private ProAi proAi;
+  private GameData data;
+  private PlayerId player;
+
+  // Time budget of the current phase, kept when initializing for a simulation
+  private ProTimeBudget timeBudget = ProTimeBudget.unlimited();
+  // Metrics of the current turn, kept when initializing for a simulation
+  private final ProMetrics metrics = new ProMetrics();
+  // Territory valuation of the current turn, which notices itself when it is out of date
+  private final ProTerritoryValueCache territoryValueCache = new ProTerritoryValueCache();
+  // Units that can be loaded onto transports, found again for each phase
+  private ProTransportLoadingIndex transportLoadingIndex = new ProTransportLoadingIndex();
+
+  public void initialize(final ProAi proAi) {
     hiddenInitialize(proAi, proAi.getGameData(), proAi.getPlayerId(), false);
   }
 
-  public static void initializeSimulation(final ProAi proAi, final GameData data, final PlayerId player) {
+  public void initializeSimulation(final ProAi proAi, final GameData data, final PlayerId player) {
     hiddenInitialize(proAi, data, player, true);
   }
 
-  private static void hiddenInitialize(final ProAi proAi, final GameData data, final PlayerId player,
+  private void hiddenInitialize(final ProAi proAi, final GameData data, final PlayerId player,
       final boolean isSimulation) {
-    ProData.proAi = proAi;
-    ProData.data = data;
-    ProData.player = player;
-    ProData.isSimulation = isSimulation;
+    this.proAi = proAi;
+    this.data = data;
+    this.player = player;
+    this.isSimulation = isSimulation;
 
     if (!Properties.getLowLuck(data)) {
       winPercentage = 90;
@@ -64,24 +75,81 @@ public final class ProData {
     myCapital = TerritoryAttachment.getFirstOwnedCapitalOrFirstUnownedCapital(player, data);
     myUnitTerritories =
         CollectionUtils.getMatches(data.getMap().getTerritories(), Matches.territoryHasUnitsOwnedBy(player));
-    unitTerritoryMap = ProUtils.newUnitTerritoryMap();
+    unitTerritoryMap = ProUtils.newUnitTerritoryMap(data);
     unitValueMap = TuvUtils.getCostsForTuv(player, data);
     purchaseOptions = new ProPurchaseOptionMap(player, data);
     minCostPerHitPoint = getMinCostPerHitPoint(purchaseOptions.getLandOptions());
+    transportLoadingIndex = new ProTransportLoadingIndex();
+  }
+
+  public boolean isSimulation() {
+    return isSimulation;
+  }
+
+  public double getWinPercentage() {
+    return winPercentage;
+  }
+
+  public double getMinWinPercentage() {
+    return minWinPercentage;
+  }
+
+  public Territory getMyCapital() {
+    return myCapital;
+  }
+
+  public List<Territory> getMyUnitTerritories() {
+    return myUnitTerritories;
+  }
+
+  public Map<Unit, Territory> getUnitTerritoryMap() {
+    return unitTerritoryMap;
+  }
+
+  public IntegerMap<UnitType> getUnitValueMap() {
+    return unitValueMap;
+  }
+
+  public ProPurchaseOptionMap getPurchaseOptions() {
+    return purchaseOptions;
+  }
+
+  public double getMinCostPerHitPoint() {
+    return minCostPerHitPoint;
   }
 
-  public static ProAi getProAi() {
+  public ProAi getProAi() {
     return proAi;
   }
 
-  public static GameData getData() {
+  public GameData getData() {
     return data;
   }
 
-  public static PlayerId getPlayer() {
+  public PlayerId getPlayer() {
     return player;
   }
 
+  public ProTimeBudget getTimeBudget() {
+    return timeBudget;
+  }
+
+  public void setTimeBudget(final ProTimeBudget timeBudget) {
+    this.timeBudget = timeBudget;
+  }
+
+  public ProMetrics getMetrics() {
+    return metrics;
+  }
+
+  public ProTerritoryValueCache getTerritoryValueCache() {
+    return territoryValueCache;
+  }
+
+  public ProTransportLoadingIndex getTransportLoadingIndex() {
+    return transportLoadingIndex;
+  }
+
   private static double getMinCostPerHitPoint(final List<ProPurchaseOption> landPurchaseOptions) {
     double minCostPerHitPoint = Double.MAX_VALUE;
     for (final ProPurchaseOption ppo : landPurchaseOptions) {
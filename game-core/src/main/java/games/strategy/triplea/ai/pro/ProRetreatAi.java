@@ -44,17 +44,19 @@ import games.strategy.triplea.delegate.Matches;
 class ProRetreatAi {
 
   private final ProOddsCalculator calc;
+  private final ProData proData;
 
   ProRetreatAi(final ProAi ai) {
     calc = ai.getCalc();
+    proData = ai.getProData();
   }
 
   Territory retreatQuery(final GUID battleId, final Territory battleTerritory,
       final Collection<Territory> possibleTerritories) {
 
     // Get battle data
-    final GameData data = ProData.getData();
-    final PlayerId player = ProData.getPlayer();
+    final GameData data = proData.getData();
+    final PlayerId player = proData.getPlayer();
     final BattleDelegate delegate = DelegateFinder.battleDelegate(data);
     final IBattle battle = delegate.getBattleTracker().getPendingBattle(battleId);
 
@@ -106,7 +108,7 @@ class ProRetreatAi {
           retreatTerritory = t;
           break;
         }
-        final double strength = ProBattleUtils.estimateStrength(t,
+        final double strength = ProBattleUtils.estimateStrength(proData, t,
             t.getUnitCollection().getMatches(Matches.isUnitAllied(player, data)), new ArrayList<>(), false);
         if (strength > maxStrength) {
           retreatTerritory = t;
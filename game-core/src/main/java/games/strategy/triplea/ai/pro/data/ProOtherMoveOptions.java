@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerId;
 import games.strategy.engine.data.Territory;
 import games.strategy.engine.data.Unit;
@@ -28,9 +29,9 @@ public class ProOtherMoveOptions {
     moveMaps = new HashMap<>();
   }
 
-  public ProOtherMoveOptions(final List<Map<Territory, ProTerritory>> moveMapList, final PlayerId player,
-      final boolean isAttacker) {
-    maxMoveMap = newMaxMoveMap(moveMapList, player, isAttacker);
+  public ProOtherMoveOptions(final ProData proData, final List<Map<Territory, ProTerritory>> moveMapList,
+      final PlayerId player, final boolean isAttacker) {
+    maxMoveMap = newMaxMoveMap(proData, moveMapList, player, isAttacker);
     moveMaps = newMoveMaps(moveMapList);
   }
 
@@ -51,12 +52,12 @@ public class ProOtherMoveOptions {
     return maxMoveMap.toString();
   }
 
-  private static Map<Territory, ProTerritory> newMaxMoveMap(final List<Map<Territory, ProTerritory>> moveMaps,
-      final PlayerId player, final boolean isAttacker) {
-
+  private static Map<Territory, ProTerritory> newMaxMoveMap(final ProData proData,
+      final List<Map<Territory, ProTerritory>> moveMaps, final PlayerId player, final boolean isAttacker) {
+    final GameData data = proData.getData();
 
     final Map<Territory, ProTerritory> result = new HashMap<>();
-    final List<PlayerId> players = ProUtils.getOtherPlayersInTurnOrder(player);
+    final List<PlayerId> players = ProUtils.getOtherPlayersInTurnOrder(data, player);
     for (final Map<Territory, ProTerritory> moveMap : moveMaps) {
       for (final Territory t : moveMap.keySet()) {
 
@@ -71,7 +72,7 @@ public class ProOtherMoveOptions {
         }
 
         // Skip if checking allied moves and their turn doesn't come before territory owner's
-        if (ProData.getData().getRelationshipTracker().isAllied(player, movePlayer)
+        if (data.getRelationshipTracker().isAllied(player, movePlayer)
             && !ProUtils.isPlayersTurnFirst(players, movePlayer, t.getOwner())) {
           continue;
         }
@@ -84,10 +85,11 @@ public class ProOtherMoveOptions {
           maxUnits.addAll(result.get(t).getMaxAmphibUnits());
           double maxStrength = 0;
           if (!maxUnits.isEmpty()) {
-            maxStrength = ProBattleUtils.estimateStrength(t, new ArrayList<>(maxUnits), new ArrayList<>(), isAttacker);
+            maxStrength = ProBattleUtils.estimateStrength(proData, t, new ArrayList<>(maxUnits), new ArrayList<>(),
+                isAttacker);
           }
           final double currentStrength =
-              ProBattleUtils.estimateStrength(t, new ArrayList<>(currentUnits), new ArrayList<>(), isAttacker);
+              ProBattleUtils.estimateStrength(proData, t, new ArrayList<>(currentUnits), new ArrayList<>(), isAttacker);
           final boolean currentHasLandUnits = currentUnits.stream().anyMatch(Matches.unitIsLand());
           final boolean maxHasLandUnits = maxUnits.stream().anyMatch(Matches.unitIsLand());
           if ((currentHasLandUnits && ((!maxHasLandUnits && !t.isWater()) || currentStrength > maxStrength))
@@ -9,7 +9,9 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 import org.triplea.java.PredicateBuilder;
@@ -35,6 +37,7 @@ import games.strategy.triplea.delegate.Matches;
 import games.strategy.triplea.delegate.MoveValidator;
 import games.strategy.triplea.delegate.TerritoryEffectHelper;
 import games.strategy.triplea.delegate.TransportTracker;
+import lombok.AllArgsConstructor;
 
 /**
  * Manages info about territories.
@@ -42,6 +45,7 @@ import games.strategy.triplea.delegate.TransportTracker;
 public class ProTerritoryManager {
 
   private final ProOddsCalculator calc;
+  private final ProData proData;
   private final PlayerId player;
 
   private ProMyMoveOptions attackOptions;
@@ -51,9 +55,10 @@ public class ProTerritoryManager {
   private ProOtherMoveOptions enemyDefendOptions;
   private ProOtherMoveOptions enemyAttackOptions;
 
-  public ProTerritoryManager(final ProOddsCalculator calc) {
+  public ProTerritoryManager(final ProOddsCalculator calc, final ProData proData) {
     this.calc = calc;
-    player = ProData.getPlayer();
+    this.proData = proData;
+    player = proData.getPlayer();
     attackOptions = new ProMyMoveOptions();
     potentialAttackOptions = new ProMyMoveOptions();
     defendOptions = new ProMyMoveOptions();
@@ -63,7 +68,7 @@ public class ProTerritoryManager {
   }
 
   public ProTerritoryManager(final ProOddsCalculator calc, final ProTerritoryManager territoryManager) {
-    this(calc);
+    this(calc, territoryManager.proData);
     attackOptions = new ProMyMoveOptions(territoryManager.attackOptions);
     potentialAttackOptions = new ProMyMoveOptions(territoryManager.potentialAttackOptions);
     defendOptions = new ProMyMoveOptions(territoryManager.defendOptions);
@@ -73,7 +78,7 @@ public class ProTerritoryManager {
   }
 
   public void populateAttackOptions() {
-    findAttackOptions(player, ProData.myUnitTerritories, attackOptions.getTerritoryMap(),
+    findAttackOptions(player, proData.getMyUnitTerritories(), attackOptions.getTerritoryMap(),
         attackOptions.getUnitMoveMap(), attackOptions.getTransportMoveMap(), attackOptions.getBombardMap(),
         attackOptions.getTransportList(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), false, false);
     findBombingOptions();
@@ -81,13 +86,13 @@ public class ProTerritoryManager {
   }
 
   public void populatePotentialAttackOptions() {
-    findPotentialAttackOptions(player, ProData.myUnitTerritories, potentialAttackOptions.getTerritoryMap(),
+    findPotentialAttackOptions(player, proData.getMyUnitTerritories(), potentialAttackOptions.getTerritoryMap(),
         potentialAttackOptions.getUnitMoveMap(), potentialAttackOptions.getTransportMoveMap(),
         potentialAttackOptions.getBombardMap(), potentialAttackOptions.getTransportList());
   }
 
   public void populateDefenseOptions(final List<Territory> clearedTerritories) {
-    findDefendOptions(player, ProData.myUnitTerritories, defendOptions.getTerritoryMap(),
+    findDefendOptions(player, proData.getMyUnitTerritories(), defendOptions.getTerritoryMap(),
         defendOptions.getUnitMoveMap(), defendOptions.getTransportMoveMap(), defendOptions.getTransportList(),
         clearedTerritories, false);
   }
@@ -113,7 +118,7 @@ public class ProTerritoryManager {
       final ProOtherMoveOptions enemyDefendOptions, final boolean isIgnoringRelationships) {
 
     ProLogger.info("Removing territories that can't be conquered");
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     // Determine if territory can be successfully attacked with max possible attackers
     final List<Territory> territoriesToRemove = new ArrayList<>();
@@ -126,7 +131,8 @@ public class ProTerritoryManager {
       patd.setMaxBattleResult(calc.estimateAttackBattleResults(t, patd.getMaxUnits(), defenders, new HashSet<>()));
 
       // Add in amphib units if I can't win without them
-      if (patd.getMaxBattleResult().getWinPercentage() < ProData.winPercentage && !patd.getMaxAmphibUnits().isEmpty()) {
+      if (patd.getMaxBattleResult().getWinPercentage() < proData.getWinPercentage()
+          && !patd.getMaxAmphibUnits().isEmpty()) {
         final Set<Unit> combinedUnits = new HashSet<>(patd.getMaxUnits());
         combinedUnits.addAll(patd.getMaxAmphibUnits());
         patd.setMaxBattleResult(calc.estimateAttackBattleResults(t, new ArrayList<>(combinedUnits), defenders,
@@ -141,7 +147,7 @@ public class ProTerritoryManager {
           && ((ta != null && ta.isCapital()) || ProMatches.territoryHasInfraFactoryAndIsLand().test(t))) {
         isEnemyCapitalOrFactory = true;
       }
-      if (patd.getMaxBattleResult().getWinPercentage() < ProData.minWinPercentage && isEnemyCapitalOrFactory
+      if (patd.getMaxBattleResult().getWinPercentage() < proData.getMinWinPercentage() && isEnemyCapitalOrFactory
           && alliedAttackOptions.getMax(t) != null) {
 
         // Check for allied attackers
@@ -157,7 +163,7 @@ public class ProTerritoryManager {
 
             // Get max enemy defenders
             final Set<Unit> additionalEnemyDefenders = new HashSet<>();
-            final List<PlayerId> players = ProUtils.getOtherPlayersInTurnOrder(player);
+            final List<PlayerId> players = ProUtils.getOtherPlayersInTurnOrder(data, player);
             for (final ProTerritory enemyDefendOption : enemyDefendOptions.getAll(t)) {
               final Set<Unit> enemyUnits = new HashSet<>(enemyDefendOption.getMaxUnits());
               enemyUnits.addAll(enemyDefendOption.getMaxAmphibUnits());
@@ -175,7 +181,7 @@ public class ProTerritoryManager {
             final ProBattleResult result =
                 calc.estimateAttackBattleResults(t, new ArrayList<>(alliedUnits),
                     new ArrayList<>(enemyDefendersBeforeStrafe), alliedAttack.getMaxBombardUnits());
-            if (result.getWinPercentage() < ProData.winPercentage) {
+            if (result.getWinPercentage() < proData.getWinPercentage()) {
               patd.setStrafing(true);
 
               // Try to strafe to allow allies to conquer territory
@@ -199,8 +205,8 @@ public class ProTerritoryManager {
         }
       }
 
-      if (patd.getMaxBattleResult().getWinPercentage() < ProData.minWinPercentage
-          || (patd.isStrafing() && (patd.getMaxBattleResult().getWinPercentage() < ProData.winPercentage
+      if (patd.getMaxBattleResult().getWinPercentage() < proData.getMinWinPercentage()
+          || (patd.isStrafing() && (patd.getMaxBattleResult().getWinPercentage() < proData.getWinPercentage()
               || !patd.getMaxBattleResult().isHasLandUnitRemaining()))) {
         territoriesToRemove.add(t);
       }
@@ -285,8 +291,8 @@ public class ProTerritoryManager {
     return movedTransports.size() >= attackOptions.getTransportList().size();
   }
 
-  private static void findScrambleOptions(final PlayerId player, final Map<Territory, ProTerritory> moveMap) {
-    final GameData data = ProData.getData();
+  private void findScrambleOptions(final PlayerId player, final Map<Territory, ProTerritory> moveMap) {
+    final GameData data = proData.getData();
 
     if (!Properties.getScrambleRulesInEffect(data)) {
       return;
@@ -347,7 +353,8 @@ public class ProTerritoryManager {
         if (maxCanScramble > 0 && !canScrambleAir.isEmpty()) {
           if (maxCanScramble < canScrambleAir.size()) {
             canScrambleAir.sort(Comparator.<Unit>comparingDouble(
-                o -> ProBattleUtils.estimateStrength(to, Collections.singletonList(o), new ArrayList<>(), false))
+                o -> ProBattleUtils.estimateStrength(proData, to, Collections.singletonList(o), new ArrayList<>(),
+                    false))
                 .reversed());
             canScrambleAir = canScrambleAir.subList(0, maxCanScramble);
           }
@@ -375,13 +382,13 @@ public class ProTerritoryManager {
     return maxScrambled;
   }
 
-  private static void findAttackOptions(final PlayerId player, final List<Territory> myUnitTerritories,
+  private void findAttackOptions(final PlayerId player, final List<Territory> myUnitTerritories,
       final Map<Territory, ProTerritory> moveMap, final Map<Unit, Set<Territory>> unitMoveMap,
       final Map<Unit, Set<Territory>> transportMoveMap, final Map<Unit, Set<Territory>> bombardMap,
       final List<ProTransport> transportMapList, final List<Territory> enemyTerritories,
       final List<Territory> alliedTerritories, final List<Territory> territoriesToCheck,
       final boolean isCheckingEnemyAttacks, final boolean isIgnoringRelationships) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     final Map<Territory, Set<Territory>> landRoutesMap = new HashMap<>();
     final List<Territory> territoriesThatCantBeHeld = new ArrayList<>(enemyTerritories);
@@ -409,11 +416,11 @@ public class ProTerritoryManager {
     }
   }
 
-  private static ProOtherMoveOptions findAlliedAttackOptions(final PlayerId player) {
-    final GameData data = ProData.getData();
+  private ProOtherMoveOptions findAlliedAttackOptions(final PlayerId player) {
+    final GameData data = proData.getData();
 
     // Get enemy players in order of turn
-    final List<PlayerId> alliedPlayers = ProUtils.getAlliedPlayersInTurnOrder(player);
+    final List<PlayerId> alliedPlayers = ProUtils.getAlliedPlayersInTurnOrder(data, player);
     final List<Map<Territory, ProTerritory>> alliedAttackMaps = new ArrayList<>();
 
     // Loop through each enemy to determine the maximum number of enemy units that can attack each territory
@@ -429,15 +436,15 @@ public class ProTerritoryManager {
       findAttackOptions(alliedPlayer, alliedUnitTerritories, attackMap, unitAttackMap, transportAttackMap, bombardMap,
           transportMapList, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), false, false);
     }
-    return new ProOtherMoveOptions(alliedAttackMaps, player, true);
+    return new ProOtherMoveOptions(proData, alliedAttackMaps, player, true);
   }
 
-  private static ProOtherMoveOptions findEnemyAttackOptions(final PlayerId player,
+  private ProOtherMoveOptions findEnemyAttackOptions(final PlayerId player,
       final List<Territory> clearedTerritories, final List<Territory> territoriesToCheck) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     // Get enemy players in order of turn
-    final List<PlayerId> enemyPlayers = ProUtils.getEnemyPlayersInTurnOrder(player);
+    final List<PlayerId> enemyPlayers = ProUtils.getEnemyPlayersInTurnOrder(data, player);
     final List<Map<Territory, ProTerritory>> enemyAttackMaps = new ArrayList<>();
     final Set<Territory> alliedTerritories = new HashSet<>();
     final List<Territory> enemyTerritories = new ArrayList<>(clearedTerritories);
@@ -458,17 +465,17 @@ public class ProTerritoryManager {
       alliedTerritories.addAll(CollectionUtils.getMatches(attackMap.keySet(), Matches.territoryIsLand()));
       enemyTerritories.removeAll(alliedTerritories);
     }
-    return new ProOtherMoveOptions(enemyAttackMaps, player, true);
+    return new ProOtherMoveOptions(proData, enemyAttackMaps, player, true);
   }
 
-  private static void findPotentialAttackOptions(final PlayerId player, final List<Territory> myUnitTerritories,
+  private void findPotentialAttackOptions(final PlayerId player, final List<Territory> myUnitTerritories,
       final Map<Territory, ProTerritory> moveMap, final Map<Unit, Set<Territory>> unitMoveMap,
       final Map<Unit, Set<Territory>> transportMoveMap, final Map<Unit, Set<Territory>> bombardMap,
       final List<ProTransport> transportMapList) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     final Map<Territory, Set<Territory>> landRoutesMap = new HashMap<>();
-    final List<PlayerId> otherPlayers = ProUtils.getPotentialEnemyPlayers(player);
+    final List<PlayerId> otherPlayers = ProUtils.getPotentialEnemyPlayers(data, player);
     findNavalMoveOptions(player, myUnitTerritories, moveMap, unitMoveMap, transportMoveMap,
         ProMatches.territoryIsPotentialEnemyOrHasPotentialEnemyUnits(player, data, otherPlayers), new ArrayList<>(),
         true, false);
@@ -483,11 +490,11 @@ public class ProTerritoryManager {
     findBombardOptions(player, myUnitTerritories, moveMap, bombardMap, transportMapList, false);
   }
 
-  private static void findDefendOptions(final PlayerId player, final List<Territory> myUnitTerritories,
+  private void findDefendOptions(final PlayerId player, final List<Territory> myUnitTerritories,
       final Map<Territory, ProTerritory> moveMap, final Map<Unit, Set<Territory>> unitMoveMap,
       final Map<Unit, Set<Territory>> transportMoveMap, final List<ProTransport> transportMapList,
       final List<Territory> clearedTerritories, final boolean isCheckingEnemyAttacks) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     final Map<Territory, Set<Territory>> landRoutesMap = new HashMap<>();
     findNavalMoveOptions(player, myUnitTerritories, moveMap, unitMoveMap, transportMoveMap,
@@ -503,11 +510,11 @@ public class ProTerritoryManager {
         Matches.isTerritoryAllied(player, data), false, isCheckingEnemyAttacks, false);
   }
 
-  private static ProOtherMoveOptions findEnemyDefendOptions(final PlayerId player) {
-    final GameData data = ProData.getData();
+  private ProOtherMoveOptions findEnemyDefendOptions(final PlayerId player) {
+    final GameData data = proData.getData();
 
     // Get enemy players in order of turn
-    final List<PlayerId> enemyPlayers = ProUtils.getEnemyPlayersInTurnOrder(player);
+    final List<PlayerId> enemyPlayers = ProUtils.getEnemyPlayersInTurnOrder(data, player);
     final List<Map<Territory, ProTerritory>> enemyMoveMaps = new ArrayList<>();
     final List<Territory> clearedTerritories =
         CollectionUtils.getMatches(data.getMap().getTerritories(), Matches.isTerritoryAllied(player, data));
@@ -525,213 +532,240 @@ public class ProTerritoryManager {
           clearedTerritories, true);
     }
 
-    return new ProOtherMoveOptions(enemyMoveMaps, player, false);
+    return new ProOtherMoveOptions(proData, enemyMoveMaps, player, false);
   }
 
-  private static void findNavalMoveOptions(final PlayerId player, final List<Territory> myUnitTerritories,
+  private void findNavalMoveOptions(final PlayerId player, final List<Territory> myUnitTerritories,
       final Map<Territory, ProTerritory> moveMap, final Map<Unit, Set<Territory>> unitMoveMap,
       final Map<Unit, Set<Territory>> transportMoveMap, final Predicate<Territory> moveToTerritoryMatch,
       final List<Territory> clearedTerritories, final boolean isCombatMove, final boolean isCheckingEnemyAttacks) {
-    final GameData data = ProData.getData();
-
-    for (final Territory myUnitTerritory : myUnitTerritories) {
-
-      // Find my naval units that have movement left
-      final List<Unit> mySeaUnits =
-          myUnitTerritory.getUnitCollection().getMatches(ProMatches.unitCanBeMovedAndIsOwnedSea(player, isCombatMove));
-
-      // Check each sea unit individually since they can have different ranges
-      for (final Unit mySeaUnit : mySeaUnits) {
-
-        // If my combat move and carrier has dependent allied fighters then skip it
-        if (isCombatMove && !isCheckingEnemyAttacks) {
-          final Map<Unit, Collection<Unit>> carrierMustMoveWith =
-              MoveValidator.carrierMustMoveWith(myUnitTerritory.getUnits(), myUnitTerritory, data,
-                  player);
-          if (carrierMustMoveWith.containsKey(mySeaUnit) && !carrierMustMoveWith.get(mySeaUnit).isEmpty()) {
-            continue;
-          }
-        }
-
-        // Find range
-        int range = TripleAUnit.get(mySeaUnit).getMovementLeft();
-        if (isCheckingEnemyAttacks) {
-          range = UnitAttachment.get(mySeaUnit.getType()).getMovement(player);
-          if (Matches.unitCanBeGivenBonusMovementByFacilitiesInItsTerritory(myUnitTerritory, player, data)
-              .test(mySeaUnit)) {
-            range++; // assumes bonus of +1 for now
-          }
-        }
+    final List<UnitMoveOption> moveOptions = findInParallel(myUnitTerritories,
+        myUnitTerritory -> findNavalMoveOptionsFrom(player, myUnitTerritory, moveToTerritoryMatch, clearedTerritories,
+            isCombatMove, isCheckingEnemyAttacks));
+    for (final UnitMoveOption moveOption : moveOptions) {
+      final Unit mySeaUnit = moveOption.unit;
+      final Territory potentialTerritory = moveOption.to;
+
+      // Populate territories with sea unit
+      if (moveMap.containsKey(potentialTerritory)) {
+        moveMap.get(potentialTerritory).addMaxUnit(mySeaUnit);
+      } else {
+        final ProTerritory moveTerritoryData = new ProTerritory(potentialTerritory, proData);
+        moveTerritoryData.addMaxUnit(mySeaUnit);
+        moveMap.put(potentialTerritory, moveTerritoryData);
+      }
 
-        // Find list of potential territories to move to
-        final Set<Territory> possibleMoveTerritories = data.getMap().getNeighbors(myUnitTerritory, range,
-            ProMatches.territoryCanMoveSeaUnits(player, data, isCombatMove));
-        possibleMoveTerritories.add(myUnitTerritory);
-        final Set<Territory> potentialTerritories =
-            new HashSet<>(CollectionUtils.getMatches(possibleMoveTerritories, moveToTerritoryMatch));
-        if (!isCombatMove) {
-          potentialTerritories.add(myUnitTerritory);
+      // Populate appropriate unit move options map
+      if (Matches.unitIsTransport().test(mySeaUnit)) {
+        if (transportMoveMap.containsKey(mySeaUnit)) {
+          transportMoveMap.get(mySeaUnit).add(potentialTerritory);
+        } else {
+          final Set<Territory> unitMoveTerritories = new HashSet<>();
+          unitMoveTerritories.add(potentialTerritory);
+          transportMoveMap.put(mySeaUnit, unitMoveTerritories);
         }
-        for (final Territory potentialTerritory : potentialTerritories) {
-
-          // Find route over water
-          boolean hasNoRoute = true;
-          final List<Territory> eliminatedTerritories = new ArrayList<>();
-          while (true) { // Need a loop to consider different route combinations to avoid canals
-            Route myRoute = data.getMap().getRoute_IgnoreEnd(myUnitTerritory, potentialTerritory,
-                ProMatches.territoryCanMoveSeaUnitsThroughOrClearedAndNotInList(player, data, isCombatMove,
-                    clearedTerritories, eliminatedTerritories));
-            if (isCheckingEnemyAttacks) {
-              myRoute = data.getMap().getRoute_IgnoreEnd(myUnitTerritory, potentialTerritory,
-                  ProMatches.territoryCanMoveSeaUnitsAndNotInList(player, data, isCombatMove, eliminatedTerritories));
-            }
-            if (myRoute == null) {
-              break;
-            }
-            if (MoveValidator.validateCanal(myRoute, Collections.singletonList(mySeaUnit), player, data) != null) {
-              if (!myRoute.getMiddleSteps().isEmpty()) {
-                eliminatedTerritories.addAll(myRoute.getMiddleSteps()); // Add failed canal territories to list
-                continue;
-              }
-              break;
-            }
-            final int myRouteLength = myRoute.numberOfSteps();
-            if (myRouteLength > range) {
-              break;
-            }
-            hasNoRoute = false;
-            break;
-          }
-          if (hasNoRoute) {
-            continue;
-          }
-
-          // Populate territories with sea unit
-          if (moveMap.containsKey(potentialTerritory)) {
-            moveMap.get(potentialTerritory).addMaxUnit(mySeaUnit);
-          } else {
-            final ProTerritory moveTerritoryData = new ProTerritory(potentialTerritory);
-            moveTerritoryData.addMaxUnit(mySeaUnit);
-            moveMap.put(potentialTerritory, moveTerritoryData);
-          }
-
-          // Populate appropriate unit move options map
-          if (Matches.unitIsTransport().test(mySeaUnit)) {
-            if (transportMoveMap.containsKey(mySeaUnit)) {
-              transportMoveMap.get(mySeaUnit).add(potentialTerritory);
-            } else {
-              final Set<Territory> unitMoveTerritories = new HashSet<>();
-              unitMoveTerritories.add(potentialTerritory);
-              transportMoveMap.put(mySeaUnit, unitMoveTerritories);
-            }
-          } else {
-            if (unitMoveMap.containsKey(mySeaUnit)) {
-              unitMoveMap.get(mySeaUnit).add(potentialTerritory);
-            } else {
-              final Set<Territory> unitMoveTerritories = new HashSet<>();
-              unitMoveTerritories.add(potentialTerritory);
-              unitMoveMap.put(mySeaUnit, unitMoveTerritories);
-            }
-          }
+      } else {
+        if (unitMoveMap.containsKey(mySeaUnit)) {
+          unitMoveMap.get(mySeaUnit).add(potentialTerritory);
+        } else {
+          final Set<Territory> unitMoveTerritories = new HashSet<>();
+          unitMoveTerritories.add(potentialTerritory);
+          unitMoveMap.put(mySeaUnit, unitMoveTerritories);
         }
       }
     }
   }
 
-  private static void findLandMoveOptions(final PlayerId player, final List<Territory> myUnitTerritories,
-      final Map<Territory, ProTerritory> moveMap, final Map<Unit, Set<Territory>> unitMoveMap,
-      final Map<Territory, Set<Territory>> landRoutesMap, final Predicate<Territory> moveToTerritoryMatch,
-      final List<Territory> enemyTerritories, final List<Territory> clearedTerritories, final boolean isCombatMove,
-      final boolean isCheckingEnemyAttacks, final boolean isIgnoringRelationships) {
-    final GameData data = ProData.getData();
-
-    for (final Territory myUnitTerritory : myUnitTerritories) {
-
-      // Find my land units that have movement left
-      final List<Unit> myLandUnits =
-          myUnitTerritory.getUnitCollection().getMatches(ProMatches.unitCanBeMovedAndIsOwnedLand(player, isCombatMove));
-
-      // Check each land unit individually since they can have different ranges
-      for (final Unit myLandUnit : myLandUnits) {
-        final Territory startTerritory = ProData.unitTerritoryMap.get(myLandUnit);
-        final int range = TripleAUnit.get(myLandUnit).getMovementLeft();
-        Set<Territory> possibleMoveTerritories = data.getMap().getNeighbors(myUnitTerritory, range,
-            ProMatches.territoryCanMoveSpecificLandUnit(player, data, isCombatMove, myLandUnit));
-        if (isIgnoringRelationships) {
-          possibleMoveTerritories = data.getMap().getNeighbors(myUnitTerritory, range,
-              ProMatches.territoryCanPotentiallyMoveSpecificLandUnit(player, data, myLandUnit));
+  private List<UnitMoveOption> findNavalMoveOptionsFrom(final PlayerId player, final Territory myUnitTerritory,
+      final Predicate<Territory> moveToTerritoryMatch, final List<Territory> clearedTerritories,
+      final boolean isCombatMove, final boolean isCheckingEnemyAttacks) {
+    final GameData data = proData.getData();
+    final List<UnitMoveOption> moveOptions = new ArrayList<>();
+
+    // Find my naval units that have movement left
+    final List<Unit> mySeaUnits =
+        myUnitTerritory.getUnitCollection().getMatches(ProMatches.unitCanBeMovedAndIsOwnedSea(player, isCombatMove));
+
+    // Check each sea unit individually since they can have different ranges
+    for (final Unit mySeaUnit : mySeaUnits) {
+
+      // If my combat move and carrier has dependent allied fighters then skip it
+      if (isCombatMove && !isCheckingEnemyAttacks) {
+        final Map<Unit, Collection<Unit>> carrierMustMoveWith =
+            MoveValidator.carrierMustMoveWith(myUnitTerritory.getUnits(), myUnitTerritory, data,
+                player);
+        if (carrierMustMoveWith.containsKey(mySeaUnit) && !carrierMustMoveWith.get(mySeaUnit).isEmpty()) {
+          continue;
         }
-        possibleMoveTerritories.add(myUnitTerritory);
-        final Set<Territory> potentialTerritories =
-            new HashSet<>(CollectionUtils.getMatches(possibleMoveTerritories, moveToTerritoryMatch));
-        if (!isCombatMove) {
-          potentialTerritories.add(myUnitTerritory);
+      }
+
+      // Find range
+      int range = TripleAUnit.get(mySeaUnit).getMovementLeft();
+      if (isCheckingEnemyAttacks) {
+        range = UnitAttachment.get(mySeaUnit.getType()).getMovement(player);
+        if (Matches.unitCanBeGivenBonusMovementByFacilitiesInItsTerritory(myUnitTerritory, player, data)
+            .test(mySeaUnit)) {
+          range++; // assumes bonus of +1 for now
         }
-        for (final Territory potentialTerritory : potentialTerritories) {
+      }
+
+      // Find list of potential territories to move to
+      final Set<Territory> possibleMoveTerritories = data.getMap().getNeighbors(myUnitTerritory, range,
+          ProMatches.territoryCanMoveSeaUnits(player, data, isCombatMove));
+      possibleMoveTerritories.add(myUnitTerritory);
+      final Set<Territory> potentialTerritories =
+          new HashSet<>(CollectionUtils.getMatches(possibleMoveTerritories, moveToTerritoryMatch));
+      if (!isCombatMove) {
+        potentialTerritories.add(myUnitTerritory);
+      }
+      for (final Territory potentialTerritory : potentialTerritories) {
 
-          // Find route over land checking whether unit can blitz
+        // Find route over water
+        boolean hasNoRoute = true;
+        final List<Territory> eliminatedTerritories = new ArrayList<>();
+        while (true) { // Need a loop to consider different route combinations to avoid canals
           Route myRoute = data.getMap().getRoute_IgnoreEnd(myUnitTerritory, potentialTerritory,
-              ProMatches.territoryCanMoveLandUnitsThrough(player, data, myLandUnit, startTerritory, isCombatMove,
-                  enemyTerritories));
+              ProMatches.territoryCanMoveSeaUnitsThroughOrClearedAndNotInList(player, data, isCombatMove,
+                  clearedTerritories, eliminatedTerritories));
           if (isCheckingEnemyAttacks) {
             myRoute = data.getMap().getRoute_IgnoreEnd(myUnitTerritory, potentialTerritory,
-                ProMatches.territoryCanMoveLandUnitsThroughIgnoreEnemyUnits(player, data, myLandUnit, startTerritory,
-                    isCombatMove, enemyTerritories, clearedTerritories));
+                ProMatches.territoryCanMoveSeaUnitsAndNotInList(player, data, isCombatMove, eliminatedTerritories));
           }
           if (myRoute == null) {
-            continue;
+            break;
           }
-          if (myRoute.hasMoreThenOneStep()
-              && myRoute.getMiddleSteps().stream().anyMatch(Matches.isTerritoryEnemy(player, data))
-              && Matches.unitIsOfTypes(TerritoryEffectHelper.getUnitTypesThatLostBlitz(myRoute.getAllTerritories()))
-                  .test(myLandUnit)) {
-            continue; // If blitzing then make sure none of the territories cause blitz ability to be lost
+          if (MoveValidator.validateCanal(myRoute, Collections.singletonList(mySeaUnit), player, data) != null) {
+            if (!myRoute.getMiddleSteps().isEmpty()) {
+              eliminatedTerritories.addAll(myRoute.getMiddleSteps()); // Add failed canal territories to list
+              continue;
+            }
+            break;
           }
           final int myRouteLength = myRoute.numberOfSteps();
           if (myRouteLength > range) {
-            continue;
+            break;
           }
+          hasNoRoute = false;
+          break;
+        }
+        if (hasNoRoute) {
+          continue;
+        }
+        moveOptions.add(new UnitMoveOption(mySeaUnit, myUnitTerritory, potentialTerritory));
+      }
+    }
+    return moveOptions;
+  }
 
-          // Add to route map
-          if (landRoutesMap.containsKey(potentialTerritory)) {
-            landRoutesMap.get(potentialTerritory).add(myUnitTerritory);
-          } else {
-            final Set<Territory> territories = new HashSet<>();
-            territories.add(myUnitTerritory);
-            landRoutesMap.put(potentialTerritory, territories);
-          }
+  private void findLandMoveOptions(final PlayerId player, final List<Territory> myUnitTerritories,
+      final Map<Territory, ProTerritory> moveMap, final Map<Unit, Set<Territory>> unitMoveMap,
+      final Map<Territory, Set<Territory>> landRoutesMap, final Predicate<Territory> moveToTerritoryMatch,
+      final List<Territory> enemyTerritories, final List<Territory> clearedTerritories, final boolean isCombatMove,
+      final boolean isCheckingEnemyAttacks, final boolean isIgnoringRelationships) {
+    final List<UnitMoveOption> moveOptions = findInParallel(myUnitTerritories,
+        myUnitTerritory -> findLandMoveOptionsFrom(player, myUnitTerritory, moveToTerritoryMatch, enemyTerritories,
+            clearedTerritories, isCombatMove, isCheckingEnemyAttacks, isIgnoringRelationships));
+    for (final UnitMoveOption moveOption : moveOptions) {
+      final Unit myLandUnit = moveOption.unit;
+      final Territory myUnitTerritory = moveOption.from;
+      final Territory potentialTerritory = moveOption.to;
+      final Territory startTerritory = proData.getUnitTerritoryMap().get(myLandUnit);
+
+      // Add to route map
+      if (landRoutesMap.containsKey(potentialTerritory)) {
+        landRoutesMap.get(potentialTerritory).add(myUnitTerritory);
+      } else {
+        final Set<Territory> territories = new HashSet<>();
+        territories.add(myUnitTerritory);
+        landRoutesMap.put(potentialTerritory, territories);
+      }
 
-          // Populate territories with land units
-          if (moveMap.containsKey(potentialTerritory)) {
-            final List<Unit> unitsToAdd = ProTransportUtils.findBestUnitsToLandTransport(myLandUnit, startTerritory,
-                moveMap.get(potentialTerritory).getMaxUnits());
-            moveMap.get(potentialTerritory).addMaxUnits(unitsToAdd);
-          } else {
-            final ProTerritory moveTerritoryData = new ProTerritory(potentialTerritory);
-            final List<Unit> unitsToAdd = ProTransportUtils.findBestUnitsToLandTransport(myLandUnit, startTerritory);
-            moveTerritoryData.addMaxUnits(unitsToAdd);
-            moveMap.put(potentialTerritory, moveTerritoryData);
-          }
+      // Populate territories with land units
+      if (moveMap.containsKey(potentialTerritory)) {
+        final List<Unit> unitsToAdd = ProTransportUtils.findBestUnitsToLandTransport(myLandUnit, startTerritory,
+            moveMap.get(potentialTerritory).getMaxUnits());
+        moveMap.get(potentialTerritory).addMaxUnits(unitsToAdd);
+      } else {
+        final ProTerritory moveTerritoryData = new ProTerritory(potentialTerritory, proData);
+        final List<Unit> unitsToAdd = ProTransportUtils.findBestUnitsToLandTransport(myLandUnit, startTerritory);
+        moveTerritoryData.addMaxUnits(unitsToAdd);
+        moveMap.put(potentialTerritory, moveTerritoryData);
+      }
 
-          // Populate unit move options map
-          if (unitMoveMap.containsKey(myLandUnit)) {
-            unitMoveMap.get(myLandUnit).add(potentialTerritory);
-          } else {
-            final Set<Territory> unitMoveTerritories = new HashSet<>();
-            unitMoveTerritories.add(potentialTerritory);
-            unitMoveMap.put(myLandUnit, unitMoveTerritories);
-          }
+      // Populate unit move options map
+      if (unitMoveMap.containsKey(myLandUnit)) {
+        unitMoveMap.get(myLandUnit).add(potentialTerritory);
+      } else {
+        final Set<Territory> unitMoveTerritories = new HashSet<>();
+        unitMoveTerritories.add(potentialTerritory);
+        unitMoveMap.put(myLandUnit, unitMoveTerritories);
+      }
+    }
+  }
+
+  private List<UnitMoveOption> findLandMoveOptionsFrom(final PlayerId player, final Territory myUnitTerritory,
+      final Predicate<Territory> moveToTerritoryMatch, final List<Territory> enemyTerritories,
+      final List<Territory> clearedTerritories, final boolean isCombatMove, final boolean isCheckingEnemyAttacks,
+      final boolean isIgnoringRelationships) {
+    final GameData data = proData.getData();
+    final List<UnitMoveOption> moveOptions = new ArrayList<>();
+
+    // Find my land units that have movement left
+    final List<Unit> myLandUnits =
+        myUnitTerritory.getUnitCollection().getMatches(ProMatches.unitCanBeMovedAndIsOwnedLand(player, isCombatMove));
+
+    // Check each land unit individually since they can have different ranges
+    for (final Unit myLandUnit : myLandUnits) {
+      final Territory startTerritory = proData.getUnitTerritoryMap().get(myLandUnit);
+      final int range = TripleAUnit.get(myLandUnit).getMovementLeft();
+      Set<Territory> possibleMoveTerritories = data.getMap().getNeighbors(myUnitTerritory, range,
+          ProMatches.territoryCanMoveSpecificLandUnit(player, data, isCombatMove, myLandUnit));
+      if (isIgnoringRelationships) {
+        possibleMoveTerritories = data.getMap().getNeighbors(myUnitTerritory, range,
+            ProMatches.territoryCanPotentiallyMoveSpecificLandUnit(player, data, myLandUnit));
+      }
+      possibleMoveTerritories.add(myUnitTerritory);
+      final Set<Territory> potentialTerritories =
+          new HashSet<>(CollectionUtils.getMatches(possibleMoveTerritories, moveToTerritoryMatch));
+      if (!isCombatMove) {
+        potentialTerritories.add(myUnitTerritory);
+      }
+      for (final Territory potentialTerritory : potentialTerritories) {
+
+        // Find route over land checking whether unit can blitz
+        Route myRoute = data.getMap().getRoute_IgnoreEnd(myUnitTerritory, potentialTerritory,
+            ProMatches.territoryCanMoveLandUnitsThrough(player, data, myLandUnit, startTerritory, isCombatMove,
+                enemyTerritories));
+        if (isCheckingEnemyAttacks) {
+          myRoute = data.getMap().getRoute_IgnoreEnd(myUnitTerritory, potentialTerritory,
+              ProMatches.territoryCanMoveLandUnitsThroughIgnoreEnemyUnits(player, data, myLandUnit, startTerritory,
+                  isCombatMove, enemyTerritories, clearedTerritories));
+        }
+        if (myRoute == null) {
+          continue;
+        }
+        if (myRoute.hasMoreThenOneStep()
+            && myRoute.getMiddleSteps().stream().anyMatch(Matches.isTerritoryEnemy(player, data))
+            && Matches.unitIsOfTypes(TerritoryEffectHelper.getUnitTypesThatLostBlitz(myRoute.getAllTerritories()))
+                .test(myLandUnit)) {
+          continue; // If blitzing then make sure none of the territories cause blitz ability to be lost
         }
+        final int myRouteLength = myRoute.numberOfSteps();
+        if (myRouteLength > range) {
+          continue;
+        }
+        moveOptions.add(new UnitMoveOption(myLandUnit, myUnitTerritory, potentialTerritory));
       }
     }
+    return moveOptions;
   }
 
-  private static void findAirMoveOptions(final PlayerId player, final List<Territory> myUnitTerritories,
+  private void findAirMoveOptions(final PlayerId player, final List<Territory> myUnitTerritories,
       final Map<Territory, ProTerritory> moveMap, final Map<Unit, Set<Territory>> unitMoveMap,
       final Predicate<Territory> moveToTerritoryMatch, final List<Territory> enemyTerritories,
       final List<Territory> alliedTerritories, final boolean isCombatMove, final boolean isCheckingEnemyAttacks,
       final boolean isIgnoringRelationships) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     // TODO: add carriers to landing possibilities for non-enemy attacks
     // Find possible carrier landing territories
@@ -752,215 +786,119 @@ public class ProTerritoryManager {
       }
     }
 
-    for (final Territory myUnitTerritory : myUnitTerritories) {
+    final List<UnitMoveOption> moveOptions = findInParallel(myUnitTerritories,
+        myUnitTerritory -> findAirMoveOptionsFrom(player, myUnitTerritory, moveToTerritoryMatch, enemyTerritories,
+            alliedTerritories, possibleCarrierTerritories, isCombatMove, isCheckingEnemyAttacks,
+            isIgnoringRelationships));
+    for (final UnitMoveOption moveOption : moveOptions) {
+      final Unit myAirUnit = moveOption.unit;
+      final Territory potentialTerritory = moveOption.to;
+
+      // Populate enemy territories with air unit
+      if (moveMap.containsKey(potentialTerritory)) {
+        moveMap.get(potentialTerritory).addMaxUnit(myAirUnit);
+      } else {
+        final ProTerritory moveTerritoryData = new ProTerritory(potentialTerritory, proData);
+        moveTerritoryData.addMaxUnit(myAirUnit);
+        moveMap.put(potentialTerritory, moveTerritoryData);
+      }
+
+      // Populate unit attack options map
+      if (unitMoveMap.containsKey(myAirUnit)) {
+        unitMoveMap.get(myAirUnit).add(potentialTerritory);
+      } else {
+        final Set<Territory> unitMoveTerritories = new HashSet<>();
+        unitMoveTerritories.add(potentialTerritory);
+        unitMoveMap.put(myAirUnit, unitMoveTerritories);
+      }
+    }
+  }
+
+  private List<UnitMoveOption> findAirMoveOptionsFrom(final PlayerId player, final Territory myUnitTerritory,
+      final Predicate<Territory> moveToTerritoryMatch, final List<Territory> enemyTerritories,
+      final List<Territory> alliedTerritories, final Set<Territory> possibleCarrierTerritories,
+      final boolean isCombatMove, final boolean isCheckingEnemyAttacks, final boolean isIgnoringRelationships) {
+    final GameData data = proData.getData();
+    final List<UnitMoveOption> moveOptions = new ArrayList<>();
+
+    // Find my air units that have movement left
+    final List<Unit> myAirUnits =
+        myUnitTerritory.getUnitCollection().getMatches(ProMatches.unitCanBeMovedAndIsOwnedAir(player, isCombatMove));
+
+    // Check each air unit individually since they can have different ranges
+    for (final Unit myAirUnit : myAirUnits) {
+
+      // Find range
+      int range = TripleAUnit.get(myAirUnit).getMovementLeft();
+      if (isCheckingEnemyAttacks) {
+        range = UnitAttachment.get(myAirUnit.getType()).getMovement(player);
+        if (Matches.unitCanBeGivenBonusMovementByFacilitiesInItsTerritory(myUnitTerritory, player, data)
+            .test(myAirUnit)) {
+          range++; // assumes bonus of +1 for now
+        }
+      }
+
+      // Find potential territories to move to
+      Set<Territory> possibleMoveTerritories = data.getMap().getNeighbors(myUnitTerritory, range,
+          ProMatches.territoryCanMoveAirUnits(player, data, isCombatMove));
+      if (isIgnoringRelationships) {
+        possibleMoveTerritories = data.getMap().getNeighbors(myUnitTerritory, range,
+            ProMatches.territoryCanPotentiallyMoveAirUnits(player, data));
+      }
+      possibleMoveTerritories.add(myUnitTerritory);
+      final Set<Territory> potentialTerritories =
+          new HashSet<>(CollectionUtils.getMatches(possibleMoveTerritories, moveToTerritoryMatch));
+      if (!isCombatMove && Matches.unitCanLandOnCarrier().test(myAirUnit)) {
+        potentialTerritories.addAll(CollectionUtils.getMatches(possibleMoveTerritories,
+            Matches.territoryIsInList(possibleCarrierTerritories)));
+      }
 
-      // Find my air units that have movement left
-      final List<Unit> myAirUnits =
-          myUnitTerritory.getUnitCollection().getMatches(ProMatches.unitCanBeMovedAndIsOwnedAir(player, isCombatMove));
 
-      // Check each air unit individually since they can have different ranges
-      for (final Unit myAirUnit : myAirUnits) {
+      for (final Territory potentialTerritory : potentialTerritories) {
 
-        // Find range
-        int range = TripleAUnit.get(myAirUnit).getMovementLeft();
+        // Find route ignoring impassable and territories with AA
+        Predicate<Territory> canFlyOverMatch = ProMatches.territoryCanMoveAirUnitsAndNoAa(player, data, isCombatMove);
         if (isCheckingEnemyAttacks) {
-          range = UnitAttachment.get(myAirUnit.getType()).getMovement(player);
-          if (Matches.unitCanBeGivenBonusMovementByFacilitiesInItsTerritory(myUnitTerritory, player, data)
-              .test(myAirUnit)) {
-            range++; // assumes bonus of +1 for now
-          }
+          canFlyOverMatch = ProMatches.territoryCanMoveAirUnits(player, data, isCombatMove);
         }
-
-        // Find potential territories to move to
-        Set<Territory> possibleMoveTerritories = data.getMap().getNeighbors(myUnitTerritory, range,
-            ProMatches.territoryCanMoveAirUnits(player, data, isCombatMove));
-        if (isIgnoringRelationships) {
-          possibleMoveTerritories = data.getMap().getNeighbors(myUnitTerritory, range,
-              ProMatches.territoryCanPotentiallyMoveAirUnits(player, data));
+        final Route myRoute = data.getMap().getRoute_IgnoreEnd(myUnitTerritory, potentialTerritory, canFlyOverMatch);
+        if (myRoute == null) {
+          continue;
         }
-        possibleMoveTerritories.add(myUnitTerritory);
-        final Set<Territory> potentialTerritories =
-            new HashSet<>(CollectionUtils.getMatches(possibleMoveTerritories, moveToTerritoryMatch));
-        if (!isCombatMove && Matches.unitCanLandOnCarrier().test(myAirUnit)) {
-          potentialTerritories.addAll(CollectionUtils.getMatches(possibleMoveTerritories,
-              Matches.territoryIsInList(possibleCarrierTerritories)));
+        final int myRouteLength = myRoute.numberOfSteps();
+        final int remainingMoves = range - myRouteLength;
+        if (remainingMoves < 0) {
+          continue;
         }
 
-
-        for (final Territory potentialTerritory : potentialTerritories) {
-
-          // Find route ignoring impassable and territories with AA
-          Predicate<Territory> canFlyOverMatch = ProMatches.territoryCanMoveAirUnitsAndNoAa(player, data, isCombatMove);
-          if (isCheckingEnemyAttacks) {
-            canFlyOverMatch = ProMatches.territoryCanMoveAirUnits(player, data, isCombatMove);
+        // Check if unit can land
+        if (isCombatMove && (remainingMoves < myRouteLength || myUnitTerritory.isWater())) {
+          final Set<Territory> possibleLandingTerritories =
+              data.getMap().getNeighbors(potentialTerritory, remainingMoves, canFlyOverMatch);
+          final List<Territory> landingTerritories = CollectionUtils.getMatches(possibleLandingTerritories,
+              ProMatches.territoryCanLandAirUnits(player, data, isCombatMove, enemyTerritories, alliedTerritories));
+          List<Territory> carrierTerritories = new ArrayList<>();
+          if (Matches.unitCanLandOnCarrier().test(myAirUnit)) {
+            carrierTerritories = CollectionUtils.getMatches(possibleLandingTerritories,
+                Matches.territoryIsInList(possibleCarrierTerritories));
           }
-          final Route myRoute = data.getMap().getRoute_IgnoreEnd(myUnitTerritory, potentialTerritory, canFlyOverMatch);
-          if (myRoute == null) {
+          if (landingTerritories.isEmpty() && carrierTerritories.isEmpty()) {
             continue;
           }
-          final int myRouteLength = myRoute.numberOfSteps();
-          final int remainingMoves = range - myRouteLength;
-          if (remainingMoves < 0) {
-            continue;
-          }
-
-          // Check if unit can land
-          if (isCombatMove && (remainingMoves < myRouteLength || myUnitTerritory.isWater())) {
-            final Set<Territory> possibleLandingTerritories =
-                data.getMap().getNeighbors(potentialTerritory, remainingMoves, canFlyOverMatch);
-            final List<Territory> landingTerritories = CollectionUtils.getMatches(possibleLandingTerritories,
-                ProMatches.territoryCanLandAirUnits(player, data, isCombatMove, enemyTerritories, alliedTerritories));
-            List<Territory> carrierTerritories = new ArrayList<>();
-            if (Matches.unitCanLandOnCarrier().test(myAirUnit)) {
-              carrierTerritories = CollectionUtils.getMatches(possibleLandingTerritories,
-                  Matches.territoryIsInList(possibleCarrierTerritories));
-            }
-            if (landingTerritories.isEmpty() && carrierTerritories.isEmpty()) {
-              continue;
-            }
-          }
-
-          // Populate enemy territories with air unit
-          if (moveMap.containsKey(potentialTerritory)) {
-            moveMap.get(potentialTerritory).addMaxUnit(myAirUnit);
-          } else {
-            final ProTerritory moveTerritoryData = new ProTerritory(potentialTerritory);
-            moveTerritoryData.addMaxUnit(myAirUnit);
-            moveMap.put(potentialTerritory, moveTerritoryData);
-          }
-
-          // Populate unit attack options map
-          if (unitMoveMap.containsKey(myAirUnit)) {
-            unitMoveMap.get(myAirUnit).add(potentialTerritory);
-          } else {
-            final Set<Territory> unitMoveTerritories = new HashSet<>();
-            unitMoveTerritories.add(potentialTerritory);
-            unitMoveMap.put(myAirUnit, unitMoveTerritories);
-          }
         }
+        moveOptions.add(new UnitMoveOption(myAirUnit, myUnitTerritory, potentialTerritory));
       }
     }
+    return moveOptions;
   }
 
-  private static void findAmphibMoveOptions(final PlayerId player, final List<Territory> myUnitTerritories,
+  private void findAmphibMoveOptions(final PlayerId player, final List<Territory> myUnitTerritories,
       final Map<Territory, ProTerritory> moveMap, final List<ProTransport> transportMapList,
       final Map<Territory, Set<Territory>> landRoutesMap, final Predicate<Territory> moveAmphibToTerritoryMatch,
       final boolean isCombatMove, final boolean isCheckingEnemyAttacks, final boolean isIgnoringRelationships) {
-    final GameData data = ProData.getData();
-
-    for (final Territory myUnitTerritory : myUnitTerritories) {
-
-      // Find my transports and amphibious units that have movement left
-      final List<Unit> myTransportUnits =
-          myUnitTerritory.getUnitCollection()
-              .getMatches(ProMatches.unitCanBeMovedAndIsOwnedTransport(player, isCombatMove));
-      Predicate<Territory> unloadAmphibTerritoryMatch = ProMatches.territoryCanMoveLandUnits(player, data, isCombatMove)
-          .and(moveAmphibToTerritoryMatch);
-      if (isIgnoringRelationships) {
-        unloadAmphibTerritoryMatch = ProMatches.territoryCanPotentiallyMoveLandUnits(player, data)
-            .and(moveAmphibToTerritoryMatch);
-      }
-
-      // Check each transport unit individually since they can have different ranges
-      for (final Unit myTransportUnit : myTransportUnits) {
-
-        // Get remaining moves
-        int movesLeft = TripleAUnit.get(myTransportUnit).getMovementLeft();
-        if (isCheckingEnemyAttacks) {
-          movesLeft = UnitAttachment.get(myTransportUnit.getType()).getMovement(player);
-          if (Matches.unitCanBeGivenBonusMovementByFacilitiesInItsTerritory(myUnitTerritory, player, data)
-              .test(myTransportUnit)) {
-            movesLeft++; // assumes bonus of +1 for now
-          }
-        }
-
-        // Find units to load and territories to unload
-        final ProTransport proTransportData = new ProTransport(myTransportUnit);
-        transportMapList.add(proTransportData);
-        final Set<Territory> currentTerritories = new HashSet<>();
-        currentTerritories.add(myUnitTerritory);
-        while (movesLeft >= 0) {
-          final Set<Territory> nextTerritories = new HashSet<>();
-          for (final Territory currentTerritory : currentTerritories) {
-
-            // Find neighbors I can move to
-            final Set<Territory> possibleNeighborTerritories = data.getMap().getNeighbors(currentTerritory,
-                ProMatches.territoryCanMoveSeaUnitsThrough(player, data, isCombatMove));
-            for (final Territory possibleNeighborTerritory : possibleNeighborTerritories) {
-              if (MoveValidator.validateCanal(new Route(currentTerritory, possibleNeighborTerritory),
-                  Collections.singletonList(myTransportUnit), player, data) == null) {
-                nextTerritories.add(possibleNeighborTerritory);
-              }
-            }
-
-            // Get loaded units or get units that can be loaded into current territory if no enemies present
-            final List<Unit> units = new ArrayList<>();
-            final Set<Territory> myUnitsToLoadTerritories = new HashSet<>();
-            if (TransportTracker.isTransporting(myTransportUnit)) {
-              units.addAll(TransportTracker.transporting(myTransportUnit));
-            } else if (Matches.territoryHasEnemySeaUnits(player, data).negate().test(currentTerritory)) {
-              final Set<Territory> possibleLoadTerritories = data.getMap().getNeighbors(currentTerritory);
-              for (final Territory possibleLoadTerritory : possibleLoadTerritories) {
-                List<Unit> possibleUnits = possibleLoadTerritory.getUnitCollection().getMatches(
-                    ProMatches.unitIsOwnedTransportableUnitAndCanBeLoaded(player, myTransportUnit, isCombatMove));
-                if (isCheckingEnemyAttacks) {
-                  possibleUnits = possibleLoadTerritory.getUnitCollection()
-                      .getMatches(ProMatches.unitIsOwnedCombatTransportableUnit(player));
-                }
-                for (final Unit possibleUnit : possibleUnits) {
-                  if (UnitAttachment.get(possibleUnit.getType()).getTransportCost() <= UnitAttachment
-                      .get(myTransportUnit.getType()).getTransportCapacity()) {
-                    units.add(possibleUnit);
-                    myUnitsToLoadTerritories.add(possibleLoadTerritory);
-                  }
-                }
-              }
-            }
-
-            // If there are any units to be transported
-            if (!units.isEmpty()) {
-
-              // Find all water territories I can move to
-              final Set<Territory> seaMoveTerritories = new HashSet<>();
-              seaMoveTerritories.add(currentTerritory);
-              if (movesLeft > 0) {
-                Set<Territory> neighborTerritories = data.getMap().getNeighbors(currentTerritory, movesLeft,
-                    ProMatches.territoryCanMoveSeaUnitsThrough(player, data, isCombatMove));
-                if (isCheckingEnemyAttacks) {
-                  neighborTerritories = data.getMap().getNeighbors(currentTerritory, movesLeft,
-                      ProMatches.territoryCanMoveSeaUnits(player, data, isCombatMove));
-                }
-                for (final Territory neighborTerritory : neighborTerritories) {
-                  final Route myRoute = data.getMap().getRoute_IgnoreEnd(currentTerritory, neighborTerritory,
-                      ProMatches.territoryCanMoveSeaUnitsThrough(player, data, isCombatMove));
-                  if (myRoute == null) {
-                    continue;
-                  }
-                  if (MoveValidator.validateCanal(myRoute, Collections.singletonList(myTransportUnit), player,
-                      data) != null) {
-                    continue;
-                  }
-                  seaMoveTerritories.add(neighborTerritory);
-                }
-              }
-
-              // Find possible unload territories
-              final Set<Territory> amphibTerritories = new HashSet<>();
-              for (final Territory seaMoveTerritory : seaMoveTerritories) {
-                amphibTerritories.addAll(data.getMap().getNeighbors(seaMoveTerritory, unloadAmphibTerritoryMatch));
-              }
-
-              // Add to transport map
-              proTransportData.addTerritories(amphibTerritories, myUnitsToLoadTerritories);
-              proTransportData.addSeaTerritories(seaMoveTerritories, myUnitsToLoadTerritories);
-            }
-          }
-          currentTerritories.clear();
-          currentTerritories.addAll(nextTerritories);
-          movesLeft--;
-        }
-      }
-    }
+    transportMapList.addAll(findInParallel(myUnitTerritories,
+        myUnitTerritory -> findAmphibMoveOptionsFrom(player, myUnitTerritory, moveAmphibToTerritoryMatch, isCombatMove,
+            isCheckingEnemyAttacks, isIgnoringRelationships)));
 
     // Remove any territories from transport map that I can move to on land and transports with no amphib options
     for (final ProTransport proTransportData : transportMapList) {
@@ -993,18 +931,19 @@ public class ProTerritoryManager {
         if (moveMap.containsKey(moveTerritory)) {
           alreadyAddedToMaxAmphibUnits = moveMap.get(moveTerritory).getMaxAmphibUnits();
         }
-        List<Unit> amphibUnits = ProTransportUtils.getUnitsToTransportFromTerritories(player, transport,
+        List<Unit> amphibUnits = ProTransportUtils.getUnitsToTransportFromTerritories(proData, player, transport,
             territoriesCanLoadFrom, alreadyAddedToMaxAmphibUnits);
         if (isCheckingEnemyAttacks) {
-          amphibUnits = ProTransportUtils.getUnitsToTransportFromTerritories(player, transport, territoriesCanLoadFrom,
-              alreadyAddedToMaxAmphibUnits, ProMatches.unitIsOwnedCombatTransportableUnit(player));
+          amphibUnits = ProTransportUtils.getUnitsToTransportFromTerritories(proData, player, transport,
+              territoriesCanLoadFrom, alreadyAddedToMaxAmphibUnits,
+              ProMatches.unitIsOwnedCombatTransportableUnit(player));
         }
 
         // Add amphib units to attack map
         if (moveMap.containsKey(moveTerritory)) {
           moveMap.get(moveTerritory).addMaxAmphibUnits(amphibUnits);
         } else {
-          final ProTerritory moveTerritoryData = new ProTerritory(moveTerritory);
+          final ProTerritory moveTerritoryData = new ProTerritory(moveTerritory, proData);
           moveTerritoryData.addMaxAmphibUnits(amphibUnits);
           moveMap.put(moveTerritory, moveTerritoryData);
         }
@@ -1012,10 +951,127 @@ public class ProTerritoryManager {
     }
   }
 
-  private static void findBombardOptions(final PlayerId player, final List<Territory> myUnitTerritories,
+  private List<ProTransport> findAmphibMoveOptionsFrom(final PlayerId player, final Territory myUnitTerritory,
+      final Predicate<Territory> moveAmphibToTerritoryMatch, final boolean isCombatMove,
+      final boolean isCheckingEnemyAttacks, final boolean isIgnoringRelationships) {
+    final GameData data = proData.getData();
+    final List<ProTransport> transports = new ArrayList<>();
+
+    // Find my transports and amphibious units that have movement left
+    final List<Unit> myTransportUnits =
+        myUnitTerritory.getUnitCollection()
+            .getMatches(ProMatches.unitCanBeMovedAndIsOwnedTransport(player, isCombatMove));
+    Predicate<Territory> unloadAmphibTerritoryMatch = ProMatches.territoryCanMoveLandUnits(player, data, isCombatMove)
+        .and(moveAmphibToTerritoryMatch);
+    if (isIgnoringRelationships) {
+      unloadAmphibTerritoryMatch = ProMatches.territoryCanPotentiallyMoveLandUnits(player, data)
+          .and(moveAmphibToTerritoryMatch);
+    }
+
+    // Check each transport unit individually since they can have different ranges
+    for (final Unit myTransportUnit : myTransportUnits) {
+      final Predicate<Unit> canBeLoaded = isCheckingEnemyAttacks
+          ? ProMatches.unitIsOwnedCombatTransportableUnit(player)
+          : ProMatches.unitIsOwnedTransportableUnitAndCanBeLoaded(player, myTransportUnit, isCombatMove);
+      final int transportCapacity = UnitAttachment.get(myTransportUnit.getType()).getTransportCapacity();
+
+      // Get remaining moves
+      int movesLeft = TripleAUnit.get(myTransportUnit).getMovementLeft();
+      if (isCheckingEnemyAttacks) {
+        movesLeft = UnitAttachment.get(myTransportUnit.getType()).getMovement(player);
+        if (Matches.unitCanBeGivenBonusMovementByFacilitiesInItsTerritory(myUnitTerritory, player, data)
+            .test(myTransportUnit)) {
+          movesLeft++; // assumes bonus of +1 for now
+        }
+      }
+
+      // Find units to load and territories to unload
+      final ProTransport proTransportData = new ProTransport(myTransportUnit);
+      transports.add(proTransportData);
+      final Set<Territory> currentTerritories = new HashSet<>();
+      currentTerritories.add(myUnitTerritory);
+      while (movesLeft >= 0) {
+        final Set<Territory> nextTerritories = new HashSet<>();
+        for (final Territory currentTerritory : currentTerritories) {
+
+          // Find neighbors I can move to
+          final Set<Territory> possibleNeighborTerritories = data.getMap().getNeighbors(currentTerritory,
+              ProMatches.territoryCanMoveSeaUnitsThrough(player, data, isCombatMove));
+          for (final Territory possibleNeighborTerritory : possibleNeighborTerritories) {
+            if (MoveValidator.validateCanal(new Route(currentTerritory, possibleNeighborTerritory),
+                Collections.singletonList(myTransportUnit), player, data) == null) {
+              nextTerritories.add(possibleNeighborTerritory);
+            }
+          }
+
+          // Get loaded units or get units that can be loaded into current territory if no enemies present
+          final List<Unit> units = new ArrayList<>();
+          final Set<Territory> myUnitsToLoadTerritories = new HashSet<>();
+          if (TransportTracker.isTransporting(myTransportUnit)) {
+            units.addAll(TransportTracker.transporting(myTransportUnit));
+          } else if (Matches.territoryHasEnemySeaUnits(player, data).negate().test(currentTerritory)) {
+            final Set<Territory> possibleLoadTerritories = data.getMap().getNeighbors(currentTerritory);
+            for (final Territory possibleLoadTerritory : possibleLoadTerritories) {
+              for (final Unit possibleUnit : proData.getTransportLoadingIndex().getTransportableUnits(player,
+                  possibleLoadTerritory)) {
+                if (canBeLoaded.test(possibleUnit)
+                    && UnitAttachment.get(possibleUnit.getType()).getTransportCost() <= transportCapacity) {
+                  units.add(possibleUnit);
+                  myUnitsToLoadTerritories.add(possibleLoadTerritory);
+                }
+              }
+            }
+          }
+
+          // If there are any units to be transported
+          if (!units.isEmpty()) {
+
+            // Find all water territories I can move to
+            final Set<Territory> seaMoveTerritories = new HashSet<>();
+            seaMoveTerritories.add(currentTerritory);
+            if (movesLeft > 0) {
+              Set<Territory> neighborTerritories = data.getMap().getNeighbors(currentTerritory, movesLeft,
+                  ProMatches.territoryCanMoveSeaUnitsThrough(player, data, isCombatMove));
+              if (isCheckingEnemyAttacks) {
+                neighborTerritories = data.getMap().getNeighbors(currentTerritory, movesLeft,
+                    ProMatches.territoryCanMoveSeaUnits(player, data, isCombatMove));
+              }
+              for (final Territory neighborTerritory : neighborTerritories) {
+                final Route myRoute = data.getMap().getRoute_IgnoreEnd(currentTerritory, neighborTerritory,
+                    ProMatches.territoryCanMoveSeaUnitsThrough(player, data, isCombatMove));
+                if (myRoute == null) {
+                  continue;
+                }
+                if (MoveValidator.validateCanal(myRoute, Collections.singletonList(myTransportUnit), player,
+                    data) != null) {
+                  continue;
+                }
+                seaMoveTerritories.add(neighborTerritory);
+              }
+            }
+
+            // Find possible unload territories
+            final Set<Territory> amphibTerritories = new HashSet<>();
+            for (final Territory seaMoveTerritory : seaMoveTerritories) {
+              amphibTerritories.addAll(data.getMap().getNeighbors(seaMoveTerritory, unloadAmphibTerritoryMatch));
+            }
+
+            // Add to transport map
+            proTransportData.addTerritories(amphibTerritories, myUnitsToLoadTerritories);
+            proTransportData.addSeaTerritories(seaMoveTerritories, myUnitsToLoadTerritories);
+          }
+        }
+        currentTerritories.clear();
+        currentTerritories.addAll(nextTerritories);
+        movesLeft--;
+      }
+    }
+    return transports;
+  }
+
+  private void findBombardOptions(final PlayerId player, final List<Territory> myUnitTerritories,
       final Map<Territory, ProTerritory> moveMap, final Map<Unit, Set<Territory>> bombardMap,
       final List<ProTransport> transportMapList, final boolean isCheckingEnemyAttacks) {
-    final GameData data = ProData.getData();
 
     // Find all transport unload from and to territories
     final Set<Territory> unloadFromTerritories = new HashSet<>();
@@ -1026,70 +1082,120 @@ public class ProTerritoryManager {
     }
 
     // Loop through territories with my units
-    for (final Territory myUnitTerritory : myUnitTerritories) {
+    final List<BombardOption> bombardOptions = findInParallel(myUnitTerritories,
+        myUnitTerritory -> findBombardOptionsFrom(player, myUnitTerritory, unloadFromTerritories, unloadToTerritories,
+            isCheckingEnemyAttacks));
+    for (final BombardOption bombardOption : bombardOptions) {
+      final Unit mySeaUnit = bombardOption.unit;
+
+      // Populate attack territories with bombard unit
+      for (final Territory bombardToTerritory : bombardOption.bombardToTerritories) {
+        if (moveMap.containsKey(bombardToTerritory)) { // Should always contain it
+          moveMap.get(bombardToTerritory).addMaxBombardUnit(mySeaUnit);
+          moveMap.get(bombardToTerritory).addBombardOptionsMap(mySeaUnit, bombardOption.bombardFromTerritory);
+        }
+      }
 
-      // Find my bombard units that have movement left
-      final List<Unit> mySeaUnits =
-          myUnitTerritory.getUnitCollection().getMatches(ProMatches.unitCanBeMovedAndIsOwnedBombard(player));
+      // Populate bombard options map
+      if (bombardMap.containsKey(mySeaUnit)) {
+        bombardMap.get(mySeaUnit).addAll(bombardOption.bombardToTerritories);
+      } else {
+        bombardMap.put(mySeaUnit, bombardOption.bombardToTerritories);
+      }
+    }
+  }
 
-      // Check each sea unit individually since they can have different ranges
-      for (final Unit mySeaUnit : mySeaUnits) {
+  private List<BombardOption> findBombardOptionsFrom(final PlayerId player, final Territory myUnitTerritory,
+      final Set<Territory> unloadFromTerritories, final Set<Territory> unloadToTerritories,
+      final boolean isCheckingEnemyAttacks) {
+    final GameData data = proData.getData();
+    final List<BombardOption> bombardOptions = new ArrayList<>();
+
+    // Find my bombard units that have movement left
+    final List<Unit> mySeaUnits =
+        myUnitTerritory.getUnitCollection().getMatches(ProMatches.unitCanBeMovedAndIsOwnedBombard(player));
+
+    // Check each sea unit individually since they can have different ranges
+    for (final Unit mySeaUnit : mySeaUnits) {
+
+      // Find range
+      int range = TripleAUnit.get(mySeaUnit).getMovementLeft();
+      if (isCheckingEnemyAttacks) {
+        range = UnitAttachment.get(mySeaUnit.getType()).getMovement(player);
+        if (Matches.unitCanBeGivenBonusMovementByFacilitiesInItsTerritory(myUnitTerritory, player, data)
+            .test(mySeaUnit)) {
+          range++; // assumes bonus of +1 for now
+        }
+      }
+
+      // Find list of potential territories to move to
+      final Set<Territory> potentialTerritories =
+          data.getMap().getNeighbors(myUnitTerritory, range, ProMatches.territoryCanMoveSeaUnits(player, data, true));
+      potentialTerritories.add(myUnitTerritory);
+      potentialTerritories.retainAll(unloadFromTerritories);
+      for (final Territory bombardFromTerritory : potentialTerritories) {
 
-        // Find range
-        int range = TripleAUnit.get(mySeaUnit).getMovementLeft();
+        // Find route over water with no enemy units blocking
+        Route myRoute = data.getMap().getRoute(myUnitTerritory, bombardFromTerritory,
+            ProMatches.territoryCanMoveSeaUnitsThrough(player, data, true));
         if (isCheckingEnemyAttacks) {
-          range = UnitAttachment.get(mySeaUnit.getType()).getMovement(player);
-          if (Matches.unitCanBeGivenBonusMovementByFacilitiesInItsTerritory(myUnitTerritory, player, data)
-              .test(mySeaUnit)) {
-            range++; // assumes bonus of +1 for now
-          }
+          myRoute = data.getMap().getRoute(myUnitTerritory, bombardFromTerritory,
+              ProMatches.territoryCanMoveSeaUnits(player, data, true));
+        }
+        if (myRoute == null) {
+          continue;
+        }
+        if (MoveValidator.validateCanal(myRoute, Collections.singletonList(mySeaUnit), player, data) != null) {
+          continue;
+        }
+        final int myRouteLength = myRoute.numberOfSteps();
+        if (myRouteLength > range) {
+          continue;
         }
 
-        // Find list of potential territories to move to
-        final Set<Territory> potentialTerritories =
-            data.getMap().getNeighbors(myUnitTerritory, range, ProMatches.territoryCanMoveSeaUnits(player, data, true));
-        potentialTerritories.add(myUnitTerritory);
-        potentialTerritories.retainAll(unloadFromTerritories);
-        for (final Territory bombardFromTerritory : potentialTerritories) {
-
-          // Find route over water with no enemy units blocking
-          Route myRoute = data.getMap().getRoute(myUnitTerritory, bombardFromTerritory,
-              ProMatches.territoryCanMoveSeaUnitsThrough(player, data, true));
-          if (isCheckingEnemyAttacks) {
-            myRoute = data.getMap().getRoute(myUnitTerritory, bombardFromTerritory,
-                ProMatches.territoryCanMoveSeaUnits(player, data, true));
-          }
-          if (myRoute == null) {
-            continue;
-          }
-          if (MoveValidator.validateCanal(myRoute, Collections.singletonList(mySeaUnit), player, data) != null) {
-            continue;
-          }
-          final int myRouteLength = myRoute.numberOfSteps();
-          if (myRouteLength > range) {
-            continue;
-          }
+        // Find potential unload to territories
+        final Set<Territory> bombardToTerritories = new HashSet<>(data.getMap().getNeighbors(bombardFromTerritory));
+        bombardToTerritories.retainAll(unloadToTerritories);
+        bombardOptions.add(new BombardOption(mySeaUnit, bombardFromTerritory, bombardToTerritories));
+      }
+    }
+    return bombardOptions;
+  }
 
-          // Find potential unload to territories
-          final Set<Territory> bombardToTerritories = new HashSet<>(data.getMap().getNeighbors(bombardFromTerritory));
-          bombardToTerritories.retainAll(unloadToTerritories);
+  /**
+   * Searches the move options of the units in each of the specified territories in parallel and returns the options
+   * in the order of the territories. The search must only read the game data; the caller then applies the options to
+   * its move maps in that order, which gives the same move maps as searching the territories one after another.
+   */
+  private <T> List<T> findInParallel(final List<Territory> myUnitTerritories,
+      final Function<Territory, List<T>> findMoveOptions) {
+    final long startNanos = System.nanoTime();
+    final List<T> moveOptions = myUnitTerritories.parallelStream()
+        .map(findMoveOptions)
+        .flatMap(List::stream)
+        .collect(Collectors.toList());
+    proData.getMetrics().add("move options: neighbour searches", myUnitTerritories.size(),
+        System.nanoTime() - startNanos);
+    return moveOptions;
+  }
 
-          // Populate attack territories with bombard unit
-          for (final Territory bombardToTerritory : bombardToTerritories) {
-            if (moveMap.containsKey(bombardToTerritory)) { // Should always contain it
-              moveMap.get(bombardToTerritory).addMaxBombardUnit(mySeaUnit);
-              moveMap.get(bombardToTerritory).addBombardOptionsMap(mySeaUnit, bombardFromTerritory);
-            }
-          }
+  /**
+   * A territory that a unit can move to.
+   */
+  @AllArgsConstructor
+  private static final class UnitMoveOption {
+    final Unit unit;
+    final Territory from;
+    final Territory to;
+  }
 
-          // Populate bombard options map
-          if (bombardMap.containsKey(mySeaUnit)) {
-            bombardMap.get(mySeaUnit).addAll(bombardToTerritories);
-          } else {
-            bombardMap.put(mySeaUnit, bombardToTerritories);
-          }
-        }
-      }
-    }
+  /**
+   * A sea territory from which a unit can bombard the specified territories.
+   */
+  @AllArgsConstructor
+  private static final class BombardOption {
+    final Unit unit;
+    final Territory bombardFromTerritory;
+    final Set<Territory> bombardToTerritories;
   }
 }
@@ -54,4 +54,11 @@ public final class ProLogUi {
       settingsWindow.notifyNewRound(round, name);
     }
   }
+
+  static void notifyTurnMetrics(final int round, final String name, final String metrics) {
+    if (settingsWindow == null) {
+      return;
+    }
+    settingsWindow.notifyTurnMetrics(round, name, metrics);
+  }
 }
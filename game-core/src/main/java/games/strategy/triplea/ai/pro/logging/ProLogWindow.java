@@ -26,6 +26,7 @@ import javax.swing.JTabbedPane;
 import javax.swing.JTextArea;
 import javax.swing.ScrollPaneConstants;
 import javax.swing.SpinnerNumberModel;
+import javax.swing.SwingUtilities;
 import javax.swing.WindowConstants;
 
 import org.triplea.java.Interruptibles;
@@ -49,6 +50,7 @@ class ProLogWindow extends JDialog {
   private JComboBox<String> logDepth;
   private JTabbedPane logHolderTabbedPane;
   private JTabbedPane tabPaneMain;
+  private JTextArea metricsTextArea;
 
   ProLogWindow(final TripleAFrame frame) {
     super(frame);
@@ -83,6 +85,9 @@ class ProLogWindow extends JDialog {
     limitLogHistoryCheckBox = new JCheckBox();
     final JLabel label46 = new JLabel();
     final JPanel pauseAIs = new JPanel();
+    final JPanel metricsPanel = new JPanel();
+    final JScrollPane metricsTextAreaScrollPane = new JScrollPane();
+    metricsTextArea = new JTextArea();
     setTitle("Hard AI Settings");
     setMinimumSize(new Dimension(775, 400));
     addWindowListener(new WindowAdapter() {
@@ -246,6 +251,14 @@ class ProLogWindow extends JDialog {
     gridBagConstraints.insets = new Insets(7, 0, 0, 0);
     panel8.add(pauseAIs, gridBagConstraints);
     tabPaneMain.addTab("Debugging", panel8);
+    metricsPanel.setName("metricsPanel");
+    metricsPanel.setLayout(new GridLayout(1, 0));
+    metricsTextArea.setEditable(false);
+    metricsTextArea.setFont(new Font("Segoe UI", Font.PLAIN, 10));
+    metricsTextArea.setName("metricsTextArea");
+    metricsTextAreaScrollPane.setViewportView(metricsTextArea);
+    metricsPanel.add(metricsTextAreaScrollPane);
+    tabPaneMain.addTab("Metrics", metricsPanel);
     gridBagConstraints = new GridBagConstraints();
     gridBagConstraints.gridx = 0;
     gridBagConstraints.gridy = 0;
@@ -417,6 +430,13 @@ class ProLogWindow extends JDialog {
     trimLogRoundPanels();
   }
 
+  void notifyTurnMetrics(final int roundNumber, final String name, final String metrics) {
+    SwingUtilities.invokeLater(() -> {
+      metricsTextArea.setText(roundNumber + "-" + name + "\r\n" + metrics);
+      metricsTextArea.setCaretPosition(0);
+    });
+  }
+
   private void trimLogRoundPanels() {
     final ProLogSettings settings = ProLogSettings.loadSettings();
     // If we're logging and we have trimming enabled, or if we have logging turned off
@@ -3,17 +3,29 @@ package games.strategy.triplea.ai.pro.logging;
 import org.triplea.java.collections.IntegerMap;
 
 import games.strategy.engine.data.ProductionRule;
+import lombok.extern.java.Log;
 
 /**
  * Pro AI metrics.
  */
+@Log
 public final class ProMetricUtils {
-  private static final IntegerMap<ProductionRule> totalPurchaseMap = new IntegerMap<>();
-
   private ProMetricUtils() {}
 
-  public static void collectPurchaseStats(final IntegerMap<ProductionRule> purchaseMap) {
-    totalPurchaseMap.add(purchaseMap);
-    ProLogger.debug(totalPurchaseMap.toString());
+  public static void collectPurchaseStats(final ProMetrics metrics, final IntegerMap<ProductionRule> purchaseMap) {
+    metrics.addPurchases(purchaseMap);
+    ProLogger.debug(metrics.getTotalPurchases().toString());
+  }
+
+  /**
+   * Shows the metrics of the turn that just ended in the log window, logs them as JSON at level FINE and discards them
+   * so the next turn starts afresh.
+   */
+  public static void logTurnMetrics(final ProMetrics metrics, final int round, final String player) {
+    final String metricsText = metrics.toLogString();
+    ProLogger.info(player + " metrics for round " + round + ":\n" + metricsText);
+    ProLogUi.notifyTurnMetrics(round, player, metricsText);
+    log.fine(() -> "Pro AI metrics: " + metrics.toJson(round, player));
+    metrics.reset();
   }
 }
@@ -0,0 +1,202 @@
+package games.strategy.triplea.ai.pro.logging;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+
+import org.triplea.java.collections.IntegerMap;
+
+import games.strategy.engine.data.ProductionRule;
+
+/**
+ * Records where the Pro AI spends its time during a turn: the wall time and allocated memory of each phase, the wall
+ * time of the steps within a phase, and the number and duration of other operations, e.g. odds calculator calls.
+ *
+ * <p>
+ * The allocated memory is the memory allocated by all threads of the JVM while the phase ran, so it includes the
+ * threads of the odds calculator, but also anything else running at the same time.
+ * </p>
+ *
+ * <p>
+ * Instances of this class are safe for use by multiple threads.
+ * </p>
+ */
+public final class ProMetrics {
+  private static final long BYTES_PER_MEGABYTE = 1024 * 1024;
+
+  @GuardedBy("this")
+  private final Map<String, Metric> metrics = new LinkedHashMap<>();
+  @GuardedBy("this")
+  private final IntegerMap<ProductionRule> totalPurchases = new IntegerMap<>();
+  @GuardedBy("this")
+  private @Nullable String currentPhase;
+  @GuardedBy("this")
+  private long phaseStartNanos;
+  @GuardedBy("this")
+  private long phaseStartAllocatedBytes;
+  @GuardedBy("this")
+  private long stepStartNanos;
+
+  /**
+   * Starts measuring the specified phase. The steps ended until {@link #endPhase()} is called belong to this phase.
+   */
+  public synchronized void startPhase(final String phase) {
+    currentPhase = phase;
+    phaseStartAllocatedBytes = getAllocatedBytes();
+    phaseStartNanos = System.nanoTime();
+    stepStartNanos = phaseStartNanos;
+  }
+
+  /**
+   * Records the wall time and allocated memory of the current phase.
+   */
+  public synchronized void endPhase() {
+    if (currentPhase == null) {
+      return;
+    }
+    final Metric metric = getMetric(currentPhase);
+    metric.count++;
+    metric.nanos += System.nanoTime() - phaseStartNanos;
+    metric.allocatedBytes += Math.max(0, getAllocatedBytes() - phaseStartAllocatedBytes);
+    currentPhase = null;
+  }
+
+  /**
+   * Starts measuring the next step of the current phase.
+   */
+  public synchronized void markStep() {
+    stepStartNanos = System.nanoTime();
+  }
+
+  /**
+   * Records the wall time since the last step ended or was marked as the wall time of the specified step of the
+   * current phase, and starts measuring the next step.
+   */
+  public synchronized void endStep(final String step) {
+    final long now = System.nanoTime();
+    if (stepStartNanos != 0) {
+      final Metric metric = getMetric((currentPhase != null) ? (currentPhase + ": " + step) : step);
+      metric.count++;
+      metric.nanos += now - stepStartNanos;
+    }
+    stepStartNanos = now;
+  }
+
+  /**
+   * Records that the specified operation was performed the specified number of times, taking the specified total
+   * wall time.
+   */
+  public synchronized void add(final String operation, final long count, final long nanos) {
+    final Metric metric = getMetric(operation);
+    metric.count += count;
+    metric.nanos += nanos;
+  }
+
+  /**
+   * Records that the specified operation was performed once.
+   */
+  public void increment(final String operation) {
+    add(operation, 1, 0);
+  }
+
+  public synchronized void addPurchases(final IntegerMap<ProductionRule> purchases) {
+    totalPurchases.add(purchases);
+  }
+
+  /**
+   * Returns the units purchased since the game started.
+   */
+  public synchronized IntegerMap<ProductionRule> getTotalPurchases() {
+    return new IntegerMap<>(totalPurchases);
+  }
+
+  /**
+   * Discards the metrics recorded so far, except for the purchases, e.g. at the end of a turn.
+   */
+  public synchronized void reset() {
+    metrics.clear();
+  }
+
+  private Metric getMetric(final String name) {
+    return metrics.computeIfAbsent(name, k -> new Metric());
+  }
+
+  /**
+   * Returns one line per phase, step and operation in the order they were first recorded.
+   */
+  public synchronized String toLogString() {
+    final StringBuilder sb = new StringBuilder();
+    metrics.forEach((name, metric) -> {
+      sb.append(name).append(": ").append(metric.count).append('x');
+      if (metric.nanos > 0) {
+        sb.append(' ').append(TimeUnit.NANOSECONDS.toMillis(metric.nanos)).append("ms");
+      }
+      if (metric.allocatedBytes > 0) {
+        sb.append(", allocated ").append(metric.allocatedBytes / BYTES_PER_MEGABYTE).append("MB (")
+            .append(metric.getAllocatedMegabytesPerSecond()).append("MB/s)");
+      }
+      sb.append('\n');
+    });
+    return sb.toString();
+  }
+
+  /**
+   * Returns the metrics of the specified turn as a single line JSON object.
+   */
+  public synchronized String toJson(final int round, final String player) {
+    final StringBuilder sb = new StringBuilder();
+    sb.append("{\"round\":").append(round).append(",\"player\":").append(toJsonString(player)).append(",\"metrics\":[");
+    boolean isFirst = true;
+    for (final Map.Entry<String, Metric> entry : metrics.entrySet()) {
+      final Metric metric = entry.getValue();
+      if (!isFirst) {
+        sb.append(',');
+      }
+      isFirst = false;
+      sb.append("{\"name\":").append(toJsonString(entry.getKey()))
+          .append(",\"count\":").append(metric.count)
+          .append(",\"millis\":").append(TimeUnit.NANOSECONDS.toMillis(metric.nanos))
+          .append(",\"allocatedBytes\":").append(metric.allocatedBytes)
+          .append('}');
+    }
+    return sb.append("]}").toString();
+  }
+
+  private static String toJsonString(final String value) {
+    return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+  }
+
+  private static long getAllocatedBytes() {
+    final ThreadMXBean threadMxBean = ManagementFactory.getThreadMXBean();
+    if (!(threadMxBean instanceof com.sun.management.ThreadMXBean)) {
+      return 0;
+    }
+    final com.sun.management.ThreadMXBean sunThreadMxBean = (com.sun.management.ThreadMXBean) threadMxBean;
+    if (!sunThreadMxBean.isThreadAllocatedMemorySupported() || !sunThreadMxBean.isThreadAllocatedMemoryEnabled()) {
+      return 0;
+    }
+    // threads that have terminated in the meantime report -1
+    return Arrays.stream(sunThreadMxBean.getThreadAllocatedBytes(threadMxBean.getAllThreadIds()))
+        .filter(bytes -> bytes > 0)
+        .sum();
+  }
+
+  private static final class Metric {
+    long count;
+    long nanos;
+    long allocatedBytes;
+
+    long getAllocatedMegabytesPerSecond() {
+      if (nanos <= 0) {
+        return 0;
+      }
+      return (long) (allocatedBytes / BYTES_PER_MEGABYTE / ((double) nanos / TimeUnit.SECONDS.toNanos(1)));
+    }
+  }
+}
@@ -0,0 +1,234 @@
+package games.strategy.triplea.ai.pro.simulate;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.logging.Level;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.CompositeChange;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameSequence;
+import games.strategy.engine.data.events.GameDataChangeListener;
+import games.strategy.engine.delegate.IDelegate;
+import games.strategy.engine.framework.GameDataUtils;
+import games.strategy.engine.framework.GameObjectStreamFactory;
+import games.strategy.io.IoUtils;
+import games.strategy.triplea.ai.pro.logging.ProLogger;
+
+/**
+ * A copy of the live game data on which the Pro AI simulates the rest of its turn. The copy is kept for the whole game,
+ * so the live game data only has to be cloned once.
+ *
+ * <p>
+ * The changes performed on the live game data are translated into the copy as they happen, and performed on the copy
+ * when it is next acquired, together with copying the current step and the state of the delegates. The changes
+ * performed on the copy while it is acquired are undone by performing their inverse when it is released. If the copy
+ * cannot be brought in sync, it is discarded and the live game data is cloned again.
+ * </p>
+ *
+ * <p>
+ * Listeners are notified of a change after the live game data is unlocked, so the change may already be contained in
+ * the copy when it is cloned in between. The changes are therefore kept by their
+ * {@link GameData#getChangeVersion() change version}, and the changes up to the version the copy contains are dropped.
+ * </p>
+ */
+public final class ProShadowGameData implements GameDataChangeListener {
+  private final GameData data;
+  @GuardedBy("this")
+  private final SortedMap<Long, byte[]> pendingChanges = new TreeMap<>();
+  @GuardedBy("this")
+  private boolean isInSync = false;
+  // The change version of the live game data up to which the changes are contained in the copy or pending
+  @GuardedBy("this")
+  private long copyChangeVersion = 0;
+  private @Nullable GameData dataCopy;
+  private int cloneCount = 0;
+  private final List<Change> simulatedChanges = new ArrayList<>();
+  private final GameDataChangeListener simulatedChangeListener = simulatedChanges::add;
+
+  public ProShadowGameData(final GameData data) {
+    this.data = checkNotNull(data);
+    data.addDataChangeListener(this);
+  }
+
+  /**
+   * Returns the live game data of which this is a copy.
+   */
+  public GameData getLiveData() {
+    return data;
+  }
+
+  /**
+   * Records a change of unknown version, which is assumed not to be contained in the copy yet.
+   */
+  @Override
+  public void gameDataChanged(final Change change) {
+    gameDataChanged(change, Long.MAX_VALUE);
+  }
+
+  @Override
+  public void gameDataChanged(final Change change, final long changeVersion) {
+    synchronized (this) {
+      if (!isInSync || changeVersion <= copyChangeVersion) {
+        return;
+      }
+    }
+    try {
+      data.acquireReadLock();
+      final byte[] bytes = IoUtils.writeToMemory(os -> {
+        try (ObjectOutputStream out = new GameObjectStreamFactory(data).create(os)) {
+          out.writeObject(change);
+        }
+      });
+      synchronized (this) {
+        if (changeVersion > copyChangeVersion) {
+          pendingChanges.put(changeVersion, bytes);
+        }
+      }
+    } catch (final IOException e) {
+      ProLogger.log(Level.WARNING, "Failed to record change for simulation, game data will be cloned again", e);
+      synchronized (this) {
+        isInSync = false;
+      }
+    } finally {
+      data.releaseReadLock();
+    }
+  }
+
+  /**
+   * Returns the number of times the live game data has been cloned, as opposed to bringing the existing copy in sync.
+   */
+  public int getCloneCount() {
+    return cloneCount;
+  }
+
+  /**
+   * Returns the copy of the game data, brought in sync with the live game data. The caller must call
+   * {@link #release()} when it has finished simulating on the copy.
+   *
+   * @throws IllegalStateException If the live game data could not be cloned.
+   */
+  public GameData acquire() {
+    if (dataCopy == null || !performPendingChanges()) {
+      dataCopy = cloneLiveData();
+    }
+    copyStepAndDelegates();
+    dataCopy.addDataChangeListener(simulatedChangeListener);
+    return dataCopy;
+  }
+
+  /**
+   * Undoes the changes performed on the copy of the game data since it was acquired.
+   */
+  public void release() {
+    checkState(dataCopy != null, "game data copy not acquired");
+
+    dataCopy.removeDataChangeListener(simulatedChangeListener);
+    final Change inverse = new CompositeChange(new ArrayList<>(simulatedChanges)).invert();
+    simulatedChanges.clear();
+    try {
+      dataCopy.performChange(inverse);
+    } catch (final RuntimeException e) {
+      ProLogger.log(Level.WARNING, "Failed to undo simulation, game data will be cloned again", e);
+      dataCopy = null;
+    }
+  }
+
+  /**
+   * Stops tracking the live game data and discards the copy.
+   */
+  public void close() {
+    data.removeDataChangeListener(this);
+    synchronized (this) {
+      isInSync = false;
+      pendingChanges.clear();
+    }
+    dataCopy = null;
+  }
+
+  private GameData cloneLiveData() {
+    ProLogger.info("Cloning game data for simulation");
+    try {
+      data.acquireWriteLock();
+      final @Nullable GameData clonedData = GameDataUtils.cloneGameDataWithoutHistory(data, true);
+      checkState(clonedData != null, "failed to clone game data");
+      cloneCount++;
+      synchronized (this) {
+        pendingChanges.clear();
+        copyChangeVersion = data.getChangeVersion();
+        isInSync = true;
+      }
+      return clonedData;
+    } finally {
+      data.releaseWriteLock();
+    }
+  }
+
+  private boolean performPendingChanges() {
+    final List<byte[]> changes = new ArrayList<>();
+    synchronized (this) {
+      if (!isInSync) {
+        return false;
+      }
+      // A missing version is a change whose listeners have not been notified yet; its later changes can't be performed
+      // without it
+      for (final Map.Entry<Long, byte[]> entry : pendingChanges.entrySet()) {
+        if (entry.getKey() != copyChangeVersion + changes.size() + 1) {
+          ProLogger.info("Change " + (copyChangeVersion + changes.size() + 1) + " not recorded yet, game data will be "
+              + "cloned again");
+          return false;
+        }
+        changes.add(entry.getValue());
+      }
+      copyChangeVersion += changes.size();
+      pendingChanges.clear();
+    }
+    final GameObjectStreamFactory streamFactory = new GameObjectStreamFactory(dataCopy);
+    try {
+      for (final byte[] bytes : changes) {
+        dataCopy.performChange(IoUtils.readFromMemory(bytes, is -> {
+          try (ObjectInputStream in = streamFactory.create(is)) {
+            return (Change) in.readObject();
+          } catch (final ClassNotFoundException e) {
+            throw new IOException(e);
+          }
+        }));
+      }
+      return true;
+    } catch (final IOException | RuntimeException e) {
+      ProLogger.log(Level.WARNING, "Failed to sync game data for simulation, it will be cloned again", e);
+      return false;
+    }
+  }
+
+  /**
+   * Copies the current step and the state of the delegates, which are not tracked by changes, from the live game data.
+   */
+  private void copyStepAndDelegates() {
+    final GameSequence sequence = data.getSequence();
+    dataCopy.getSequence().setRoundAndStepIndex(sequence.getRound(), sequence.getStepIndex());
+    try {
+      data.acquireReadLock();
+      for (final IDelegate delegate : data.getDelegates()) {
+        final @Nullable IDelegate delegateCopy = dataCopy.getDelegate(delegate.getName());
+        if (delegateCopy != null) {
+          delegateCopy.loadState(GameDataUtils.translateIntoOtherGameData(delegate.saveState(), dataCopy));
+        }
+      }
+    } finally {
+      data.releaseReadLock();
+    }
+  }
+}
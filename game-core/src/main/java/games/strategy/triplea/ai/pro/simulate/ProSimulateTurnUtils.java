@@ -8,11 +8,16 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
 import org.triplea.java.collections.CollectionUtils;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Iterables;
+
 import games.strategy.engine.data.Change;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerId;
@@ -49,54 +54,108 @@ public final class ProSimulateTurnUtils {
    */
   public static void simulateBattles(final GameData data, final PlayerId player, final IDelegateBridge delegateBridge,
       final ProOddsCalculator calc) {
+    simulateBattles(data, player, delegateBridge, calc, false);
+  }
+
+  /**
+   * Simulates all pending battles in {@code data}. The simulation results are written as changes to
+   * {@code delegateBridge}.
+   *
+   * <p>
+   * If {@code inParallel} is {@code true} and the battles are independent of each other, they are simulated at the
+   * same time by the workers of the odds calculator (see {@link ProOddsCalculator#callEach(List)}). Otherwise each
+   * battle is simulated and its result written before the units of the next battle are looked up, so the next battle
+   * sees the units the previous ones removed. The results are written in the same order either way.
+   * </p>
+   */
+  public static void simulateBattles(final GameData data, final PlayerId player, final IDelegateBridge delegateBridge,
+      final ProOddsCalculator calc, final boolean inParallel) {
 
     ProLogger.info("Starting battle simulation phase");
 
     final BattleDelegate battleDelegate = DelegateFinder.battleDelegate(data);
     final Map<BattleType, Collection<Territory>> battleTerritories = battleDelegate.getBattles().getBattles();
+    if (inParallel) {
+      final List<PendingBattle> pendingBattles = new ArrayList<>();
+      for (final Entry<BattleType, Collection<Territory>> entry : battleTerritories.entrySet()) {
+        for (final Territory t : entry.getValue()) {
+          pendingBattles.add(new PendingBattle(battleDelegate, t, entry.getKey()));
+        }
+      }
+      if (pendingBattles.size() > 1 && areIndependent(pendingBattles)) {
+        ProLogger.debug("Simulating " + pendingBattles.size() + " independent battles in parallel");
+        final List<ProBattleResult> results = calc.callEach(pendingBattles.stream()
+            .<Function<ProOddsCalculator, ProBattleResult>>map(pendingBattle -> pendingBattle::simulate)
+            .collect(Collectors.toList()));
+        for (int i = 0; i < pendingBattles.size(); i++) {
+          applyBattleResult(data, player, delegateBridge, battleDelegate, pendingBattles.get(i), results.get(i));
+        }
+        return;
+      }
+    }
     for (final Entry<BattleType, Collection<Territory>> entry : battleTerritories.entrySet()) {
       for (final Territory t : entry.getValue()) {
-        final IBattle battle =
-            battleDelegate.getBattleTracker().getPendingBattle(t, entry.getKey().isBombingRun(), entry.getKey());
-        final List<Unit> attackers = (List<Unit>) battle.getAttackingUnits();
-        attackers.retainAll(t.getUnits());
-        final List<Unit> defenders = (List<Unit>) battle.getDefendingUnits();
-        defenders.retainAll(t.getUnits());
-        final Set<Unit> bombardingUnits = new HashSet<>(battle.getBombardingUnits());
-        ProLogger.debug("---" + t);
-        ProLogger.debug("attackers=" + attackers);
-        ProLogger.debug("defenders=" + defenders);
-        ProLogger.debug("bombardingUnits=" + bombardingUnits);
-        final ProBattleResult result = calc.callBattleCalculator(t, attackers, defenders, bombardingUnits);
-        final List<Unit> remainingUnits = result.getAverageAttackersRemaining();
-        ProLogger.debug("remainingUnits=" + remainingUnits);
-
-        // Make updates to data
-        final List<Unit> attackersToRemove = new ArrayList<>(attackers);
-        attackersToRemove.removeAll(remainingUnits);
-        final List<Unit> defendersToRemove =
-            CollectionUtils.getMatches(defenders, Matches.unitIsInfrastructure().negate());
-        final List<Unit> infrastructureToChangeOwner =
-            CollectionUtils.getMatches(defenders, Matches.unitIsInfrastructure());
-        ProLogger.debug("attackersToRemove=" + attackersToRemove);
-        ProLogger.debug("defendersToRemove=" + defendersToRemove);
-        ProLogger.debug("infrastructureToChangeOwner=" + infrastructureToChangeOwner);
-        final Change attackerskilledChange = ChangeFactory.removeUnits(t, attackersToRemove);
-        delegateBridge.addChange(attackerskilledChange);
-        final Change defenderskilledChange = ChangeFactory.removeUnits(t, defendersToRemove);
-        delegateBridge.addChange(defenderskilledChange);
-        BattleTracker.captureOrDestroyUnits(t, player, player, delegateBridge, null);
-        if (!checkIfCapturedTerritoryIsAlliedCapital(t, data, player, delegateBridge)) {
-          delegateBridge.addChange(ChangeFactory.changeOwner(t, player));
+        final PendingBattle pendingBattle = new PendingBattle(battleDelegate, t, entry.getKey());
+        applyBattleResult(data, player, delegateBridge, battleDelegate, pendingBattle, pendingBattle.simulate(calc));
+      }
+    }
+  }
+
+  /**
+   * Returns {@code true} if the outcome of each battle doesn't depend on the outcome of the others, i.e. they are all
+   * normal battles (no air battles or raids, which precede or replace other battles) and no unit takes part in more
+   * than one of them, e.g. by being scrambled or bombarding.
+   */
+  @VisibleForTesting
+  static boolean areIndependent(final List<PendingBattle> pendingBattles) {
+    final Set<Unit> units = new HashSet<>();
+    for (final PendingBattle pendingBattle : pendingBattles) {
+      if (pendingBattle.type != BattleType.NORMAL) {
+        return false;
+      }
+      for (final Unit unit : Iterables.concat(pendingBattle.attackers, pendingBattle.defenders,
+          pendingBattle.bombardingUnits)) {
+        if (!units.add(unit)) {
+          return false;
         }
-        battleDelegate.getBattleTracker().getConquered().add(t);
-        battleDelegate.getBattleTracker().removeBattle(battle, data);
-        final Territory updatedTerritory = data.getMap().getTerritory(t.getName());
-        ProLogger.debug(
-            "after changes owner=" + updatedTerritory.getOwner() + ", units="
-                + updatedTerritory.getUnits());
       }
     }
+    return true;
+  }
+
+  private static void applyBattleResult(final GameData data, final PlayerId player,
+      final IDelegateBridge delegateBridge, final BattleDelegate battleDelegate, final PendingBattle pendingBattle,
+      final ProBattleResult result) {
+    final Territory t = pendingBattle.territory;
+    final List<Unit> attackers = pendingBattle.attackers;
+    final List<Unit> defenders = pendingBattle.defenders;
+    final List<Unit> remainingUnits = result.getAverageAttackersRemaining();
+    ProLogger.debug("remainingUnits=" + remainingUnits);
+
+    // Make updates to data
+    final List<Unit> attackersToRemove = new ArrayList<>(attackers);
+    attackersToRemove.removeAll(remainingUnits);
+    final List<Unit> defendersToRemove =
+        CollectionUtils.getMatches(defenders, Matches.unitIsInfrastructure().negate());
+    final List<Unit> infrastructureToChangeOwner =
+        CollectionUtils.getMatches(defenders, Matches.unitIsInfrastructure());
+    ProLogger.debug("attackersToRemove=" + attackersToRemove);
+    ProLogger.debug("defendersToRemove=" + defendersToRemove);
+    ProLogger.debug("infrastructureToChangeOwner=" + infrastructureToChangeOwner);
+    final Change attackerskilledChange = ChangeFactory.removeUnits(t, attackersToRemove);
+    delegateBridge.addChange(attackerskilledChange);
+    final Change defenderskilledChange = ChangeFactory.removeUnits(t, defendersToRemove);
+    delegateBridge.addChange(defenderskilledChange);
+    BattleTracker.captureOrDestroyUnits(t, player, player, delegateBridge, null);
+    if (!checkIfCapturedTerritoryIsAlliedCapital(t, data, player, delegateBridge)) {
+      delegateBridge.addChange(ChangeFactory.changeOwner(t, player));
+    }
+    battleDelegate.getBattleTracker().getConquered().add(t);
+    battleDelegate.getBattleTracker().removeBattle(pendingBattle.battle, data);
+    final Territory updatedTerritory = data.getMap().getTerritory(t.getName());
+    ProLogger.debug(
+        "after changes owner=" + updatedTerritory.getOwner() + ", units="
+            + updatedTerritory.getUnits());
   }
 
   /**
@@ -104,18 +163,18 @@ public final class ProSimulateTurnUtils {
    *
    * @return A collection of the results for each simulated transfer.
    */
-  public static Map<Territory, ProTerritory> transferMoveMap(final Map<Territory, ProTerritory> moveMap,
-      final GameData toData, final PlayerId player) {
+  public static Map<Territory, ProTerritory> transferMoveMap(final ProData proData,
+      final Map<Territory, ProTerritory> moveMap, final GameData toData, final PlayerId player) {
 
     ProLogger.info("Transferring move map");
 
-    final Map<Unit, Territory> unitTerritoryMap = ProData.unitTerritoryMap;
+    final Map<Unit, Territory> unitTerritoryMap = proData.getUnitTerritoryMap();
 
     final Map<Territory, ProTerritory> result = new HashMap<>();
     final List<Unit> usedUnits = new ArrayList<>();
     for (final Territory fromTerritory : moveMap.keySet()) {
       final Territory toTerritory = toData.getMap().getTerritory(fromTerritory.getName());
-      final ProTerritory patd = new ProTerritory(toTerritory);
+      final ProTerritory patd = new ProTerritory(toTerritory, proData);
       result.put(toTerritory, patd);
       final Map<Unit, List<Unit>> amphibAttackMap = moveMap.get(fromTerritory).getAmphibAttackMap();
       final Map<Unit, Boolean> isTransportingMap = moveMap.get(fromTerritory).getIsTransportingMap();
@@ -246,4 +305,41 @@ public final class ProSimulateTurnUtils {
     }
     return null;
   }
+
+  /**
+   * A pending battle with the units that currently take part in it.
+   */
+  @VisibleForTesting
+  static final class PendingBattle {
+    final Territory territory;
+    final BattleType type;
+    final IBattle battle;
+    final List<Unit> attackers;
+    final List<Unit> defenders;
+    final Set<Unit> bombardingUnits;
+
+    PendingBattle(final BattleDelegate battleDelegate, final Territory territory, final BattleType type) {
+      this(territory, type, battleDelegate.getBattleTracker().getPendingBattle(territory, type.isBombingRun(), type));
+    }
+
+    @VisibleForTesting
+    PendingBattle(final Territory territory, final BattleType type, final IBattle battle) {
+      this.territory = territory;
+      this.type = type;
+      this.battle = battle;
+      attackers = new ArrayList<>(battle.getAttackingUnits());
+      attackers.retainAll(territory.getUnits());
+      defenders = new ArrayList<>(battle.getDefendingUnits());
+      defenders.retainAll(territory.getUnits());
+      bombardingUnits = new HashSet<>(battle.getBombardingUnits());
+    }
+
+    ProBattleResult simulate(final ProOddsCalculator calc) {
+      ProLogger.debug("---" + territory);
+      ProLogger.debug("attackers=" + attackers);
+      ProLogger.debug("defenders=" + defenders);
+      ProLogger.debug("bombardingUnits=" + bombardingUnits);
+      return calc.callBattleCalculator(territory, attackers, defenders, bombardingUnits);
+    }
+  }
 }
@@ -1,6 +1,7 @@
 package games.strategy.triplea.ai.pro.util;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -39,10 +40,11 @@ public final class ProMoveUtils {
    * @param moveRoutes Receives the routes for each unit group in {@code moveUnits}.
    * @param attackMap Specifies the territories to be attacked.
    */
-  public static void calculateMoveRoutes(final PlayerId player, final List<Collection<Unit>> moveUnits,
-      final List<Route> moveRoutes, final Map<Territory, ProTerritory> attackMap, final boolean isCombatMove) {
+  public static void calculateMoveRoutes(final ProData proData, final PlayerId player,
+      final List<Collection<Unit>> moveUnits, final List<Route> moveRoutes,
+      final Map<Territory, ProTerritory> attackMap, final boolean isCombatMove) {
 
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     // Find all amphib units
     final Set<Unit> amphibUnits = attackMap.values().stream()
@@ -65,7 +67,7 @@ public final class ProMoveUtils {
         }
 
         // Skip if unit is already in move to territory
-        final Territory startTerritory = ProData.unitTerritoryMap.get(u);
+        final Territory startTerritory = proData.getUnitTerritoryMap().get(u);
         if (startTerritory == null || startTerritory.equals(t)) {
           continue;
         }
@@ -129,11 +131,12 @@ public final class ProMoveUtils {
    * @param attackMap Specifies the territories to be attacked. Will be updated to reflect any transports unloading in a
    *        specific territory.
    */
-  public static void calculateAmphibRoutes(final PlayerId player, final List<Collection<Unit>> moveUnits,
-      final List<Route> moveRoutes, final List<Collection<Unit>> transportsToLoad,
-      final Map<Territory, ProTerritory> attackMap, final boolean isCombatMove) {
+  public static void calculateAmphibRoutes(final ProData proData, final PlayerId player,
+      final List<Collection<Unit>> moveUnits, final List<Route> moveRoutes,
+      final List<Collection<Unit>> transportsToLoad, final Map<Territory, ProTerritory> attackMap,
+      final boolean isCombatMove) {
 
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     // Loop through all territories to attack
     for (final Territory t : attackMap.keySet()) {
@@ -142,7 +145,7 @@ public final class ProMoveUtils {
       final Map<Unit, List<Unit>> amphibAttackMap = attackMap.get(t).getAmphibAttackMap();
       for (final Unit transport : amphibAttackMap.keySet()) {
         int movesLeft = TripleAUnit.get(transport).getMovementLeft();
-        Territory transportTerritory = ProData.unitTerritoryMap.get(transport);
+        Territory transportTerritory = proData.getUnitTerritoryMap().get(transport);
 
         // Check if units are already loaded or not
         final List<Unit> loadedUnits = new ArrayList<>();
@@ -160,10 +163,10 @@ public final class ProMoveUtils {
           if (Matches.territoryHasEnemyUnits(player, data).negate().test(transportTerritory)) {
             final List<Unit> unitsToRemove = new ArrayList<>();
             for (final Unit amphibUnit : remainingUnitsToLoad) {
-              if (data.getMap().getDistance(transportTerritory, ProData.unitTerritoryMap.get(amphibUnit)) == 1) {
+              if (data.getMap().getDistance(transportTerritory, proData.getUnitTerritoryMap().get(amphibUnit)) == 1) {
                 moveUnits.add(Collections.singletonList(amphibUnit));
                 transportsToLoad.add(Collections.singletonList(transport));
-                final Route route = new Route(ProData.unitTerritoryMap.get(amphibUnit), transportTerritory);
+                final Route route = new Route(proData.getUnitTerritoryMap().get(amphibUnit), transportTerritory);
                 moveRoutes.add(route);
                 unitsToRemove.add(amphibUnit);
                 loadedUnits.add(amphibUnit);
@@ -204,7 +207,7 @@ public final class ProMoveUtils {
               }
               int maxUnitDistance = 0;
               for (final Unit u : remainingUnitsToLoad) {
-                final int distance = data.getMap().getDistance(neighbor, ProData.unitTerritoryMap.get(u));
+                final int distance = data.getMap().getDistance(neighbor, proData.getUnitTerritoryMap().get(u));
                 if (distance > maxUnitDistance) {
                   maxUnitDistance = distance;
                 }
@@ -260,10 +263,11 @@ public final class ProMoveUtils {
    * @param moveRoutes Receives the routes for each unit group in {@code moveUnits}.
    * @param attackMap Specifies the territories to be attacked.
    */
-  public static void calculateBombardMoveRoutes(final PlayerId player, final List<Collection<Unit>> moveUnits,
-      final List<Route> moveRoutes, final Map<Territory, ProTerritory> attackMap) {
+  public static void calculateBombardMoveRoutes(final ProData proData, final PlayerId player,
+      final List<Collection<Unit>> moveUnits, final List<Route> moveRoutes,
+      final Map<Territory, ProTerritory> attackMap) {
 
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     // Loop through all territories to attack
     for (final ProTerritory t : attackMap.values()) {
@@ -273,7 +277,7 @@ public final class ProMoveUtils {
         final Territory bombardFromTerritory = t.getBombardTerritoryMap().get(u);
 
         // Skip if unit is already in move to territory
-        final Territory startTerritory = ProData.unitTerritoryMap.get(u);
+        final Territory startTerritory = proData.getUnitTerritoryMap().get(u);
         if (startTerritory.equals(bombardFromTerritory)) {
           continue;
         }
@@ -303,10 +307,11 @@ public final class ProMoveUtils {
    * @param moveRoutes Receives the routes for each unit group in {@code moveUnits}.
    * @param attackMap Specifies the territories to be attacked.
    */
-  public static void calculateBombingRoutes(final PlayerId player, final List<Collection<Unit>> moveUnits,
-      final List<Route> moveRoutes, final Map<Territory, ProTerritory> attackMap) {
+  public static void calculateBombingRoutes(final ProData proData, final PlayerId player,
+      final List<Collection<Unit>> moveUnits, final List<Route> moveRoutes,
+      final Map<Territory, ProTerritory> attackMap) {
 
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     // Loop through all territories to attack
     for (final Territory t : attackMap.keySet()) {
@@ -315,7 +320,7 @@ public final class ProMoveUtils {
       for (final Unit u : attackMap.get(t).getBombers()) {
 
         // Skip if unit is already in move to territory
-        final Territory startTerritory = ProData.unitTerritoryMap.get(u);
+        final Territory startTerritory = proData.getUnitTerritoryMap().get(u);
         if (startTerritory == null || startTerritory.equals(t)) {
           continue;
         }
@@ -336,18 +341,18 @@ public final class ProMoveUtils {
     }
   }
 
-  public static void doMove(final List<Collection<Unit>> moveUnits, final List<Route> moveRoutes,
+  public static void doMove(final ProData proData, final List<Collection<Unit>> moveUnits, final List<Route> moveRoutes,
       final IMoveDelegate moveDel) {
-    doMove(moveUnits, moveRoutes, null, moveDel);
+    doMove(proData, moveUnits, moveRoutes, null, moveDel);
   }
 
   /**
    * Moves the specified groups of units along the specified routes, possibly using the specified transports.
    */
-  public static void doMove(final List<Collection<Unit>> moveUnits, final List<Route> moveRoutes,
+  public static void doMove(final ProData proData, final List<Collection<Unit>> moveUnits, final List<Route> moveRoutes,
       final List<Collection<Unit>> transportsToLoad, final IMoveDelegate moveDel) {
 
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     // Group non-amphib units of the same type moving on the same route
     if (transportsToLoad == null) {
@@ -368,7 +373,7 @@ public final class ProMoveUtils {
 
     // Move units
     for (int i = 0; i < moveRoutes.size(); i++) {
-      if (!ProData.isSimulation) {
+      if (!proData.isSimulation()) {
         ProUtils.pause();
       }
       if (moveRoutes.get(i) == null || moveRoutes.get(i).getEnd() == null || moveRoutes.get(i).getStart() == null) {
@@ -386,6 +391,8 @@ public final class ProMoveUtils {
         ProLogger.warn(data.getSequence().getRound() + "-" + data.getSequence().getStep().getName()
             + ": could not move " + moveUnits.get(i) + " over " + moveRoutes.get(i) + " because: " + result);
       }
+      proData.getTransportLoadingIndex()
+          .invalidate(Arrays.asList(moveRoutes.get(i).getStart(), moveRoutes.get(i).getEnd()));
     }
   }
 }
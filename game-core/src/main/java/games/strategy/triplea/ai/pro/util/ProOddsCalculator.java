@@ -2,7 +2,12 @@ package games.strategy.triplea.ai.pro.util;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.OptionalDouble;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.triplea.java.collections.CollectionUtils;
 
@@ -11,6 +16,7 @@ import games.strategy.engine.data.PlayerId;
 import games.strategy.engine.data.Territory;
 import games.strategy.engine.data.Unit;
 import games.strategy.triplea.Properties;
+import games.strategy.triplea.ai.fast.FastOddsEstimator;
 import games.strategy.triplea.ai.pro.ProData;
 import games.strategy.triplea.ai.pro.data.ProBattleResult;
 import games.strategy.triplea.delegate.Matches;
@@ -24,11 +30,44 @@ import games.strategy.triplea.util.TuvUtils;
  */
 public class ProOddsCalculator {
 
+  private final ProData proData;
   private final IOddsCalculator calc;
-  private boolean isCanceled = false;
+  // Used instead of calc once the time budget of the current phase has run out
+  private final IOddsCalculator estimator;
+  private final AtomicBoolean isCanceled;
+  private final AtomicLong callCount;
+  private final ProStrengthCalibration strengthCalibration;
+  private boolean useCalibratedEstimates = false;
 
-  public ProOddsCalculator(final IOddsCalculator calc) {
+  public ProOddsCalculator(final ProData proData, final IOddsCalculator calc) {
+    this(proData, calc, new AtomicLong(), new AtomicBoolean(), new ProStrengthCalibration());
+  }
+
+  private ProOddsCalculator(final ProData proData, final IOddsCalculator calc, final AtomicLong callCount,
+      final AtomicBoolean isCanceled, final ProStrengthCalibration strengthCalibration) {
+    this.proData = proData;
     this.calc = calc;
+    this.callCount = callCount;
+    this.isCanceled = isCanceled;
+    this.strengthCalibration = strengthCalibration;
+    estimator = new FastOddsEstimator(proData);
+  }
+
+  /**
+   * Applies each of the specified functions to an odds calculator of the same AI and returns their results in the
+   * order of the functions. The functions may be applied at the same time, each with one of the workers of the
+   * underlying odds calculator (see {@link IOddsCalculator#calculateEach(List)}), so they must not depend on each
+   * other. The calls of the functions are counted by this odds calculator, and canceling it cancels them too.
+   */
+  public <T> List<T> callEach(final List<? extends Function<ProOddsCalculator, T>> functions) {
+    return calc.calculateEach(functions.stream()
+        .<Function<IOddsCalculator, T>>map(function -> worker -> {
+          final ProOddsCalculator workerCalc =
+              new ProOddsCalculator(proData, worker, callCount, isCanceled, strengthCalibration);
+          workerCalc.useCalibratedEstimates = useCalibratedEstimates;
+          return function.apply(workerCalc);
+        })
+        .collect(Collectors.toList()));
   }
 
   public void setData(final GameData data) {
@@ -36,14 +75,37 @@ public class ProOddsCalculator {
   }
 
   public void cancelCalcs() {
+    isCanceled.set(true);
     calc.cancel();
-    isCanceled = true;
+  }
+
+  public void shutdown() {
+    calc.shutdown();
+  }
+
+  /**
+   * Sets whether battles are estimated instead of simulated when the AI would most likely make the same decisions with
+   * the estimate (see {@link #estimateAttackBattleResults}). The estimates are calibrated with the battles simulated
+   * before, so the first battles of a game are always simulated, and some of the later ones keep being simulated to
+   * keep the calibration up to date. The default is {@code false}, meaning battles are always simulated.
+   */
+  public void setUseCalibratedEstimates(final boolean useCalibratedEstimates) {
+    this.useCalibratedEstimates = useCalibratedEstimates;
+  }
+
+  /**
+   * Returns the number of battles estimated or simulated by the underlying odds calculator.
+   */
+  public long getCallCount() {
+    return callCount.get();
   }
 
   /**
    * Simulates the specified battle. Prior to the simulation, an estimate is made of the attacker's chance to win the
    * battle. If the estimate indicates the attacker has almost no chance to win, the simulation is not performed, and
-   * an appropriate result indicating the defender's success is returned.
+   * an appropriate result indicating the defender's success is returned. If the simulated battles with about the same
+   * estimate all had win percentages on the same side of each decision threshold of the AI, the estimated result is
+   * returned instead of the simulated one.
    */
   public ProBattleResult estimateAttackBattleResults(final Territory t,
       final List<Unit> attackingUnits, final List<Unit> defendingUnits, final Set<Unit> bombardingUnits) {
@@ -54,17 +116,21 @@ public class ProOddsCalculator {
     }
 
     // Determine if attackers have no chance
-    final double strengthDifference = ProBattleUtils.estimateStrengthDifference(t, attackingUnits, defendingUnits);
+    final double strengthDifference = ProBattleUtils.estimateStrengthDifference(proData, t, attackingUnits,
+        defendingUnits);
     if (strengthDifference < 45) {
+      proData.getMetrics().increment("odds calculator: strength estimates");
       return new ProBattleResult(0, -999, false, new ArrayList<>(), defendingUnits, 1);
     }
-    return callBattleCalculator(t, attackingUnits, defendingUnits, bombardingUnits);
+    return estimateOrCallBattleCalculator(t, attackingUnits, defendingUnits, bombardingUnits, strengthDifference);
   }
 
   /**
    * Simulates the specified battle. Prior to the simulation, an estimate is made of the defender's chance to win the
    * battle. If the estimate indicates the defender has almost no chance to win, the simulation is not performed, and
-   * an appropriate result indicating the attacker's success is returned.
+   * an appropriate result indicating the attacker's success is returned. If the simulated battles with about the same
+   * estimate all had win percentages on the same side of each decision threshold of the AI, the estimated result is
+   * returned instead of the simulated one.
    */
   public ProBattleResult estimateDefendBattleResults(final Territory t,
       final List<Unit> attackingUnits, final List<Unit> defendingUnits, final Set<Unit> bombardingUnits) {
@@ -75,14 +141,52 @@ public class ProOddsCalculator {
     }
 
     // Determine if defenders have no chance
-    final double strengthDifference = ProBattleUtils.estimateStrengthDifference(t, attackingUnits, defendingUnits);
+    final double strengthDifference = ProBattleUtils.estimateStrengthDifference(proData, t, attackingUnits,
+        defendingUnits);
     if (strengthDifference > 55) {
+      proData.getMetrics().increment("odds calculator: strength estimates");
       final boolean isLandAndCanOnlyBeAttackedByAir =
           !t.isWater() && !attackingUnits.isEmpty() && attackingUnits.stream().allMatch(Matches.unitIsAir());
       return new ProBattleResult(100 + strengthDifference, 999 + strengthDifference, !isLandAndCanOnlyBeAttackedByAir,
           attackingUnits, new ArrayList<>(), 1);
     }
-    return callBattleCalculator(t, attackingUnits, defendingUnits, bombardingUnits);
+    return estimateOrCallBattleCalculator(t, attackingUnits, defendingUnits, bombardingUnits, strengthDifference);
+  }
+
+  /**
+   * Returns the calibrated win percentage for the specified strength difference if the win percentages the AI
+   * compares battle results with, and the even odds at which the TUV swing changes sign, all lie outside the win
+   * percentages of the battles simulated with about the same strength difference.
+   */
+  OptionalDouble estimateWinPercentage(final double strengthDifference) {
+    if (!useCalibratedEstimates) {
+      return OptionalDouble.empty();
+    }
+    return strengthCalibration.estimateWinPercentage(strengthDifference, proData.getWinPercentage(),
+        proData.getMinWinPercentage(), 50, 100 - proData.getMinWinPercentage(), 100 - proData.getWinPercentage());
+  }
+
+  private ProBattleResult estimateOrCallBattleCalculator(final Territory t, final List<Unit> attackingUnits,
+      final List<Unit> defendingUnits, final Set<Unit> bombardingUnits, final double strengthDifference) {
+    final OptionalDouble winPercentage = estimateWinPercentage(strengthDifference);
+    if (winPercentage.isPresent()) {
+      final ProBattleResult estimate = runBattleCalculator(t, attackingUnits, defendingUnits, bombardingUnits, false,
+          estimator, "odds calculator: calibrated estimates");
+      return new ProBattleResult(winPercentage.getAsDouble(), estimate.getTuvSwing(),
+          estimate.isHasLandUnitRemaining(), estimate.getAverageAttackersRemaining(),
+          estimate.getAverageDefendersRemaining(), estimate.getBattleRounds());
+    }
+    final IOddsCalculator oddsCalculator = selectOddsCalculator();
+    final ProBattleResult result =
+        callBattleCalculator(t, attackingUnits, defendingUnits, bombardingUnits, false, oddsCalculator);
+    if (useCalibratedEstimates && oddsCalculator == calc && !(calc instanceof FastOddsEstimator)
+        && !isCanceled.get()) {
+      final ProBattleResult estimate = runBattleCalculator(t, attackingUnits, defendingUnits, bombardingUnits, false,
+          estimator, "odds calculator: calibration estimates");
+      strengthCalibration.record(strengthDifference, result.getWinPercentage(), result.getTuvSwing(),
+          estimate.getTuvSwing());
+    }
+    return result;
   }
 
   public ProBattleResult calculateBattleResultsNoSubmerge(final Territory t, final List<Unit> attackingUnits,
@@ -105,9 +209,9 @@ public class ProOddsCalculator {
     return callBattleCalculator(t, attackingUnits, defendingUnits, bombardingUnits);
   }
 
-  private static ProBattleResult checkIfNoAttackersOrDefenders(final Territory t, final List<Unit> attackingUnits,
+  private ProBattleResult checkIfNoAttackersOrDefenders(final Territory t, final List<Unit> attackingUnits,
       final List<Unit> defendingUnits, final boolean checkSubmerge) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     final boolean hasNoDefenders = defendingUnits.stream().noneMatch(Matches.unitIsNotInfrastructure());
     final boolean isLandAndCanOnlyBeAttackedByAir =
@@ -117,7 +221,7 @@ public class ProOddsCalculator {
     } else if (hasNoDefenders) {
       final List<Unit> mainCombatDefenders = CollectionUtils.getMatches(defendingUnits,
           Matches.unitCanBeInBattle(false, !t.isWater(), 1, true));
-      final double tuv = TuvUtils.getTuv(mainCombatDefenders, ProData.unitValueMap);
+      final double tuv = TuvUtils.getTuv(mainCombatDefenders, proData.getUnitValueMap());
       return new ProBattleResult(100, 0.1 + tuv, true, attackingUnits, new ArrayList<>(), 0);
     } else if (checkSubmerge && Properties.getSubRetreatBeforeBattle(data) && !defendingUnits.isEmpty()
         && defendingUnits.stream().allMatch(Matches.unitCanEvade())
@@ -138,24 +242,47 @@ public class ProOddsCalculator {
    */
   public ProBattleResult callBattleCalculator(final Territory t, final List<Unit> attackingUnits,
       final List<Unit> defendingUnits, final Set<Unit> bombardingUnits, final boolean retreatWhenOnlyAirLeft) {
-    final GameData data = ProData.getData();
+    return callBattleCalculator(t, attackingUnits, defendingUnits, bombardingUnits, retreatWhenOnlyAirLeft,
+        selectOddsCalculator());
+  }
+
+  private IOddsCalculator selectOddsCalculator() {
+    return proData.getTimeBudget().isExpired() ? estimator : calc;
+  }
 
-    if (isCanceled || attackingUnits.isEmpty() || defendingUnits.isEmpty()) {
+  private ProBattleResult callBattleCalculator(final Territory t, final List<Unit> attackingUnits,
+      final List<Unit> defendingUnits, final Set<Unit> bombardingUnits, final boolean retreatWhenOnlyAirLeft,
+      final IOddsCalculator oddsCalculator) {
+    if (isCanceled.get() || attackingUnits.isEmpty() || defendingUnits.isEmpty()) {
       return new ProBattleResult();
     }
 
+    callCount.incrementAndGet();
+    return runBattleCalculator(t, attackingUnits, defendingUnits, bombardingUnits, retreatWhenOnlyAirLeft,
+        oddsCalculator, (oddsCalculator instanceof FastOddsEstimator)
+            ? "odds calculator: fast estimates"
+            : "odds calculator: simulations");
+  }
+
+  private ProBattleResult runBattleCalculator(final Territory t, final List<Unit> attackingUnits,
+      final List<Unit> defendingUnits, final Set<Unit> bombardingUnits, final boolean retreatWhenOnlyAirLeft,
+      final IOddsCalculator oddsCalculator, final String metricName) {
+    final GameData data = proData.getData();
+
     final int minArmySize = Math.min(attackingUnits.size(), defendingUnits.size());
     final int runCount = Math.max(16, 100 - minArmySize);
     final PlayerId attacker = attackingUnits.get(0).getOwner();
     final PlayerId defender = defendingUnits.get(0).getOwner();
     if (retreatWhenOnlyAirLeft) {
-      calc.setRetreatWhenOnlyAirLeft(true);
+      oddsCalculator.setRetreatWhenOnlyAirLeft(true);
     }
-    final AggregateResults results = calc.setCalculateDataAndCalculate(attacker, defender,
+    final long startNanos = System.nanoTime();
+    final AggregateResults results = oddsCalculator.setCalculateDataAndCalculate(attacker, defender,
         t, attackingUnits, defendingUnits, new ArrayList<>(bombardingUnits),
         TerritoryEffectHelper.getEffects(t), runCount);
+    proData.getMetrics().add(metricName, 1, System.nanoTime() - startNanos);
     if (retreatWhenOnlyAirLeft) {
-      calc.setRetreatWhenOnlyAirLeft(false);
+      oddsCalculator.setRetreatWhenOnlyAirLeft(false);
     }
 
     // Find battle result statistics
@@ -168,15 +295,15 @@ public class ProOddsCalculator {
         Matches.unitCanBeInBattle(false, !t.isWater(), 1, true));
     double tuvSwing = results.getAverageTuvSwing(attacker, mainCombatAttackers, defender, mainCombatDefenders, data);
     if (Matches.territoryIsNeutralButNotWater().test(t)) { // Set TUV swing for neutrals
-      final double attackingUnitValue = TuvUtils.getTuv(mainCombatAttackers, ProData.unitValueMap);
+      final double attackingUnitValue = TuvUtils.getTuv(mainCombatAttackers, proData.getUnitValueMap());
       final double remainingUnitValue =
-          results.getAverageTuvOfUnitsLeftOver(ProData.unitValueMap, ProData.unitValueMap).getFirst();
+          results.getAverageTuvOfUnitsLeftOver(proData.getUnitValueMap(), proData.getUnitValueMap()).getFirst();
       tuvSwing = remainingUnitValue - attackingUnitValue;
     }
     final List<Unit> defendingTransportedUnits =
         CollectionUtils.getMatches(defendingUnits, Matches.unitIsBeingTransported());
     if (t.isWater() && !defendingTransportedUnits.isEmpty()) { // Add TUV swing for transported units
-      final double transportedUnitValue = TuvUtils.getTuv(defendingTransportedUnits, ProData.unitValueMap);
+      final double transportedUnitValue = TuvUtils.getTuv(defendingTransportedUnits, proData.getUnitValueMap());
       tuvSwing += transportedUnitValue * winPercentage / 100;
     }
 
@@ -47,42 +47,42 @@ import games.strategy.triplea.delegate.TransportTracker;
 public final class ProPurchaseUtils {
   private ProPurchaseUtils() {}
 
-  public static List<ProPurchaseOption> findPurchaseOptionsForTerritory(final PlayerId player,
+  public static List<ProPurchaseOption> findPurchaseOptionsForTerritory(final ProData proData, final PlayerId player,
       final List<ProPurchaseOption> purchaseOptions, final Territory t, final boolean isBid) {
-    return findPurchaseOptionsForTerritory(player, purchaseOptions, t, t, isBid);
+    return findPurchaseOptionsForTerritory(proData, player, purchaseOptions, t, t, isBid);
   }
 
-  public static List<ProPurchaseOption> findPurchaseOptionsForTerritory(final PlayerId player,
+  public static List<ProPurchaseOption> findPurchaseOptionsForTerritory(final ProData proData, final PlayerId player,
       final List<ProPurchaseOption> purchaseOptions, final Territory t, final Territory factoryTerritory,
       final boolean isBid) {
     final List<ProPurchaseOption> result = new ArrayList<>();
     for (final ProPurchaseOption ppo : purchaseOptions) {
-      if (canTerritoryUsePurchaseOption(player, ppo, t, factoryTerritory, isBid)) {
+      if (canTerritoryUsePurchaseOption(proData, player, ppo, t, factoryTerritory, isBid)) {
         result.add(ppo);
       }
     }
     return result;
   }
 
-  private static boolean canTerritoryUsePurchaseOption(final PlayerId player, final ProPurchaseOption ppo,
-      final Territory t, final Territory factoryTerritory, final boolean isBid) {
+  private static boolean canTerritoryUsePurchaseOption(final ProData proData, final PlayerId player,
+      final ProPurchaseOption ppo, final Territory t, final Territory factoryTerritory, final boolean isBid) {
     if (ppo == null) {
       return false;
     }
     final List<Unit> units = ppo.getUnitType().create(ppo.getQuantity(), player, true);
-    return canUnitsBePlaced(units, player, t, factoryTerritory, isBid);
+    return canUnitsBePlaced(proData, units, player, t, factoryTerritory, isBid);
   }
 
-  public static boolean canUnitsBePlaced(final List<Unit> units, final PlayerId player, final Territory t,
-      final boolean isBid) {
-    return canUnitsBePlaced(units, player, t, t, isBid);
+  public static boolean canUnitsBePlaced(final ProData proData, final List<Unit> units, final PlayerId player,
+      final Territory t, final boolean isBid) {
+    return canUnitsBePlaced(proData, units, player, t, t, isBid);
   }
 
   /**
    * Check if units can be placed in given territory by specified factory.
    */
-  public static boolean canUnitsBePlaced(final List<Unit> units, final PlayerId player, final Territory t,
-      final Territory factoryTerritory, final boolean isBid) {
+  public static boolean canUnitsBePlaced(final ProData proData, final List<Unit> units, final PlayerId player,
+      final Territory t, final Territory factoryTerritory, final boolean isBid) {
     final GameData data = player.getData();
     AbstractPlaceDelegate placeDelegate = (AbstractPlaceDelegate) data.getDelegate("place");
     if (isBid) {
@@ -91,7 +91,7 @@ public final class ProPurchaseUtils {
         .unitWhichRequiresUnitsHasRequiredUnitsInList(placeDelegate.unitsAtStartOfStepInTerritory(factoryTerritory)))) {
       return false;
     }
-    final IDelegateBridge bridge = new ProDummyDelegateBridge(ProData.getProAi(), player, data);
+    final IDelegateBridge bridge = new ProDummyDelegateBridge(proData.getProAi(), player, data);
     placeDelegate.setDelegateBridgeAndPlayer(bridge);
     return isPlacingFightersOnNewCarriers(t, units)
         ? placeDelegate.canUnitsBePlaced(t, CollectionUtils.getMatches(units, Matches.unitIsNotAir()), player) == null
@@ -187,17 +187,17 @@ public final class ProPurchaseUtils {
    * Returns the list of units to purchase that will maximize defense in the specified territory based on the specified
    * purchase options.
    */
-  public static List<Unit> findMaxPurchaseDefenders(final PlayerId player, final Territory t,
+  public static List<Unit> findMaxPurchaseDefenders(final ProData proData, final PlayerId player, final Territory t,
       final List<ProPurchaseOption> landPurchaseOptions) {
 
     ProLogger.info("Find max purchase defenders for " + t.getName());
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     // Determine most cost efficient defender that can be produced in this territory
     final Resource pus = data.getResourceList().getResource(Constants.PUS);
     final int pusRemaining = player.getResources().getQuantity(pus);
     final List<ProPurchaseOption> purchaseOptionsForTerritory =
-        findPurchaseOptionsForTerritory(player, landPurchaseOptions, t, false);
+        findPurchaseOptionsForTerritory(proData, player, landPurchaseOptions, t, false);
     ProPurchaseOption bestDefenseOption = null;
     double maxDefenseEfficiency = 0;
     for (final ProPurchaseOption ppo : purchaseOptionsForTerritory) {
@@ -234,15 +234,15 @@ public final class ProPurchaseUtils {
    * @param player - current AI player
    * @return - map of all available purchase and place territories
    */
-  public static Map<Territory, ProPurchaseTerritory> findBidTerritories(final PlayerId player) {
+  public static Map<Territory, ProPurchaseTerritory> findBidTerritories(final ProData proData, final PlayerId player) {
 
     ProLogger.info("Find all bid territories");
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     // Find all territories that I can place units on
     final Set<Territory> ownedOrHasUnitTerritories =
         new HashSet<>(data.getMap().getTerritoriesOwnedBy(player));
-    ownedOrHasUnitTerritories.addAll(ProData.myUnitTerritories);
+    ownedOrHasUnitTerritories.addAll(proData.getMyUnitTerritories());
     final List<Territory> potentialTerritories = CollectionUtils.getMatches(ownedOrHasUnitTerritories,
         Matches.territoryIsPassableAndNotRestrictedAndOkByRelationships(player, data, false, false, false, false,
             false));
@@ -265,10 +265,11 @@ public final class ProPurchaseUtils {
   /**
    * Returns all possible territories within which {@code player} can place purchased units.
    */
-  public static Map<Territory, ProPurchaseTerritory> findPurchaseTerritories(final PlayerId player) {
+  public static Map<Territory, ProPurchaseTerritory> findPurchaseTerritories(final ProData proData,
+      final PlayerId player) {
 
     ProLogger.info("Find all purchase territories");
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     // Find all territories that I can place units on
     final RulesAttachment ra = player.getRulesAttachment();
@@ -334,14 +335,14 @@ public final class ProPurchaseUtils {
   /**
    * Comparator that sorts cheaper units before expensive ones.
    */
-  public static Comparator<Unit> getCostComparator() {
-    return Comparator.comparingDouble(ProPurchaseUtils::getCost);
+  public static Comparator<Unit> getCostComparator(final ProData proData) {
+    return Comparator.comparingDouble(unit -> getCost(proData, unit));
   }
 
   /**
    * How many PU's does it cost the given player to produce the given unit including any dependents.
    */
-  public static double getCost(final Unit unit) {
+  public static double getCost(final ProData proData, final Unit unit) {
     final Resource pus = unit.getData().getResourceList().getResource(Constants.PUS);
     final Collection<Unit> units = TransportTracker.transportingAndUnloaded(unit);
     units.add(unit);
@@ -349,7 +350,7 @@ public final class ProPurchaseUtils {
     for (final Unit u : units) {
       final ProductionRule rule = getProductionRule(u.getType(), u.getOwner());
       if (rule == null) {
-        cost += ProData.unitValueMap.getInt(u.getType());
+        cost += proData.getUnitValueMap().getInt(u.getType());
       } else {
         cost += ((double) rule.getCosts().getInt(pus)) / rule.getResults().totalValues();
       }
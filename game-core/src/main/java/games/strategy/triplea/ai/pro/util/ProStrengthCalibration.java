@@ -0,0 +1,116 @@
+package games.strategy.triplea.ai.pro.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalDouble;
+
+/**
+ * Maps the strength differences estimated by {@link ProBattleUtils#estimateStrengthDifference} to the win
+ * percentages of the battles that were simulated with them. A strength difference is not a win percentage: it is
+ * unbounded and its relation to the win percentage depends on the map, so the win percentages are learned from the
+ * simulations of the current game.
+ *
+ * <p>
+ * The strength differences are grouped in ranges of {@link #RANGE_WIDTH}. For each range, the lowest, highest and
+ * average simulated win percentage are kept. A win percentage is only estimated for a range once it has
+ * {@link #MIN_SAMPLE_COUNT} simulations, and only while the TUV swings estimated for its battles were within
+ * {@link #TUV_SWING_TOLERANCE} of the simulated ones, since the estimates use the estimated TUV swing.
+ * </p>
+ *
+ * <p>
+ * Every {@link #SAMPLE_INTERVAL}th battle of a calibrated range is still simulated, so its calibration keeps up with
+ * the game as the armies and their strengths change.
+ * </p>
+ *
+ * <p>
+ * Instances of this class are safe for use by multiple threads.
+ * </p>
+ */
+final class ProStrengthCalibration {
+  static final double RANGE_WIDTH = 5;
+  static final int MIN_SAMPLE_COUNT = 20;
+  static final int SAMPLE_INTERVAL = 10;
+  // The share of the simulated TUV swing by which the estimated TUV swing may differ from it
+  static final double TUV_SWING_TOLERANCE = 0.25;
+  // The difference between the estimated and simulated TUV swing that is tolerated however small they are
+  static final double MIN_TUV_SWING_DIFFERENCE = 3;
+  // Strength differences beyond these limits are calibrated with the nearest range
+  private static final double MIN_STRENGTH_DIFFERENCE = -100;
+  private static final double MAX_STRENGTH_DIFFERENCE = 300;
+
+  private final Map<Integer, Range> ranges = new HashMap<>();
+
+  /**
+   * Records the simulated win percentage and TUV swing of a battle with the specified estimated strength difference,
+   * together with the TUV swing estimated for it.
+   */
+  synchronized void record(final double strengthDifference, final double winPercentage, final double tuvSwing,
+      final double estimatedTuvSwing) {
+    if (isCalibrated(strengthDifference)) {
+      ranges.computeIfAbsent(getRangeIndex(strengthDifference), k -> new Range())
+          .add(winPercentage, isWithinTolerance(estimatedTuvSwing, tuvSwing));
+    }
+  }
+
+  /**
+   * Returns the average simulated win percentage of battles with about the specified strength difference if it is
+   * known well enough, their TUV swings were estimated well enough, and none of the specified thresholds lies between
+   * the lowest and highest of these win percentages, i.e. a simulation would most likely be on the same side of each
+   * threshold as the estimate. Returns empty for every {@link #SAMPLE_INTERVAL}th of these estimates, so the caller
+   * simulates the battle and records it instead.
+   */
+  synchronized OptionalDouble estimateWinPercentage(final double strengthDifference, final double... thresholds) {
+    if (!isCalibrated(strengthDifference)) {
+      return OptionalDouble.empty();
+    }
+    final Range range = ranges.get(getRangeIndex(strengthDifference));
+    if (range == null || range.count < MIN_SAMPLE_COUNT || !range.isTuvSwingWithinTolerance) {
+      return OptionalDouble.empty();
+    }
+    for (final double threshold : thresholds) {
+      if (range.min <= threshold && threshold <= range.max) {
+        return OptionalDouble.empty();
+      }
+    }
+    if (++range.estimateCount % SAMPLE_INTERVAL == 0) {
+      return OptionalDouble.empty();
+    }
+    return OptionalDouble.of(range.sum / range.count);
+  }
+
+  private static boolean isWithinTolerance(final double estimatedTuvSwing, final double tuvSwing) {
+    return Math.abs(estimatedTuvSwing - tuvSwing)
+        <= Math.max(MIN_TUV_SWING_DIFFERENCE, TUV_SWING_TOLERANCE * Math.abs(tuvSwing));
+  }
+
+  /**
+   * Returns {@code false} for the values {@link ProBattleUtils#estimateStrengthDifference} returns instead of an
+   * estimate when either side has no units that can fight.
+   */
+  private static boolean isCalibrated(final double strengthDifference) {
+    return strengthDifference != 0 && strengthDifference < 99999 && !Double.isNaN(strengthDifference);
+  }
+
+  private static int getRangeIndex(final double strengthDifference) {
+    final double clampedStrengthDifference =
+        Math.max(MIN_STRENGTH_DIFFERENCE, Math.min(MAX_STRENGTH_DIFFERENCE, strengthDifference));
+    return (int) Math.floor(clampedStrengthDifference / RANGE_WIDTH);
+  }
+
+  private static final class Range {
+    private int count = 0;
+    private double sum = 0;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+    private boolean isTuvSwingWithinTolerance = true;
+    private int estimateCount = 0;
+
+    void add(final double winPercentage, final boolean isTuvSwingWithinTolerance) {
+      count++;
+      this.isTuvSwingWithinTolerance &= isTuvSwingWithinTolerance;
+      sum += winPercentage;
+      min = Math.min(min, winPercentage);
+      max = Math.max(max, winPercentage);
+    }
+  }
+}
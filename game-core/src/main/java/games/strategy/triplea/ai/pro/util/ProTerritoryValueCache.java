@@ -0,0 +1,131 @@
+package games.strategy.triplea.ai.pro.util;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerId;
+import games.strategy.engine.data.Territory;
+
+/**
+ * Caches the parts of the territory values found by {@link ProTerritoryValueUtils} that are expensive to find but
+ * rarely change during a turn, so they don't have to be found again on every call:
+ * <ul>
+ * <li>The size of the land mass around each territory, which only depends on the map and on the owners of the
+ * territories. When the owners of some territories change, only the land masses within reach of them are found
+ * again.</li>
+ * <li>The enemy capitals and factories near each territory, which only depend on the map as long as the enemy capitals
+ * and factories stay the same.</li>
+ * </ul>
+ *
+ * <p>
+ * The cache is discarded when it is used for another game data, another player or another round.
+ * </p>
+ */
+public final class ProTerritoryValueCache {
+  static final int LAND_MASS_DISTANCE = 6;
+
+  private @Nullable GameData data;
+  private @Nullable PlayerId player;
+  private int round;
+  private final Map<Territory, PlayerId> owners = new HashMap<>();
+  private final Map<Territory, Integer> landMassSizes = new HashMap<>();
+  private int maxLandMassSize = 1;
+  private Set<Territory> enemyCapitalsAndFactories = Collections.emptySet();
+  private final Map<Territory, Set<Territory>> nearbyEnemyCapitalsAndFactories = new ConcurrentHashMap<>();
+
+  /**
+   * Brings the land mass sizes in sync with the owners of the territories of the specified game data. Must be called
+   * before the land mass sizes are read.
+   *
+   * @return The number of territories whose land mass size had to be found again.
+   */
+  int update(final GameData data, final PlayerId player) {
+    final int round = data.getSequence().getRound();
+    if (data != this.data || !player.equals(this.player) || round != this.round) {
+      this.data = data;
+      this.player = player;
+      this.round = round;
+      owners.clear();
+      landMassSizes.clear();
+      maxLandMassSize = 1;
+      enemyCapitalsAndFactories = Collections.emptySet();
+      nearbyEnemyCapitalsAndFactories.clear();
+    }
+
+    final boolean isEmpty = owners.isEmpty();
+    final Set<Territory> territoriesToUpdate = new HashSet<>();
+    for (final Territory t : data.getMap().getTerritories()) {
+      if (!owners.containsKey(t) || !Objects.equals(owners.get(t), t.getOwner())) {
+        owners.put(t, t.getOwner());
+        territoriesToUpdate.add(t);
+        if (!isEmpty) {
+          territoriesToUpdate.addAll(data.getMap().getNeighbors(t, LAND_MASS_DISTANCE));
+        }
+      }
+    }
+    if (territoriesToUpdate.isEmpty()) {
+      return 0;
+    }
+
+    final Predicate<Territory> canMoveLandUnits = ProMatches.territoryCanPotentiallyMoveLandUnits(player, data);
+    final Map<Territory, Integer> updatedLandMassSizes = territoriesToUpdate.parallelStream()
+        .collect(Collectors.toMap(t -> t,
+            t -> 1 + data.getMap().getNeighbors(t, LAND_MASS_DISTANCE, canMoveLandUnits).size()));
+    landMassSizes.putAll(updatedLandMassSizes);
+    maxLandMassSize = landMassSizes.entrySet().stream()
+        .filter(entry -> !entry.getKey().isWater())
+        .mapToInt(Map.Entry::getValue)
+        .reduce(1, Math::max);
+    return updatedLandMassSizes.size();
+  }
+
+  /**
+   * Returns the number of territories within {@link #LAND_MASS_DISTANCE} of the specified territory that land units
+   * can potentially move through, plus one for the territory itself.
+   */
+  int getLandMassSize(final Territory t) {
+    final Integer landMassSize = landMassSizes.get(t);
+    if (landMassSize == null) {
+      throw new IllegalStateException("No land mass size for " + t + ", cache not updated");
+    }
+    return landMassSize;
+  }
+
+  /**
+   * Returns the largest land mass size of any land territory on the map.
+   */
+  int getMaxLandMassSize() {
+    return maxLandMassSize;
+  }
+
+  /**
+   * Sets the enemy capitals and factories near which {@link #getNearbyEnemyCapitalsAndFactories(Territory, Function)}
+   * looks, discarding the cached ones if they differ. Must not be called while other threads read the cache.
+   */
+  void setEnemyCapitalsAndFactories(final Set<Territory> enemyCapitalsAndFactories) {
+    if (!enemyCapitalsAndFactories.equals(this.enemyCapitalsAndFactories)) {
+      this.enemyCapitalsAndFactories = new HashSet<>(enemyCapitalsAndFactories);
+      nearbyEnemyCapitalsAndFactories.clear();
+    }
+  }
+
+  /**
+   * Returns the enemy capitals and factories near the specified territory, finding them with the specified function if
+   * they are not cached yet.
+   */
+  Set<Territory> getNearbyEnemyCapitalsAndFactories(final Territory t,
+      final Function<Territory, Set<Territory>> findNearbyEnemyCapitalsAndFactories) {
+    return nearbyEnemyCapitalsAndFactories.computeIfAbsent(t, findNearbyEnemyCapitalsAndFactories);
+  }
+}
@@ -0,0 +1,83 @@
+package games.strategy.triplea.ai.pro.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.concurrent.TimeUnit;
+
+import games.strategy.triplea.ai.pro.logging.ProLogger;
+
+/**
+ * The time the Pro AI may spend planning a phase. Once it has run out, the expensive loops of the phase stop trying to
+ * improve their plan and the odds calculator estimates battles instead of simulating them, so the AI finishes with the
+ * best plan it has found so far. A budget can also be canceled, e.g. when the game is stopped.
+ *
+ * <p>
+ * Instances of this class are safe for use by multiple threads.
+ * </p>
+ */
+public final class ProTimeBudget {
+  private final String phase;
+  private final long startNanos;
+  private final long limitNanos;
+  private volatile boolean isCanceled = false;
+  private volatile boolean isOverrun = false;
+
+  private ProTimeBudget(final String phase, final long limitNanos) {
+    this.phase = phase;
+    this.startNanos = System.nanoTime();
+    this.limitNanos = limitNanos;
+  }
+
+  /**
+   * Returns a budget that never runs out unless it is canceled.
+   */
+  public static ProTimeBudget unlimited() {
+    return new ProTimeBudget("unlimited", 0);
+  }
+
+  /**
+   * Starts the budget of the specified phase.
+   *
+   * @param limitInSeconds The time the phase may take; zero means no limit.
+   */
+  public static ProTimeBudget start(final String phase, final int limitInSeconds) {
+    checkNotNull(phase);
+    checkArgument(limitInSeconds >= 0, "limit must not be negative");
+
+    return new ProTimeBudget(phase, TimeUnit.SECONDS.toNanos(limitInSeconds));
+  }
+
+  /**
+   * Indicates the phase should finish with the best plan found so far because the budget has run out or was canceled.
+   */
+  public boolean isExpired() {
+    if (isCanceled || isOverrun) {
+      return true;
+    }
+    if (limitNanos > 0 && System.nanoTime() - startNanos >= limitNanos) {
+      isOverrun = true;
+      ProLogger.warn("Reached time limit of " + TimeUnit.NANOSECONDS.toSeconds(limitNanos) + "s for " + phase
+          + ", finishing with best plan found so far");
+      return true;
+    }
+    return false;
+  }
+
+  public void cancel() {
+    isCanceled = true;
+  }
+
+  /**
+   * Logs how long the phase took compared to its budget. Call when the phase is over.
+   */
+  public void finish() {
+    final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    if (isOverrun) {
+      ProLogger.warn(phase + " took " + elapsedMillis + "ms, exceeding its time limit of "
+          + TimeUnit.NANOSECONDS.toSeconds(limitNanos) + "s");
+    } else {
+      ProLogger.debug(phase + " took " + elapsedMillis + "ms");
+    }
+  }
+}
@@ -0,0 +1,67 @@
+package games.strategy.triplea.ai.pro.util;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import games.strategy.engine.data.PlayerId;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.UnitType;
+import games.strategy.triplea.attachments.UnitAttachment;
+
+/**
+ * Indexes the units of each player that can be loaded onto transports by the territory they are in, so the transport
+ * planning of a phase doesn't have to search and sort the units of the same territories again for every transport and
+ * every territory the transport could move to.
+ *
+ * <p>
+ * The units of a territory are found the first time they are asked for and are kept until they are invalidated,
+ * e.g. because units moved out of or into the territory. A new index should be used for each phase, since battles
+ * change the units of territories too.
+ * </p>
+ *
+ * <p>
+ * Instances of this class are safe for use by multiple threads.
+ * </p>
+ */
+public final class ProTransportLoadingIndex {
+  private final Map<PlayerId, Map<Territory, List<Unit>>> transportableUnits = new ConcurrentHashMap<>();
+  private final Map<PlayerId, Map<UnitType, Integer>> attacks = new ConcurrentHashMap<>();
+
+  /**
+   * Returns the units of the specified player in the specified territory that can be transported, sorted by
+   * {@link #getLoadingComparator(PlayerId)}. The units still have to be checked for whether they can be loaded now,
+   * e.g. whether they have movement left.
+   */
+  public List<Unit> getTransportableUnits(final PlayerId player, final Territory t) {
+    return transportableUnits.computeIfAbsent(player, k -> new ConcurrentHashMap<>()).computeIfAbsent(t, k -> {
+      final List<Unit> units = t.getUnitCollection().getMatches(ProMatches.unitIsOwnedTransportableUnit(player));
+      units.sort(getLoadingComparator(player));
+      return Collections.unmodifiableList(units);
+    });
+  }
+
+  /**
+   * Returns a comparator that orders units by increasing transport cost and then by decreasing attack (including
+   * support), i.e. in the order in which they are preferably loaded.
+   */
+  Comparator<Unit> getLoadingComparator(final PlayerId player) {
+    final Map<UnitType, Integer> playerAttacks = attacks.computeIfAbsent(player, k -> new ConcurrentHashMap<>());
+    return Comparator.<Unit>comparingInt(u -> UnitAttachment.get(u.getType()).getTransportCost())
+        .thenComparing(Comparator.<Unit>comparingInt(u -> playerAttacks.computeIfAbsent(u.getType(),
+            unitType -> ProTransportUtils.findAttackWithSupport(unitType, player))).reversed());
+  }
+
+  /**
+   * Discards the units of the specified territories, so they are found again the next time they are asked for.
+   */
+  void invalidate(final Collection<Territory> territories) {
+    for (final Map<Territory, List<Unit>> playerTransportableUnits : transportableUnits.values()) {
+      playerTransportableUnits.keySet().removeAll(territories);
+    }
+  }
+}
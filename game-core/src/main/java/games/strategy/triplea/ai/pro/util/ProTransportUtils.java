@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -16,6 +17,7 @@ import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerId;
 import games.strategy.engine.data.Territory;
 import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.UnitType;
 import games.strategy.triplea.TripleAUnit;
 import games.strategy.triplea.ai.AiUtils;
 import games.strategy.triplea.ai.pro.ProData;
@@ -48,20 +50,16 @@ public final class ProTransportUtils {
   /**
    * Returns the units to transport via {@code transport} whose land movement value does not exceed {@code value}.
    */
-  public static List<Unit> getUnitsToTransportThatCantMoveToHigherValue(final PlayerId player, final Unit transport,
-      final Set<Territory> territoriesToLoadFrom, final List<Unit> unitsToIgnore,
+  public static List<Unit> getUnitsToTransportThatCantMoveToHigherValue(final ProData proData, final PlayerId player,
+      final Unit transport, final Set<Territory> territoriesToLoadFrom, final List<Unit> unitsToIgnore,
       final Map<Territory, ProTerritory> moveMap, final Map<Unit, Set<Territory>> unitMoveMap, final double value) {
 
     final List<Unit> unitsToIgnoreOrHaveBetterLandMove = new ArrayList<>(unitsToIgnore);
     if (!TransportTracker.isTransporting(transport)) {
 
       // Get all units that can be transported
-      final List<Unit> units = new ArrayList<>();
-      for (final Territory loadFrom : territoriesToLoadFrom) {
-        units.addAll(loadFrom.getUnitCollection()
-            .getMatches(ProMatches.unitIsOwnedTransportableUnitAndCanBeLoaded(player, transport, true)));
-      }
-      units.removeAll(unitsToIgnore);
+      final List<Unit> units = findTransportableUnits(proData, player, territoriesToLoadFrom, unitsToIgnore,
+          ProMatches.unitIsOwnedTransportableUnitAndCanBeLoaded(player, transport, true));
 
       // Check to see which have higher land move value
       for (final Unit u : units) {
@@ -75,22 +73,23 @@ public final class ProTransportUtils {
         }
       }
     }
-    return getUnitsToTransportFromTerritories(player, transport, territoriesToLoadFrom,
+    return getUnitsToTransportFromTerritories(proData, player, transport, territoriesToLoadFrom,
         unitsToIgnoreOrHaveBetterLandMove);
   }
 
-  public static List<Unit> getUnitsToTransportFromTerritories(final PlayerId player, final Unit transport,
-      final Set<Territory> territoriesToLoadFrom, final List<Unit> unitsToIgnore) {
-    return getUnitsToTransportFromTerritories(player, transport, territoriesToLoadFrom, unitsToIgnore,
+  public static List<Unit> getUnitsToTransportFromTerritories(final ProData proData, final PlayerId player,
+      final Unit transport, final Set<Territory> territoriesToLoadFrom, final List<Unit> unitsToIgnore) {
+    return getUnitsToTransportFromTerritories(proData, player, transport, territoriesToLoadFrom, unitsToIgnore,
         ProMatches.unitIsOwnedTransportableUnitAndCanBeLoaded(player, transport, true));
   }
 
   /**
-   * Returns the units to transport via {@code transport} that satisfy the specified predicate.
+   * Returns the units to transport via {@code transport} that satisfy the specified predicate, which may only match
+   * units of {@code player} that can be transported.
    */
   // TODO: this needs fixed to consider whether a valid route exists to load all units
-  public static List<Unit> getUnitsToTransportFromTerritories(final PlayerId player, final Unit transport,
-      final Set<Territory> territoriesToLoadFrom, final List<Unit> unitsToIgnore,
+  public static List<Unit> getUnitsToTransportFromTerritories(final ProData proData, final PlayerId player,
+      final Unit transport, final Set<Territory> territoriesToLoadFrom, final List<Unit> unitsToIgnore,
       final Predicate<Unit> validUnitMatch) {
     final List<Unit> selectedUnits = new ArrayList<>();
 
@@ -100,15 +99,11 @@ public final class ProTransportUtils {
     } else {
 
       // Get all units that can be transported
-      final List<Unit> units = new ArrayList<>();
-      for (final Territory loadFrom : territoriesToLoadFrom) {
-        units.addAll(loadFrom.getUnitCollection().getMatches(validUnitMatch));
-      }
-      units.removeAll(unitsToIgnore);
+      final List<Unit> units =
+          findTransportableUnits(proData, player, territoriesToLoadFrom, unitsToIgnore, validUnitMatch);
 
-      // Sort units by attack
-      units.sort(Comparator.<Unit>comparingInt(u -> UnitAttachment.get(u.getType()).getTransportCost())
-          .thenComparing(getDecreasingAttackComparator(player)));
+      // Sort units by attack, which merges the units of each territory that are already sorted
+      units.sort(proData.getTransportLoadingIndex().getLoadingComparator(player));
 
       // Get best units that can be loaded
       selectedUnits.addAll(selectUnitsToTransportFromList(transport, units));
@@ -116,6 +111,22 @@ public final class ProTransportUtils {
     return selectedUnits;
   }
 
+  private static List<Unit> findTransportableUnits(final ProData proData, final PlayerId player,
+      final Set<Territory> territoriesToLoadFrom, final List<Unit> unitsToIgnore,
+      final Predicate<Unit> validUnitMatch) {
+    final ProTransportLoadingIndex transportLoadingIndex = proData.getTransportLoadingIndex();
+    final Set<Unit> ignoredUnits = new HashSet<>(unitsToIgnore);
+    final List<Unit> units = new ArrayList<>();
+    for (final Territory loadFrom : territoriesToLoadFrom) {
+      for (final Unit unit : transportLoadingIndex.getTransportableUnits(player, loadFrom)) {
+        if (!ignoredUnits.contains(unit) && validUnitMatch.test(unit)) {
+          units.add(unit);
+        }
+      }
+    }
+    return units;
+  }
+
   /**
    * Selects the best units to load on the transport from the given list.
    */
@@ -172,14 +183,15 @@ public final class ProTransportUtils {
     return transportCost;
   }
 
-  public static List<Unit> getUnitsToAdd(final Unit unit, final Map<Territory, ProTerritory> moveMap) {
-    return getUnitsToAdd(unit, new ArrayList<>(), moveMap);
+  public static List<Unit> getUnitsToAdd(final ProData proData, final Unit unit,
+      final Map<Territory, ProTerritory> moveMap) {
+    return getUnitsToAdd(proData, unit, new ArrayList<>(), moveMap);
   }
 
-  public static List<Unit> getUnitsToAdd(final Unit unit, final List<Unit> alreadyMovedUnits,
+  public static List<Unit> getUnitsToAdd(final ProData proData, final Unit unit, final List<Unit> alreadyMovedUnits,
       final Map<Territory, ProTerritory> moveMap) {
     final List<Unit> movedUnits = getMovedUnits(alreadyMovedUnits, moveMap);
-    return findBestUnitsToLandTransport(unit, ProData.unitTerritoryMap.get(unit),
+    return findBestUnitsToLandTransport(unit, proData.getUnitTerritoryMap().get(unit),
         movedUnits);
   }
 
@@ -206,11 +218,13 @@ public final class ProTransportUtils {
       return new ArrayList<>();
     }
     final PlayerId player = unit.getOwner();
+    if (Matches.unitIsLandTransport().negate().test(unit) || !TechAttachment.isMechanizedInfantry(player)) {
+      return Collections.singletonList(unit);
+    }
     final List<Unit> units = t.getUnitCollection().getMatches(Matches.unitIsOwnedBy(player)
         .and(Matches.unitIsLandTransportable()).and(ProMatches.unitHasLessMovementThan(unit)));
     units.removeAll(usedUnits);
-    if (Matches.unitIsLandTransport().negate().test(unit) || !TechAttachment.isMechanizedInfantry(player)
-        || units.isEmpty()) {
+    if (units.isEmpty()) {
       return Collections.singletonList(unit);
     }
     final List<Unit> results = new ArrayList<>();
@@ -229,35 +243,28 @@ public final class ProTransportUtils {
   }
 
   private static Comparator<Unit> getDecreasingAttackComparator(final PlayerId player) {
-    return (o1, o2) -> {
-
-      // Very rough way to add support power
-      final Set<UnitSupportAttachment> supportAttachments1 = UnitSupportAttachment.get(o1.getType());
-      int maxSupport1 = 0;
-      for (final UnitSupportAttachment usa : supportAttachments1) {
-        if (usa.getAllied() && usa.getOffence() && usa.getBonus() > maxSupport1) {
-          maxSupport1 = usa.getBonus();
-        }
-      }
-      final int attack1 = UnitAttachment.get(o1.getType()).getAttack(player) + maxSupport1;
-      final Set<UnitSupportAttachment> supportAttachments2 = UnitSupportAttachment.get(o2.getType());
-      int maxSupport2 = 0;
-      for (final UnitSupportAttachment usa : supportAttachments2) {
-        if (usa.getAllied() && usa.getOffence() && usa.getBonus() > maxSupport2) {
-          maxSupport2 = usa.getBonus();
-        }
+    return (o1, o2) -> findAttackWithSupport(o2.getType(), player) - findAttackWithSupport(o1.getType(), player);
+  }
+
+  static int findAttackWithSupport(final UnitType unitType, final PlayerId player) {
+
+    // Very rough way to add support power
+    final Set<UnitSupportAttachment> supportAttachments = UnitSupportAttachment.get(unitType);
+    int maxSupport = 0;
+    for (final UnitSupportAttachment usa : supportAttachments) {
+      if (usa.getAllied() && usa.getOffence() && usa.getBonus() > maxSupport) {
+        maxSupport = usa.getBonus();
       }
-      final int attack2 = UnitAttachment.get(o2.getType()).getAttack(player) + maxSupport2;
-      return attack2 - attack1;
-    };
+    }
+    return UnitAttachment.get(unitType).getAttack(player) + maxSupport;
   }
 
   /**
    * Returns the air units in {@code units} that can't land on any carrier unit in {@code units}.
    */
-  public static List<Unit> getAirThatCantLandOnCarrier(final PlayerId player, final Territory t,
+  public static List<Unit> getAirThatCantLandOnCarrier(final ProData proData, final PlayerId player, final Territory t,
       final List<Unit> units) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     int capacity = AirMovementValidator.carrierCapacity(units, t);
     final Collection<Unit> airUnits = CollectionUtils.getMatches(units, ProMatches.unitIsAlliedAir(player, data));
@@ -280,9 +287,9 @@ public final class ProTransportUtils {
    * Returns {@code true} if the carrier units in {@code existingUnits} have enough capacity to receive the air units in
    * {@code existingUnits} in addition to {@code newUnit}.
    */
-  public static boolean validateCarrierCapacity(final PlayerId player, final Territory t,
+  public static boolean validateCarrierCapacity(final ProData proData, final PlayerId player, final Territory t,
       final List<Unit> existingUnits, final Unit newUnit) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     int capacity = AirMovementValidator.carrierCapacity(existingUnits, t);
     final Collection<Unit> airUnits =
@@ -302,9 +309,9 @@ public final class ProTransportUtils {
    * Returns the unused capacity of all carrier units within 2 neighbors of {@code t} including any carrier units in
    * {@code unitsToPlace}.
    */
-  public static int getUnusedLocalCarrierCapacity(final PlayerId player, final Territory t,
+  public static int getUnusedLocalCarrierCapacity(final ProData proData, final PlayerId player, final Territory t,
       final List<Unit> unitsToPlace) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     // Find nearby carrier capacity
     final Set<Territory> nearbyTerritories =
@@ -22,7 +22,6 @@ import games.strategy.engine.data.RelationshipType;
 import games.strategy.engine.data.Territory;
 import games.strategy.engine.data.Unit;
 import games.strategy.triplea.Properties;
-import games.strategy.triplea.ai.pro.ProData;
 import games.strategy.triplea.attachments.TerritoryAttachment;
 import games.strategy.triplea.delegate.Matches;
 import games.strategy.triplea.settings.ClientSetting;
@@ -33,9 +32,9 @@ import games.strategy.triplea.settings.ClientSetting;
 public final class ProUtils {
   private ProUtils() {}
 
-  public static Map<Unit, Territory> newUnitTerritoryMap() {
+  public static Map<Unit, Territory> newUnitTerritoryMap(final GameData data) {
     final Map<Unit, Territory> unitTerritoryMap = new HashMap<>();
-    for (final Territory t : ProData.getData().getMap().getTerritories()) {
+    for (final Territory t : data.getMap().getTerritories()) {
       for (final Unit u : t.getUnits()) {
         unitTerritoryMap.put(u, t);
       }
@@ -46,8 +45,7 @@ public final class ProUtils {
   /**
    * Returns a list of all players in turn order excluding {@code player}.
    */
-  public static List<PlayerId> getOtherPlayersInTurnOrder(final PlayerId player) {
-    final GameData data = ProData.getData();
+  public static List<PlayerId> getOtherPlayersInTurnOrder(final GameData data, final PlayerId player) {
     final List<PlayerId> players = new ArrayList<>();
     final GameSequence sequence = data.getSequence();
     final int startIndex = sequence.getStepIndex();
@@ -66,16 +64,14 @@ public final class ProUtils {
     return players;
   }
 
-  public static List<PlayerId> getAlliedPlayersInTurnOrder(final PlayerId player) {
-    final GameData data = ProData.getData();
-    final List<PlayerId> players = getOtherPlayersInTurnOrder(player);
+  public static List<PlayerId> getAlliedPlayersInTurnOrder(final GameData data, final PlayerId player) {
+    final List<PlayerId> players = getOtherPlayersInTurnOrder(data, player);
     players.removeIf(currentPlayer -> !data.getRelationshipTracker().isAllied(player, currentPlayer));
     return players;
   }
 
-  public static List<PlayerId> getEnemyPlayersInTurnOrder(final PlayerId player) {
-    final GameData data = ProData.getData();
-    final List<PlayerId> players = getOtherPlayersInTurnOrder(player);
+  public static List<PlayerId> getEnemyPlayersInTurnOrder(final GameData data, final PlayerId player) {
+    final List<PlayerId> players = getOtherPlayersInTurnOrder(data, player);
     players.removeIf(currentPlayer -> data.getRelationshipTracker().isAllied(player, currentPlayer));
     return players;
   }
@@ -92,8 +88,7 @@ public final class ProUtils {
     return true;
   }
 
-  public static List<PlayerId> getEnemyPlayers(final PlayerId player) {
-    final GameData data = ProData.getData();
+  public static List<PlayerId> getEnemyPlayers(final GameData data, final PlayerId player) {
     final List<PlayerId> enemyPlayers = new ArrayList<>();
     for (final PlayerId players : data.getPlayerList().getPlayers()) {
       if (!data.getRelationshipTracker().isAllied(player, players)) {
@@ -103,8 +98,7 @@ public final class ProUtils {
     return enemyPlayers;
   }
 
-  private static List<PlayerId> getAlliedPlayers(final PlayerId player) {
-    final GameData data = ProData.getData();
+  private static List<PlayerId> getAlliedPlayers(final GameData data, final PlayerId player) {
     final List<PlayerId> alliedPlayers = new ArrayList<>();
     for (final PlayerId players : data.getPlayerList().getPlayers()) {
       if (data.getRelationshipTracker().isAllied(player, players)) {
@@ -114,8 +108,7 @@ public final class ProUtils {
     return alliedPlayers;
   }
 
-  public static List<PlayerId> getPotentialEnemyPlayers(final PlayerId player) {
-    final GameData data = ProData.getData();
+  public static List<PlayerId> getPotentialEnemyPlayers(final GameData data, final PlayerId player) {
     final List<PlayerId> otherPlayers = data.getPlayerList().getPlayers();
     for (final Iterator<PlayerId> it = otherPlayers.iterator(); it.hasNext();) {
       final PlayerId otherPlayer = it.next();
@@ -141,20 +134,20 @@ public final class ProUtils {
 
   public static List<Territory> getLiveEnemyCapitals(final GameData data, final PlayerId player) {
     final List<Territory> enemyCapitals = new ArrayList<>();
-    final List<PlayerId> enemyPlayers = getEnemyPlayers(player);
+    final List<PlayerId> enemyPlayers = getEnemyPlayers(data, player);
     for (final PlayerId otherPlayer : enemyPlayers) {
       enemyCapitals.addAll(TerritoryAttachment.getAllCurrentlyOwnedCapitals(otherPlayer, data));
     }
     enemyCapitals.retainAll(
         CollectionUtils.getMatches(enemyCapitals, Matches.territoryIsNotImpassableToLandUnits(player, data)));
     enemyCapitals.retainAll(
-        CollectionUtils.getMatches(enemyCapitals, Matches.isTerritoryOwnedBy(getPotentialEnemyPlayers(player))));
+        CollectionUtils.getMatches(enemyCapitals, Matches.isTerritoryOwnedBy(getPotentialEnemyPlayers(data, player))));
     return enemyCapitals;
   }
 
   public static List<Territory> getLiveAlliedCapitals(final GameData data, final PlayerId player) {
     final List<Territory> capitals = new ArrayList<>();
-    final List<PlayerId> players = getAlliedPlayers(player);
+    final List<PlayerId> players = getAlliedPlayers(data, player);
     for (final PlayerId alliedPlayer : players) {
       capitals.addAll(TerritoryAttachment.getAllCurrentlyOwnedCapitals(alliedPlayer, data));
     }
@@ -173,7 +166,7 @@ public final class ProUtils {
     final Set<Territory> landTerritories =
         data.getMap().getNeighbors(t, 9, ProMatches.territoryCanPotentiallyMoveLandUnits(player, data));
     final List<Territory> enemyLandTerritories =
-        CollectionUtils.getMatches(landTerritories, Matches.isTerritoryOwnedBy(getPotentialEnemyPlayers(player)));
+        CollectionUtils.getMatches(landTerritories, Matches.isTerritoryOwnedBy(getPotentialEnemyPlayers(data, player)));
     int minDistance = 10;
     for (final Territory enemyLandTerritory : enemyLandTerritories) {
       final int distance = data.getMap().getDistance(t, enemyLandTerritory,
@@ -195,7 +188,7 @@ public final class ProUtils {
     final Set<Territory> landTerritories =
         data.getMap().getNeighbors(t, 9, ProMatches.territoryCanPotentiallyMoveLandUnits(player, data));
     final List<Territory> enemyLandTerritories =
-        CollectionUtils.getMatches(landTerritories, Matches.isTerritoryOwnedBy(getEnemyPlayers(player)));
+        CollectionUtils.getMatches(landTerritories, Matches.isTerritoryOwnedBy(getEnemyPlayers(data, player)));
     int minDistance = 10;
     for (final Territory enemyLandTerritory : enemyLandTerritories) {
       if (territoryValueMap.get(enemyLandTerritory) <= 0) {
@@ -11,16 +11,24 @@ import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
 import java.util.logging.Level;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
 
 import org.triplea.java.Interruptibles;
 import org.triplea.java.concurrency.CountUpAndDownLatch;
 
 import com.google.common.util.concurrent.Runnables;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.Uninterruptibles;
 
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerId;
@@ -37,6 +45,8 @@ import lombok.extern.java.Log;
 @Log
 public class ConcurrentOddsCalculator implements IOddsCalculator {
   private static final int MAX_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors());
+  // Worker threads idle for longer than this are stopped, e.g. while an AI waits for its next turn
+  private static final long THREAD_KEEP_ALIVE_SECONDS = 30;
 
   private int currentThreads = MAX_THREADS;
   private final ExecutorService executor;
@@ -60,18 +70,27 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
   // do not let multiple calculations or setting calc data happen at same time
   private final Object mutexCalcIsRunning = new Object();
   private final Runnable dataLoadedAction;
+  // the changes performed on the game data the workers copied, only accessed while setting game data
+  private volatile @Nullable GameDataChangeRecorder workersChangeRecorder;
+  private final AtomicInteger cloneCount = new AtomicInteger(0);
 
   public ConcurrentOddsCalculator(final String threadNamePrefix) {
     this(threadNamePrefix, Runnables.doNothing());
   }
 
   ConcurrentOddsCalculator(final String threadNamePrefix, final Runnable dataLoadedAction) {
-    executor = Executors.newFixedThreadPool(
+    final ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(
+        MAX_THREADS,
         MAX_THREADS,
+        THREAD_KEEP_ALIVE_SECONDS,
+        TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>(),
         new ThreadFactoryBuilder()
             .setDaemon(true)
             .setNameFormat(threadNamePrefix + " ConcurrentOddsCalculator Worker-%d")
             .build());
+    threadPoolExecutor.allowCoreThreadTimeOut(true);
+    executor = threadPoolExecutor;
     this.dataLoadedAction = dataLoadedAction;
   }
 
@@ -95,7 +114,7 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
       isDataSet = false;
       isCalcSet = false;
       if (data == null || isShutDown) {
-        workers.clear();
+        clearWorkers();
         cancelCurrentOperation.incrementAndGet();
         // allow calcing and other stuff to go ahead
         latchSetData.countDown();
@@ -137,56 +156,44 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
     return Math.min(numberOfTimesWeCanCopyMax, MAX_THREADS);
   }
 
-  private void createWorkers(final GameData data) {
+  /**
+   * Returns the number of times the game data has been cloned for the workers, as opposed to bringing the copies of
+   * the workers in sync when the game data is set again.
+   */
+  public int getCloneCount() {
+    return cloneCount.get();
+  }
+
+  private void clearWorkers() {
     workers.clear();
-    if (data != null && cancelCurrentOperation.get() >= 0) {
-      // see how long 1 copy takes (some games can get REALLY big)
-      final long startTime = System.currentTimeMillis();
-      final long startMemory = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
-      final GameData newData;
-      try {
-        // make first copy, then release lock on it so game can continue (ie: we don't want to lock on it while we copy
-        // it 16 times, when once is enough) don't let the data change while we make the first copy
-        data.acquireWriteLock();
-        newData = GameDataUtils.cloneGameDataWithoutHistory(data, false);
-      } finally {
-        data.releaseWriteLock();
-      }
-      currentThreads = getThreadsToUse((System.currentTimeMillis() - startTime), startMemory);
-      try {
-        // make sure all workers are using the same data
-        newData.acquireReadLock();
-        int i = 0;
-        // we are already in 1 executor thread, so we have MAX_THREADS-1 threads left to use
-        if (currentThreads <= 2 || MAX_THREADS <= 2) {
-          // if 2 or fewer threads, do not multi-thread the copying (we have already copied it once above, so at most
-          // only 1 more copy to make)
-          while (cancelCurrentOperation.get() >= 0 && i < currentThreads) {
-            // the last one will use our already copied data from above, without copying it again
-            workers.add(new OddsCalculator(newData, (currentThreads == ++i)));
-          }
-        } else { // multi-thread our copying, cus why the heck not (it increases the speed of copying by about double)
-          final CountDownLatch workerLatch = new CountDownLatch(currentThreads - 1);
-          while (i < (currentThreads - 1)) {
-            ++i;
-            executor.execute(() -> {
-              if (cancelCurrentOperation.get() >= 0) {
-                workers.add(new OddsCalculator(newData, false));
-              }
-              workerLatch.countDown();
-            });
-          }
-          // the last one will use our already copied data from above, without copying it again
-          workers.add(new OddsCalculator(newData, true));
-          Interruptibles.await(workerLatch);
-        }
-      } finally {
-        newData.releaseReadLock();
-      }
+    final @Nullable GameDataChangeRecorder changeRecorder = workersChangeRecorder;
+    if (changeRecorder != null) {
+      changeRecorder.close();
+      workersChangeRecorder = null;
+    }
+  }
+
+  /**
+   * Brings the copies of the workers in sync with the specified game data, if they were copied from it, by performing
+   * the changes made to it since instead of copying it again. The workers undo the changes of each battle they
+   * calculate, so their copies only differ in the units they last placed in the battle territory, which are replaced
+   * by the next battle anyway.
+   */
+  private boolean syncWorkers(final GameData data) {
+    final @Nullable GameDataChangeRecorder changeRecorder = workersChangeRecorder;
+    return changeRecorder != null
+        && changeRecorder.getData() == data
+        && !workers.isEmpty()
+        && changeRecorder.syncCopies(workers.stream().map(OddsCalculator::getGameData).collect(Collectors.toList()));
+  }
+
+  private void createWorkers(final GameData data) {
+    if (data != null && cancelCurrentOperation.get() >= 0 && !syncWorkers(data)) {
+      cloneWorkers(data);
     }
     if (cancelCurrentOperation.get() < 0 || data == null) {
       // we could have cancelled while setting data, so clear the workers again if so
-      workers.clear();
+      clearWorkers();
       isDataSet = false;
     } else {
       // should make sure that all workers have their game data set before we can call calculate and other things
@@ -199,12 +206,69 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
     latchSetData.countDown();
   }
 
+  private void cloneWorkers(final GameData data) {
+    clearWorkers();
+    // see how long 1 copy takes (some games can get REALLY big)
+    final long startTime = System.currentTimeMillis();
+    final long startMemory = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+    final GameData newData;
+    try {
+      // make first copy, then release lock on it so game can continue (ie: we don't want to lock on it while we copy
+      // it 16 times, when once is enough) don't let the data change while we make the first copy
+      data.acquireWriteLock();
+      newData = GameDataUtils.cloneGameDataWithoutHistory(data, false);
+      cloneCount.incrementAndGet();
+      workersChangeRecorder = new GameDataChangeRecorder(data);
+    } finally {
+      data.releaseWriteLock();
+    }
+    currentThreads = getThreadsToUse((System.currentTimeMillis() - startTime), startMemory);
+    try {
+      // make sure all workers are using the same data
+      newData.acquireReadLock();
+      int i = 0;
+      // we are already in 1 executor thread, so we have MAX_THREADS-1 threads left to use
+      if (currentThreads <= 2 || MAX_THREADS <= 2) {
+        // if 2 or fewer threads, do not multi-thread the copying (we have already copied it once above, so at most
+        // only 1 more copy to make)
+        while (cancelCurrentOperation.get() >= 0 && i < currentThreads) {
+          // the last one will use our already copied data from above, without copying it again
+          workers.add(new OddsCalculator(newData, (currentThreads == ++i)));
+          if (currentThreads != i) {
+            cloneCount.incrementAndGet();
+          }
+        }
+      } else { // multi-thread our copying, cus why the heck not (it increases the speed of copying by about double)
+        final CountDownLatch workerLatch = new CountDownLatch(currentThreads - 1);
+        while (i < (currentThreads - 1)) {
+          ++i;
+          executor.execute(() -> {
+            if (cancelCurrentOperation.get() >= 0) {
+              workers.add(new OddsCalculator(newData, false));
+              cloneCount.incrementAndGet();
+            }
+            workerLatch.countDown();
+          });
+        }
+        // the last one will use our already copied data from above, without copying it again
+        workers.add(new OddsCalculator(newData, true));
+        Interruptibles.await(workerLatch);
+      }
+    } finally {
+      newData.releaseReadLock();
+    }
+  }
+
   @Override
   public void shutdown() {
     isShutDown = true;
     cancelCurrentOperation.set(Integer.MIN_VALUE / 2);
     cancel();
     executor.shutdown();
+    final @Nullable GameDataChangeRecorder changeRecorder = workersChangeRecorder;
+    if (changeRecorder != null) {
+      changeRecorder.close();
+    }
   }
 
   private void awaitLatch() {
@@ -314,6 +378,46 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
     }
   }
 
+  /**
+   * Applies the specified functions to the workers, as many at the same time as there are workers, so each battle they
+   * calculate runs on a single thread with the copy of the game data of its worker. This avoids splitting up the runs
+   * of each battle across the workers and combining their results again, which dominates the time of small battles.
+   * Canceling this odds calculator cancels the battles the workers are calculating.
+   */
+  @Override
+  public <T> List<T> calculateEach(final List<? extends Function<IOddsCalculator, T>> functions) {
+    synchronized (mutexCalcIsRunning) {
+      awaitLatch();
+      if (!isDataSet || isShutDown || workers.isEmpty()) {
+        return IOddsCalculator.super.calculateEach(functions);
+      }
+      final AtomicReferenceArray<T> results = new AtomicReferenceArray<>(functions.size());
+      final AtomicInteger nextFunction = new AtomicInteger();
+      final List<Future<?>> futures = new ArrayList<>();
+      for (final OddsCalculator worker : workers) {
+        futures.add(executor.submit(() -> {
+          for (int i = nextFunction.getAndIncrement(); i < functions.size(); i = nextFunction.getAndIncrement()) {
+            results.set(i, functions.get(i).apply(worker));
+          }
+        }));
+      }
+      for (final Future<?> future : futures) {
+        try {
+          // canceling makes the workers finish quickly, so there is no need to stop waiting when interrupted
+          Uninterruptibles.getUninterruptibly(future);
+        } catch (final ExecutionException e) {
+          cancel();
+          throw new IllegalStateException(e.getCause());
+        }
+      }
+      final List<T> resultList = new ArrayList<>(functions.size());
+      for (int i = 0; i < functions.size(); i++) {
+        resultList.add(results.get(i));
+      }
+      return resultList;
+    }
+  }
+
   @Override
   public AggregateResults setCalculateDataAndCalculate(final PlayerId attacker, final PlayerId defender,
       final Territory location, final Collection<Unit> attacking, final Collection<Unit> defending,
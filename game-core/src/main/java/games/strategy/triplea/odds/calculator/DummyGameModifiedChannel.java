@@ -1,6 +1,7 @@
 package games.strategy.triplea.odds.calculator;
 
 import games.strategy.engine.data.Change;
+import games.strategy.engine.data.CompositeChange;
 import games.strategy.engine.data.PlayerId;
 import games.strategy.engine.framework.IGameModifiedChannel;
 
@@ -11,6 +12,9 @@ class DummyGameModifiedChannel implements IGameModifiedChannel {
   @Override
   public void gameDataChanged(final Change change) {}
 
+  @Override
+  public void gameDataChangedFrame(final CompositeChange frame) {}
+
   @Override
   public void shutDown() {}
 
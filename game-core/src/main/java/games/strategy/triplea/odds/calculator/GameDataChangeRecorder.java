@@ -0,0 +1,162 @@
+package games.strategy.triplea.odds.calculator;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.logging.Level;
+
+import javax.annotation.concurrent.GuardedBy;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameSequence;
+import games.strategy.engine.data.events.GameDataChangeListener;
+import games.strategy.engine.framework.GameObjectStreamFactory;
+import games.strategy.io.IoUtils;
+import lombok.extern.java.Log;
+
+/**
+ * Records the changes performed on a game data after it was copied, so the copies can be brought in sync with it by
+ * performing the same changes on them instead of copying the game data again.
+ *
+ * <p>
+ * Listeners are notified of a change after the game data is unlocked, so a change contained in the copies may be
+ * recorded after they were made. The changes are therefore kept by their {@link GameData#getChangeVersion() change
+ * version}, and the changes up to the version the copies contain are dropped.
+ * </p>
+ */
+@Log
+final class GameDataChangeRecorder implements GameDataChangeListener {
+  private final GameData data;
+  @GuardedBy("this")
+  private final SortedMap<Long, byte[]> changes = new TreeMap<>();
+  // The change version of the game data up to which the changes are contained in the copies
+  @GuardedBy("this")
+  private long copyChangeVersion;
+  @GuardedBy("this")
+  private boolean isRecording = true;
+
+  /**
+   * Starts recording the changes performed on the specified game data. The caller must hold its read or write lock
+   * while copying it and creating this recorder, so no change is performed in between.
+   */
+  GameDataChangeRecorder(final GameData data) {
+    this.data = data;
+    copyChangeVersion = data.getChangeVersion();
+    data.addDataChangeListener(this);
+  }
+
+  GameData getData() {
+    return data;
+  }
+
+  /**
+   * Records a change of unknown version, which keeps the copies from being brought in sync.
+   */
+  @Override
+  public void gameDataChanged(final Change change) {
+    gameDataChanged(change, Long.MAX_VALUE);
+  }
+
+  @Override
+  public void gameDataChanged(final Change change, final long changeVersion) {
+    synchronized (this) {
+      if (!isRecording || changeVersion <= copyChangeVersion) {
+        return;
+      }
+    }
+    try {
+      data.acquireReadLock();
+      final byte[] bytes = IoUtils.writeToMemory(os -> {
+        try (ObjectOutputStream out = new GameObjectStreamFactory(data).create(os)) {
+          out.writeObject(change);
+        }
+      });
+      synchronized (this) {
+        if (changeVersion > copyChangeVersion) {
+          changes.put(changeVersion, bytes);
+        }
+      }
+    } catch (final IOException e) {
+      log.log(Level.WARNING, "Failed to record change, game data will be copied again", e);
+      close();
+    } finally {
+      data.releaseReadLock();
+    }
+  }
+
+  /**
+   * Performs the recorded changes on the specified copies of the game data and copies its current step, which is not
+   * tracked by changes. The copies are discarded by the caller if this method returns {@code false}, since some of the
+   * changes may have been performed on them.
+   *
+   * @return {@code true} if the copies are in sync with the game data; {@code false} if a change performed on the game
+   *         data has not been recorded yet or could not be performed on the copies.
+   */
+  boolean syncCopies(final Collection<GameData> copies) {
+    final List<byte[]> changesToPerform = new ArrayList<>();
+    final int round;
+    final int stepIndex;
+    try {
+      data.acquireReadLock();
+      final long changeVersion = data.getChangeVersion();
+      synchronized (this) {
+        if (!isRecording) {
+          return false;
+        }
+        for (final Map.Entry<Long, byte[]> entry : changes.headMap(changeVersion + 1).entrySet()) {
+          if (entry.getKey() != copyChangeVersion + changesToPerform.size() + 1) {
+            return false;
+          }
+          changesToPerform.add(entry.getValue());
+        }
+        if (copyChangeVersion + changesToPerform.size() != changeVersion) {
+          return false;
+        }
+        changes.headMap(changeVersion + 1).clear();
+        copyChangeVersion = changeVersion;
+      }
+      final GameSequence sequence = data.getSequence();
+      round = sequence.getRound();
+      stepIndex = sequence.getStepIndex();
+    } finally {
+      data.releaseReadLock();
+    }
+    try {
+      for (final GameData copy : copies) {
+        final GameObjectStreamFactory streamFactory = new GameObjectStreamFactory(copy);
+        for (final byte[] bytes : changesToPerform) {
+          copy.performChange(IoUtils.readFromMemory(bytes, is -> {
+            try (ObjectInputStream in = streamFactory.create(is)) {
+              return (Change) in.readObject();
+            } catch (final ClassNotFoundException e) {
+              throw new IOException(e);
+            }
+          }));
+        }
+        copy.getSequence().setRoundAndStepIndex(round, stepIndex);
+      }
+      return true;
+    } catch (final IOException | RuntimeException e) {
+      log.log(Level.WARNING, "Failed to sync game data copies, game data will be copied again", e);
+      return false;
+    }
+  }
+
+  /**
+   * Stops recording the changes performed on the game data.
+   */
+  void close() {
+    data.removeDataChangeListener(this);
+    synchronized (this) {
+      isRecording = false;
+      changes.clear();
+    }
+  }
+}
@@ -1,6 +1,9 @@
 package games.strategy.triplea.odds.calculator;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerId;
@@ -47,4 +50,18 @@ public interface IOddsCalculator {
   void shutdown();
 
   int getThreadCount();
+
+  /**
+   * Applies each of the specified functions to an odds calculator with the same game data as this one, and returns
+   * their results in the order of the functions. Each function may calculate battles with the odds calculator it is
+   * given, which only it uses while it runs.
+   *
+   * <p>
+   * Implementations with several workers may apply the functions at the same time, each to one of their workers. By
+   * default, the functions are applied to this odds calculator one after another.
+   * </p>
+   */
+  default <T> List<T> calculateEach(final List<? extends Function<IOddsCalculator, T>> functions) {
+    return functions.stream().map(function -> function.apply(this)).collect(Collectors.toList());
+  }
 }
@@ -71,6 +71,10 @@ class OddsCalculator implements IOddsCalculator, Callable<AggregateResults> {
     isDataSet = data != null;
   }
 
+  GameData getGameData() {
+    return gameData;
+  }
+
   /**
    * Calculates odds using the stored game data.
    */
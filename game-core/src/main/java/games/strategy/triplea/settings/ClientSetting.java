@@ -52,6 +52,17 @@ import lombok.extern.java.Log;
 @Log
 public abstract class ClientSetting<T> implements GameSetting<T> {
   public static final ClientSetting<Integer> aiPauseDuration = new IntegerClientSetting("AI_PAUSE_DURATION", 400);
+  /**
+   * The time (in seconds) the AI may spend planning each of its phases before making the best moves found so far. Zero
+   * means no limit.
+   */
+  public static final ClientSetting<Integer> aiCombatMoveTimeLimit =
+      new IntegerClientSetting("AI_COMBAT_MOVE_TIME_LIMIT", 0);
+  public static final ClientSetting<Integer> aiNonCombatMoveTimeLimit =
+      new IntegerClientSetting("AI_NON_COMBAT_MOVE_TIME_LIMIT", 0);
+  public static final ClientSetting<Integer> aiPlaceTimeLimit = new IntegerClientSetting("AI_PLACE_TIME_LIMIT", 0);
+  public static final ClientSetting<Integer> aiPurchaseTimeLimit =
+      new IntegerClientSetting("AI_PURCHASE_TIME_LIMIT", 0);
   public static final ClientSetting<Integer> arrowKeyScrollSpeed =
       new IntegerClientSetting("ARROW_KEY_SCROLL_SPEED", 70);
   public static final ClientSetting<Integer> battleCalcSimulationCountDice =
@@ -67,6 +78,12 @@ public abstract class ClientSetting<T> implements GameSetting<T> {
   public static final ClientSetting<String> defaultGameUri = new StringClientSetting("DEFAULT_GAME_URI_PREF");
   public static final ClientSetting<Integer> fasterArrowKeyScrollMultiplier =
       new IntegerClientSetting("FASTER_ARROW_KEY_SCROLL_MULTIPLIER", 2);
+  /**
+   * The number of most recent rounds whose history is kept as it was written when saving a game; the history of
+   * earlier rounds is compacted. Zero disables history compaction.
+   */
+  public static final ClientSetting<Integer> historyCompactionHorizon =
+      new IntegerClientSetting("HISTORY_COMPACTION_HORIZON", 0);
   public static final ClientSetting<Boolean> spaceBarConfirmsCasualties =
       new BooleanClientSetting("SPACE_BAR_CONFIRMS_CASUALTIES", true);
   public static final ClientSetting<String> lobbyLastUsedHost = new StringClientSetting("LOBBY_LAST_USED_HOST");
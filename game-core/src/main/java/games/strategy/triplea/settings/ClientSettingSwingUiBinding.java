@@ -44,6 +44,46 @@ enum ClientSettingSwingUiBinding implements GameSettingUiBinding<JComponent> {
     }
   },
 
+  AI_PURCHASE_TIME_LIMIT_BINDING(
+      "AI Purchase Time Limit",
+      SettingType.AI,
+      "Time (in seconds) the AI may spend planning its purchase, 0 for no limit") {
+    @Override
+    public SelectionComponent<JComponent> newSelectionComponent() {
+      return intValueRange(ClientSetting.aiPurchaseTimeLimit, 0, 3600);
+    }
+  },
+
+  AI_COMBAT_MOVE_TIME_LIMIT_BINDING(
+      "AI Combat Move Time Limit",
+      SettingType.AI,
+      "Time (in seconds) the AI may spend planning its combat move, 0 for no limit") {
+    @Override
+    public SelectionComponent<JComponent> newSelectionComponent() {
+      return intValueRange(ClientSetting.aiCombatMoveTimeLimit, 0, 3600);
+    }
+  },
+
+  AI_NON_COMBAT_MOVE_TIME_LIMIT_BINDING(
+      "AI Non-Combat Move Time Limit",
+      SettingType.AI,
+      "Time (in seconds) the AI may spend planning its non-combat move, 0 for no limit") {
+    @Override
+    public SelectionComponent<JComponent> newSelectionComponent() {
+      return intValueRange(ClientSetting.aiNonCombatMoveTimeLimit, 0, 3600);
+    }
+  },
+
+  AI_PLACE_TIME_LIMIT_BINDING(
+      "AI Place Time Limit",
+      SettingType.AI,
+      "Time (in seconds) the AI may spend planning where to place units, 0 for no limit") {
+    @Override
+    public SelectionComponent<JComponent> newSelectionComponent() {
+      return intValueRange(ClientSetting.aiPlaceTimeLimit, 0, 3600);
+    }
+  },
+
   ARROW_KEY_SCROLL_SPEED_BINDING(
       "Arrow Key Scroll Speed",
       SettingType.MAP_SCROLLING,
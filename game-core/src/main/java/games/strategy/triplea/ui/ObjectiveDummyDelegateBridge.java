@@ -7,6 +7,7 @@ import java.util.Properties;
 import org.triplea.util.Tuple;
 
 import games.strategy.engine.data.Change;
+import games.strategy.engine.data.CompositeChange;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerId;
 import games.strategy.engine.data.Territory;
@@ -130,6 +131,9 @@ public class ObjectiveDummyDelegateBridge implements IDelegateBridge {
     @Override
     public void gameDataChanged(final Change change) {}
 
+    @Override
+    public void gameDataChangedFrame(final CompositeChange frame) {}
+
     @Override
     public void shutDown() {}
 
@@ -27,6 +27,7 @@ import org.triplea.java.UrlStreams;
 import games.strategy.engine.ClientFileSystemHelper;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GameParser;
+import games.strategy.engine.framework.GameDefinitionCache;
 import games.strategy.io.FileUtils;
 import lombok.extern.java.Log;
 
@@ -115,6 +116,7 @@ final class AvailableGames {
     final Optional<InputStream> inputStream = UrlStreams.openStream(uri);
     if (inputStream.isPresent()) {
       try (InputStream input = inputStream.get()) {
+        // not cached, since every game is scanned and would evict the games that are actually played
         final GameData data = GameParser.parse(uri.toString(), input);
         final String name = data.getGameName();
         if (!availableGames.containsKey(name)) {
@@ -162,7 +164,7 @@ final class AvailableGames {
     final Optional<InputStream> inputStream = UrlStreams.openStream(uri);
     if (inputStream.isPresent()) {
       try (InputStream input = inputStream.get()) {
-        return Optional.of(GameParser.parse(uri.toString(), input));
+        return Optional.of(GameDefinitionCache.getInstance().parse(uri.toString(), input));
       } catch (final Exception e) {
         log.log(Level.SEVERE, "Exception while parsing: " + uri.toString(), e);
       }
@@ -10,16 +10,21 @@ import static games.strategy.engine.framework.CliProperties.TRIPLEA_NAME;
 import static games.strategy.engine.framework.CliProperties.TRIPLEA_PORT;
 import static games.strategy.engine.framework.CliProperties.TRIPLEA_SERVER;
 
+import java.io.BufferedInputStream;
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
+import java.util.stream.Collectors;
 
 import org.mindrot.jbcrypt.BCrypt;
 import org.triplea.game.chat.ChatModel;
@@ -34,11 +39,13 @@ import games.strategy.engine.data.properties.GameProperties;
 import games.strategy.engine.framework.ArgParser;
 import games.strategy.engine.framework.AutoSaveFileUtils;
 import games.strategy.engine.framework.GameRunner;
+import games.strategy.engine.framework.SaveGameMetadata;
 import games.strategy.engine.framework.ServerGame;
 import games.strategy.engine.framework.startup.mc.GameSelectorModel;
 import games.strategy.engine.framework.startup.mc.ServerModel;
 import games.strategy.net.INode;
 import games.strategy.net.IServerMessenger;
+import games.strategy.net.Messengers;
 import games.strategy.sound.ClipPlayer;
 import games.strategy.triplea.Constants;
 import games.strategy.triplea.settings.ClientSetting;
@@ -53,16 +60,20 @@ public class HeadlessGameServer {
   public static final String BOT_GAME_HOST_NAME_PREFIX = "Bot";
   private static final int LOBBY_RECONNECTION_REFRESH_SECONDS_DEFAULT = (int) TimeUnit.DAYS.toSeconds(2);
   private static final String NO_REMOTE_REQUESTS_ALLOWED = "noRemoteRequestsAllowed";
+  private static final int NETWORK_STATISTICS_LOG_INTERVAL_MINUTES = 5;
+  private static final int NETWORK_STATISTICS_LOGGED_INVOCATIONS = 10;
   private static HeadlessGameServer instance = null;
 
   private final AvailableGames availableGames = new AvailableGames();
   private final GameSelectorModel gameSelectorModel = new GameSelectorModel();
   private final ScheduledExecutorService lobbyWatcherResetupThread = Executors.newScheduledThreadPool(1);
+  private final ScheduledExecutorService networkStatisticsLogThread = Executors.newScheduledThreadPool(1);
   private final HeadlessServerSetupPanelModel setupPanelModel = new HeadlessServerSetupPanelModel(gameSelectorModel);
-  private ServerGame game = null;
+  private volatile ServerGame game = null;
   private boolean shutDown = false;
   private final List<Runnable> shutdownListeners = Arrays.asList(
       lobbyWatcherResetupThread::shutdown,
+      networkStatisticsLogThread::shutdown,
       () -> Optional.ofNullable(game).ifPresent(ServerGame::stopGame),
       () -> Optional.ofNullable(setupPanelModel.getPanel()).ifPresent(HeadlessServerSetup::cancel));
 
@@ -95,6 +106,7 @@ public class HeadlessGameServer {
     }, "Initialize Headless Server Setup Model").start();
 
     startLobbyWatcher();
+    startNetworkStatisticsLog();
 
     log.info("Game Server initialized");
   }
@@ -110,6 +122,39 @@ public class HeadlessGameServer {
     }, LOBBY_RECONNECTION_REFRESH_SECONDS_DEFAULT, LOBBY_RECONNECTION_REFRESH_SECONDS_DEFAULT, TimeUnit.SECONDS);
   }
 
+  @SuppressWarnings("FutureReturnValueIgnored") // false positive; see https://github.com/google/error-prone/issues/883
+  private void startNetworkStatisticsLog() {
+    networkStatisticsLogThread.scheduleAtFixedRate(() -> {
+      try {
+        logNetworkStatistics();
+      } catch (final Exception e) {
+        log.log(Level.WARNING, "Failed to log network statistics", e);
+      }
+    }, NETWORK_STATISTICS_LOG_INTERVAL_MINUTES, NETWORK_STATISTICS_LOG_INTERVAL_MINUTES, TimeUnit.MINUTES);
+  }
+
+  private void logNetworkStatistics() {
+    final ServerGame serverGame = game;
+    if (serverGame == null) {
+      return;
+    }
+    final Messengers messengers = serverGame.getMessengers();
+    final StringBuilder message = new StringBuilder("Network statistics:");
+    messengers.getNodeStatistics().forEach((node, statistics) -> message
+        .append("\n  ")
+        .append(node.getName())
+        .append(": ")
+        .append(statistics.toLogString()));
+    final String mostFrequentInvocations = messengers.getInvocationCounts().entrySet().stream()
+        .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+        .limit(NETWORK_STATISTICS_LOGGED_INVOCATIONS)
+        .map(entry -> entry.getKey() + "=" + entry.getValue())
+        .collect(Collectors.joining(", "));
+    message.append("\n  Most frequent remote invocations: ").append(mostFrequentInvocations);
+    message.append("\n  Auto-saves: ").append(serverGame.getAutoSaveStatistics().toLogString());
+    log.info(message.toString());
+  }
+
   public static synchronized HeadlessGameServer getInstance() {
     return instance;
   }
@@ -157,7 +202,14 @@ public class HeadlessGameServer {
       if (input == null || fileName == null) {
         return;
       }
-      final GameData data = gameSelectorModel.getGameData(input);
+      final InputStream bufferedInput = input.markSupported() ? input : new BufferedInputStream(input);
+      // reject save games for unavailable maps before paying for deserializing them
+      final Optional<String> metadataMapName = peekMapName(bufferedInput, fileName);
+      if (metadataMapName.isPresent() && !availableGames.containsMapName(metadataMapName.get())) {
+        log.info("Game mapName not in available games listing: " + metadataMapName.get());
+        return;
+      }
+      final GameData data = gameSelectorModel.getGameData(bufferedInput);
       if (data == null) {
         log.info("Loading GameData failed for: " + fileName);
         return;
@@ -172,6 +224,15 @@ public class HeadlessGameServer {
     }
   }
 
+  private static Optional<String> peekMapName(final InputStream input, final String fileName) {
+    try {
+      return SaveGameMetadata.peek(input).map(SaveGameMetadata::getMapName);
+    } catch (final IOException e) {
+      log.log(Level.FINE, "Failed to read save game metadata: " + fileName, e);
+      return Optional.empty();
+    }
+  }
+
   /**
    * Loads the game properties from the specified byte array and applies them to the currently-selected game.
    *
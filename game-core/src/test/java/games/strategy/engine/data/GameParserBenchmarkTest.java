@@ -0,0 +1,70 @@
+package games.strategy.engine.data;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+
+import java.io.ByteArrayInputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.triplea.test.common.Integration;
+
+import games.strategy.engine.data.gameparser.XmlGameElementMapper;
+import games.strategy.triplea.delegate.TestDelegate;
+import games.strategy.triplea.xml.TestMapGameData;
+import lombok.extern.java.Log;
+
+/**
+ * Measures the parse time and the bytes allocated while parsing each test map, for the streaming parse and the DOM
+ * parse. Run with the integration tests; the results are logged.
+ */
+@Integration
+@Log
+final class GameParserBenchmarkTest {
+  private static final int WARM_UP_ITERATIONS = 2;
+  private static final int MEASURED_ITERATIONS = 5;
+
+  private final com.sun.management.ThreadMXBean threadMxBean =
+      (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+  private final XmlGameElementMapper mapper = new XmlGameElementMapper(
+      Collections.singletonMap("TestDelegate", TestDelegate::new),
+      Collections.singletonMap("TestAttachment", TestAttachment::new));
+
+  @Test
+  void benchmarkParseModes() throws Exception {
+    final StringBuilder results = new StringBuilder("Game parser benchmark (averages):");
+    for (final TestMapGameData map : TestMapGameData.values()) {
+      final byte[] xml = Files.readAllBytes(Paths.get("src", "test", "resources", map.toString()));
+      for (final boolean streaming : new boolean[] {true, false}) {
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+          parse(map, xml, streaming);
+        }
+        long parseNanos = 0;
+        long allocatedBytes = 0;
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+          final long startAllocatedBytes = threadMxBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+          final long startTime = System.nanoTime();
+          final GameData data = parse(map, xml, streaming);
+          parseNanos += System.nanoTime() - startTime;
+          allocatedBytes += threadMxBean.getThreadAllocatedBytes(Thread.currentThread().getId()) - startAllocatedBytes;
+          assertThat(data.getGameName(), is(notNullValue()));
+        }
+        results.append(String.format("%n  %-40s %-9s parse=%5dms allocated=%6dKiB",
+            map, streaming ? "streaming" : "dom", TimeUnit.NANOSECONDS.toMillis(parseNanos / MEASURED_ITERATIONS),
+            allocatedBytes / MEASURED_ITERATIONS / 1024));
+      }
+    }
+    log.info(results.toString());
+  }
+
+  private GameData parse(final TestMapGameData map, final byte[] xml, final boolean streaming) throws Exception {
+    return streaming
+        ? GameParser.parse(map.toString(), new ByteArrayInputStream(xml), mapper)
+        : GameParser.parseDom(map.toString(), new ByteArrayInputStream(xml), mapper);
+  }
+}
@@ -6,13 +6,26 @@ import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.triplea.util.Tuple;
 
+import games.strategy.engine.data.gameparser.XmlGameElementMapper;
+import games.strategy.engine.data.properties.IEditableProperty;
+import games.strategy.triplea.delegate.TestDelegate;
+import games.strategy.triplea.xml.TestMapGameData;
+
 final class GameParserTest {
   @Nested
   final class DecapitalizeTest {
@@ -71,4 +84,76 @@ final class GameParserTest {
       assertThat(e.getMessage(), containsString("Parse resources could not find player: " + player.getName()));
     }
   }
+
+  @Nested
+  final class StreamingParseTest {
+    private String describe(final GameData data) {
+      final StringBuilder description = new StringBuilder();
+      description.append(data.getGameName()).append(';').append(data.getDiceSides()).append('\n');
+      for (final Territory territory : data.getMap().getTerritories()) {
+        description.append(territory.getName())
+            .append(territory.isWater() ? "(water)" : "")
+            .append(" owner=").append(territory.getOwner().getName())
+            .append(" neighbors=").append(data.getMap().getNeighbors(territory).stream()
+                .map(Territory::getName)
+                .sorted()
+                .collect(Collectors.toList()))
+            .append(" units=").append(territory.getUnits().stream()
+                .map(unit -> unit.getType().getName() + ":" + unit.getOwner().getName())
+                .sorted()
+                .collect(Collectors.toList()))
+            .append('\n');
+      }
+      for (final PlayerId player : data.getPlayerList()) {
+        description.append(player.getName())
+            .append(" resources=").append(player.getResources().getResourcesCopy())
+            .append(" frontier=").append(player.getProductionFrontier())
+            .append('\n');
+      }
+      for (final GameStep step : data.getSequence()) {
+        description.append(step.getName()).append(':').append(step.getDelegate().getName()).append('\n');
+      }
+      for (final Tuple<IAttachment, List<Tuple<String, String>>> attachment : data.getAttachmentOrderAndValues()) {
+        description.append(attachment.getFirst().getName())
+            .append('@').append(attachment.getFirst().getAttachedTo())
+            .append('=').append(attachment.getSecond())
+            .append('\n');
+      }
+      description.append(new TreeMap<>(data.getProperties().getConstantPropertiesByName())).append('\n');
+      for (final IEditableProperty<?> property : data.getProperties().getEditableProperties()) {
+        description.append(property.getName()).append('=').append(property.getValue()).append('\n');
+      }
+      description.append(data.getTechnologyFrontier().getTechs()).append('\n');
+      return description.toString();
+    }
+
+    private GameData parse(final TestMapGameData map, final boolean streaming) throws Exception {
+      try (InputStream is = new FileInputStream(Paths.get("src", "test", "resources", map.toString()).toFile())) {
+        final XmlGameElementMapper mapper = new XmlGameElementMapper(
+            Collections.singletonMap("TestDelegate", TestDelegate::new),
+            Collections.singletonMap("TestAttachment", TestAttachment::new));
+        return streaming
+            ? GameParser.parse(map.toString(), is, mapper)
+            : GameParser.parseDom(map.toString(), is, mapper);
+      }
+    }
+
+    @Test
+    void shouldProduceSameGameDataAsDomParse() throws Exception {
+      for (final TestMapGameData map : TestMapGameData.values()) {
+        assertThat(map.toString(), describe(parse(map, true)), is(describe(parse(map, false))));
+      }
+    }
+
+    @Test
+    void shouldReportMissingRequiredSection() {
+      final String xml = "<?xml version=\"1.0\"?><!DOCTYPE game SYSTEM \"game.dtd\"><game>"
+          + "<info name=\"game\" version=\"1.0\"/></game>";
+
+      final Exception e = assertThrows(
+          GameParseException.class,
+          () -> GameParser.parse("mapName", new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8))));
+      assertThat(e.getMessage(), containsString("Expected one child node named: map"));
+    }
+  }
 }
@@ -0,0 +1,103 @@
+package games.strategy.engine.data.changefactory;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerId;
+import games.strategy.engine.data.Resource;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.triplea.xml.TestMapGameData;
+
+final class ChangeCompactorTest {
+  private final List<Change> changes = new ArrayList<>();
+  private GameData gameData;
+  private Territory canada;
+  private Territory us;
+  private PlayerId bush;
+  private Resource gold;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    gameData = TestMapGameData.TEST.getGameData();
+    canada = gameData.getMap().getTerritory("canada");
+    us = gameData.getMap().getTerritory("us");
+    bush = gameData.getPlayerList().getPlayerId("bush");
+    gold = gameData.getResourceList().getResource("gold");
+  }
+
+  private void perform(final Change change) {
+    gameData.performChange(change);
+    changes.add(change);
+  }
+
+  private List<Unit> canadaUnits(final int fromIndex, final int toIndex) {
+    return new ArrayList<>(canada.getUnits()).subList(fromIndex, toIndex);
+  }
+
+  private List<Object> getState() {
+    // unit order within a territory is not significant
+    return Arrays.asList(
+        canada.getOwner(),
+        new HashSet<>(canada.getUnits()),
+        new HashSet<>(us.getUnits()),
+        bush.getResources().getQuantity(gold));
+  }
+
+  @Test
+  void compactedChangeShouldBeEquivalentToOriginalChanges() {
+    final List<Object> initialState = getState();
+    final Collection<Unit> returningUnits = canadaUnits(0, 2);
+    perform(ChangeFactory.moveUnits(canada, us, returningUnits));
+    perform(ChangeFactory.moveUnits(us, canada, returningUnits));
+    perform(ChangeFactory.moveUnits(canada, us, canadaUnits(0, 1)));
+    perform(ChangeFactory.changeResourcesChange(bush, gold, 5));
+    perform(ChangeFactory.changeResourcesChange(bush, gold, -2));
+    perform(ChangeFactory.changeOwner(canada, bush));
+    perform(ChangeFactory.changeOwner(canada, gameData.getPlayerList().getPlayerId("castro")));
+    final List<Object> finalState = getState();
+
+    final Change compactedChange = ChangeCompactor.compact(changes);
+    gameData.performChange(compactedChange.invert());
+    assertThat(getState(), is(initialState));
+    gameData.performChange(compactedChange);
+    assertThat(getState(), is(finalState));
+  }
+
+  @Test
+  void shouldCancelUnitsMovedBackAndForth() {
+    final Collection<Unit> units = canadaUnits(0, 2);
+    perform(ChangeFactory.moveUnits(canada, us, units));
+    perform(ChangeFactory.moveUnits(us, canada, units));
+    perform(ChangeFactory.changeResourcesChange(bush, gold, 5));
+    perform(ChangeFactory.changeResourcesChange(bush, gold, -5));
+
+    assertThat(ChangeCompactor.compact(changes).isEmpty(), is(true));
+  }
+
+  @Test
+  void shouldKeepUnknownChangesInOrder() {
+    final Collection<Unit> units = canadaUnits(0, 1);
+    perform(ChangeFactory.moveUnits(canada, us, units));
+    perform(ChangeFactory.changeOwner(units, bush, us));
+    perform(ChangeFactory.moveUnits(us, canada, units));
+
+    final Change compactedChange = ChangeCompactor.compact(changes);
+    gameData.performChange(compactedChange.invert());
+    gameData.performChange(compactedChange);
+
+    assertThat(ChangeCompactor.getSize(compactedChange), is(5));
+    assertThat(units.iterator().next().getOwner(), is(bush));
+  }
+}
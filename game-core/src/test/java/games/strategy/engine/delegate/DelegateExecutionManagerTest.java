@@ -2,6 +2,9 @@ package games.strategy.engine.delegate;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import java.util.concurrent.CountDownLatch;
 
@@ -52,4 +55,17 @@ final class DelegateExecutionManagerTest {
     testCompleteLatch.countDown();
     delegate1Thread.join();
   }
+
+  @Test
+  void shouldNotifyListenerWhenLeavingDelegateExecution() {
+    final Runnable leaveDelegateExecutionListener = mock(Runnable.class);
+    final DelegateExecutionManager delegateExecutionManager =
+        new DelegateExecutionManager(leaveDelegateExecutionListener);
+
+    delegateExecutionManager.enterDelegateExecution();
+    verify(leaveDelegateExecutionListener, never()).run();
+
+    delegateExecutionManager.leaveDelegateExecution();
+    verify(leaveDelegateExecutionListener).run();
+  }
 }
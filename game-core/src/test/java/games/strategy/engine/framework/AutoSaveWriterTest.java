@@ -0,0 +1,147 @@
+package games.strategy.engine.framework;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+import org.junitpioneer.jupiter.TempDirectory.TempDir;
+import org.triplea.java.Interruptibles;
+
+@ExtendWith(TempDirectory.class)
+final class AutoSaveWriterTest {
+  private final Runnable failureListener = mock(Runnable.class);
+  private final AutoSaveWriter writer = new AutoSaveWriter(failureListener);
+  private Path directory;
+
+  @BeforeEach
+  void setUp(@TempDir final Path tempDirPath) {
+    directory = tempDirPath;
+  }
+
+  private File file(final String name) {
+    return directory.resolve(name).toFile();
+  }
+
+  private static String read(final File file) throws IOException {
+    return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+  }
+
+  private static byte[] bytes(final String text) {
+    return text.getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Test
+  void shouldPerformWritesInSubmissionOrder() throws Exception {
+    final File replaced = file("replaced");
+    final File appended = file("appended");
+    final File deleted = file("deleted");
+    Files.write(deleted.toPath(), bytes("content"));
+
+    writer.replace(replaced, os -> os.write(bytes("replacement")));
+    writer.append(appended, os -> os.write(bytes("first")));
+    writer.append(appended, os -> os.write(bytes("second")));
+    writer.delete(deleted);
+    writer.shutDown();
+
+    assertThat(read(replaced), is("replacement"));
+    assertThat(read(appended), is("firstsecond"));
+    assertThat(deleted.exists(), is(false));
+    assertThat(writer.getStatistics().getWrites(), is(4L));
+  }
+
+  @Test
+  void shouldSupersedePendingReplacementOfSameFile() throws Exception {
+    final CountDownLatch writerBlocked = new CountDownLatch(1);
+    final File file = file("file");
+    writer.replace(file("blocker"), os -> Interruptibles.await(writerBlocked));
+
+    writer.replace(file, os -> os.write(bytes("old")));
+    writer.replace(file, os -> os.write(bytes("new")));
+    writerBlocked.countDown();
+    writer.shutDown();
+
+    assertThat(read(file), is("new"));
+    assertThat(writer.getStatistics().getWrites(), is(2L));
+    assertThat(writer.getStatistics().getCoalescedWrites(), is(1L));
+  }
+
+  @Test
+  void shouldKeepPreviousContentAndNotifyListenerWhenReplacementFails() throws Exception {
+    final File file = file("file");
+    Files.write(file.toPath(), bytes("previous"));
+
+    writer.replace(file, os -> {
+      os.write(bytes("partial"));
+      throw new IOException("failed");
+    });
+    writer.shutDown();
+
+    assertThat(read(file), is("previous"));
+    assertThat(writer.getStatistics().getFailedWrites(), is(1L));
+    verify(failureListener).run();
+  }
+
+  @Test
+  void shouldDropWritesDependingOnFailedWrite() throws Exception {
+    final File log = file("log");
+    final File reference = file("reference");
+    final File previousLog = file("previousLog");
+    Files.write(reference.toPath(), bytes("previous"));
+    Files.write(previousLog.toPath(), bytes("previous"));
+
+    writer.append(log, os -> {
+      throw new IOException("failed");
+    });
+    writer.append(log, os -> os.write(bytes("next")));
+    writer.replace(reference, os -> os.write(bytes("reference")), log);
+    writer.delete(previousLog, reference);
+    writer.shutDown();
+
+    assertThat(read(log), is(""));
+    assertThat(read(reference), is("previous"));
+    assertThat(previousLog.exists(), is(true));
+    assertThat(writer.getStatistics().getFailedWrites(), is(1L));
+    assertThat(writer.getStatistics().getDroppedWrites(), is(3L));
+    verify(failureListener).run();
+  }
+
+  @Test
+  void shouldPerformWritesDependingOnFileAgainOnceFileIsReplaced() throws Exception {
+    final File base = file("base");
+    final File reference = file("reference");
+
+    writer.replace(base, os -> {
+      throw new IOException("failed");
+    });
+    writer.replace(base, os -> os.write(bytes("base")));
+    writer.replace(reference, os -> os.write(bytes("reference")), base);
+    writer.shutDown();
+
+    assertThat(read(reference), is("reference"));
+    assertThat(writer.getStatistics().getDroppedWrites(), is(0L));
+  }
+
+  @Test
+  void shouldRecordCaptureTimes() {
+    writer.recordCapture(10);
+    writer.recordCapture(30);
+    writer.shutDown();
+
+    final AutoSaveStatistics statistics = writer.getStatistics();
+    assertThat(statistics.getCaptures(), is(2L));
+    assertThat(statistics.getCaptureNanos(), is(40L));
+    assertThat(statistics.getMaxCaptureNanos(), is(30L));
+  }
+}
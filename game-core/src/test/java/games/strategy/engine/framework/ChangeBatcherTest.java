@@ -0,0 +1,125 @@
+package games.strategy.engine.framework;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.CompositeChange;
+
+final class ChangeBatcherTest {
+  private final IGameModifiedChannel broadcaster = mock(IGameModifiedChannel.class);
+  private final Change change1 = mock(Change.class);
+  private final Change change2 = mock(Change.class);
+  private final Change change3 = mock(Change.class);
+
+  @Nested
+  final class OrderingTest {
+    private final ChangeBatcher changeBatcher = new ChangeBatcher(broadcaster, Long.MAX_VALUE);
+
+    @AfterEach
+    void shutDownChangeBatcher() {
+      changeBatcher.shutDown();
+    }
+
+    @Test
+    void shouldNotBroadcastChangesBeforeFlush() {
+      changeBatcher.gameDataChanged(change1);
+      changeBatcher.gameDataChanged(change2);
+
+      verify(broadcaster, never()).gameDataChanged(any());
+      verify(broadcaster, never()).gameDataChangedFrame(any());
+    }
+
+    @Test
+    void shouldBroadcastPendingChangesAsSingleFrameOnFlush() {
+      changeBatcher.gameDataChanged(change1);
+      changeBatcher.gameDataChanged(change2);
+
+      changeBatcher.flush();
+
+      final ArgumentCaptor<CompositeChange> frameCaptor = ArgumentCaptor.forClass(CompositeChange.class);
+      verify(broadcaster).gameDataChangedFrame(frameCaptor.capture());
+      assertThat(frameCaptor.getValue().getChanges(), contains(change1, change2));
+    }
+
+    @Test
+    void shouldNotBroadcastEmptyFrame() {
+      changeBatcher.flush();
+
+      verify(broadcaster, never()).gameDataChangedFrame(any());
+    }
+
+    @Test
+    void shouldPreserveOrderOfChangesRelativeToHistoryEvents() {
+      changeBatcher.startHistoryEvent("event1");
+      changeBatcher.gameDataChanged(change1);
+      changeBatcher.gameDataChanged(change2);
+      changeBatcher.addChildToEvent("child1", null);
+      changeBatcher.startHistoryEvent("event2", "renderingData");
+      changeBatcher.gameDataChanged(change3);
+      changeBatcher.stepChanged("step", "delegate", null, 1, "displayName", false);
+
+      final ArgumentCaptor<CompositeChange> frameCaptor = ArgumentCaptor.forClass(CompositeChange.class);
+      final InOrder inOrder = inOrder(broadcaster);
+      inOrder.verify(broadcaster).startHistoryEvent("event1");
+      inOrder.verify(broadcaster).gameDataChangedFrame(frameCaptor.capture());
+      inOrder.verify(broadcaster).addChildToEvent("child1", null);
+      inOrder.verify(broadcaster).startHistoryEvent("event2", "renderingData");
+      inOrder.verify(broadcaster).gameDataChangedFrame(frameCaptor.capture());
+      inOrder.verify(broadcaster).stepChanged("step", "delegate", null, 1, "displayName", false);
+      inOrder.verifyNoMoreInteractions();
+      assertThat(frameCaptor.getAllValues().get(0).getChanges(), contains(change1, change2));
+      assertThat(frameCaptor.getAllValues().get(1).getChanges(), contains(change3));
+    }
+
+    @Test
+    void shouldCountChangesAndHistoryEventsAsModifications() {
+      changeBatcher.gameDataChanged(change1);
+      changeBatcher.startHistoryEvent("event");
+      changeBatcher.flush();
+
+      assertThat(changeBatcher.getModificationCount(), is(2L));
+    }
+
+    @Test
+    void shouldFlushPendingChangesBeforeShutDown() {
+      changeBatcher.gameDataChanged(change1);
+
+      changeBatcher.shutDown();
+
+      final InOrder inOrder = inOrder(broadcaster);
+      inOrder.verify(broadcaster).gameDataChangedFrame(any());
+      inOrder.verify(broadcaster).shutDown();
+    }
+  }
+
+  @Nested
+  final class WindowTest {
+    private final ChangeBatcher changeBatcher = new ChangeBatcher(broadcaster, 10);
+
+    @AfterEach
+    void shutDownChangeBatcher() {
+      changeBatcher.shutDown();
+    }
+
+    @Test
+    void shouldFlushPendingChangesWhenWindowElapses() {
+      changeBatcher.gameDataChanged(change1);
+
+      verify(broadcaster, timeout(5000)).gameDataChangedFrame(any());
+    }
+  }
+}
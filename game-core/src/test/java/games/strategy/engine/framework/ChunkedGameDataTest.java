@@ -0,0 +1,72 @@
+package games.strategy.engine.framework;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+final class ChunkedGameDataTest {
+  private static final int CHUNK_SIZE = 4;
+
+  private static byte[] newBytes(final int count) {
+    final byte[] bytes = new byte[count];
+    IntStream.range(0, count).forEach(i -> bytes[i] = (byte) i);
+    return bytes;
+  }
+
+  private static byte[] join(final ChunkedGameData chunkedGameData) throws IOException {
+    final ByteArrayOutputStream os = new ByteArrayOutputStream();
+    for (final byte[] chunk : chunkedGameData.getChunks()) {
+      os.write(chunk);
+    }
+    return os.toByteArray();
+  }
+
+  @Test
+  void shouldSplitBytesIntoChunksOfBoundedSize() throws Exception {
+    final byte[] bytes = newBytes(10);
+
+    final ChunkedGameData chunkedGameData = ChunkedGameData.write(os -> os.write(bytes), CHUNK_SIZE);
+
+    assertThat(chunkedGameData.getChunkCount(), is(3));
+    assertThat(chunkedGameData.getChunk(0).length, is(CHUNK_SIZE));
+    assertThat(chunkedGameData.getChunk(1).length, is(CHUNK_SIZE));
+    assertThat(chunkedGameData.getChunk(2).length, is(2));
+    assertThat(chunkedGameData.getSize(), is(10L));
+    assertThat(join(chunkedGameData), is(bytes));
+  }
+
+  @Test
+  void shouldNotCreatePartialChunkWhenBytesFillLastChunkExactly() throws Exception {
+    final ChunkedGameData chunkedGameData = ChunkedGameData.write(os -> os.write(newBytes(8)), CHUNK_SIZE);
+
+    assertThat(chunkedGameData.getChunkCount(), is(2));
+  }
+
+  @Test
+  void shouldPreserveBytesWrittenInSmallPieces() throws Exception {
+    final byte[] bytes = newBytes(9);
+
+    final ChunkedGameData chunkedGameData = ChunkedGameData.write(os -> {
+      os.write(bytes[0]);
+      os.write(bytes, 1, 2);
+      for (int i = 3; i < bytes.length; i++) {
+        os.write(bytes[i]);
+      }
+    }, CHUNK_SIZE);
+
+    assertThat(join(chunkedGameData), is(bytes));
+  }
+
+  @Test
+  void shouldHaveNoChunksWhenNothingIsWritten() throws Exception {
+    final ChunkedGameData chunkedGameData = ChunkedGameData.write(os -> {}, CHUNK_SIZE);
+
+    assertThat(chunkedGameData.getChunkCount(), is(0));
+    assertThat(chunkedGameData.getSize(), is(0L));
+  }
+}
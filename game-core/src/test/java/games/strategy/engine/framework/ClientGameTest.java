@@ -0,0 +1,88 @@
+package games.strategy.engine.framework;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameStep;
+import games.strategy.engine.data.PlayerId;
+import games.strategy.engine.data.Resource;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.engine.message.IChannelMessenger;
+import games.strategy.engine.message.IRemoteMessenger;
+import games.strategy.net.IMessenger;
+import games.strategy.net.Messengers;
+import games.strategy.net.Node;
+import games.strategy.triplea.Constants;
+import games.strategy.triplea.xml.TestMapGameData;
+
+final class ClientGameTest {
+  private final UUID gameId = UUID.randomUUID();
+  // the modifications made by the server game, in order
+  private final List<GameModification> serverModifications = new ArrayList<>();
+  private Messengers messengers;
+  private GameData data;
+  private PlayerId germans;
+  private Resource pus;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    final IMessenger messenger = mock(IMessenger.class);
+    when(messenger.getLocalNode()).thenReturn(new Node("client", InetAddress.getLoopbackAddress(), 0));
+    messengers = new Messengers(messenger, mock(IRemoteMessenger.class), mock(IChannelMessenger.class));
+    data = TestMapGameData.WW2V3_1942.getGameData();
+    germans = data.getPlayerList().getPlayerId("Germans");
+    pus = data.getResourceList().getResource(Constants.PUS);
+  }
+
+  private void makeServerModifications(final int count) {
+    for (int i = 0; i < count; i++) {
+      serverModifications.add(GameModification.gameDataChanged(ChangeFactory.changeResourcesChange(germans, pus, 1)));
+    }
+  }
+
+  private ClientGame newClientGame(final long modificationCount) {
+    return new ClientGame(data, Collections.emptySet(), Collections.emptyMap(), messengers,
+        new ResyncPoint(gameId, modificationCount));
+  }
+
+  private ClientGame reconnect(final ClientGame disconnectedGame) {
+    final int resyncModificationCount = (int) disconnectedGame.getResyncPoint().getModificationCount();
+    final ClientGame game = newClientGame(serverModifications.size());
+    game.applyMissedModifications(
+        serverModifications.subList(resyncModificationCount, serverModifications.size()));
+    return game;
+  }
+
+  @Test
+  void shouldCountEachModificationOnceAcrossRepeatedReconnects() {
+    final GameStep step = data.getSequence().getStep();
+    serverModifications.add(GameModification.stepChanged(
+        step.getName(), step.getDelegate().getName(), step.getPlayerId(), 1, step.getDisplayName(), false));
+    makeServerModifications(3);
+    final int initialPus = germans.getResources().getQuantity(pus);
+    final ClientGame game = newClientGame(0);
+    serverModifications.forEach(modification -> modification.applyTo(game.gameModifiedChannel));
+    assertThat(game.getResyncPoint().getModificationCount(), is(4L));
+
+    makeServerModifications(5);
+    final ClientGame reconnectedGame = reconnect(game);
+    assertThat(reconnectedGame.getResyncPoint().getModificationCount(), is(9L));
+
+    makeServerModifications(2);
+    final ClientGame reconnectedAgainGame = reconnect(reconnectedGame);
+    assertThat(reconnectedAgainGame.getResyncPoint().getModificationCount(), is(11L));
+    assertThat(germans.getResources().getQuantity(pus), is(initialPus + 10));
+  }
+}
@@ -22,6 +22,16 @@ final class GameDataManagerTest {
       final GameData loaded = IoUtils.readFromMemory(bytes, GameDataManager::loadGame);
       assertEquals(loaded.getGameName(), data.getGameName());
     }
+
+    @Test
+    void shouldLoadGamesSavedWithAnyCodec() throws Exception {
+      final GameData data = new GameData();
+      for (final SaveGameCodec codec : SaveGameCodec.values()) {
+        final byte[] bytes = IoUtils.writeToMemory(os -> GameDataManager.saveGame(os, data, codec));
+        final GameData loaded = IoUtils.readFromMemory(bytes, GameDataManager::loadGame);
+        assertEquals(loaded.getGameName(), data.getGameName(), codec.name());
+      }
+    }
   }
 
   @Nested
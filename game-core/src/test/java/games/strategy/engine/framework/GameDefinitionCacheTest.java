@@ -0,0 +1,81 @@
+package games.strategy.engine.framework;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.is;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+import org.junitpioneer.jupiter.TempDirectory.TempDir;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.triplea.xml.TestMapGameData;
+
+@ExtendWith(TempDirectory.class)
+final class GameDefinitionCacheTest {
+  private File folder;
+
+  @BeforeEach
+  void setUp(@TempDir final Path tempDirPath) {
+    folder = tempDirPath.toFile();
+  }
+
+  private static GameData parse(final GameDefinitionCache cache, final TestMapGameData map) throws Exception {
+    try (InputStream is = new FileInputStream(Paths.get("src", "test", "resources", map.toString()).toFile())) {
+      return cache.parse(map.toString(), is);
+    }
+  }
+
+  @Test
+  void shouldLoadCachedGameDataWhenSameGameIsParsedAgain() throws Exception {
+    final GameDefinitionCache cache = new GameDefinitionCache(folder, Long.MAX_VALUE, 10, Runnable::run);
+
+    final GameData parsedData = parse(cache, TestMapGameData.REVISED);
+    final GameData cachedData = parse(cache, TestMapGameData.REVISED);
+
+    assertThat(cache.getMisses(), is(1));
+    assertThat(cache.getHits(), is(1));
+    assertThat(cachedData.getGameName(), is(parsedData.getGameName()));
+    assertThat(cachedData.getMap().getTerritories().size(), is(parsedData.getMap().getTerritories().size()));
+  }
+
+  @Test
+  void shouldParseGameAgainWhenCacheEntryIsUnreadable() throws Exception {
+    final GameDefinitionCache cache = new GameDefinitionCache(folder, Long.MAX_VALUE, 10, Runnable::run);
+    parse(cache, TestMapGameData.REVISED);
+    for (final File entry : folder.listFiles()) {
+      Files.write(entry.toPath(), new byte[] {1, 2, 3});
+    }
+
+    final GameData data = parse(cache, TestMapGameData.REVISED);
+
+    assertThat(cache.getMisses(), is(2));
+    assertThat(cache.getHits(), is(0));
+    assertThat(data.getGameName(), is(TestMapGameData.REVISED.getGameData().getGameName()));
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedEntriesBeyondMaxEntries() throws Exception {
+    final GameDefinitionCache cache = new GameDefinitionCache(folder, Long.MAX_VALUE, 1, Runnable::run);
+    parse(cache, TestMapGameData.REVISED);
+    for (final File entry : folder.listFiles()) {
+      entry.setLastModified(entry.lastModified() - TimeUnit.HOURS.toMillis(1));
+    }
+
+    parse(cache, TestMapGameData.IRON_BLITZ);
+    parse(cache, TestMapGameData.IRON_BLITZ);
+
+    assertThat(folder.listFiles(), is(arrayWithSize(1)));
+    assertThat(cache.getHits(), is(1));
+  }
+}
@@ -0,0 +1,90 @@
+package games.strategy.engine.framework;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+import org.junitpioneer.jupiter.TempDirectory.TempDir;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.triplea.settings.AbstractClientSettingTestCase;
+import games.strategy.triplea.settings.ClientSetting;
+import games.strategy.triplea.xml.TestMapGameData;
+
+@ExtendWith(TempDirectory.class)
+final class GameJournalTest extends AbstractClientSettingTestCase {
+  private Path directory;
+
+  @BeforeEach
+  void setUp(@TempDir final Path tempDirPath) {
+    directory = tempDirPath;
+    ClientSetting.saveGamesFolderPath.setValue(directory.resolve("saves"));
+  }
+
+  private static List<File> getJournalFiles() {
+    final File journalFile = AutoSaveFileUtils.getJournalFile("", false);
+    return Arrays.stream(journalFile.getParentFile().listFiles())
+        .filter(file -> file.getName().startsWith(journalFile.getName()))
+        .collect(Collectors.toList());
+  }
+
+  @Test
+  void shouldLoadAutoSaveMovedAlongWithItsJournalFiles() throws Exception {
+    final GameData data = TestMapGameData.WW2V3_1942.getGameData();
+    final GameJournal journal = new GameJournal(data, false);
+    final File autoSave = AutoSaveFileUtils.getAutoSaveFile("autosave.tsvg");
+    journal.checkpoint(autoSave);
+    journal.checkpoint(autoSave);
+    journal.close();
+
+    final Path movedFolder = directory.resolve("moved");
+    Files.move(autoSave.getParentFile().toPath(), movedFolder);
+    final GameData loaded = GameDataManager.loadGame(movedFolder.resolve(autoSave.getName()).toFile());
+
+    assertThat(loaded, is(notNullValue()));
+    assertThat(loaded.getGameName(), is(data.getGameName()));
+  }
+
+  @Test
+  void shouldDeleteUnreferencedJournalFilesOnlyOnceTheirSessionIsClosed() throws Exception {
+    final GameJournal runningJournal = new GameJournal(TestMapGameData.WW2V3_1942.getGameData(), false);
+    final File runningAutoSave = AutoSaveFileUtils.getAutoSaveFile("running.tsvg");
+    runningJournal.checkpoint(runningAutoSave);
+    // the auto-save is written after the journal files it references
+    awaitExists(runningAutoSave);
+    Files.delete(runningAutoSave.toPath());
+    final List<File> runningJournalFiles = getJournalFiles();
+    // the base snapshot, the log and the lock file
+    assertThat(runningJournalFiles, hasSize(3));
+
+    final GameJournal otherJournal = new GameJournal(TestMapGameData.WW2V3_1942.getGameData(), false);
+    otherJournal.checkpoint(AutoSaveFileUtils.getAutoSaveFile("other.tsvg"));
+    otherJournal.close();
+    assertThat(runningJournalFiles.stream().allMatch(File::exists), is(true));
+
+    runningJournal.close();
+    final GameJournal restartedJournal = new GameJournal(TestMapGameData.WW2V3_1942.getGameData(), false);
+    restartedJournal.checkpoint(AutoSaveFileUtils.getAutoSaveFile("restarted.tsvg"));
+    restartedJournal.close();
+    assertThat(runningJournalFiles.stream().noneMatch(File::exists), is(true));
+  }
+
+  private static void awaitExists(final File file) throws InterruptedException {
+    for (int i = 0; i < 100 && !file.exists(); i++) {
+      Thread.sleep(100);
+    }
+    assertThat(file.exists(), is(true));
+  }
+}
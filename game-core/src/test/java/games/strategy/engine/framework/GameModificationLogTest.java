@@ -0,0 +1,53 @@
+package games.strategy.engine.framework;
+
+import static com.github.npathai.hamcrestopt.OptionalMatchers.isEmpty;
+import static com.github.npathai.hamcrestopt.OptionalMatchers.isPresentAndIs;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+final class GameModificationLogTest {
+  private final GameModification modification1 = mock(GameModification.class);
+  private final GameModification modification2 = mock(GameModification.class);
+  private final GameModification modification3 = mock(GameModification.class);
+
+  @Test
+  void shouldReturnModificationsSinceIndex() {
+    final GameModificationLog log = new GameModificationLog(10);
+    log.add(modification1);
+    log.add(modification2);
+    log.add(modification3);
+
+    assertThat(log.getEndIndex(), is(3L));
+    assertThat(
+        log.getModificationsSince(0),
+        isPresentAndIs(Arrays.asList(modification1, modification2, modification3)));
+    assertThat(log.getModificationsSince(2), isPresentAndIs(Collections.singletonList(modification3)));
+    assertThat(log.getModificationsSince(3), isPresentAndIs(Collections.emptyList()));
+  }
+
+  @Test
+  void shouldReturnEmptyWhenModificationsHaveBeenDropped() {
+    final GameModificationLog log = new GameModificationLog(2);
+    log.add(modification1);
+    log.add(modification2);
+    log.add(modification3);
+
+    assertThat(log.getEndIndex(), is(3L));
+    assertThat(log.getModificationsSince(0), isEmpty());
+    assertThat(log.getModificationsSince(1), isPresentAndIs(Arrays.asList(modification2, modification3)));
+  }
+
+  @Test
+  void shouldReturnEmptyWhenIndexIsBeyondEnd() {
+    final GameModificationLog log = new GameModificationLog(10);
+    log.add(modification1);
+
+    assertThat(log.getModificationsSince(2), isEmpty());
+  }
+}
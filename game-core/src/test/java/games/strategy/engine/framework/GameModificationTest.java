@@ -0,0 +1,38 @@
+package games.strategy.engine.framework;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerId;
+import games.strategy.triplea.xml.TestMapGameData;
+
+final class GameModificationTest {
+  @Test
+  void readAllShouldResolveGameObjectsWithinSpecifiedGame() throws Exception {
+    final GameData writtenData = TestMapGameData.WW2V3_1942.getGameData();
+    final GameData readData = TestMapGameData.WW2V3_1942.getGameData();
+    final PlayerId germans = writtenData.getPlayerList().getPlayerId("Germans");
+    final byte[] bytes = GameModification.writeAll(Arrays.asList(
+        GameModification.historyEventStarted("event", null),
+        GameModification.stepChanged("germanCombatMove", "move", germans, 1, "Combat Move", false)));
+
+    final List<GameModification> modifications = GameModification.readAll(bytes, readData);
+
+    assertThat(modifications, hasSize(2));
+    final IGameModifiedChannel channel = mock(IGameModifiedChannel.class);
+    modifications.forEach(modification -> modification.applyTo(channel));
+    verify(channel).startHistoryEvent("event", null);
+    verify(channel).stepChanged(eq("germanCombatMove"), eq("move"),
+        same(readData.getPlayerList().getPlayerId("Germans")), eq(1), eq("Combat Move"), eq(false));
+  }
+}
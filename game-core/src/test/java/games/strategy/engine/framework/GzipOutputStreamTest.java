@@ -0,0 +1,61 @@
+package games.strategy.engine.framework;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+
+import games.strategy.io.IoUtils;
+
+final class GzipOutputStreamTest {
+  private static final byte[] DATA = "some data, some more data".getBytes(StandardCharsets.UTF_8);
+
+  private static byte[] compress(final byte[] data, final byte[] extraField) throws IOException {
+    return IoUtils.writeToMemory(os -> {
+      try (OutputStream out = new GzipOutputStream(os, Deflater.BEST_SPEED, extraField)) {
+        out.write(data);
+      }
+    });
+  }
+
+  private static byte[] decompress(final byte[] compressed) throws IOException {
+    try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+      return IOUtils.toByteArray(in);
+    }
+  }
+
+  @Test
+  void shouldWriteGzipStream() throws Exception {
+    assertThat(decompress(compress(DATA, new byte[0])), is(DATA));
+  }
+
+  @Test
+  void shouldWriteGzipStreamWhenEmpty() throws Exception {
+    assertThat(decompress(compress(new byte[0], new byte[0])), is(new byte[0]));
+  }
+
+  @Test
+  void shouldWriteExtraFieldThatGzipDecodersSkip() throws Exception {
+    final byte[] extraField = GzipFormat.newExtraField((byte) 'X', (byte) 'Y', new byte[] {1, 2, 3});
+
+    final byte[] compressed = compress(DATA, extraField);
+    final InputStream is = new BufferedInputStream(new ByteArrayInputStream(compressed));
+
+    assertThat(decompress(compressed), is(DATA));
+    assertThat(GzipFormat.peekExtraField(is).flatMap(field -> GzipFormat.getSubfield(field, (byte) 'X', (byte) 'Y'))
+        .get(), is(new byte[] {1, 2, 3}));
+    assertThat(GzipFormat.getSubfield(extraField, (byte) 'X', (byte) 'Z'), is(Optional.empty()));
+    assertThat(is.read(), is(0x1f));
+  }
+}
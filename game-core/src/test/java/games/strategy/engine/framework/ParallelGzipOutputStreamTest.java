@@ -0,0 +1,81 @@
+package games.strategy.engine.framework;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+
+import games.strategy.io.IoUtils;
+
+final class ParallelGzipOutputStreamTest {
+  private static final int BLOCK_SIZE = 1000;
+
+  private static byte[] compress(final byte[] data) throws IOException {
+    return IoUtils.writeToMemory(os -> {
+      try (OutputStream out = new ParallelGzipOutputStream(os, Deflater.DEFAULT_COMPRESSION, BLOCK_SIZE)) {
+        out.write(data);
+      }
+    });
+  }
+
+  private static byte[] decompress(final byte[] compressed) throws IOException {
+    try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+      return IOUtils.toByteArray(in);
+    }
+  }
+
+  private static byte[] newCompressibleData(final int length) {
+    final Random random = new Random(42);
+    final byte[] data = new byte[length];
+    for (int i = 0; i < length; i++) {
+      data[i] = (byte) ('a' + random.nextInt(4));
+    }
+    return data;
+  }
+
+  @Test
+  void shouldWriteGzipStreamSpanningManyBlocks() throws Exception {
+    final byte[] data = newCompressibleData(50 * BLOCK_SIZE + 123);
+
+    final byte[] compressed = compress(data);
+
+    assertThat(decompress(compressed), is(data));
+    assertThat(compressed.length < data.length, is(true));
+  }
+
+  @Test
+  void shouldWriteGzipStreamWhenDataIsMultipleOfBlockSize() throws Exception {
+    final byte[] data = newCompressibleData(3 * BLOCK_SIZE);
+
+    assertThat(decompress(compress(data)), is(data));
+  }
+
+  @Test
+  void shouldWriteGzipStreamWhenEmpty() throws Exception {
+    assertThat(decompress(compress(new byte[0])), is(new byte[0]));
+  }
+
+  @Test
+  void shouldAcceptSingleByteWrites() throws Exception {
+    final byte[] data = newCompressibleData(2 * BLOCK_SIZE + 1);
+
+    final byte[] compressed = IoUtils.writeToMemory(os -> {
+      try (OutputStream out = new ParallelGzipOutputStream(os, Deflater.BEST_SPEED, BLOCK_SIZE)) {
+        for (final byte b : data) {
+          out.write(b);
+        }
+      }
+    });
+
+    assertThat(decompress(compressed), is(data));
+  }
+}
@@ -0,0 +1,63 @@
+package games.strategy.engine.framework;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.triplea.test.common.Integration;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.io.IoUtils;
+import games.strategy.triplea.xml.TestMapGameData;
+import lombok.extern.java.Log;
+
+/**
+ * Measures the save time, load time and size of the large test maps for each {@link SaveGameCodec}. Run with the
+ * integration tests; the results are logged.
+ */
+@Integration
+@Log
+final class SaveGameCodecBenchmarkTest {
+  private static final List<TestMapGameData> MAPS =
+      Arrays.asList(TestMapGameData.BIG_WORLD_1942, TestMapGameData.GLOBAL1940, TestMapGameData.TWW);
+  private static final int WARM_UP_ITERATIONS = 2;
+  private static final int MEASURED_ITERATIONS = 5;
+
+  @Test
+  void benchmarkCodecs() throws Exception {
+    final StringBuilder results = new StringBuilder("Save game codec benchmark (averages):");
+    for (final TestMapGameData map : MAPS) {
+      final GameData data = map.getGameData();
+      for (final SaveGameCodec codec : SaveGameCodec.values()) {
+        byte[] bytes = new byte[0];
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+          bytes = save(data, codec);
+          IoUtils.readFromMemory(bytes, GameDataManager::loadGame);
+        }
+        long saveNanos = 0;
+        long loadNanos = 0;
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+          final long saveStartTime = System.nanoTime();
+          bytes = save(data, codec);
+          saveNanos += System.nanoTime() - saveStartTime;
+          final long loadStartTime = System.nanoTime();
+          final GameData loaded = IoUtils.readFromMemory(bytes, GameDataManager::loadGame);
+          loadNanos += System.nanoTime() - loadStartTime;
+          assertThat(loaded.getGameName(), is(data.getGameName()));
+        }
+        results.append(String.format("%n  %-40s %-16s save=%5dms load=%5dms size=%9dB",
+            map, codec, TimeUnit.NANOSECONDS.toMillis(saveNanos / MEASURED_ITERATIONS),
+            TimeUnit.NANOSECONDS.toMillis(loadNanos / MEASURED_ITERATIONS), bytes.length));
+      }
+    }
+    log.info(results.toString());
+  }
+
+  private static byte[] save(final GameData data, final SaveGameCodec codec) throws Exception {
+    return IoUtils.writeToMemory(os -> GameDataManager.saveGame(os, data, codec));
+  }
+}
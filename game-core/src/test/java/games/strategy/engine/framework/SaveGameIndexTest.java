@@ -0,0 +1,60 @@
+package games.strategy.engine.framework;
+
+import static games.strategy.engine.framework.SaveGameMetadataTest.newGameData;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+import org.junitpioneer.jupiter.TempDirectory.TempDir;
+
+import games.strategy.engine.data.GameData;
+
+@ExtendWith(TempDirectory.class)
+final class SaveGameIndexTest {
+  private final SaveGameIndex index = new SaveGameIndex();
+  private Path folder;
+
+  @BeforeEach
+  void setUp(@TempDir final Path tempDirPath) {
+    folder = tempDirPath;
+  }
+
+  private File save(final String fileName, final GameData data) throws Exception {
+    final File file = folder.resolve(fileName).toFile();
+    try (OutputStream os = new FileOutputStream(file)) {
+      GameDataManager.saveGame(os, data);
+    }
+    return file;
+  }
+
+  @Test
+  void shouldReturnEmptyForSaveGameWithoutMetadata() throws Exception {
+    final Path oldSaveGame = folder.resolve("old.tsvg");
+    Files.write(oldSaveGame, new byte[] {1, 2, 3});
+
+    assertThat(index.getMetadata(oldSaveGame.toFile()), is(Optional.empty()));
+  }
+
+  @Test
+  void shouldRereadMetadataWhenFileChanges() throws Exception {
+    final File file = save("game.tsvg", newGameData());
+    assertThat(index.getMetadata(file).get().getGameName(), is("gameName"));
+
+    final GameData renamed = newGameData();
+    renamed.setGameName("renamedGame");
+    save("game.tsvg", renamed);
+    file.setLastModified(file.lastModified() + 10_000);
+
+    assertThat(index.getMetadata(file).get().getGameName(), is("renamedGame"));
+  }
+}
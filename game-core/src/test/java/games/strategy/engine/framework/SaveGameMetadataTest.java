@@ -0,0 +1,98 @@
+package games.strategy.engine.framework;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.triplea.util.Version;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerId;
+import games.strategy.io.IoUtils;
+import games.strategy.triplea.Constants;
+
+final class SaveGameMetadataTest {
+  static GameData newGameData() {
+    final GameData data = new GameData();
+    data.setGameName("gameName");
+    data.getProperties().set(Constants.MAP_NAME, "mapName");
+    data.getPlayerList().addPlayerId(new PlayerId("Germans", data));
+    data.getPlayerList().addPlayerId(new PlayerId("Russians", data));
+    return data;
+  }
+
+  private static InputStream newInputStream(final byte[] bytes) {
+    return new BufferedInputStream(new ByteArrayInputStream(bytes));
+  }
+
+  @Nested
+  final class ReadTest {
+    @Test
+    void shouldReadMetadataWrittenBySaveGameWithAnyDeflateCodec() throws Exception {
+      for (final SaveGameCodec codec : new SaveGameCodec[] {
+          SaveGameCodec.DEFLATE, SaveGameCodec.FAST_DEFLATE, SaveGameCodec.PARALLEL_DEFLATE}) {
+        final byte[] bytes = IoUtils.writeToMemory(os -> GameDataManager.saveGame(os, newGameData(), codec));
+
+        final SaveGameMetadata metadata = SaveGameMetadata.peek(newInputStream(bytes)).get();
+
+        assertThat(metadata.getGameName(), is("gameName"));
+        assertThat(metadata.getMapName(), is("mapName"));
+        assertThat(metadata.getRound(), is(1));
+        assertThat(metadata.getPlayerNames(), contains("Germans", "Russians"));
+      }
+    }
+
+    @Test
+    void saveGameShouldStillBeReadableByEnginesThatPredateMetadata() throws Exception {
+      final byte[] bytes = IoUtils.writeToMemory(os -> GameDataManager.saveGame(os, newGameData()));
+
+      // engines that predate the metadata decompress the whole file and read the engine version first
+      try (ObjectInputStream in = new ObjectInputStream(new GZIPInputStream(new ByteArrayInputStream(bytes)))) {
+        assertThat(in.readObject(), is(instanceOf(Version.class)));
+      }
+    }
+
+    @Test
+    void shouldReadAndSkipMetadataBlock() throws Exception {
+      final SaveGameMetadata metadata = SaveGameMetadata.of(newGameData());
+      final byte[] bytes = IoUtils.writeToMemory(os -> {
+        metadata.write(os);
+        os.write(1);
+      });
+      final InputStream is = newInputStream(bytes);
+
+      assertThat(SaveGameMetadata.read(is).get().getMapName(), is("mapName"));
+      assertThat(is.read(), is(1));
+    }
+
+    @Test
+    void shouldReturnEmptyAndLeaveStreamUnchangedWhenMetadataAbsent() throws Exception {
+      final byte[] bytes = {1, 2, 3};
+      final InputStream is = newInputStream(bytes);
+
+      assertThat(SaveGameMetadata.read(is), is(Optional.empty()));
+      assertThat(is.read(), is(1));
+    }
+
+    @Test
+    void peekShouldNotChangePositionOfStream() throws Exception {
+      final GameData data = newGameData();
+      final byte[] bytes = IoUtils.writeToMemory(os -> GameDataManager.saveGame(os, data));
+      final InputStream is = newInputStream(bytes);
+
+      assertThat(SaveGameMetadata.peek(is).get().getMapName(), is("mapName"));
+      assertThat(GameDataManager.loadGame(is).getGameName(), is("gameName"));
+    }
+  }
+
+}
@@ -0,0 +1,44 @@
+package games.strategy.engine.framework.startup.mc;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.framework.ClientGame;
+
+final class DisconnectedGameHolderTest {
+  private final DisconnectedGameHolder disconnectedGameHolder = new DisconnectedGameHolder();
+  private final ClientGame game = mock(ClientGame.class);
+  private final GameData data = mock(GameData.class);
+
+  @Test
+  void shouldKeepGameRunningUntilItIsReplaced() {
+    disconnectedGameHolder.set(game);
+
+    assertThat(disconnectedGameHolder.get(), is(Optional.of(game)));
+    verify(game, never()).shutDown();
+  }
+
+  @Test
+  void takeForReplacementShouldShutDownGameAndHandOverItsData() {
+    when(game.getData()).thenReturn(data);
+    disconnectedGameHolder.set(game);
+
+    assertThat(disconnectedGameHolder.takeForReplacement(), is(Optional.of(data)));
+    verify(game).shutDown();
+    assertThat(disconnectedGameHolder.get(), is(Optional.empty()));
+  }
+
+  @Test
+  void takeForReplacementShouldReturnEmptyWhenNoGameIsKept() {
+    assertThat(disconnectedGameHolder.takeForReplacement(), is(Optional.empty()));
+  }
+}
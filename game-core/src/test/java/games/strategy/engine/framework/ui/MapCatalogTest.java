@@ -0,0 +1,82 @@
+package games.strategy.engine.framework.ui;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+import org.junitpioneer.jupiter.TempDirectory.TempDir;
+
+@ExtendWith(TempDirectory.class)
+final class MapCatalogTest {
+  private static final String ENGINE_VERSION = "1.9.0.0";
+
+  private final MapCatalog.Game game = new MapCatalog.Game("jar:file:/maps/map.zip!/games/game.xml", "Game", "map");
+  private File catalogFile;
+  private File mapFile;
+
+  @BeforeEach
+  void setUp(@TempDir final Path tempDirPath) throws Exception {
+    catalogFile = tempDirPath.resolve("mapCatalog.dat").toFile();
+    mapFile = tempDirPath.resolve("map.zip").toFile();
+    Files.write(mapFile.toPath(), new byte[] {1, 2, 3});
+  }
+
+  private MapCatalog saveAndLoad(final MapCatalog catalog) {
+    catalog.save();
+    return MapCatalog.load(catalogFile, ENGINE_VERSION);
+  }
+
+  @Test
+  void shouldReturnGamesOfUnchangedMapFileAfterReload() {
+    final MapCatalog catalog = MapCatalog.load(catalogFile, ENGINE_VERSION);
+    catalog.putGames(mapFile, Collections.singletonList(game));
+
+    assertThat(saveAndLoad(catalog).getGames(mapFile).get(), contains(game));
+  }
+
+  @Test
+  void shouldNotReturnGamesOfChangedMapFile() throws Exception {
+    final MapCatalog catalog = MapCatalog.load(catalogFile, ENGINE_VERSION);
+    catalog.putGames(mapFile, Collections.singletonList(game));
+
+    Files.write(mapFile.toPath(), new byte[] {1, 2, 3, 4});
+
+    assertThat(saveAndLoad(catalog).getGames(mapFile), is(Optional.empty()));
+  }
+
+  @Test
+  void shouldNotReturnGamesOfRemovedMapFile() {
+    final MapCatalog catalog = MapCatalog.load(catalogFile, ENGINE_VERSION);
+    catalog.putGames(mapFile, Collections.singletonList(game));
+
+    catalog.retainMapFiles(Collections.emptyList());
+
+    assertThat(saveAndLoad(catalog).getGames(mapFile), is(Optional.empty()));
+  }
+
+  @Test
+  void shouldDiscardCatalogOfOtherEngineVersion() {
+    final MapCatalog catalog = MapCatalog.load(catalogFile, ENGINE_VERSION);
+    catalog.putGames(mapFile, Collections.singletonList(game));
+    catalog.save();
+
+    assertThat(MapCatalog.load(catalogFile, "2.0.0.0").getGames(mapFile), is(Optional.empty()));
+  }
+
+  @Test
+  void shouldBeEmptyWhenFileIsCorrupt() throws Exception {
+    Files.write(catalogFile.toPath(), new byte[] {0, 0, 0, 1, 0});
+
+    assertThat(MapCatalog.load(catalogFile, ENGINE_VERSION).getGames(mapFile), is(Optional.empty()));
+  }
+}
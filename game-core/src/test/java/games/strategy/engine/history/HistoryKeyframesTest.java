@@ -0,0 +1,72 @@
+package games.strategy.engine.history;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.data.Change;
+
+final class HistoryKeyframesTest {
+  private static final List<Integer> KEYFRAME_INDICES = Arrays.asList(0, 2, 4);
+
+  private final List<Change> changes = newChanges(5);
+
+  private static List<Change> newChanges(final int count) {
+    final List<Change> changes = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      changes.add(mock(Change.class));
+    }
+    return changes;
+  }
+
+  @Test
+  void shouldReplaceChangesBetweenKeyframesWithCompactedChanges() {
+    final HistoryKeyframes keyframes = new HistoryKeyframes();
+
+    final List<Change> result = keyframes.getChanges(changes, KEYFRAME_INDICES, 1, 5);
+
+    assertThat(result, hasSize(3));
+    assertThat(result.get(0), is(sameInstance(changes.get(1))));
+    assertThat(result.get(2), is(sameInstance(changes.get(4))));
+    assertThat(keyframes.getSize(), is(2));
+  }
+
+  @Test
+  void shouldReuseCachedCompactedChanges() {
+    final HistoryKeyframes keyframes = new HistoryKeyframes();
+
+    final Change first = keyframes.getChanges(changes, KEYFRAME_INDICES, 0, 4).get(0);
+    final Change second = keyframes.getChanges(changes, KEYFRAME_INDICES, 0, 2).get(0);
+
+    assertThat(second, is(sameInstance(first)));
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedCompactedChangesWhenOverBudget() {
+    final HistoryKeyframes keyframes = new HistoryKeyframes(3);
+
+    keyframes.getChanges(changes, KEYFRAME_INDICES, 0, 4);
+
+    assertThat(keyframes.getSize(), is(2));
+  }
+
+  @Test
+  void shouldDiscardCompactedChangesAfterTruncation() {
+    final HistoryKeyframes keyframes = new HistoryKeyframes();
+    keyframes.getChanges(changes, KEYFRAME_INDICES, 0, 4);
+
+    keyframes.invalidateFrom(3);
+
+    assertThat(keyframes.getSize(), is(2));
+    assertThat(keyframes.getChanges(changes, KEYFRAME_INDICES, 3, 5), contains(changes.get(3), changes.get(4)));
+  }
+}
@@ -0,0 +1,209 @@
+package games.strategy.engine.history;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerId;
+import games.strategy.engine.data.Resource;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.engine.framework.GameDataManager;
+import games.strategy.io.IoUtils;
+
+final class HistoryTest {
+  private static String describe(final HistoryNode node) {
+    final StringBuilder description = new StringBuilder(node.getTitle());
+    if (node instanceof Event) {
+      description.append('[').append(((Event) node).getRenderingData()).append(']');
+    }
+    description.append('(');
+    for (int i = 0; i < node.getChildCount(); i++) {
+      description.append(describe((HistoryNode) node.getChildAt(i))).append(';');
+    }
+    return description.append(')').toString();
+  }
+
+  @Nested
+  final class ReplayTest {
+    private final Change change = mock(Change.class);
+
+    @Test
+    void shouldReproduceRecordedWritesOnAnotherHistory() {
+      final GameData sourceData = new GameData();
+      final HistoryWriter sourceWriter = sourceData.getHistory().getHistoryWriter();
+      final List<SerializationWriter> records = new ArrayList<>();
+      sourceWriter.setRecorder(records::add);
+      sourceWriter.startNextRound(1);
+      sourceWriter.startNextStep("step", "delegate", null, "Step");
+      sourceWriter.startEvent("event");
+      sourceWriter.setRenderingData("renderingData");
+      sourceWriter.addChange(change);
+      sourceWriter.addChildToEvent(new EventChild("child", null));
+      final GameData targetData = new GameData();
+
+      targetData.getHistory().replay(records);
+
+      assertThat(targetData.getHistory().getChanges(), contains(change));
+      assertThat(
+          describe((HistoryNode) targetData.getHistory().getRoot()),
+          is(describe((HistoryNode) sourceData.getHistory().getRoot())));
+    }
+
+    @Test
+    void shouldStopRecordingWhenRecorderIsCleared() {
+      final HistoryWriter writer = new GameData().getHistory().getHistoryWriter();
+      final List<SerializationWriter> records = new ArrayList<>();
+      writer.setRecorder(records::add);
+      writer.startNextRound(1);
+
+      writer.setRecorder(null);
+      writer.startNextRound(2);
+
+      assertThat(records.size(), is(1));
+    }
+  }
+
+  @Nested
+  final class SegmentTest {
+    private final GameData data = new GameData();
+
+    private void writeRound(final int round) {
+      final HistoryWriter writer = data.getHistory().getHistoryWriter();
+      writer.startNextRound(round);
+      writer.startNextStep("step", "delegate", null, "Step " + round);
+      writer.startEvent("event " + round);
+      writer.addChange(new FakeChange());
+    }
+
+    private GameData saveAndLoad(final GameData gameData) throws Exception {
+      final byte[] bytes = IoUtils.writeToMemory(os -> GameDataManager.saveGame(os, gameData));
+      return IoUtils.readFromMemory(bytes, GameDataManager::loadGame);
+    }
+
+    @Test
+    void shouldOnlyLoadLastRoundUntilHistoryIsNeeded() throws Exception {
+      writeRound(1);
+      writeRound(2);
+      writeRound(3);
+
+      final History loadedHistory = saveAndLoad(data).getHistory();
+
+      assertThat(loadedHistory.getChanges(), contains(nullValue(), nullValue(), instanceOf(FakeChange.class)));
+      assertThat(
+          describe((HistoryNode) loadedHistory.getRoot()),
+          is(describe((HistoryNode) data.getHistory().getRoot())));
+      assertThat(loadedHistory.getChanges(), everyItem(instanceOf(FakeChange.class)));
+    }
+
+    @Test
+    void shouldFindLastNodeWithoutLoadingEarlierRounds() throws Exception {
+      writeRound(1);
+      writeRound(2);
+      writeRound(3);
+
+      final History loadedHistory = saveAndLoad(data).getHistory();
+
+      assertThat(loadedHistory.getLastNode().getTitle(), is("event 3"));
+      assertThat(loadedHistory.getChanges(), contains(nullValue(), nullValue(), instanceOf(FakeChange.class)));
+    }
+
+    @Test
+    void shouldKeepSegmentsWhenSavingHistoryThatWasNotLoaded() throws Exception {
+      writeRound(1);
+      writeRound(2);
+      final GameData loadedData = saveAndLoad(data);
+      loadedData.getHistory().getHistoryWriter().startNextRound(3);
+
+      final History reloadedHistory = saveAndLoad(loadedData).getHistory();
+
+      assertThat(reloadedHistory.getChanges(), contains(nullValue(), nullValue()));
+      assertThat(
+          describe((HistoryNode) reloadedHistory.getRoot()),
+          is("Game History(Round: 1(Step 1(event 1[null]();););Round: 2(Step 2(event 2[null]();););Round: 3();)"));
+    }
+
+    @Test
+    void shouldSaveCompactedChangesOfRoundsBeforeHorizon() throws Exception {
+      final PlayerId player = new PlayerId("player", data);
+      data.getPlayerList().addPlayerId(player);
+      final Resource gold = new Resource("gold", data);
+      data.getResourceList().addResource(gold);
+      final HistoryWriter writer = data.getHistory().getHistoryWriter();
+      writer.startNextRound(1);
+      writer.startNextStep("step", "delegate", null, "Step 1");
+      writer.startEvent("buy");
+      writer.addChange(ChangeFactory.changeResourcesChange(player, gold, -5));
+      writer.startEvent("refund");
+      writer.addChange(ChangeFactory.changeResourcesChange(player, gold, 5));
+      writeRound(2);
+
+      final long bytesSaved = data.getHistory().compactSegments(1);
+      final History loadedHistory = saveAndLoad(data).getHistory();
+
+      assertThat(bytesSaved, is(greaterThan(0L)));
+      assertThat(loadedHistory.getChanges(), contains(instanceOf(FakeChange.class)));
+      assertThat(
+          describe((HistoryNode) loadedHistory.getRoot()),
+          is(describe((HistoryNode) data.getHistory().getRoot())));
+      assertThat(data.getHistory().getChanges(), hasSize(3));
+    }
+
+    @Test
+    void shouldLoadHistoryWrittenBeforeItWasSegmented() throws Exception {
+      writeRound(1);
+      writeRound(2);
+      final History history = data.getHistory();
+      final List<HistoryNode> rounds = new ArrayList<>();
+      for (int i = 0; i < history.getRootNode().getChildCount(); i++) {
+        rounds.add((HistoryNode) history.getRootNode().getChildAt(i));
+      }
+      final SerializedHistory serializedHistory = new SerializedHistory(data, SegmentedSerializedHistory.getWriters(
+          rounds, history.getChanges(), 0, history.getChanges().size()));
+
+      final byte[] bytes = IoUtils.writeToMemory(os -> {
+        try (ObjectOutputStream out = new ObjectOutputStream(os)) {
+          out.writeObject(serializedHistory);
+        }
+      });
+      final History loadedHistory = IoUtils.readFromMemory(bytes, is -> {
+        try (ObjectInputStream in = new ObjectInputStream(is)) {
+          return (History) in.readObject();
+        } catch (final ClassNotFoundException e) {
+          throw new IOException(e);
+        }
+      });
+
+      assertThat(loadedHistory.getChanges(), contains(instanceOf(FakeChange.class), instanceOf(FakeChange.class)));
+      assertThat(describe((HistoryNode) loadedHistory.getRoot()), is(describe((HistoryNode) history.getRoot())));
+    }
+  }
+
+  private static final class FakeChange extends Change {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    protected void perform(final GameData data) {}
+
+    @Override
+    public Change invert() {
+      return this;
+    }
+  }
+}
@@ -1,6 +1,9 @@
 package games.strategy.engine.message.unifiedmessenger;
 
 import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -28,6 +31,7 @@ class ChannelMessengerTest {
   private ChannelMessenger serverChannelMessenger;
   private ChannelMessenger clientChannelMessenger;
   private UnifiedMessengerHub unifiedMessengerHub;
+  private UnifiedMessenger clientUnifiedMessenger;
 
   @BeforeEach
   void setUp() throws IOException {
@@ -39,7 +43,8 @@ class ChannelMessengerTest {
     final UnifiedMessenger unifiedMessenger = new UnifiedMessenger(serverMessenger);
     unifiedMessengerHub = unifiedMessenger.getHub();
     serverChannelMessenger = new ChannelMessenger(unifiedMessenger);
-    clientChannelMessenger = new ChannelMessenger(new UnifiedMessenger(clientMessenger));
+    clientUnifiedMessenger = new UnifiedMessenger(clientMessenger);
+    clientChannelMessenger = new ChannelMessenger(clientUnifiedMessenger);
   }
 
   @AfterEach
@@ -75,6 +80,27 @@ class ChannelMessengerTest {
     assertCallCountIs(subscriber1, 4);
   }
 
+  @Test
+  void testRemoteCallStatistics() {
+    final RemoteName testRemote = new RemoteName("testRemoteStatistics", IChannelBase.class);
+    final ChannelSubscriber subscriber = new ChannelSubscriber();
+    serverChannelMessenger.registerChannelSubscriber(subscriber, testRemote);
+    assertHasChannel(testRemote, unifiedMessengerHub);
+    final IChannelBase channelTest = (IChannelBase) clientChannelMessenger.getChannelBroadcaster(testRemote);
+
+    channelTest.testNoParams();
+    channelTest.testNoParams();
+
+    assertCallCountIs(subscriber, 2);
+    assertThat(clientUnifiedMessenger.getInvocationCounts(), hasEntry("testRemoteStatistics.testNoParams", 2L));
+    await().until(
+        () -> serverMessenger.getNodeStatistics().get(clientMessenger.getLocalNode()).getMessagesIn(),
+        is(greaterThanOrEqualTo(2L)));
+    assertThat(
+        clientMessenger.getNodeStatistics().get(clientMessenger.getServerNode()).getMessagesOut(),
+        is(greaterThanOrEqualTo(2L)));
+  }
+
   @Test
   void testMultipleClients() throws Exception {
     // set up the client and server so that the client has 1 subscriber, and the server knows about it
@@ -63,4 +63,11 @@ final class PlainRandomSourceTest {
         assertThrows(IllegalArgumentException.class, () -> plainRandomSource.getRandom(MAX, 0, ANNOTATION));
     assertThat(e.getMessage(), containsString("count"));
   }
+
+  @Test
+  void getRandomMany_ShouldReturnSameValuesForSameSeed() {
+    final int[] values = new PlainRandomSource(42).getRandom(MAX, 16, ANNOTATION);
+
+    assertThat(new PlainRandomSource(42).getRandom(MAX, 16, ANNOTATION), is(values));
+  }
 }
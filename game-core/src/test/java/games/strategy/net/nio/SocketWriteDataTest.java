@@ -0,0 +1,59 @@
+package games.strategy.net.nio;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+final class SocketWriteDataTest {
+  private final DirectBufferPool pool = new DirectBufferPool(16, 1);
+
+  @Test
+  void shouldUsePooledDirectBufferWhenMessageFits() {
+    final SocketWriteData data = new SocketWriteData(new byte[] {1, 2, 3}, 3, pool);
+
+    final ByteBuffer buffer = data.getBufferForWrite();
+
+    assertThat(buffer.isDirect(), is(true));
+    assertThat(data.size(), is(7));
+    assertThat(buffer.getInt() ^ SocketReadData.MAGIC, is(3));
+    assertThat(buffer.get(), is((byte) 1));
+    assertThat(buffer.get(), is((byte) 2));
+    assertThat(buffer.get(), is((byte) 3));
+    assertThat(data.isWritten(), is(true));
+  }
+
+  @Test
+  void shouldUseHeapBufferWhenMessageDoesNotFitPooledBuffer() {
+    final SocketWriteData data = new SocketWriteData(new byte[20], 20, pool);
+
+    assertThat(data.getBufferForWrite().isDirect(), is(false));
+    assertThat(data.size(), is(24));
+  }
+
+  @Test
+  void shouldReturnBufferToPoolOnRelease() {
+    final SocketWriteData data = new SocketWriteData(new byte[] {1}, 1, pool);
+    final ByteBuffer buffer = data.getBufferForWrite();
+
+    data.release();
+
+    assertThat(pool.acquire(), is(sameInstance(buffer)));
+  }
+
+  @Test
+  void shouldNotPoolMoreBuffersThanMaximum() {
+    final ByteBuffer buffer1 = pool.acquire();
+    final ByteBuffer buffer2 = pool.acquire();
+
+    pool.release(buffer1);
+    pool.release(buffer2);
+
+    assertThat(pool.acquire(), is(sameInstance(buffer1)));
+    assertThat(pool.acquire(), is(not(sameInstance(buffer2))));
+  }
+}
@@ -0,0 +1,280 @@
+package games.strategy.triplea.ai.pro;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameStep;
+import games.strategy.engine.data.PlayerId;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.framework.GameDataUtils;
+import games.strategy.engine.player.IPlayerBridge;
+import games.strategy.triplea.Constants;
+import games.strategy.triplea.ai.fast.FastAi;
+import games.strategy.triplea.ai.fast.FastOddsEstimator;
+import games.strategy.triplea.ai.pro.simulate.ProDummyDelegateBridge;
+import games.strategy.triplea.ai.pro.simulate.ProSimulateTurnUtils;
+import games.strategy.triplea.ai.pro.util.ProOddsCalculator;
+import games.strategy.triplea.delegate.BattleDelegate;
+import games.strategy.triplea.delegate.BattleTracker;
+import games.strategy.triplea.delegate.DelegateFinder;
+import games.strategy.triplea.delegate.IBattle;
+import games.strategy.triplea.delegate.IBattle.BattleType;
+import games.strategy.triplea.delegate.PlaceDelegate;
+import games.strategy.triplea.delegate.PurchaseDelegate;
+import games.strategy.triplea.delegate.remote.IMoveDelegate;
+import games.strategy.triplea.odds.calculator.ConcurrentOddsCalculator;
+import games.strategy.triplea.odds.calculator.IOddsCalculator;
+import games.strategy.triplea.settings.AbstractClientSettingTestCase;
+import games.strategy.triplea.settings.ClientSetting;
+import games.strategy.triplea.xml.TestMapGameData;
+
+final class ProAiConcurrencyTest extends AbstractClientSettingTestCase {
+  @BeforeEach
+  void setUp() {
+    ClientSetting.aiPauseDuration.setValue(0);
+  }
+
+  /**
+   * Makes the step of the specified player whose name ends with the specified suffix the current step, e.g.
+   * "CombatMove" for the combat move but not the non-combat move.
+   */
+  private static void setStep(final GameData data, final PlayerId player, final String stepNameSuffix) {
+    for (final GameStep step : data.getSequence()) {
+      if (player.equals(step.getPlayerId()) && step.getName().endsWith(stepNameSuffix)
+          && !step.getName().endsWith("Non" + stepNameSuffix) && !step.getName().endsWith("Bid" + stepNameSuffix)) {
+        data.getSequence().setRoundAndStep(data.getSequence().getRound(), step.getDisplayName(), player);
+        return;
+      }
+    }
+    throw new IllegalArgumentException("No " + stepNameSuffix + " step for " + player);
+  }
+
+  /**
+   * Plans and performs the combat move of the specified player on the specified copy of the game data, and returns the
+   * AI that made it.
+   */
+  static ProAi doCombatMove(final GameData dataCopy, final String playerName) {
+    final PlayerId player = dataCopy.getPlayerList().getPlayerId(playerName);
+    setStep(dataCopy, player, "CombatMove");
+    final ProAi ai = new FastAi(playerName);
+    ai.getCalc().setData(dataCopy);
+    ai.getProData().initializeSimulation(ai, dataCopy, player);
+    final IMoveDelegate moveDel = DelegateFinder.moveDelegate(dataCopy);
+    moveDel.setDelegateBridgeAndPlayer(new ProDummyDelegateBridge(ai, player, dataCopy));
+
+    new ProCombatMoveAi(ai).doCombatMove(moveDel);
+    return ai;
+  }
+
+  /**
+   * Returns the owner and the units of each territory of the specified game data.
+   */
+  private static List<Object> describeTerritories(final GameData data) {
+    final List<Object> description = new ArrayList<>();
+    for (final Territory t : data.getMap().getTerritories()) {
+      description.add(t.getName() + " (" + t.getOwner().getName() + "): " + t.getUnits().stream()
+          .map(unit -> unit.getOwner().getName() + " " + unit.getType().getName())
+          .sorted()
+          .collect(Collectors.toList()));
+    }
+    return description;
+  }
+
+  /**
+   * Plays the purchase, combat move, battles (simulated like the AI simulates them), non-combat move and placement of
+   * the specified player with a Pro AI on the specified copy of the game data, and returns the AI.
+   */
+  private static TurnPlayingProAi playTurn(final GameData dataCopy, final String playerName) {
+    final PlayerId player = dataCopy.getPlayerList().getPlayerId(playerName);
+    final TurnPlayingProAi ai = new TurnPlayingProAi(playerName);
+    final IPlayerBridge playerBridge = mock(IPlayerBridge.class);
+    when(playerBridge.getGameData()).thenReturn(dataCopy);
+    ai.initialize(playerBridge, player);
+    final ProDummyDelegateBridge delegateBridge = new ProDummyDelegateBridge(ai, player, dataCopy);
+
+    setStep(dataCopy, player, "Purchase");
+    final PurchaseDelegate purchaseDelegate = (PurchaseDelegate) dataCopy.getDelegate("purchase");
+    purchaseDelegate.setDelegateBridgeAndPlayer(delegateBridge);
+    ai.purchase(false, player.getResources().getQuantity(Constants.PUS), purchaseDelegate, dataCopy, player);
+
+    setStep(dataCopy, player, "CombatMove");
+    final IMoveDelegate moveDel = DelegateFinder.moveDelegate(dataCopy);
+    moveDel.setDelegateBridgeAndPlayer(delegateBridge);
+    ai.move(false, moveDel, dataCopy, player);
+
+    setStep(dataCopy, player, "Battle");
+    ai.getCalc().setData(dataCopy);
+    ProSimulateTurnUtils.simulateBattles(dataCopy, player, delegateBridge, ai.getCalc());
+
+    setStep(dataCopy, player, "NonCombatMove");
+    moveDel.setDelegateBridgeAndPlayer(delegateBridge);
+    ai.move(true, moveDel, dataCopy, player);
+
+    setStep(dataCopy, player, "Place");
+    final PlaceDelegate placeDelegate = (PlaceDelegate) dataCopy.getDelegate("place");
+    placeDelegate.setDelegateBridgeAndPlayer(delegateBridge);
+    ai.place(false, placeDelegate, dataCopy, player);
+    return ai;
+  }
+
+  private static List<Object> doCombatMoveAndDescribe(final GameData dataCopy, final String playerName) {
+    doCombatMove(dataCopy, playerName);
+    return describeTerritories(dataCopy);
+  }
+
+  /**
+   * Removes the pending battles of the specified game data other than the normal battles without bombarding units,
+   * so the remaining battles are independent of each other.
+   */
+  static void keepIndependentBattles(final GameData data) {
+    final BattleDelegate battleDelegate = DelegateFinder.battleDelegate(data);
+    final BattleTracker battleTracker = battleDelegate.getBattleTracker();
+    for (final Map.Entry<BattleType, Collection<Territory>> entry
+        : battleDelegate.getBattles().getBattles().entrySet()) {
+      for (final Territory t : entry.getValue()) {
+        final IBattle battle = battleTracker.getPendingBattle(t, entry.getKey().isBombingRun(), entry.getKey());
+        if (entry.getKey() != BattleType.NORMAL || !battle.getBombardingUnits().isEmpty()) {
+          battleTracker.removeBattle(battle, data);
+        }
+      }
+    }
+  }
+
+  /**
+   * Performs the combat move of the Germans, keeps only the independent battles and simulates them. Returns the
+   * territories afterwards.
+   */
+  private static List<Object> simulateIndependentBattles(final GameData dataCopy,
+      final Function<ProData, IOddsCalculator> newOddsCalculator, final boolean inParallel) {
+    final ProAi ai = doCombatMove(dataCopy, "Germans");
+    final PlayerId player = dataCopy.getPlayerList().getPlayerId("Germans");
+    keepIndependentBattles(dataCopy);
+    ai.getProData().initializeSimulation(ai, dataCopy, player);
+
+    ProSimulateTurnUtils.simulateBattles(dataCopy, player, new ProDummyDelegateBridge(ai, player, dataCopy),
+        new ProOddsCalculator(ai.getProData(), newOddsCalculator.apply(ai.getProData())), inParallel);
+
+    return describeTerritories(dataCopy);
+  }
+
+  @Test
+  void concurrentAisShouldMakeSameMovesAsAiThinkingAlone() throws Exception {
+    final GameData data = TestMapGameData.WW2V3_1942.getGameData();
+    final List<Object> germanMoves = doCombatMoveAndDescribe(GameDataUtils.cloneGameData(data, true), "Germans");
+    final List<Object> japaneseMoves = doCombatMoveAndDescribe(GameDataUtils.cloneGameData(data, true), "Japanese");
+
+    final GameData germanData = GameDataUtils.cloneGameData(data, true);
+    final GameData japaneseData = GameDataUtils.cloneGameData(data, true);
+    final CompletableFuture<List<Object>> concurrentGermanMoves =
+        CompletableFuture.supplyAsync(() -> doCombatMoveAndDescribe(germanData, "Germans"));
+    final CompletableFuture<List<Object>> concurrentJapaneseMoves =
+        CompletableFuture.supplyAsync(() -> doCombatMoveAndDescribe(japaneseData, "Japanese"));
+
+    assertThat(concurrentGermanMoves.get(), is(germanMoves));
+    assertThat(concurrentJapaneseMoves.get(), is(japaneseMoves));
+  }
+
+  @Test
+  void concurrentProAisShouldPlayWholeTurnsAndReleaseTheirOddsCalculatorData() throws Exception {
+    final GameData data = TestMapGameData.WW2V3_1942.getGameData();
+    final GameData germanData = GameDataUtils.cloneGameData(data, true);
+    final GameData japaneseData = GameDataUtils.cloneGameData(data, true);
+    final int germanPus = germanData.getPlayerList().getPlayerId("Germans").getResources().getQuantity(Constants.PUS);
+    final int japanesePus =
+        japaneseData.getPlayerList().getPlayerId("Japanese").getResources().getQuantity(Constants.PUS);
+
+    final CompletableFuture<TurnPlayingProAi> germanAi =
+        CompletableFuture.supplyAsync(() -> playTurn(germanData, "Germans"));
+    final CompletableFuture<TurnPlayingProAi> japaneseAi =
+        CompletableFuture.supplyAsync(() -> playTurn(japaneseData, "Japanese"));
+
+    for (final TurnPlayingProAi ai : new TurnPlayingProAi[] {germanAi.get(), japaneseAi.get()}) {
+      final PlayerId player = ai.getPlayerId();
+      final GameData dataCopy = player.getData();
+      assertThat(player.getResources().getQuantity(Constants.PUS),
+          is(lessThan(player.getName().equals("Germans") ? germanPus : japanesePus)));
+      assertThat(player.getUnitCollection().isEmpty(), is(true));
+      assertThat(describeTerritories(dataCopy), is(not(describeTerritories(data))));
+      assertThat(ai.oddsCalculator.getIsReady(), is(false));
+      ai.stopGame();
+    }
+  }
+
+  @Test
+  void battlesSimulatedInParallelShouldHaveSameResultsAsBattlesSimulatedOneAfterAnother() throws Exception {
+    final GameData data = TestMapGameData.WW2V3_1942.getGameData();
+    final List<Object> sequentialResults =
+        simulateIndependentBattles(GameDataUtils.cloneGameData(data, true), FastOddsEstimator::new, false);
+    final List<Integer> calculatedBattleCounts = new CopyOnWriteArrayList<>();
+    final List<Object> parallelResults = simulateIndependentBattles(GameDataUtils.cloneGameData(data, true),
+        proData -> new ParallelOddsEstimator(proData, calculatedBattleCounts), true);
+
+    assertThat(calculatedBattleCounts, hasSize(1));
+    assertThat(calculatedBattleCounts, everyItem(is(greaterThan(1))));
+    assertThat(parallelResults, is(sequentialResults));
+    assertThat(sequentialResults, is(not(describeTerritories(data))));
+  }
+
+  /**
+   * A Pro AI that keeps a reference to its odds calculator.
+   */
+  private static final class TurnPlayingProAi extends ProAi {
+    // Assigned by initializeCalc(), which the ProAi constructor calls
+    private ConcurrentOddsCalculator oddsCalculator;
+
+    TurnPlayingProAi(final String name) {
+      super(name);
+    }
+
+    @Override
+    protected void initializeCalc() {
+      oddsCalculator = new ConcurrentOddsCalculator("ProAiConcurrencyTest");
+      calc = new ProOddsCalculator(getProData(), oddsCalculator);
+      calc.setUseCalibratedEstimates(true);
+    }
+  }
+
+  /**
+   * Estimates battles like {@link FastOddsEstimator}, but applies the functions passed to
+   * {@link #calculateEach(List)} at the same time, each with its own estimator, like an odds calculator with several
+   * workers.
+   */
+  private static final class ParallelOddsEstimator extends FastOddsEstimator {
+    private final ProData proData;
+    private final List<Integer> calculatedBattleCounts;
+
+    ParallelOddsEstimator(final ProData proData, final List<Integer> calculatedBattleCounts) {
+      super(proData);
+      this.proData = proData;
+      this.calculatedBattleCounts = calculatedBattleCounts;
+    }
+
+    @Override
+    public <T> List<T> calculateEach(final List<? extends Function<IOddsCalculator, T>> functions) {
+      calculatedBattleCounts.add(functions.size());
+      return functions.parallelStream()
+          .map(function -> function.apply(new FastOddsEstimator(proData)))
+          .collect(Collectors.toList());
+    }
+  }
+}
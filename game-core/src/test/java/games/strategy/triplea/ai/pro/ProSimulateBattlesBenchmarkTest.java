@@ -0,0 +1,80 @@
+package games.strategy.triplea.ai.pro;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.triplea.test.common.Integration;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerId;
+import games.strategy.engine.framework.GameDataUtils;
+import games.strategy.triplea.ai.pro.simulate.ProDummyDelegateBridge;
+import games.strategy.triplea.ai.pro.simulate.ProSimulateTurnUtils;
+import games.strategy.triplea.ai.pro.util.ProOddsCalculator;
+import games.strategy.triplea.delegate.DelegateFinder;
+import games.strategy.triplea.odds.calculator.ConcurrentOddsCalculator;
+import games.strategy.triplea.xml.TestMapGameData;
+import lombok.extern.java.Log;
+
+/**
+ * Measures the time to simulate the independent battles after the combat move of the Germans on some test maps, one
+ * battle after another and in parallel, with the odds calculator the Pro AI uses. Run with the integration tests; the
+ * results are logged.
+ */
+@Integration
+@Log
+final class ProSimulateBattlesBenchmarkTest {
+  private static final int WARM_UP_ITERATIONS = 2;
+  private static final int MEASURED_ITERATIONS = 5;
+
+  @Test
+  void benchmarkBattleSimulation() throws Exception {
+    final StringBuilder results = new StringBuilder(String.format(
+        "Battle simulation benchmark (averages, %d processors):", Runtime.getRuntime().availableProcessors()));
+    for (final TestMapGameData map : new TestMapGameData[] {
+        TestMapGameData.WW2V3_1942, TestMapGameData.BIG_WORLD_1942}) {
+      final GameData data = GameDataUtils.cloneGameData(map.getGameData(), true);
+      final ProAi ai = ProAiConcurrencyTest.doCombatMove(data, "Germans");
+      ProAiConcurrencyTest.keepIndependentBattles(data);
+      final int battleCount = DelegateFinder.battleDelegate(data).getBattleTracker().getPendingBattleSites(false)
+          .size();
+      final long sequentialNanos = measure(ai, data, false);
+      final long parallelNanos = measure(ai, data, true);
+      results.append(String.format("%n  %-40s %3d battles sequential=%6dms parallel=%6dms", map, battleCount,
+          TimeUnit.NANOSECONDS.toMillis(sequentialNanos), TimeUnit.NANOSECONDS.toMillis(parallelNanos)));
+    }
+    log.info(results.toString());
+  }
+
+  /**
+   * Returns the average time to simulate the pending battles of copies of the specified game data. Copying the game
+   * data and setting up the odds calculator aren't measured, since the AI does them once per turn.
+   */
+  private static long measure(final ProAi ai, final GameData data, final boolean inParallel) {
+    final PlayerId player = data.getPlayerList().getPlayerId("Germans");
+    long totalNanos = 0;
+    for (int i = 0; i < WARM_UP_ITERATIONS + MEASURED_ITERATIONS; i++) {
+      final GameData dataCopy = GameDataUtils.cloneGameData(data, true);
+      final PlayerId playerCopy = dataCopy.getPlayerList().getPlayerId(player.getName());
+      final ProData proData = ai.getProData();
+      proData.initializeSimulation(ai, dataCopy, playerCopy);
+      final ConcurrentOddsCalculator oddsCalculator = new ConcurrentOddsCalculator("Benchmark");
+      try {
+        oddsCalculator.setGameData(dataCopy);
+        // waits until the workers have copied the game data
+        oddsCalculator.calculateEach(Collections.emptyList());
+        final ProOddsCalculator calc = new ProOddsCalculator(proData, oddsCalculator);
+        final long startTime = System.nanoTime();
+        ProSimulateTurnUtils.simulateBattles(dataCopy, playerCopy,
+            new ProDummyDelegateBridge(ai, playerCopy, dataCopy), calc, inParallel);
+        if (i >= WARM_UP_ITERATIONS) {
+          totalNanos += System.nanoTime() - startTime;
+        }
+      } finally {
+        oddsCalculator.shutdown();
+      }
+    }
+    return totalNanos / MEASURED_ITERATIONS;
+  }
+}
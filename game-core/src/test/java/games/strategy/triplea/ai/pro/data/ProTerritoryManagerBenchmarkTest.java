@@ -0,0 +1,55 @@
+package games.strategy.triplea.ai.pro.data;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.triplea.test.common.Integration;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerId;
+import games.strategy.triplea.ai.pro.ProData;
+import games.strategy.triplea.xml.TestMapGameData;
+import lombok.extern.java.Log;
+
+/**
+ * Measures the time to find the move options of the first player of each large test map, searching the territories
+ * on a single thread and in parallel. Run with the integration tests; the results are logged.
+ */
+@Integration
+@Log
+final class ProTerritoryManagerBenchmarkTest {
+  private static final int WARM_UP_ITERATIONS = 2;
+  private static final int MEASURED_ITERATIONS = 5;
+
+  @Test
+  void benchmarkMoveOptionSearch() throws Exception {
+    final StringBuilder results = new StringBuilder(String.format(
+        "Move option search benchmark (averages, %d processors):", Runtime.getRuntime().availableProcessors()));
+    for (final TestMapGameData map : new TestMapGameData[] {
+        TestMapGameData.WW2V3_1942, TestMapGameData.BIG_WORLD_1942, TestMapGameData.GLOBAL1940,
+        TestMapGameData.TWW}) {
+      final GameData data = map.getGameData();
+      final PlayerId player = data.getPlayerList().getPlayers().get(0);
+      final ProData proData = new ProData();
+      proData.initializeSimulation(null, data, player);
+      final Runnable populateMoveOptions = () -> ProTerritoryManagerTest.populateMoveOptions(proData);
+      final long singleThreadedNanos = ProTerritoryManagerTest.callSingleThreaded(() -> measure(populateMoveOptions));
+      final long parallelNanos = measure(populateMoveOptions);
+      results.append(String.format("%n  %-40s %-12s single-threaded=%6dms parallel=%6dms",
+          map, player.getName(), TimeUnit.NANOSECONDS.toMillis(singleThreadedNanos),
+          TimeUnit.NANOSECONDS.toMillis(parallelNanos)));
+    }
+    log.info(results.toString());
+  }
+
+  private static long measure(final Runnable runnable) {
+    for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+      runnable.run();
+    }
+    final long startTime = System.nanoTime();
+    for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+      runnable.run();
+    }
+    return (System.nanoTime() - startTime) / MEASURED_ITERATIONS;
+  }
+}
@@ -0,0 +1,81 @@
+package games.strategy.triplea.ai.pro.data;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerId;
+import games.strategy.engine.data.Territory;
+import games.strategy.triplea.ai.pro.ProData;
+import games.strategy.triplea.xml.TestMapGameData;
+
+final class ProTerritoryManagerTest {
+  static <T> T callSingleThreaded(final Callable<T> callable) throws Exception {
+    final ForkJoinPool pool = new ForkJoinPool(1);
+    try {
+      return pool.submit(callable).get();
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  static ProTerritoryManager populateMoveOptions(final ProData proData) {
+    final ProTerritoryManager territoryManager = new ProTerritoryManager(null, proData);
+    territoryManager.populateAttackOptions();
+    territoryManager.populatePotentialAttackOptions();
+    territoryManager.populateDefenseOptions(new ArrayList<>());
+    territoryManager.populateEnemyAttackOptions(new ArrayList<>(), new ArrayList<>());
+    return territoryManager;
+  }
+
+  private static List<Object> describeMoveOptions(final GameData data, final ProTerritoryManager territoryManager) {
+    final List<Object> description = new ArrayList<>();
+    for (final ProMyMoveOptions options : Arrays.asList(territoryManager.getAttackOptions(),
+        territoryManager.getDefendOptions())) {
+      for (final Territory t : data.getMap().getTerritories()) {
+        final ProTerritory patd = options.getTerritoryMap().get(t);
+        if (patd != null) {
+          description.add(Arrays.asList(t, patd.getMaxUnits(), patd.getMaxAmphibUnits(), patd.getMaxBombardUnits(),
+              patd.getBombardOptionsMap()));
+        }
+      }
+      description.add(options.getUnitMoveMap());
+      description.add(options.getTransportMoveMap());
+      description.add(options.getBombardMap());
+      for (final ProTransport proTransportData : options.getTransportList()) {
+        description.add(Arrays.asList(proTransportData.getTransport(), proTransportData.getTransportMap(),
+            proTransportData.getSeaTransportMap()));
+      }
+    }
+    for (final Territory t : data.getMap().getTerritories()) {
+      final ProTerritory enemyPatd = territoryManager.getEnemyAttackOptions().getMax(t);
+      if (enemyPatd != null) {
+        description.add(Arrays.asList(t, enemyPatd.getMaxUnits(), enemyPatd.getMaxAmphibUnits()));
+      }
+    }
+    return description;
+  }
+
+  @Test
+  void parallelSearchShouldFindSameMoveOptionsAsSingleThreadedSearch() throws Exception {
+    final GameData data = TestMapGameData.WW2V3_1942.getGameData();
+    for (final PlayerId player : data.getPlayerList().getPlayers()) {
+      final ProData proData = new ProData();
+      proData.initializeSimulation(null, data, player);
+
+      final List<Object> singleThreadedMoveOptions =
+          callSingleThreaded(() -> describeMoveOptions(data, populateMoveOptions(proData)));
+      final List<Object> parallelMoveOptions = describeMoveOptions(data, populateMoveOptions(proData));
+
+      assertThat(player.getName(), parallelMoveOptions, is(singleThreadedMoveOptions));
+    }
+  }
+}
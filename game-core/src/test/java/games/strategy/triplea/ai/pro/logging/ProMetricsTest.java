@@ -0,0 +1,48 @@
+package games.strategy.triplea.ai.pro.logging;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+
+import org.junit.jupiter.api.Test;
+
+final class ProMetricsTest {
+  private final ProMetrics metrics = new ProMetrics();
+
+  @Test
+  void endStepShouldRecordStepOfCurrentPhase() {
+    metrics.startPhase("combat move");
+    metrics.endStep("find attack options");
+    metrics.endPhase();
+
+    final String logString = metrics.toLogString();
+    assertThat(logString, startsWith("combat move: find attack options: 1x"));
+    assertThat(logString, containsString("\ncombat move: 1x"));
+  }
+
+  @Test
+  void addShouldAccumulateCountAndTime() {
+    metrics.add("odds calculator: simulations", 1, 2_000_000);
+    metrics.add("odds calculator: simulations", 1, 3_000_000);
+
+    assertThat(metrics.toLogString(), is("odds calculator: simulations: 2x 5ms\n"));
+  }
+
+  @Test
+  void toJsonShouldEscapeNames() {
+    metrics.increment("\"quoted\"");
+
+    assertThat(metrics.toJson(3, "Germans"), is("{\"round\":3,\"player\":\"Germans\",\"metrics\":["
+        + "{\"name\":\"\\\"quoted\\\"\",\"count\":1,\"millis\":0,\"allocatedBytes\":0}]}"));
+  }
+
+  @Test
+  void resetShouldDiscardMetrics() {
+    metrics.increment("operation");
+
+    metrics.reset();
+
+    assertThat(metrics.toLogString(), is(""));
+  }
+}
@@ -0,0 +1,117 @@
+package games.strategy.triplea.ai.pro.simulate;
+
+import static games.strategy.triplea.delegate.GameDataTestUtil.germans;
+import static games.strategy.triplea.delegate.GameDataTestUtil.infantry;
+import static games.strategy.triplea.delegate.GameDataTestUtil.russians;
+import static games.strategy.triplea.delegate.GameDataTestUtil.territory;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.triplea.xml.TestMapGameData;
+
+final class ProShadowGameDataTest {
+  private GameData data;
+  private ProShadowGameData shadowData;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    data = TestMapGameData.REVISED.getGameData();
+    shadowData = new ProShadowGameData(data);
+  }
+
+  @AfterEach
+  void tearDown() {
+    shadowData.close();
+  }
+
+  @Test
+  void shouldReuseCopyAndPerformChangesOfLiveGameData() {
+    final GameData dataCopy = shadowData.acquire();
+    shadowData.release();
+    final Territory germany = territory("Germany", data);
+    final int unitCount = germany.getUnits().size();
+
+    data.performChange(ChangeFactory.addUnits(germany, infantry(data).create(2, germans(data))));
+    data.performChange(ChangeFactory.changeOwner(territory("Eastern Europe", data), russians(data)));
+
+    assertThat(shadowData.acquire(), is(sameInstance(dataCopy)));
+    assertThat(dataCopy, is(not(sameInstance(data))));
+    assertThat(territory("Germany", dataCopy).getUnits().size(), is(unitCount + 2));
+    assertThat(territory("Eastern Europe", dataCopy).getOwner(), is(russians(dataCopy)));
+    shadowData.release();
+  }
+
+  @Test
+  void shouldNotPerformChangesAlreadyContainedInCopyAgain() {
+    final Territory germany = territory("Germany", data);
+    final int unitCount = germany.getUnits().size();
+    final Change change = ChangeFactory.addUnits(germany, infantry(data).create(2, germans(data)));
+    // Performs the change without notifying the copy, like when the copy is cloned before the listeners are notified
+    data.removeDataChangeListener(shadowData);
+    data.performChange(change);
+    data.addDataChangeListener(shadowData);
+    final GameData dataCopy = shadowData.acquire();
+    shadowData.release();
+
+    shadowData.gameDataChanged(change, data.getChangeVersion());
+
+    assertThat(shadowData.acquire(), is(sameInstance(dataCopy)));
+    assertThat(territory("Germany", dataCopy).getUnits().size(), is(unitCount + 2));
+    shadowData.release();
+  }
+
+  @Test
+  void shouldCloneAgainWhenEarlierChangeWasNotRecordedYet() {
+    final GameData dataCopy = shadowData.acquire();
+    shadowData.release();
+    final Territory germany = territory("Germany", data);
+    data.removeDataChangeListener(shadowData);
+    data.performChange(ChangeFactory.addUnits(germany, infantry(data).create(1, germans(data))));
+    data.addDataChangeListener(shadowData);
+    data.performChange(ChangeFactory.addUnits(germany, infantry(data).create(1, germans(data))));
+
+    final GameData syncedDataCopy = shadowData.acquire();
+
+    assertThat(syncedDataCopy, is(not(sameInstance(dataCopy))));
+    assertThat(territory("Germany", syncedDataCopy).getUnits().size(), is(germany.getUnits().size()));
+    assertThat(shadowData.getCloneCount(), is(2));
+    shadowData.release();
+  }
+
+  @Test
+  void shouldUndoChangesPerformedOnCopyWhenReleased() {
+    final GameData dataCopy = shadowData.acquire();
+    final Territory germany = territory("Germany", dataCopy);
+    final int unitCount = germany.getUnits().size();
+    dataCopy.performChange(ChangeFactory.removeUnits(germany, new ArrayList<>(germany.getUnits())));
+    dataCopy.performChange(ChangeFactory.changeOwner(germany, russians(dataCopy)));
+
+    shadowData.release();
+
+    assertThat(germany.getUnits().size(), is(unitCount));
+    assertThat(germany.getOwner(), is(germans(dataCopy)));
+  }
+
+  @Test
+  void shouldCopyCurrentStepOfLiveGameData() {
+    data.getSequence().setRoundAndStepIndex(3, 2);
+
+    final GameData dataCopy = shadowData.acquire();
+
+    assertThat(dataCopy.getSequence().getRound(), is(3));
+    assertThat(dataCopy.getSequence().getStepIndex(), is(2));
+    shadowData.release();
+  }
+}
@@ -0,0 +1,110 @@
+package games.strategy.triplea.ai.pro.simulate;
+
+import static games.strategy.triplea.delegate.GameDataTestUtil.addTo;
+import static games.strategy.triplea.delegate.GameDataTestUtil.battleship;
+import static games.strategy.triplea.delegate.GameDataTestUtil.british;
+import static games.strategy.triplea.delegate.GameDataTestUtil.fighter;
+import static games.strategy.triplea.delegate.GameDataTestUtil.germans;
+import static games.strategy.triplea.delegate.GameDataTestUtil.infantry;
+import static games.strategy.triplea.delegate.GameDataTestUtil.territory;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.triplea.ai.pro.simulate.ProSimulateTurnUtils.PendingBattle;
+import games.strategy.triplea.delegate.IBattle;
+import games.strategy.triplea.delegate.IBattle.BattleType;
+import games.strategy.triplea.xml.TestMapGameData;
+
+final class ProSimulateTurnUtilsTest {
+  private Territory karelia;
+  private Territory egypt;
+  private List<Unit> germanInfantry;
+  private List<Unit> britishInfantry;
+  private List<Unit> germanFighters;
+  private List<Unit> britishFighters;
+  private List<Unit> germanBattleships;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    final GameData data = TestMapGameData.WW2V3_1942.getGameData();
+    karelia = territory("Karelia S.S.R.", data);
+    egypt = territory("Egypt", data);
+    germanInfantry = infantry(data).create(2, germans(data));
+    britishInfantry = infantry(data).create(2, british(data));
+    germanFighters = fighter(data).create(1, germans(data));
+    britishFighters = fighter(data).create(1, british(data));
+    germanBattleships = battleship(data).create(1, germans(data));
+    addTo(karelia, Arrays.asList(germanInfantry.get(0), britishInfantry.get(0)));
+    addTo(karelia, germanFighters);
+    addTo(karelia, britishFighters);
+    addTo(egypt, Arrays.asList(germanInfantry.get(1), britishInfantry.get(1)));
+  }
+
+  private static PendingBattle newPendingBattle(final Territory t, final BattleType type,
+      final List<Unit> attackers, final List<Unit> defenders, final List<Unit> bombardingUnits) {
+    final IBattle battle = mock(IBattle.class);
+    when(battle.getAttackingUnits()).thenReturn(attackers);
+    when(battle.getDefendingUnits()).thenReturn(defenders);
+    when(battle.getBombardingUnits()).thenReturn(bombardingUnits);
+    return new PendingBattle(t, type, battle);
+  }
+
+  private PendingBattle newKareliaBattle(final BattleType type) {
+    return newPendingBattle(karelia, type, germanInfantry.subList(0, 1), britishInfantry.subList(0, 1),
+        Collections.emptyList());
+  }
+
+  private PendingBattle newEgyptBattle(final List<Unit> bombardingUnits) {
+    return newPendingBattle(egypt, BattleType.NORMAL, germanInfantry.subList(1, 2), britishInfantry.subList(1, 2),
+        bombardingUnits);
+  }
+
+  @Test
+  void areIndependentShouldReturnTrueForNormalBattlesWithDifferentUnits() {
+    assertThat(ProSimulateTurnUtils.areIndependent(Arrays.asList(
+        newKareliaBattle(BattleType.NORMAL), newEgyptBattle(Collections.emptyList()))), is(true));
+  }
+
+  @Test
+  void areIndependentShouldReturnFalseForAirBattles() {
+    assertThat(ProSimulateTurnUtils.areIndependent(Arrays.asList(
+        newKareliaBattle(BattleType.AIR_BATTLE), newEgyptBattle(Collections.emptyList()))), is(false));
+  }
+
+  @Test
+  void areIndependentShouldReturnFalseForRaids() {
+    assertThat(ProSimulateTurnUtils.areIndependent(Arrays.asList(
+        newKareliaBattle(BattleType.AIR_RAID), newEgyptBattle(Collections.emptyList()))), is(false));
+    assertThat(ProSimulateTurnUtils.areIndependent(Arrays.asList(
+        newKareliaBattle(BattleType.BOMBING_RAID), newEgyptBattle(Collections.emptyList()))), is(false));
+  }
+
+  @Test
+  void areIndependentShouldReturnFalseWhenScrambledUnitDefendsInSeveralBattles() {
+    final PendingBattle groundBattle = newPendingBattle(karelia, BattleType.NORMAL, germanInfantry.subList(0, 1),
+        Arrays.asList(britishInfantry.get(0), britishFighters.get(0)), Collections.emptyList());
+    final PendingBattle airBattle = newPendingBattle(karelia, BattleType.NORMAL, germanFighters, britishFighters,
+        Collections.emptyList());
+
+    assertThat(ProSimulateTurnUtils.areIndependent(Arrays.asList(groundBattle, airBattle)), is(false));
+  }
+
+  @Test
+  void areIndependentShouldReturnFalseWhenBombardingUnitIsShared() {
+    assertThat(ProSimulateTurnUtils.areIndependent(Arrays.asList(
+        newEgyptBattle(germanBattleships), newPendingBattle(karelia, BattleType.NORMAL, germanInfantry.subList(0, 1),
+            britishInfantry.subList(0, 1), germanBattleships))), is(false));
+  }
+}
@@ -0,0 +1,67 @@
+package games.strategy.triplea.ai.pro.util;
+
+import static games.strategy.triplea.delegate.GameDataTestUtil.addTo;
+import static games.strategy.triplea.delegate.GameDataTestUtil.germans;
+import static games.strategy.triplea.delegate.GameDataTestUtil.infantry;
+import static games.strategy.triplea.delegate.GameDataTestUtil.territory;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerId;
+import games.strategy.engine.data.Route;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.triplea.ai.pro.ProData;
+import games.strategy.triplea.delegate.remote.IMoveDelegate;
+import games.strategy.triplea.xml.TestMapGameData;
+
+final class ProMoveUtilsTest {
+  @Test
+  void doMoveShouldInvalidateTransportableUnitsOfStartAndEndOfEachMove() throws Exception {
+    final GameData data = TestMapGameData.WW2V3_1942.getGameData();
+    final PlayerId germans = germans(data);
+    final ProData proData = new ProData();
+    proData.initializeSimulation(null, data, germans);
+    final ProTransportLoadingIndex transportLoadingIndex = proData.getTransportLoadingIndex();
+    final Territory germany = territory("Germany", data);
+    final Territory france = territory("France", data);
+    final Territory poland = territory("Poland", data);
+    final Unit infantry = infantry(data).create(germans);
+    addTo(germany, Collections.singletonList(infantry));
+    final List<Unit> polandUnits = transportLoadingIndex.getTransportableUnits(germans, poland);
+    assertThat(transportLoadingIndex.getTransportableUnits(germans, germany), hasItem(infantry));
+    assertThat(transportLoadingIndex.getTransportableUnits(germans, france), not(hasItem(infantry)));
+    final IMoveDelegate moveDel = mock(IMoveDelegate.class);
+    when(moveDel.move(any(), any())).thenAnswer(invocation -> {
+      final Collection<Unit> units = invocation.getArgument(0);
+      final Route route = invocation.getArgument(1);
+      data.performChange(ChangeFactory.moveUnits(route.getStart(), route.getEnd(), units));
+      return null;
+    });
+    addTo(poland, infantry(data).create(1, germans));
+
+    final List<Collection<Unit>> moveUnits = new ArrayList<>();
+    moveUnits.add(Collections.singletonList(infantry));
+    final List<Route> moveRoutes = new ArrayList<>();
+    moveRoutes.add(new Route(germany, france));
+    ProMoveUtils.doMove(proData, moveUnits, moveRoutes, moveDel);
+
+    assertThat(transportLoadingIndex.getTransportableUnits(germans, germany), not(hasItem(infantry)));
+    assertThat(transportLoadingIndex.getTransportableUnits(germans, france), hasItem(infantry));
+    assertThat(transportLoadingIndex.getTransportableUnits(germans, poland), is(polandUnits));
+  }
+}
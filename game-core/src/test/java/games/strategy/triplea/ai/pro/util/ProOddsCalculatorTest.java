@@ -0,0 +1,160 @@
+package games.strategy.triplea.ai.pro.util;
+
+import static games.strategy.triplea.delegate.GameDataTestUtil.armour;
+import static games.strategy.triplea.delegate.GameDataTestUtil.germans;
+import static games.strategy.triplea.delegate.GameDataTestUtil.infantry;
+import static games.strategy.triplea.delegate.GameDataTestUtil.russians;
+import static games.strategy.triplea.delegate.GameDataTestUtil.territory;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.triplea.ai.fast.FastOddsEstimator;
+import games.strategy.triplea.ai.pro.ProData;
+import games.strategy.triplea.ai.pro.data.ProBattleResult;
+import games.strategy.triplea.odds.calculator.AggregateResults;
+import games.strategy.triplea.odds.calculator.IOddsCalculator;
+import games.strategy.triplea.xml.TestMapGameData;
+
+final class ProOddsCalculatorTest {
+  private ProData proData;
+  private ProOddsCalculator calc;
+  private Territory karelia;
+  private List<Unit> strongUnits;
+  private List<Unit> weakUnits;
+  private double simulatedWinPercentage;
+  private double simulatedTuvSwing;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    final GameData data = TestMapGameData.WW2V3_1942.getGameData();
+    proData = new ProData();
+    proData.initializeSimulation(null, data, germans(data));
+    final IOddsCalculator oddsCalculator = mock(IOddsCalculator.class);
+    final AggregateResults results = mock(AggregateResults.class);
+    when(results.getAttackerWinPercent()).thenAnswer(invocation -> simulatedWinPercentage / 100);
+    when(results.getAverageTuvSwing(any(), any(), any(), any(), any())).thenAnswer(invocation -> simulatedTuvSwing);
+    when(oddsCalculator.setCalculateDataAndCalculate(any(), any(), any(), any(), any(), any(), any(), anyInt()))
+        .thenReturn(results);
+    calc = new ProOddsCalculator(proData, oddsCalculator);
+    karelia = territory("Karelia S.S.R.", data);
+    strongUnits = armour(data).create(6, germans(data));
+    weakUnits = infantry(data).create(1, russians(data));
+  }
+
+  private ProBattleResult estimateAttack() {
+    return calc.estimateAttackBattleResults(karelia, strongUnits, weakUnits, Collections.emptySet());
+  }
+
+  private ProBattleResult estimateDefend() {
+    return calc.estimateDefendBattleResults(karelia, weakUnits, strongUnits, Collections.emptySet());
+  }
+
+  private ProBattleResult estimateWithFastOddsEstimator(final List<Unit> attackingUnits,
+      final List<Unit> defendingUnits) {
+    return new ProOddsCalculator(proData, new FastOddsEstimator(proData))
+        .callBattleCalculator(karelia, attackingUnits, defendingUnits, Collections.emptySet());
+  }
+
+  /**
+   * Simulates the attack enough times to calibrate the estimates of its strength difference, alternating between
+   * the specified simulated win percentages. The simulated TUV swing is the estimated one.
+   */
+  private void calibrateAttack(final double... winPercentages) {
+    simulatedTuvSwing = estimateWithFastOddsEstimator(strongUnits, weakUnits).getTuvSwing();
+    for (int i = 0; i < ProStrengthCalibration.MIN_SAMPLE_COUNT; i++) {
+      simulatedWinPercentage = winPercentages[i % winPercentages.length];
+      estimateAttack();
+    }
+  }
+
+  private void calibrateDefense(final double... winPercentages) {
+    simulatedTuvSwing = estimateWithFastOddsEstimator(weakUnits, strongUnits).getTuvSwing();
+    for (int i = 0; i < ProStrengthCalibration.MIN_SAMPLE_COUNT; i++) {
+      simulatedWinPercentage = winPercentages[i % winPercentages.length];
+      estimateDefend();
+    }
+  }
+
+  @Test
+  void shouldSimulateBattlesByDefault() {
+    calibrateAttack(98.4375);
+    simulatedWinPercentage = 0;
+
+    assertThat(estimateAttack().getWinPercentage(), is(0.0));
+  }
+
+  @Test
+  void shouldEstimateBattlesWhoseSimulationsWereOnSameSideOfEachThreshold() {
+    calc.setUseCalibratedEstimates(true);
+    calibrateAttack(98.4375);
+    simulatedWinPercentage = 0;
+
+    assertThat(estimateAttack().getWinPercentage(), is(98.4375));
+  }
+
+  @Test
+  void shouldSimulateBattlesWhoseTuvSwingWasNotEstimatedWithinTolerance() {
+    calc.setUseCalibratedEstimates(true);
+    simulatedWinPercentage = 98.4375;
+    simulatedTuvSwing = estimateWithFastOddsEstimator(strongUnits, weakUnits).getTuvSwing() + 100;
+    for (int i = 0; i < ProStrengthCalibration.MIN_SAMPLE_COUNT; i++) {
+      estimateAttack();
+    }
+    simulatedWinPercentage = 0;
+
+    assertThat(estimateAttack().getWinPercentage(), is(0.0));
+  }
+
+  @Test
+  void shouldKeepSimulatingSomeBattlesOnceEstimatesAreCalibrated() {
+    calc.setUseCalibratedEstimates(true);
+    calibrateAttack(98.4375);
+    simulatedWinPercentage = 0;
+
+    int simulationCount = 0;
+    for (int i = 0; i < ProStrengthCalibration.SAMPLE_INTERVAL; i++) {
+      if (estimateAttack().getWinPercentage() == 0) {
+        simulationCount++;
+      }
+    }
+
+    assertThat(simulationCount, is(1));
+  }
+
+  @Test
+  void attackDecisionsShouldNotChangeForBattlesNearThresholds() {
+    calc.setUseCalibratedEstimates(true);
+    calibrateAttack(93.75, 96.875);
+
+    simulatedWinPercentage = 93.75;
+    final ProBattleResult result = estimateAttack();
+
+    assertThat(result.getWinPercentage(), is(93.75));
+    assertThat(result.getWinPercentage() >= proData.getWinPercentage(), is(false));
+  }
+
+  @Test
+  void defendDecisionsShouldNotChangeForBattlesNearThresholds() {
+    calc.setUseCalibratedEstimates(true);
+    calibrateDefense(3.125, 6.25);
+
+    simulatedWinPercentage = 6.25;
+    final ProBattleResult result = estimateDefend();
+
+    assertThat(result.getWinPercentage(), is(6.25));
+    assertThat(result.getWinPercentage() <= 100 - proData.getWinPercentage(), is(false));
+  }
+}
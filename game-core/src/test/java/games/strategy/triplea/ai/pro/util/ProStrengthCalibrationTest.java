@@ -0,0 +1,111 @@
+package games.strategy.triplea.ai.pro.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.OptionalDouble;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+final class ProStrengthCalibrationTest {
+  private static final double[] THRESHOLDS = {95, 75, 50, 25, 5};
+
+  private final ProStrengthCalibration strengthCalibration = new ProStrengthCalibration();
+
+  private void record(final double strengthDifference, final double... winPercentages) {
+    for (int i = 0; i < ProStrengthCalibration.MIN_SAMPLE_COUNT; i++) {
+      strengthCalibration.record(strengthDifference, winPercentages[i % winPercentages.length], 0, 0);
+    }
+  }
+
+  @Test
+  void estimateWinPercentageShouldReturnEmptyUntilEnoughBattlesWereSimulated() {
+    for (int i = 1; i < ProStrengthCalibration.MIN_SAMPLE_COUNT; i++) {
+      strengthCalibration.record(120, 99, 0, 0);
+    }
+    assertThat(strengthCalibration.estimateWinPercentage(120, THRESHOLDS), is(OptionalDouble.empty()));
+
+    strengthCalibration.record(120, 97, 0, 0);
+
+    assertThat(strengthCalibration.estimateWinPercentage(120, THRESHOLDS).getAsDouble(),
+        is((99.0 * (ProStrengthCalibration.MIN_SAMPLE_COUNT - 1) + 97) / ProStrengthCalibration.MIN_SAMPLE_COUNT));
+  }
+
+  @Test
+  void estimateWinPercentageShouldReturnEmptyWhenThresholdLiesBetweenSimulatedWinPercentages() {
+    record(100, 94, 96);
+
+    assertThat(strengthCalibration.estimateWinPercentage(100, THRESHOLDS), is(OptionalDouble.empty()));
+    assertThat(strengthCalibration.estimateWinPercentage(100, 50).getAsDouble(), is(95.0));
+  }
+
+  @Test
+  void estimateWinPercentageShouldUseSimulationsWithSimilarStrengthDifference() {
+    record(101, 98);
+
+    assertThat(strengthCalibration.estimateWinPercentage(101 + ProStrengthCalibration.RANGE_WIDTH, THRESHOLDS),
+        is(OptionalDouble.empty()));
+    assertThat(strengthCalibration.estimateWinPercentage(100, THRESHOLDS).getAsDouble(), is(98.0));
+  }
+
+  @Test
+  void estimateWinPercentageShouldReturnEmptyWhenTuvSwingWasNotEstimatedWithinTolerance() {
+    record(100, 98);
+    record(110, 98);
+    strengthCalibration.record(100, 98, 20, 20 * (1 + ProStrengthCalibration.TUV_SWING_TOLERANCE) + 1);
+    strengthCalibration.record(110, 98, 0, ProStrengthCalibration.MIN_TUV_SWING_DIFFERENCE);
+
+    assertThat(strengthCalibration.estimateWinPercentage(100, THRESHOLDS), is(OptionalDouble.empty()));
+    assertThat(strengthCalibration.estimateWinPercentage(110, THRESHOLDS).getAsDouble(), is(98.0));
+  }
+
+  @Test
+  void estimateWinPercentageShouldKeepSimulatingSomeBattlesOfCalibratedRanges() {
+    record(100, 98);
+
+    int emptyCount = 0;
+    for (int i = 0; i < 3 * ProStrengthCalibration.SAMPLE_INTERVAL; i++) {
+      if (!strengthCalibration.estimateWinPercentage(100, THRESHOLDS).isPresent()) {
+        emptyCount++;
+      }
+    }
+
+    assertThat(emptyCount, is(3));
+  }
+
+  @Test
+  void estimateWinPercentageShouldIgnoreValuesForBattlesWithoutFightingUnits() {
+    record(0, 0);
+    record(99999, 100);
+
+    assertThat(strengthCalibration.estimateWinPercentage(0, THRESHOLDS), is(OptionalDouble.empty()));
+    assertThat(strengthCalibration.estimateWinPercentage(99999, THRESHOLDS), is(OptionalDouble.empty()));
+  }
+
+  @Test
+  void estimatesShouldBeOnSameSideOfEachThresholdAsSimulations() {
+    // simulated win percentages rise with the strength difference, but not in proportion to it and with some noise
+    final Random random = new Random(42);
+    final double[] strengthDifferences = new double[2000];
+    final double[] winPercentages = new double[strengthDifferences.length];
+    for (int i = 0; i < strengthDifferences.length; i++) {
+      strengthDifferences[i] = random.nextDouble() * 300 - 50;
+      winPercentages[i] = Math.max(0, Math.min(100,
+          100 / (1 + Math.exp(-(strengthDifferences[i] - 60) / 15)) + random.nextGaussian()));
+      strengthCalibration.record(strengthDifferences[i], winPercentages[i], 0, 0);
+    }
+
+    int estimateCount = 0;
+    for (int i = 0; i < strengthDifferences.length; i++) {
+      final OptionalDouble estimate = strengthCalibration.estimateWinPercentage(strengthDifferences[i], THRESHOLDS);
+      if (estimate.isPresent()) {
+        estimateCount++;
+        for (final double threshold : THRESHOLDS) {
+          assertThat(estimate.getAsDouble() >= threshold, is(winPercentages[i] >= threshold));
+        }
+      }
+    }
+    assertThat(estimateCount > strengthDifferences.length / 2, is(true));
+  }
+}
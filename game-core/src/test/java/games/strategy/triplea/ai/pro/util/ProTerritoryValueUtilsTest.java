@@ -0,0 +1,44 @@
+package games.strategy.triplea.ai.pro.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerId;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.triplea.ai.pro.ProData;
+import games.strategy.triplea.xml.TestMapGameData;
+
+final class ProTerritoryValueUtilsTest {
+  private static Map<Territory, Double> findTerritoryValues(final ProData proData, final GameData data) {
+    return ProTerritoryValueUtils.findTerritoryValues(proData, proData.getPlayer(), new ArrayList<>(),
+        new ArrayList<>(), new HashSet<>(data.getMap().getTerritories()));
+  }
+
+  private static ProData newProData(final GameData data, final PlayerId player) {
+    final ProData proData = new ProData();
+    proData.initializeSimulation(null, data, player);
+    return proData;
+  }
+
+  @Test
+  void findTerritoryValuesShouldFindSameValuesWhenReusingCacheAfterOwnersChanged() throws Exception {
+    final GameData data = TestMapGameData.WW2V3_1942.getGameData();
+    final PlayerId germans = data.getPlayerList().getPlayerId("Germans");
+    final ProData proData = newProData(data, germans);
+    findTerritoryValues(proData, data);
+
+    data.performChange(ChangeFactory.changeOwner(data.getMap().getTerritory("Poland"),
+        data.getPlayerList().getPlayerId("Russians")));
+    data.performChange(ChangeFactory.changeOwner(data.getMap().getTerritory("Turkey"), germans));
+
+    assertThat(findTerritoryValues(proData, data), is(findTerritoryValues(newProData(data, germans), data)));
+  }
+}
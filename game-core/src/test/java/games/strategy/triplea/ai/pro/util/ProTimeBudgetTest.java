@@ -0,0 +1,34 @@
+package games.strategy.triplea.ai.pro.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+final class ProTimeBudgetTest {
+  @Test
+  void unlimitedBudgetShouldNotExpire() {
+    assertThat(ProTimeBudget.unlimited().isExpired(), is(false));
+    assertThat(ProTimeBudget.start("phase", 0).isExpired(), is(false));
+  }
+
+  @Test
+  void budgetShouldNotExpireBeforeLimit() {
+    assertThat(ProTimeBudget.start("phase", 3600).isExpired(), is(false));
+  }
+
+  @Test
+  void canceledBudgetShouldExpire() {
+    final ProTimeBudget timeBudget = ProTimeBudget.start("phase", 3600);
+
+    timeBudget.cancel();
+
+    assertThat(timeBudget.isExpired(), is(true));
+  }
+
+  @Test
+  void startShouldThrowExceptionWhenLimitIsNegative() {
+    assertThrows(IllegalArgumentException.class, () -> ProTimeBudget.start("phase", -1));
+  }
+}
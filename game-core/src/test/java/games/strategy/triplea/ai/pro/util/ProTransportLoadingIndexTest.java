@@ -0,0 +1,67 @@
+package games.strategy.triplea.ai.pro.util;
+
+import static games.strategy.triplea.delegate.GameDataTestUtil.addTo;
+import static games.strategy.triplea.delegate.GameDataTestUtil.armour;
+import static games.strategy.triplea.delegate.GameDataTestUtil.fighter;
+import static games.strategy.triplea.delegate.GameDataTestUtil.infantry;
+import static games.strategy.triplea.delegate.GameDataTestUtil.russians;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerId;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.triplea.xml.TestMapGameData;
+
+final class ProTransportLoadingIndexTest {
+  private final ProTransportLoadingIndex transportLoadingIndex = new ProTransportLoadingIndex();
+  private GameData data;
+  private PlayerId germans;
+  private Territory germany;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    data = TestMapGameData.WW2V3_1942.getGameData();
+    germans = data.getPlayerList().getPlayerId("Germans");
+    germany = data.getMap().getTerritory("Germany");
+  }
+
+  @Test
+  void getTransportableUnitsShouldReturnOwnedTransportableUnitsByTransportCostAndThenByAttack() {
+    final Territory afghanistan = data.getMap().getTerritory("Afghanistan");
+    final Unit russianInfantry = infantry(data).create(russians(data));
+    final Unit armour = armour(data).create(germans);
+    final Unit infantry1 = infantry(data).create(germans);
+    final Unit fighter = fighter(data).create(germans);
+    final Unit artillery = data.getUnitTypeList().getUnitType("artillery").create(germans);
+    final Unit infantry2 = infantry(data).create(germans);
+    addTo(afghanistan, Arrays.asList(russianInfantry, armour, infantry1, fighter, artillery, infantry2));
+
+    final List<Unit> units = transportLoadingIndex.getTransportableUnits(germans, afghanistan);
+
+    assertThat(units, is(Arrays.asList(infantry1, infantry2, armour, artillery)));
+  }
+
+  @Test
+  void getTransportableUnitsShouldFindUnitsAgainAfterInvalidate() {
+    final List<Unit> units = new ArrayList<>(transportLoadingIndex.getTransportableUnits(germans, germany));
+    assertThat(units, is(not(empty())));
+    data.performChange(ChangeFactory.removeUnits(germany, units));
+
+    assertThat(transportLoadingIndex.getTransportableUnits(germans, germany), is(units));
+    transportLoadingIndex.invalidate(Collections.singletonList(germany));
+    assertThat(transportLoadingIndex.getTransportableUnits(germans, germany), is(empty()));
+  }
+}
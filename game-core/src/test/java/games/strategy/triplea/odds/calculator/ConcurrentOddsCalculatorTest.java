@@ -0,0 +1,84 @@
+package games.strategy.triplea.odds.calculator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+
+import java.util.concurrent.Semaphore;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.triplea.Constants;
+import games.strategy.triplea.xml.TestMapGameData;
+
+final class ConcurrentOddsCalculatorTest {
+  private final Semaphore dataLoaded = new Semaphore(0);
+  private final ConcurrentOddsCalculator calculator =
+      new ConcurrentOddsCalculator("ConcurrentOddsCalculatorTest", dataLoaded::release);
+  private GameData data;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    data = TestMapGameData.WW2V3_1942.getGameData();
+  }
+
+  @AfterEach
+  void tearDown() {
+    calculator.shutdown();
+  }
+
+  private void setGameData(final GameData gameData) throws InterruptedException {
+    calculator.setGameData(gameData);
+    dataLoaded.acquire();
+  }
+
+  private void performChange(final GameData gameData) {
+    gameData.performChange(ChangeFactory.changeResourcesChange(gameData.getPlayerList().getPlayerId("Germans"),
+        gameData.getResourceList().getResource(Constants.PUS), 5));
+  }
+
+  @Test
+  void shouldCloneGameDataOncePerWorker() throws Exception {
+    setGameData(data);
+
+    assertThat(calculator.getCloneCount(), is(calculator.getThreadCount()));
+  }
+
+  @Test
+  void shouldSyncWorkersInsteadOfCloningWhenSameGameDataIsSetAgain() throws Exception {
+    setGameData(data);
+    final int cloneCount = calculator.getCloneCount();
+
+    performChange(data);
+    setGameData(data);
+    performChange(data);
+    setGameData(data);
+
+    assertThat(calculator.getCloneCount(), is(cloneCount));
+  }
+
+  @Test
+  void shouldCloneGameDataWhenOtherGameDataIsSet() throws Exception {
+    setGameData(data);
+    final int cloneCount = calculator.getCloneCount();
+
+    setGameData(TestMapGameData.WW2V3_1942.getGameData());
+
+    assertThat(calculator.getCloneCount(), is(greaterThan(cloneCount)));
+  }
+
+  @Test
+  void shouldCloneGameDataWhenItIsSetAgainAfterBeingReleased() throws Exception {
+    setGameData(data);
+    final int cloneCount = calculator.getCloneCount();
+
+    calculator.setGameData(null);
+    setGameData(data);
+
+    assertThat(calculator.getCloneCount(), is(greaterThan(cloneCount)));
+  }
+}
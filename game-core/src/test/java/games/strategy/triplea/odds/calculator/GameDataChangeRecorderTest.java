@@ -0,0 +1,70 @@
+package games.strategy.triplea.odds.calculator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerId;
+import games.strategy.engine.data.Resource;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.engine.framework.GameDataUtils;
+import games.strategy.triplea.Constants;
+import games.strategy.triplea.xml.TestMapGameData;
+
+final class GameDataChangeRecorderTest {
+  private GameData data;
+  private GameData copy;
+  private GameDataChangeRecorder changeRecorder;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    data = TestMapGameData.WW2V3_1942.getGameData();
+    copy = GameDataUtils.cloneGameDataWithoutHistory(data, false);
+    changeRecorder = new GameDataChangeRecorder(data);
+  }
+
+  private static int getGermanPus(final GameData gameData) {
+    final PlayerId germans = gameData.getPlayerList().getPlayerId("Germans");
+    return germans.getResources().getQuantity(gameData.getResourceList().getResource(Constants.PUS));
+  }
+
+  private void addGermanPus(final int quantity) {
+    final Resource pus = data.getResourceList().getResource(Constants.PUS);
+    data.performChange(ChangeFactory.changeResourcesChange(data.getPlayerList().getPlayerId("Germans"), pus, quantity));
+  }
+
+  @Test
+  void syncCopiesShouldPerformRecordedChangesOnCopies() {
+    addGermanPus(5);
+    addGermanPus(3);
+    data.getSequence().next();
+
+    assertThat(changeRecorder.syncCopies(Collections.singletonList(copy)), is(true));
+    assertThat(getGermanPus(copy), is(getGermanPus(data)));
+    assertThat(copy.getSequence().getStepIndex(), is(data.getSequence().getStepIndex()));
+
+    addGermanPus(2);
+    assertThat(changeRecorder.syncCopies(Collections.singletonList(copy)), is(true));
+    assertThat(getGermanPus(copy), is(getGermanPus(data)));
+  }
+
+  @Test
+  void syncCopiesShouldFailWhenChangeWasNotRecorded() {
+    data.removeDataChangeListener(changeRecorder);
+    addGermanPus(5);
+
+    assertThat(changeRecorder.syncCopies(Collections.singletonList(copy)), is(false));
+  }
+
+  @Test
+  void syncCopiesShouldFailOnceClosed() {
+    changeRecorder.close();
+
+    assertThat(changeRecorder.syncCopies(Collections.singletonList(copy)), is(false));
+  }
+}
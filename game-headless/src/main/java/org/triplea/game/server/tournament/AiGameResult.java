@@ -0,0 +1,35 @@
+package org.triplea.game.server.tournament;
+
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * The outcome and resource usage of a single game played by an {@link AiTournament}.
+ */
+@Builder
+@Value
+public class AiGameResult {
+  /** The zero-based index of the game within the tournament. */
+  private final int game;
+  /** The seed of the dice used in the game. */
+  private final long seed;
+  /** The round the game ended in. */
+  private final int rounds;
+  /** The names of the winning players; empty if nobody won before the round limit. */
+  private final List<String> winners;
+  /** The wall-clock time the game took. */
+  private final long millis;
+  /** The wall-clock time spent in each phase of the game, keyed by the display name of the phase. */
+  private final Map<String, Long> phaseMillis;
+  /** The number of battles the Pro AIs of the game asked their odds calculators about. */
+  private final long oddsCalculatorCalls;
+  /** The highest heap usage of the JVM observed at the start of a phase of the game. */
+  private final long heapHighWaterBytes;
+  /** The error that aborted the game, or {@code null} if it ran to completion. */
+  private final @Nullable String error;
+}
@@ -0,0 +1,240 @@
+package org.triplea.game.server.tournament;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+
+import org.triplea.java.Interruptibles;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameParser;
+import games.strategy.engine.data.PlayerId;
+import games.strategy.engine.data.events.GameStepListener;
+import games.strategy.engine.framework.GameDataManager;
+import games.strategy.engine.framework.ServerGame;
+import games.strategy.engine.framework.startup.ui.PlayerType;
+import games.strategy.engine.player.IGamePlayer;
+import games.strategy.engine.random.PlainRandomSource;
+import games.strategy.net.LocalNoOpMessenger;
+import games.strategy.net.Messengers;
+import games.strategy.triplea.ai.pro.ProAi;
+import games.strategy.triplea.delegate.EndRoundDelegate;
+import lombok.extern.java.Log;
+
+/**
+ * Plays a number of games between AIs without any user interface and records how long each game and each of its
+ * phases took.
+ *
+ * <p>
+ * Each game is loaded from the game file anew and uses its own random source, seeded with the seed of the tournament
+ * plus the index of the game. Note that the AIs use unseeded random numbers for some of their decisions, so games with
+ * the same seed are not guaranteed to be identical.
+ * </p>
+ */
+@Log
+public final class AiTournament {
+  private final File gameFile;
+  private final Function<String, PlayerType> playerTypes;
+  private final int games;
+  private final int threads;
+  private final int roundLimit;
+  private final long seed;
+
+  /**
+   * Initializes a new tournament.
+   *
+   * @param gameFile The game definition (XML) or saved game to play.
+   * @param playerTypes Returns the type of AI that plays the player with the specified name.
+   * @param games The number of games to play.
+   * @param threads The number of games to play at the same time.
+   * @param roundLimit The round after which a game is stopped if nobody has won yet.
+   * @param seed The seed of the dice of the first game.
+   */
+  public AiTournament(
+      final File gameFile,
+      final Function<String, PlayerType> playerTypes,
+      final int games,
+      final int threads,
+      final int roundLimit,
+      final long seed) {
+    checkArgument(games > 0, "games must be positive");
+    checkArgument(threads > 0, "threads must be positive");
+    checkArgument(roundLimit > 0, "round limit must be positive");
+
+    this.gameFile = checkNotNull(gameFile);
+    this.playerTypes = checkNotNull(playerTypes);
+    this.games = games;
+    this.threads = threads;
+    this.roundLimit = roundLimit;
+    this.seed = seed;
+  }
+
+  /**
+   * Plays all games of the tournament and returns their results in the order the games were started.
+   */
+  public List<AiGameResult> run() throws InterruptedException {
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      final List<Future<AiGameResult>> futures = new ArrayList<>();
+      for (int i = 0; i < games; i++) {
+        final int game = i;
+        futures.add(executor.submit(() -> playGame(game)));
+      }
+      final List<AiGameResult> results = new ArrayList<>();
+      for (final Future<AiGameResult> future : futures) {
+        try {
+          results.add(future.get());
+        } catch (final ExecutionException e) {
+          throw new IllegalStateException("Failed to play game", e.getCause());
+        }
+      }
+      return results;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private AiGameResult playGame(final int game) throws Exception {
+    final long gameSeed = seed + game;
+    final GameData data = loadGameData();
+    final Map<String, PlayerType> playerTypesByName = data.getPlayerList().getPlayers().stream()
+        .collect(Collectors.toMap(PlayerId::getName, player -> playerTypes.apply(player.getName())));
+    final Set<IGamePlayer> players = data.getGameLoader().newPlayers(playerTypesByName);
+    final ServerGame serverGame =
+        new ServerGame(data, players, new HashMap<>(), new Messengers(new LocalNoOpMessenger()), true);
+    serverGame.setRandomSource(new PlainRandomSource(gameSeed));
+    serverGame.setAutoSaveEnabled(false);
+    data.getGameLoader().startGame(serverGame, players, true, null);
+    final GameMonitor monitor = new GameMonitor(serverGame);
+    serverGame.addGameStepListener(monitor);
+
+    log.info("Starting game " + game + " with seed " + gameSeed);
+    final AtomicReference<RuntimeException> error = new AtomicReference<>();
+    final long startNanos = System.nanoTime();
+    final Thread gameThread = new Thread(() -> {
+      try {
+        serverGame.startGame();
+      } catch (final RuntimeException e) {
+        error.set(e);
+      }
+    }, "AI tournament game " + game);
+    gameThread.start();
+    while (gameThread.isAlive() && serverGame.isGameSequenceRunning()) {
+      Interruptibles.sleep(100);
+    }
+    final long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    final Map<String, Long> phaseMillis = monitor.finish();
+    final int rounds = data.getSequence().getRound();
+    final List<String> winners = getWinners(data);
+    final long oddsCalculatorCalls = players.stream()
+        .filter(ProAi.class::isInstance)
+        .mapToLong(player -> ((ProAi) player).getCalc().getCallCount())
+        .sum();
+    serverGame.stopGame();
+    gameThread.join();
+
+    if (error.get() != null) {
+      log.log(Level.SEVERE, "Game " + game + " failed", error.get());
+    }
+    log.info("Finished game " + game + " in round " + rounds + " after " + millis + "ms, winners: " + winners);
+    return AiGameResult.builder()
+        .game(game)
+        .seed(gameSeed)
+        .rounds(rounds)
+        .winners(winners)
+        .millis(millis)
+        .phaseMillis(phaseMillis)
+        .oddsCalculatorCalls(oddsCalculatorCalls)
+        .heapHighWaterBytes(monitor.getHeapHighWaterBytes())
+        .error(error.get() != null ? error.get().toString() : null)
+        .build();
+  }
+
+  private GameData loadGameData() throws Exception {
+    if (gameFile.getName().toLowerCase().endsWith(".xml")) {
+      try (InputStream is = new FileInputStream(gameFile)) {
+        return GameParser.parse(gameFile.getAbsolutePath(), is);
+      }
+    }
+    return GameDataManager.loadGame(gameFile);
+  }
+
+  private static List<String> getWinners(final GameData data) {
+    final EndRoundDelegate endRoundDelegate = (EndRoundDelegate) data.getDelegate("endRound");
+    final Collection<PlayerId> winners = (endRoundDelegate != null) ? endRoundDelegate.getWinners() : null;
+    if (winners == null) {
+      return Collections.emptyList();
+    }
+    return winners.stream().map(PlayerId::getName).sorted().collect(Collectors.toList());
+  }
+
+  /**
+   * Stops a game once its last round is over and records the time spent in each phase and the heap usage.
+   */
+  private final class GameMonitor implements GameStepListener {
+    private final ServerGame serverGame;
+    private final Map<String, Long> phaseNanos = new HashMap<>();
+    private String currentPhase;
+    private long currentPhaseStartNanos;
+    private long heapHighWaterBytes;
+
+    GameMonitor(final ServerGame serverGame) {
+      this.serverGame = serverGame;
+    }
+
+    @Override
+    public synchronized void gameStepChanged(
+        final String stepName,
+        final String delegateName,
+        final PlayerId player,
+        final int round,
+        final String displayName) {
+      endCurrentPhase();
+      currentPhase = displayName;
+      currentPhaseStartNanos = System.nanoTime();
+      final Runtime runtime = Runtime.getRuntime();
+      heapHighWaterBytes = Math.max(heapHighWaterBytes, runtime.totalMemory() - runtime.freeMemory());
+
+      if (round > roundLimit
+          || (round == roundLimit && serverGame.getData().getSequence().testWeAreOnLastStep())) {
+        serverGame.stopGameSequence();
+      }
+    }
+
+    private void endCurrentPhase() {
+      if (currentPhase != null) {
+        phaseNanos.merge(currentPhase, System.nanoTime() - currentPhaseStartNanos, Long::sum);
+        currentPhase = null;
+      }
+    }
+
+    synchronized Map<String, Long> finish() {
+      endCurrentPhase();
+      return phaseNanos.entrySet().stream()
+          .collect(Collectors.toMap(Map.Entry::getKey, entry -> TimeUnit.NANOSECONDS.toMillis(entry.getValue())));
+    }
+
+    synchronized long getHeapHighWaterBytes() {
+      return heapHighWaterBytes;
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package org.triplea.game.server.tournament;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Formats the results of an {@link AiTournament}.
+ */
+final class AiTournamentReport {
+  private static final long BYTES_PER_MEGABYTE = 1024 * 1024;
+
+  private AiTournamentReport() {}
+
+  /**
+   * Returns one CSV line per game, preceded by a header line. There is one column for each phase played in any of the
+   * games.
+   */
+  static String toCsv(final Collection<AiGameResult> results) {
+    final SortedSet<String> phases = results.stream()
+        .flatMap(result -> result.getPhaseMillis().keySet().stream())
+        .collect(Collectors.toCollection(TreeSet::new));
+    final StringBuilder csv = new StringBuilder();
+    csv.append(Stream.concat(
+        Stream.of("game", "seed", "rounds", "winners", "millis", "oddsCalculatorCalls", "heapHighWaterMb", "error"),
+        phases.stream().map(phase -> phase + " millis"))
+        .map(AiTournamentReport::escape)
+        .collect(Collectors.joining(",")))
+        .append('\n');
+    for (final AiGameResult result : results) {
+      csv.append(Stream.concat(
+          Stream.<Object>of(
+              result.getGame(),
+              result.getSeed(),
+              result.getRounds(),
+              String.join(";", result.getWinners()),
+              result.getMillis(),
+              result.getOddsCalculatorCalls(),
+              result.getHeapHighWaterBytes() / BYTES_PER_MEGABYTE,
+              (result.getError() != null) ? result.getError() : ""),
+          phases.stream().map(phase -> result.getPhaseMillis().getOrDefault(phase, 0L)))
+          .map(String::valueOf)
+          .map(AiTournamentReport::escape)
+          .collect(Collectors.joining(",")))
+          .append('\n');
+    }
+    return csv.toString();
+  }
+
+  private static String escape(final String value) {
+    if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
+      return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+    return value;
+  }
+
+  /**
+   * Returns a short, human-readable summary of the throughput of the tournament and of how often each player won.
+   *
+   * @param elapsedMillis The wall-clock time the whole tournament took.
+   */
+  static String toSummary(final List<AiGameResult> results, final long elapsedMillis) {
+    final double gamesPerHour = (elapsedMillis > 0)
+        ? (double) results.size() * TimeUnit.HOURS.toMillis(1) / elapsedMillis
+        : 0;
+    final long oddsCalculatorCalls = results.stream().mapToLong(AiGameResult::getOddsCalculatorCalls).sum();
+    final Map<String, Long> wins = results.stream()
+        .flatMap(result -> result.getWinners().stream())
+        .collect(Collectors.groupingBy(winner -> winner, TreeMap::new, Collectors.counting()));
+    final long failures = results.stream().filter(result -> result.getError() != null).count();
+    return String.format(
+        "Played %d games (%d failed) in %ds: %.1f games/hour, %d odds calculator calls, peak heap %dMB, wins %s",
+        results.size(), failures, TimeUnit.MILLISECONDS.toSeconds(elapsedMillis), gamesPerHour, oddsCalculatorCalls,
+        getPeakHeapBytes() / BYTES_PER_MEGABYTE, wins);
+  }
+
+  private static long getPeakHeapBytes() {
+    return ManagementFactory.getMemoryPoolMXBeans().stream()
+        .filter(pool -> pool.getType() == MemoryType.HEAP)
+        .map(MemoryPoolMXBean::getPeakUsage)
+        .mapToLong(usage -> (usage != null) ? usage.getUsed() : 0)
+        .sum();
+  }
+}
@@ -0,0 +1,120 @@
+package org.triplea.game.server.tournament;
+
+import static games.strategy.engine.framework.CliProperties.TRIPLEA_GAME;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.prefs.Preferences;
+
+import org.triplea.util.ExitStatus;
+
+import games.strategy.engine.ClientFileSystemHelper;
+import games.strategy.engine.framework.ArgParser;
+import games.strategy.engine.framework.GameRunner;
+import games.strategy.engine.framework.startup.ui.PlayerType;
+import games.strategy.triplea.settings.ClientSetting;
+import lombok.extern.java.Log;
+
+/**
+ * Plays games between AIs without any user interface to measure the throughput and resource usage of the AIs.
+ *
+ * <p>
+ * The tournament is configured through system properties, which may also be passed as {@code -P<name>=<value>}
+ * arguments:
+ * </p>
+ * <ul>
+ * <li>{@code triplea.game}: The game definition (XML) or saved game to play. The map must be installed.</li>
+ * <li>{@code triplea.tournament.ai}: The AI that plays all players; one of {@code PRO_AI} (default), {@code FAST_AI},
+ * {@code WEAK_AI} or {@code DOES_NOTHING_AI}.</li>
+ * <li>{@code triplea.tournament.ai.<player>}: The AI that plays the specified player instead.</li>
+ * <li>{@code triplea.tournament.games}: The number of games to play (default 1).</li>
+ * <li>{@code triplea.tournament.threads}: The number of games to play at the same time (default: one per processor).
+ * </li>
+ * <li>{@code triplea.tournament.rounds}: The round after which a game is stopped if nobody has won yet (default 10).
+ * </li>
+ * <li>{@code triplea.tournament.seed}: The seed of the dice of the first game (default 0).</li>
+ * <li>{@code triplea.tournament.report}: The file to which the results are written as CSV; if not set, the results are
+ * logged.</li>
+ * </ul>
+ */
+@Log
+public final class AiTournamentRunner {
+  private static final String PROPERTY_PREFIX = "triplea.tournament.";
+  private static final String AI = PROPERTY_PREFIX + "ai";
+  private static final String GAMES = PROPERTY_PREFIX + "games";
+  private static final String THREADS = PROPERTY_PREFIX + "threads";
+  private static final String ROUNDS = PROPERTY_PREFIX + "rounds";
+  private static final String SEED = PROPERTY_PREFIX + "seed";
+  private static final String REPORT = PROPERTY_PREFIX + "report";
+  private static final Set<PlayerType> AI_PLAYER_TYPES =
+      EnumSet.of(PlayerType.PRO_AI, PlayerType.FAST_AI, PlayerType.WEAK_AI, PlayerType.DOES_NOTHING_AI);
+
+  private AiTournamentRunner() {}
+
+  /**
+   * Entry point for playing an AI tournament. Exits once all games have been played.
+   */
+  public static void main(final String[] args) throws Exception {
+    // keep the settings of the tournament, e.g. the AI pause duration, separate from those of the user
+    ClientSetting.setPreferences(Preferences.userNodeForPackage(AiTournamentRunner.class));
+    // makes the end round delegate stop the game sequence once a player has won
+    System.setProperty(GameRunner.TRIPLEA_HEADLESS, "true");
+    ArgParser.handleCommandLineArgs(args);
+    if (!ClientSetting.mapFolderOverride.isSet()) {
+      ClientSetting.mapFolderOverride.setValue(ClientFileSystemHelper.getUserMapsFolder().toPath());
+    }
+    ClientSetting.aiPauseDuration.setValue(0);
+
+    final String gameFile = System.getProperty(TRIPLEA_GAME, "");
+    if (gameFile.isEmpty()) {
+      log.severe("Usage: -P" + TRIPLEA_GAME + "=<game XML or save file> [-P" + AI + "=<AI>] [-P" + AI
+          + ".<player>=<AI>] [-P" + GAMES + "=<count>] [-P" + THREADS + "=<count>] [-P" + ROUNDS + "=<count>] [-P"
+          + SEED + "=<seed>] [-P" + REPORT + "=<CSV file>]");
+      ExitStatus.FAILURE.exit();
+      return;
+    }
+
+    final int games = Integer.getInteger(GAMES, 1);
+    final AiTournament tournament = new AiTournament(
+        new File(gameFile),
+        AiTournamentRunner::getPlayerType,
+        games,
+        Integer.getInteger(THREADS, Math.min(games, Runtime.getRuntime().availableProcessors())),
+        Integer.getInteger(ROUNDS, 10),
+        Long.getLong(SEED, 0));
+    final long startNanos = System.nanoTime();
+    final List<AiGameResult> results = tournament.run();
+    final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+    writeReport(AiTournamentReport.toCsv(results));
+    log.info(AiTournamentReport.toSummary(results, elapsedMillis));
+    // the games leave behind non-daemon threads, e.g. those of the odds calculators
+    ExitStatus.SUCCESS.exit();
+  }
+
+  private static PlayerType getPlayerType(final String playerName) {
+    final String name = System.getProperty(AI + "." + playerName, System.getProperty(AI, PlayerType.PRO_AI.name()));
+    final PlayerType playerType = PlayerType.valueOf(name);
+    if (!AI_PLAYER_TYPES.contains(playerType)) {
+      throw new IllegalArgumentException("Player " + playerName + " must be played by one of " + AI_PLAYER_TYPES);
+    }
+    return playerType;
+  }
+
+  private static void writeReport(final String csv) throws IOException {
+    final String reportFile = System.getProperty(REPORT, "");
+    if (reportFile.isEmpty()) {
+      log.info("Results:\n" + csv);
+    } else {
+      Files.write(Paths.get(reportFile), csv.getBytes(StandardCharsets.UTF_8));
+      log.info("Wrote results to " + reportFile);
+    }
+  }
+}
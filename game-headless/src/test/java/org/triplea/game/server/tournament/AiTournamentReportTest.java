@@ -0,0 +1,51 @@
+package org.triplea.game.server.tournament;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+
+final class AiTournamentReportTest {
+  private static AiGameResult.AiGameResultBuilder newResultBuilder(final int game) {
+    return AiGameResult.builder()
+        .game(game)
+        .seed(42 + game)
+        .rounds(10)
+        .winners(Collections.emptyList())
+        .millis(1000)
+        .phaseMillis(Collections.emptyMap())
+        .oddsCalculatorCalls(100)
+        .heapHighWaterBytes(64 * 1024 * 1024);
+  }
+
+  @Test
+  void toCsvShouldWriteOneColumnPerPhaseOfAnyGame() {
+    final String csv = AiTournamentReport.toCsv(Arrays.asList(
+        newResultBuilder(0)
+            .winners(Arrays.asList("Americans", "British"))
+            .phaseMillis(ImmutableMap.of("Combat Move", 300L))
+            .build(),
+        newResultBuilder(1)
+            .phaseMillis(ImmutableMap.of("Purchase", 200L))
+            .build()));
+
+    assertThat(csv, is(""
+        + "game,seed,rounds,winners,millis,oddsCalculatorCalls,heapHighWaterMb,error,"
+        + "Combat Move millis,Purchase millis\n"
+        + "0,42,10,Americans;British,1000,100,64,,300,0\n"
+        + "1,43,10,,1000,100,64,,0,200\n"));
+  }
+
+  @Test
+  void toCsvShouldQuoteValuesContainingSeparators() {
+    final String csv = AiTournamentReport.toCsv(Collections.singletonList(
+        newResultBuilder(0).error("IllegalStateException: \"a\", b").build()));
+
+    assertThat(csv.split("\n")[1], is("0,42,10,,1000,100,64,\"IllegalStateException: \"\"a\"\", b\""));
+  }
+}